@@ -0,0 +1,136 @@
+package com.hm.pharmacy.aop.logging;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import tech.jhipster.config.JHipsterConstants;
+
+/**
+ * Aspect timing the repository, service and Web REST methods into Micrometer, and logging them at DEBUG level.
+ * <p>
+ * Only a sample of the calls is timed, into timers publishing a latency histogram with the configured buckets. Exceptions
+ * are logged whether the call is sampled or not, with their stack trace in development. The logger and the timer of each
+ * method are looked up once, and the arguments are only rendered when DEBUG is enabled for the declaring type. The
+ * aspect is only created when {@code application.method-tracing.enabled} is set, so that the beans are not proxied
+ * otherwise.
+ */
+@Aspect
+public class MethodTracingAspect {
+
+    public static final String METHOD_METER_NAME = "application.method";
+    public static final String METHOD_METER_DESCRIPTION = "Indicates the time spent in the sampled repository, service and REST methods.";
+
+    private final MeterRegistry meterRegistry;
+
+    private final double sampleRate;
+
+    private final Duration[] buckets;
+
+    private final boolean logStackTraces;
+
+    private final Map<Class<?>, Logger> loggers = new ConcurrentHashMap<>();
+
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodTracingAspect(Environment env, MeterRegistry meterRegistry, ApplicationProperties.MethodTracing properties) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = properties.getSampleRate();
+        this.buckets = properties.getBuckets().toArray(Duration[]::new);
+        this.logStackTraces = env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT));
+    }
+
+    /**
+     * Pointcut that matches all repositories, services and Web REST endpoints.
+     */
+    @Pointcut(
+        "within(@org.springframework.stereotype.Repository *)" +
+        " || within(@org.springframework.stereotype.Service *)" +
+        " || within(@org.springframework.web.bind.annotation.RestController *)"
+    )
+    public void springBeanPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring beans in the application's main packages.
+     */
+    @Pointcut(
+        "within(com.hm.pharmacy.repository..*)" + " || within(com.hm.pharmacy.service..*)" + " || within(com.hm.pharmacy.web.rest..*)"
+    )
+    public void applicationPackagePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times a sample of the method calls, and logs when a method is entered, exited or throws.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable the exception thrown by the method.
+     */
+    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    public Object traceAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Logger log = loggers.computeIfAbsent(signature.getDeclaringType(), LoggerFactory::getLogger);
+        boolean sampled = sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (log.isDebugEnabled()) {
+            log.debug("Enter: {}() with argument[s] = {}", signature.getName(), Arrays.toString(joinPoint.getArgs()));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            if (log.isDebugEnabled()) {
+                log.debug("Exit: {}() with result = {}", signature.getName(), result);
+            }
+            return result;
+        } catch (Throwable e) {
+            if (logStackTraces) {
+                log.error(
+                    "Exception in {}() with cause = '{}' and exception = '{}'",
+                    signature.getName(),
+                    e.getCause() != null ? e.getCause() : "NULL",
+                    e.getMessage(),
+                    e
+                );
+            } else {
+                log.error(
+                    "Exception in {}() with cause = {}",
+                    signature.getName(),
+                    e.getCause() != null ? String.valueOf(e.getCause()) : "NULL"
+                );
+            }
+            throw e;
+        } finally {
+            if (sampled) {
+                timer(signature).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer timer(MethodSignature signature) {
+        return timers.computeIfAbsent(signature.getMethod(), method ->
+            Timer.builder(METHOD_METER_NAME)
+                .description(METHOD_METER_DESCRIPTION)
+                .tag("class", signature.getDeclaringType().getSimpleName())
+                .tag("method", method.getName())
+                .serviceLevelObjectives(buckets)
+                .register(meterRegistry)
+        );
+    }
+}
@@ -1,4 +1,4 @@
 /**
- * Logging aspect.
+ * Method tracing aspect.
  */
 package com.hm.pharmacy.aop.logging;
@@ -1,6 +1,11 @@
 package com.hm.pharmacy.config;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Hm Pharmacy.
@@ -13,12 +18,120 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final SearchIndexOutbox searchIndexOutbox = new SearchIndexOutbox();
+
+    private final SearchReindex searchReindex = new SearchReindex();
+
+    private final MedicineSuggest medicineSuggest = new MedicineSuggest();
+
+    private final MedicineCatalog medicineCatalog = new MedicineCatalog();
+
+    private final BatchAllocation batchAllocation = new BatchAllocation();
+
+    private final ExpiryRadar expiryRadar = new ExpiryRadar();
+
+    private final ReorderPoint reorderPoint = new ReorderPoint();
+
+    private final SalesRollup salesRollup = new SalesRollup();
+
+    private final SalesAnalytics salesAnalytics = new SalesAnalytics();
+
+    private final HibernateStatistics hibernateStatistics = new HibernateStatistics();
+
+    private final Cache cache = new Cache();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final MethodTracing methodTracing = new MethodTracing();
+
+    private final Slo slo = new Slo();
+
+    private final SlowRequests slowRequests = new SlowRequests();
+
+    private final Export export = new Export();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public SearchIndexOutbox getSearchIndexOutbox() {
+        return searchIndexOutbox;
+    }
+
+    public SearchReindex getSearchReindex() {
+        return searchReindex;
+    }
+
+    public MedicineSuggest getMedicineSuggest() {
+        return medicineSuggest;
+    }
+
+    public MedicineCatalog getMedicineCatalog() {
+        return medicineCatalog;
+    }
+
+    public BatchAllocation getBatchAllocation() {
+        return batchAllocation;
+    }
+
+    public ExpiryRadar getExpiryRadar() {
+        return expiryRadar;
+    }
+
+    public ReorderPoint getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public SalesRollup getSalesRollup() {
+        return salesRollup;
+    }
+
+    public SalesAnalytics getSalesAnalytics() {
+        return salesAnalytics;
+    }
+
+    public HibernateStatistics getHibernateStatistics() {
+        return hibernateStatistics;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public MethodTracing getMethodTracing() {
+        return methodTracing;
+    }
+
+    public Slo getSlo() {
+        return slo;
+    }
+
+    public SlowRequests getSlowRequests() {
+        return slowRequests;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +146,725 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class SearchIndexOutbox {
+
+        private int batchSize = 500;
+
+        private Duration drainDelay = Duration.ofSeconds(1);
+
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        private Duration maxBackoff = Duration.ofMinutes(5);
+
+        private int maxAttempts = 10;
+
+        private Duration backlogRefresh = Duration.ofSeconds(15);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getDrainDelay() {
+            return drainDelay;
+        }
+
+        public void setDrainDelay(Duration drainDelay) {
+            this.drainDelay = drainDelay;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBacklogRefresh() {
+            return backlogRefresh;
+        }
+
+        public void setBacklogRefresh(Duration backlogRefresh) {
+            this.backlogRefresh = backlogRefresh;
+        }
+    }
+
+    public static class SearchReindex {
+
+        private int parallelism = 4;
+
+        private int pageSize = 1000;
+
+        private Duration pauseLease = Duration.ofMinutes(5);
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public Duration getPauseLease() {
+            return pauseLease;
+        }
+
+        public void setPauseLease(Duration pauseLease) {
+            this.pauseLease = pauseLease;
+        }
+    }
+
+    public static class MedicineSuggest {
+
+        private int maxResults = 50;
+
+        private Duration elasticsearchRetry = Duration.ofSeconds(10);
+
+        private Duration fallbackRefresh = Duration.ofMinutes(5);
+
+        public int getMaxResults() {
+            return maxResults;
+        }
+
+        public void setMaxResults(int maxResults) {
+            this.maxResults = maxResults;
+        }
+
+        public Duration getElasticsearchRetry() {
+            return elasticsearchRetry;
+        }
+
+        public void setElasticsearchRetry(Duration elasticsearchRetry) {
+            this.elasticsearchRetry = elasticsearchRetry;
+        }
+
+        public Duration getFallbackRefresh() {
+            return fallbackRefresh;
+        }
+
+        public void setFallbackRefresh(Duration fallbackRefresh) {
+            this.fallbackRefresh = fallbackRefresh;
+        }
+    }
+
+    public static class MedicineCatalog {
+
+        private Duration fullRefresh = Duration.ofMinutes(10);
+
+        private Duration retryDelay = Duration.ofSeconds(10);
+
+        public Duration getFullRefresh() {
+            return fullRefresh;
+        }
+
+        public void setFullRefresh(Duration fullRefresh) {
+            this.fullRefresh = fullRefresh;
+        }
+
+        public Duration getRetryDelay() {
+            return retryDelay;
+        }
+
+        public void setRetryDelay(Duration retryDelay) {
+            this.retryDelay = retryDelay;
+        }
+    }
+
+    public static class BatchAllocation {
+
+        private Duration queueTtl = Duration.ofMinutes(5);
+
+        private int maxAttempts = 3;
+
+        public Duration getQueueTtl() {
+            return queueTtl;
+        }
+
+        public void setQueueTtl(Duration queueTtl) {
+            this.queueTtl = queueTtl;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+    }
+
+    public static class ExpiryRadar {
+
+        private int horizonDays = 90;
+
+        private int alertDays = 30;
+
+        private List<Integer> gaugeDays = List.of(7, 30, 90);
+
+        private int scanPageSize = 500;
+
+        private int maxPageSize = 200;
+
+        private Duration scanDelay = Duration.ofMinutes(15);
+
+        private Duration fullRefresh = Duration.ofHours(1);
+
+        public int getHorizonDays() {
+            return horizonDays;
+        }
+
+        public void setHorizonDays(int horizonDays) {
+            this.horizonDays = horizonDays;
+        }
+
+        public int getAlertDays() {
+            return alertDays;
+        }
+
+        public void setAlertDays(int alertDays) {
+            this.alertDays = alertDays;
+        }
+
+        public List<Integer> getGaugeDays() {
+            return gaugeDays;
+        }
+
+        public void setGaugeDays(List<Integer> gaugeDays) {
+            this.gaugeDays = gaugeDays;
+        }
+
+        public int getScanPageSize() {
+            return scanPageSize;
+        }
+
+        public void setScanPageSize(int scanPageSize) {
+            this.scanPageSize = scanPageSize;
+        }
+
+        public int getMaxPageSize() {
+            return maxPageSize;
+        }
+
+        public void setMaxPageSize(int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+        }
+
+        public Duration getScanDelay() {
+            return scanDelay;
+        }
+
+        public void setScanDelay(Duration scanDelay) {
+            this.scanDelay = scanDelay;
+        }
+
+        public Duration getFullRefresh() {
+            return fullRefresh;
+        }
+
+        public void setFullRefresh(Duration fullRefresh) {
+            this.fullRefresh = fullRefresh;
+        }
+    }
+
+    public static class ReorderPoint {
+
+        private int velocityDays = 28;
+
+        private int leadTimeDays = 7;
+
+        private int safetyDays = 3;
+
+        private int coverDays = 30;
+
+        private int historyDays = 120;
+
+        private int batchSize = 500;
+
+        private Duration settleDelay = Duration.ofMinutes(1);
+
+        private Duration runDelay = Duration.ofMinutes(5);
+
+        public int getVelocityDays() {
+            return velocityDays;
+        }
+
+        public void setVelocityDays(int velocityDays) {
+            this.velocityDays = velocityDays;
+        }
+
+        public int getLeadTimeDays() {
+            return leadTimeDays;
+        }
+
+        public void setLeadTimeDays(int leadTimeDays) {
+            this.leadTimeDays = leadTimeDays;
+        }
+
+        public int getSafetyDays() {
+            return safetyDays;
+        }
+
+        public void setSafetyDays(int safetyDays) {
+            this.safetyDays = safetyDays;
+        }
+
+        public int getCoverDays() {
+            return coverDays;
+        }
+
+        public void setCoverDays(int coverDays) {
+            this.coverDays = coverDays;
+        }
+
+        public int getHistoryDays() {
+            return historyDays;
+        }
+
+        public void setHistoryDays(int historyDays) {
+            this.historyDays = historyDays;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getSettleDelay() {
+            return settleDelay;
+        }
+
+        public void setSettleDelay(Duration settleDelay) {
+            this.settleDelay = settleDelay;
+        }
+
+        public Duration getRunDelay() {
+            return runDelay;
+        }
+
+        public void setRunDelay(Duration runDelay) {
+            this.runDelay = runDelay;
+        }
+    }
+
+    public static class SalesRollup {
+
+        private int batchSize = 1000;
+
+        private int maxRangeDays = 366;
+
+        private int maxLimit = 100;
+
+        private Duration settleDelay = Duration.ofMinutes(1);
+
+        private Duration runDelay = Duration.ofSeconds(30);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxRangeDays() {
+            return maxRangeDays;
+        }
+
+        public void setMaxRangeDays(int maxRangeDays) {
+            this.maxRangeDays = maxRangeDays;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public Duration getSettleDelay() {
+            return settleDelay;
+        }
+
+        public void setSettleDelay(Duration settleDelay) {
+            this.settleDelay = settleDelay;
+        }
+
+        public Duration getRunDelay() {
+            return runDelay;
+        }
+
+        public void setRunDelay(Duration runDelay) {
+            this.runDelay = runDelay;
+        }
+    }
+
+    public static class SalesAnalytics {
+
+        private int historyDays = 730;
+
+        private int maxRangeDays = 366;
+
+        private int batchSize = 1000;
+
+        private int parallelism = 4;
+
+        private int chunkSize = 65536;
+
+        private Duration settleDelay = Duration.ofMinutes(1);
+
+        private Duration refreshDelay = Duration.ofSeconds(30);
+
+        private Duration fullReload = Duration.ofHours(1);
+
+        public int getHistoryDays() {
+            return historyDays;
+        }
+
+        public void setHistoryDays(int historyDays) {
+            this.historyDays = historyDays;
+        }
+
+        public int getMaxRangeDays() {
+            return maxRangeDays;
+        }
+
+        public void setMaxRangeDays(int maxRangeDays) {
+            this.maxRangeDays = maxRangeDays;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public Duration getSettleDelay() {
+            return settleDelay;
+        }
+
+        public void setSettleDelay(Duration settleDelay) {
+            this.settleDelay = settleDelay;
+        }
+
+        public Duration getRefreshDelay() {
+            return refreshDelay;
+        }
+
+        public void setRefreshDelay(Duration refreshDelay) {
+            this.refreshDelay = refreshDelay;
+        }
+
+        public Duration getFullReload() {
+            return fullReload;
+        }
+
+        public void setFullReload(Duration fullReload) {
+            this.fullReload = fullReload;
+        }
+    }
+
+    public static class HibernateStatistics {
+
+        private int statementWarnThreshold = 30;
+
+        public int getStatementWarnThreshold() {
+            return statementWarnThreshold;
+        }
+
+        public void setStatementWarnThreshold(int statementWarnThreshold) {
+            this.statementWarnThreshold = statementWarnThreshold;
+        }
+    }
+
+    public static class Cache {
+
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            private Long maxEntries;
+
+            private Duration timeToLive;
+
+            private DataSize offHeap;
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public DataSize getOffHeap() {
+                return offHeap;
+            }
+
+            public void setOffHeap(DataSize offHeap) {
+                this.offHeap = offHeap;
+            }
+        }
+    }
+
+    public static class JwtCache {
+
+        private int maxEntries = 10000;
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public static class PasswordHashing {
+
+        private int strength = 10;
+
+        private int threads = 4;
+
+        private int queueCapacity = 100;
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        private int requestsPerConnection = 4;
+
+        private int requestQueueSize = 1000;
+
+        private int tasksPerConnection = 2;
+
+        private int taskQueueSize = 10000;
+
+        public int getRequestsPerConnection() {
+            return requestsPerConnection;
+        }
+
+        public void setRequestsPerConnection(int requestsPerConnection) {
+            this.requestsPerConnection = requestsPerConnection;
+        }
+
+        public int getRequestQueueSize() {
+            return requestQueueSize;
+        }
+
+        public void setRequestQueueSize(int requestQueueSize) {
+            this.requestQueueSize = requestQueueSize;
+        }
+
+        public int getTasksPerConnection() {
+            return tasksPerConnection;
+        }
+
+        public void setTasksPerConnection(int tasksPerConnection) {
+            this.tasksPerConnection = tasksPerConnection;
+        }
+
+        public int getTaskQueueSize() {
+            return taskQueueSize;
+        }
+
+        public void setTaskQueueSize(int taskQueueSize) {
+            this.taskQueueSize = taskQueueSize;
+        }
+    }
+
+    public static class MethodTracing {
+
+        private boolean enabled = false;
+
+        private double sampleRate = 0.01;
+
+        private List<Duration> buckets = List.of(
+            Duration.ofMillis(1),
+            Duration.ofMillis(5),
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1)
+        );
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public List<Duration> getBuckets() {
+            return buckets;
+        }
+
+        public void setBuckets(List<Duration> buckets) {
+            this.buckets = buckets;
+        }
+    }
+
+    public static class Slo {
+
+        private final Map<String, Route> routes = new LinkedHashMap<>();
+
+        public Map<String, Route> getRoutes() {
+            return routes;
+        }
+
+        public static class Route {
+
+            private List<String> uris = List.of();
+
+            private List<Duration> buckets = List.of();
+
+            public List<String> getUris() {
+                return uris;
+            }
+
+            public void setUris(List<String> uris) {
+                this.uris = uris;
+            }
+
+            public List<Duration> getBuckets() {
+                return buckets;
+            }
+
+            public void setBuckets(List<Duration> buckets) {
+                this.buckets = buckets;
+            }
+        }
+    }
+
+    public static class SlowRequests {
+
+        private Duration threshold = Duration.ofSeconds(1);
+
+        private int capacity = 100;
+
+        public Duration getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(Duration threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    public static class Export {
+
+        private Duration timeout = Duration.ofHours(1);
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,14 +1,19 @@
 package com.hm.pharmacy.config;
 
 import java.util.concurrent.Executor;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -25,13 +30,43 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final Environment env;
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    private final ApplicationProperties applicationProperties;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        Environment env,
+        ObjectProvider<DataSource> dataSource,
+        ApplicationProperties applicationProperties
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.env = env;
+        this.dataSource = dataSource;
+        this.applicationProperties = applicationProperties;
     }
 
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(env)) {
+            LOG.debug("Creating Async Task Executor on virtual threads");
+            int concurrency =
+                VirtualThreadsConfiguration.connectionPoolSize(dataSource.getObject()) *
+                applicationProperties.getVirtualThreads().getTasksPerConnection();
+            // Virtual threads are pooled only to bound the tasks running at once by the connection pool: excess tasks wait
+            // in a bounded queue, and are rejected once it is full rather than blocking the threads submitting them
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            VirtualThreadTaskExecutor virtualThreads = new VirtualThreadTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+            executor.setThreadFactory(virtualThreads.getVirtualThreadFactory());
+            executor.setCorePoolSize(concurrency);
+            executor.setMaxPoolSize(concurrency);
+            executor.setAllowCoreThreadTimeOut(true);
+            executor.setQueueCapacity(applicationProperties.getVirtualThreads().getTaskQueueSize());
+            return new ExceptionHandlingAsyncTaskExecutor(executor);
+        }
         LOG.debug("Creating Async Task Executor");
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
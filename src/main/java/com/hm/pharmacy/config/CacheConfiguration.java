@@ -1,9 +1,15 @@
 package com.hm.pharmacy.config;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -19,22 +25,50 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_PACKAGE = "com.hm.pharmacy.domain.";
+
+    private static final ApplicationProperties.Cache.Region DEFAULT_REGION = new ApplicationProperties.Cache.Region();
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final Map<String, ApplicationProperties.Cache.Region> regions;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.regions = applicationProperties.getCache().getRegions();
+    }
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    /**
+     * Build the configuration of a cache region from its {@code application.cache.regions} sizing, falling back to the
+     * {@code jhipster.cache.ehcache} one. Regions with an off-heap tier store their entries serialized.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String cacheName) {
+        ApplicationProperties.Cache.Region region = regions.getOrDefault(regionKey(cacheName), DEFAULT_REGION);
+        long maxEntries = region.getMaxEntries() != null ? region.getMaxEntries() : ehcache.getMaxEntries();
+        Duration timeToLive = region.getTimeToLive() != null
+            ? region.getTimeToLive()
+            : Duration.ofSeconds(ehcache.getTimeToLiveSeconds());
+
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(maxEntries);
+        boolean offHeap = region.getOffHeap() != null && region.getOffHeap().toMegabytes() > 0;
+        if (offHeap) {
+            resourcePools = resourcePools.offheap(region.getOffHeap().toMegabytes(), MemoryUnit.MB);
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class,
+            Object.class,
+            resourcePools
+        ).withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        if (offHeap) {
+            PlainJavaSerializer<Object> serializer = new PlainJavaSerializer<>(getClass().getClassLoader());
+            builder = builder.withKeySerializer(serializer).withValueSerializer(serializer);
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder.build());
+    }
 
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
-        );
+    private static String regionKey(String cacheName) {
+        return cacheName.startsWith(DOMAIN_PACKAGE) ? cacheName.substring(DOMAIN_PACKAGE.length()) : cacheName;
     }
 
     @Bean
@@ -45,6 +79,7 @@ public class CacheConfiguration {
     @Bean
     public JCacheManagerCustomizer cacheManagerCustomizer() {
         return cm -> {
+            Set<String> unknownRegions = new HashSet<>(regions.keySet());
             createCache(cm, com.hm.pharmacy.repository.UserRepository.USERS_BY_LOGIN_CACHE);
             createCache(cm, com.hm.pharmacy.repository.UserRepository.USERS_BY_EMAIL_CACHE);
             createCache(cm, com.hm.pharmacy.domain.User.class.getName());
@@ -73,17 +108,30 @@ public class CacheConfiguration {
             createCache(cm, com.hm.pharmacy.domain.Prescriptions.class.getName());
             createCache(cm, com.hm.pharmacy.domain.Payments.class.getName());
             createCache(cm, com.hm.pharmacy.domain.SupplierPayments.class.getName());
+            createCache(cm, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+            createCache(cm, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+            createCache(cm, com.hm.pharmacy.repository.AuthorityRepository.AUTHORITY_QUERIES_CACHE);
+            createCache(cm, com.hm.pharmacy.repository.SuppliersRepository.SUPPLIERS_QUERIES_CACHE);
             // jhipster-needle-ehcache-add-entry
+            cm.getCacheNames().forEach(cacheName -> unknownRegions.remove(regionKey(cacheName)));
+            if (!unknownRegions.isEmpty()) {
+                throw new IllegalStateException("Unknown cache regions in application.cache.regions: " + unknownRegions);
+            }
         };
     }
 
+    /**
+     * Create a cache region, with its statistics enabled so that its hits, misses and evictions are published to
+     * Micrometer with the other cache metrics.
+     */
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, jcacheConfiguration(cacheName));
         }
+        cm.enableStatistics(cacheName, true);
     }
 
     @Autowired(required = false)
@@ -0,0 +1,76 @@
+package com.hm.pharmacy.config;
+
+import com.hm.pharmacy.management.HibernateMetersService;
+import com.hm.pharmacy.management.HibernateMetricsEndpoint;
+import com.hm.pharmacy.management.HibernateStatementCounter;
+import com.hm.pharmacy.management.SlowRequestsService;
+import com.hm.pharmacy.web.filter.HibernateStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.jhipster.config.metric.JHipsterMetricsEndpoint;
+
+/**
+ * Counts the SQL statements, loaded entities and second-level cache lookups of each API request, without turning on
+ * the Hibernate statistics, and keeps the slow requests with their counts.
+ */
+@Configuration
+public class HibernateStatisticsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsPropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new HibernateStatementCounter.Inspector());
+            hibernateProperties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                HibernateStatementCounter.CacheListener.class.getName()
+            );
+            hibernateProperties.put(
+                EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new HibernateStatementCounter.LoadIntegrator())
+            );
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<HibernateStatisticsFilter> hibernateStatisticsFilter(
+        HibernateMetersService hibernateMetersService,
+        SlowRequestsService slowRequestsService
+    ) {
+        FilterRegistrationBean<HibernateStatisticsFilter> registration = new FilterRegistrationBean<>(
+            new HibernateStatisticsFilter(hibernateMetersService, slowRequestsService)
+        );
+        // Ahead of Spring Security, so that the statements of the authentication are counted too
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    /**
+     * Replaces the JHipster metrics endpoint by one also reporting the Hibernate figures, the endpoint not being
+     * replaceable by declaring a bean of its own.
+     */
+    @Bean
+    public static BeanPostProcessor hibernateMetricsEndpointPostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<HibernateMetersService> hibernateMetersService
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean.getClass() == JHipsterMetricsEndpoint.class) {
+                    return new HibernateMetricsEndpoint(meterRegistry.getObject(), hibernateMetersService.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,17 +1,22 @@
 package com.hm.pharmacy.config;
 
-import com.hm.pharmacy.aop.logging.LoggingAspect;
+import com.hm.pharmacy.aop.logging.MethodTracingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
-import tech.jhipster.config.JHipsterConstants;
 
 @Configuration
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
     @Bean
-    @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    @ConditionalOnProperty(prefix = "application.method-tracing", name = "enabled", havingValue = "true")
+    public MethodTracingAspect methodTracingAspect(
+        Environment env,
+        MeterRegistry meterRegistry,
+        ApplicationProperties applicationProperties
+    ) {
+        return new MethodTracingAspect(env, meterRegistry, applicationProperties.getMethodTracing());
     }
 }
@@ -3,8 +3,10 @@ package com.hm.pharmacy.config;
 import static com.hm.pharmacy.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.hm.pharmacy.management.SecurityMetersService;
+import com.hm.pharmacy.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
+import java.time.Clock;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -26,9 +28,9 @@ public class SecurityJwtConfiguration {
     private String jwtKey;
 
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public JwtDecoder jwtDecoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
+        JwtDecoder meteredJwtDecoder = token -> {
             try {
                 return jwtDecoder.decode(token);
             } catch (Exception e) {
@@ -48,6 +50,8 @@ public class SecurityJwtConfiguration {
                 throw e;
             }
         };
+        int maxEntries = applicationProperties.getJwtCache().getMaxEntries();
+        return new CachingJwtDecoder(meteredJwtDecoder, maxEntries, metersService, Clock.systemUTC());
     }
 
     @Bean
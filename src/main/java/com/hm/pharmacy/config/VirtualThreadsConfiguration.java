@@ -0,0 +1,67 @@
+package com.hm.pharmacy.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.undertow.server.handlers.RequestLimitingHandler;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Runs the servlet requests on virtual threads when {@code spring.threads.virtual.enabled} is set and the JVM supports
+ * them. Spring Boot then runs the {@code @Scheduled} tasks on virtual threads too, and {@link AsyncConfiguration} the
+ * {@code @Async} ones.
+ * <p>
+ * Virtual threads are not pooled, so nothing bounds the requests running at once but the database connections they
+ * wait for: the requests are limited to a multiple of the connection pool size instead, the excess requests waiting on
+ * the Undertow I/O threads rather than timing out in the connection pool.
+ */
+@Configuration
+public class VirtualThreadsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+
+    public VirtualThreadsConfiguration(Environment env) {
+        if (env.getProperty("spring.threads.virtual.enabled", Boolean.class, false) && !Threading.VIRTUAL.isActive(env)) {
+            LOG.warn("Virtual threads need Java 21 or later, running on Java {}: using platform threads", JavaVersion.getJavaVersion());
+        }
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public UndertowDeploymentInfoCustomizer virtualThreadsDeploymentInfoCustomizer(
+        DataSource dataSource,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.VirtualThreads virtualThreads = applicationProperties.getVirtualThreads();
+        int maxRequests = connectionPoolSize(dataSource) * virtualThreads.getRequestsPerConnection();
+        LOG.info("Running the requests on virtual threads, at most {} at once", maxRequests);
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("hm-pharmacy-request-");
+        executor.setVirtualThreads(true);
+        return deploymentInfo -> {
+            deploymentInfo.setExecutor(executor);
+            deploymentInfo.addInitialHandlerChainWrapper(next ->
+                new RequestLimitingHandler(maxRequests, virtualThreads.getRequestQueueSize(), next)
+            );
+        };
+    }
+
+    /**
+     * @return the maximum number of connections of the pool, or the Hikari default if the data source is no Hikari pool.
+     */
+    static int connectionPoolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return DEFAULT_CONNECTION_POOL_SIZE;
+    }
+}
@@ -0,0 +1,153 @@
+package com.hm.pharmacy.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The sales velocity of a medicine, and the reorder point and order-up-to level derived from it.
+ * <p>
+ * The velocity is an exponentially weighted moving average of the quantity sold per day, as of {@code velocityDate}:
+ * folding in a sale only needs this row, not the sales history.
+ */
+@Entity
+@Table(name = "medicine_reorder_summary")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MedicineReorderSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "medicines_id")
+    private Long medicinesId;
+
+    @NotNull
+    @Column(name = "velocity", nullable = false)
+    private Double velocity;
+
+    @NotNull
+    @Column(name = "velocity_date", nullable = false)
+    private LocalDate velocityDate;
+
+    @NotNull
+    @Column(name = "reorder_point", nullable = false)
+    private Integer reorderPoint;
+
+    @NotNull
+    @Column(name = "order_up_to", nullable = false)
+    private Integer orderUpTo;
+
+    @NotNull
+    @Column(name = "updated_date", nullable = false)
+    private Instant updatedDate;
+
+    public Long getMedicinesId() {
+        return this.medicinesId;
+    }
+
+    public MedicineReorderSummary medicinesId(Long medicinesId) {
+        this.setMedicinesId(medicinesId);
+        return this;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public Double getVelocity() {
+        return this.velocity;
+    }
+
+    public MedicineReorderSummary velocity(Double velocity) {
+        this.setVelocity(velocity);
+        return this;
+    }
+
+    public void setVelocity(Double velocity) {
+        this.velocity = velocity;
+    }
+
+    public LocalDate getVelocityDate() {
+        return this.velocityDate;
+    }
+
+    public MedicineReorderSummary velocityDate(LocalDate velocityDate) {
+        this.setVelocityDate(velocityDate);
+        return this;
+    }
+
+    public void setVelocityDate(LocalDate velocityDate) {
+        this.velocityDate = velocityDate;
+    }
+
+    public Integer getReorderPoint() {
+        return this.reorderPoint;
+    }
+
+    public MedicineReorderSummary reorderPoint(Integer reorderPoint) {
+        this.setReorderPoint(reorderPoint);
+        return this;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    public Integer getOrderUpTo() {
+        return this.orderUpTo;
+    }
+
+    public MedicineReorderSummary orderUpTo(Integer orderUpTo) {
+        this.setOrderUpTo(orderUpTo);
+        return this;
+    }
+
+    public void setOrderUpTo(Integer orderUpTo) {
+        this.orderUpTo = orderUpTo;
+    }
+
+    public Instant getUpdatedDate() {
+        return this.updatedDate;
+    }
+
+    public MedicineReorderSummary updatedDate(Instant updatedDate) {
+        this.setUpdatedDate(updatedDate);
+        return this;
+    }
+
+    public void setUpdatedDate(Instant updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MedicineReorderSummary)) {
+            return false;
+        }
+        return getMedicinesId() != null && getMedicinesId().equals(((MedicineReorderSummary) o).getMedicinesId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicineReorderSummary{" +
+            "medicinesId=" + getMedicinesId() +
+            ", velocity=" + getVelocity() +
+            ", velocityDate='" + getVelocityDate() + "'" +
+            ", reorderPoint=" + getReorderPoint() +
+            ", orderUpTo=" + getOrderUpTo() +
+            ", updatedDate='" + getUpdatedDate() + "'" +
+            "}";
+    }
+}
@@ -27,11 +27,27 @@ public class Medicines implements Serializable {
     private Long id;
 
     @Column(name = "name")
-    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
+    @org.springframework.data.elasticsearch.annotations.MultiField(
+        mainField = @org.springframework.data.elasticsearch.annotations.Field(
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Text
+        ),
+        otherFields = @org.springframework.data.elasticsearch.annotations.InnerField(
+            suffix = "suggest",
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Search_As_You_Type
+        )
+    )
     private String name;
 
     @Column(name = "manufacturer")
-    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
+    @org.springframework.data.elasticsearch.annotations.MultiField(
+        mainField = @org.springframework.data.elasticsearch.annotations.Field(
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Text
+        ),
+        otherFields = @org.springframework.data.elasticsearch.annotations.InnerField(
+            suffix = "suggest",
+            type = org.springframework.data.elasticsearch.annotations.FieldType.Search_As_You_Type
+        )
+    )
     private String manufacturer;
 
     @Column(name = "category")
@@ -41,7 +57,11 @@ public class Medicines implements Serializable {
     @Column(name = "price", precision = 21, scale = 2)
     private BigDecimal price;
 
-    @Column(name = "stock")
+    /**
+     * Only ever changed relative to the database, by {@code StockRepository}, so that entity saves never overwrite a
+     * concurrent sale.
+     */
+    @Column(name = "stock", updatable = false)
     @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Integer)
     private Integer stock;
 
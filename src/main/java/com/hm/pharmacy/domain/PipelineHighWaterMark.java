@@ -0,0 +1,97 @@
+package com.hm.pharmacy.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The id of the last row read by an incremental background pipeline, so that each run only reads the rows added since.
+ * <p>
+ * The row of a pipeline is locked for the length of a run, so that a single node runs it at a time.
+ */
+@Entity
+@Table(name = "pipeline_high_water_mark")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PipelineHighWaterMark implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @NotNull
+    @Size(max = 50)
+    @Column(name = "name", length = 50, nullable = false)
+    private String name;
+
+    @Column(name = "last_id")
+    private Long lastId;
+
+    @Column(name = "updated_date")
+    private Instant updatedDate;
+
+    public String getName() {
+        return this.name;
+    }
+
+    public PipelineHighWaterMark name(String name) {
+        this.setName(name);
+        return this;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getLastId() {
+        return this.lastId;
+    }
+
+    public PipelineHighWaterMark lastId(Long lastId) {
+        this.setLastId(lastId);
+        return this;
+    }
+
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    public Instant getUpdatedDate() {
+        return this.updatedDate;
+    }
+
+    public PipelineHighWaterMark updatedDate(Instant updatedDate) {
+        this.setUpdatedDate(updatedDate);
+        return this;
+    }
+
+    public void setUpdatedDate(Instant updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PipelineHighWaterMark)) {
+            return false;
+        }
+        return getName() != null && getName().equals(((PipelineHighWaterMark) o).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PipelineHighWaterMark{" +
+            "name='" + getName() + "'" +
+            ", lastId=" + getLastId() +
+            ", updatedDate='" + getUpdatedDate() + "'" +
+            "}";
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
 
 /**
  * A Sales.
@@ -16,6 +17,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Entity
 @Table(name = "sales")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties(value = { "createdDate" }, allowGetters = true)
 @org.springframework.data.elasticsearch.annotations.Document(indexName = "sales")
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Sales implements Serializable {
@@ -37,6 +39,14 @@ public class Sales implements Serializable {
     @Column(name = "total_amount", precision = 21, scale = 2)
     private BigDecimal totalAmount;
 
+    /**
+     * The time the sale was inserted at, stamped by the database clock: unlike the sale date, which the client sets, it
+     * follows the order of the ids up to the time a transaction takes to commit, whatever the clocks of the nodes.
+     */
+    @Generated
+    @Column(name = "created_date", nullable = false, insertable = false, updatable = false)
+    private Instant createdDate;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "sales")
     @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @org.springframework.data.annotation.Transient
@@ -107,6 +117,14 @@ public class Sales implements Serializable {
         this.totalAmount = totalAmount;
     }
 
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
     public Set<SaleItems> getSaleItems() {
         return this.saleItems;
     }
@@ -209,6 +227,7 @@ public class Sales implements Serializable {
             ", saleDate='" + getSaleDate() + "'" +
             ", invoiceNumber='" + getInvoiceNumber() + "'" +
             ", totalAmount=" + getTotalAmount() +
+            ", createdDate='" + getCreatedDate() + "'" +
             "}";
     }
 }
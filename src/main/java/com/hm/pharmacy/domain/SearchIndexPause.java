@@ -0,0 +1,82 @@
+package com.hm.pharmacy.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A pause of the search index outbox drainers of every node for an entity type, such as while its index is rebuilt.
+ * <p>
+ * The pause is a lease: it lapses at {@code pausedUntil} unless renewed, so that a node dying mid-reindex does not
+ * hold the entries of the entity back forever.
+ */
+@Entity
+@Table(name = "search_index_pause")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SearchIndexPause implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @NotNull
+    @Size(max = 50)
+    @Column(name = "entity_type", length = 50, nullable = false)
+    private String entityType;
+
+    @NotNull
+    @Column(name = "paused_until", nullable = false)
+    private Instant pausedUntil;
+
+    public String getEntityType() {
+        return this.entityType;
+    }
+
+    public SearchIndexPause entityType(String entityType) {
+        this.setEntityType(entityType);
+        return this;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Instant getPausedUntil() {
+        return this.pausedUntil;
+    }
+
+    public SearchIndexPause pausedUntil(Instant pausedUntil) {
+        this.setPausedUntil(pausedUntil);
+        return this;
+    }
+
+    public void setPausedUntil(Instant pausedUntil) {
+        this.pausedUntil = pausedUntil;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchIndexPause)) {
+            return false;
+        }
+        return getEntityType() != null && getEntityType().equals(((SearchIndexPause) o).getEntityType());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SearchIndexPause{" +
+            "entityType='" + getEntityType() + "'" +
+            ", pausedUntil='" + getPausedUntil() + "'" +
+            "}";
+    }
+}
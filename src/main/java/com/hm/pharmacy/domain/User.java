@@ -36,6 +36,7 @@ public class User extends AbstractAuditingEntity<Long> implements Serializable {
     @Pattern(regexp = Constants.LOGIN_REGEX)
     @Size(min = 1, max = 50)
     @Column(length = 50, unique = true, nullable = false)
+    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
     private String login;
 
     @JsonIgnore
@@ -46,10 +47,12 @@ public class User extends AbstractAuditingEntity<Long> implements Serializable {
 
     @Size(max = 50)
     @Column(name = "first_name", length = 50)
+    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
     private String firstName;
 
     @Size(max = 50)
     @Column(name = "last_name", length = 50)
+    @org.springframework.data.elasticsearch.annotations.Field(type = org.springframework.data.elasticsearch.annotations.FieldType.Text)
     private String lastName;
 
     @Email
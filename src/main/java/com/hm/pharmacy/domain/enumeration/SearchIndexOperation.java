@@ -0,0 +1,9 @@
+package com.hm.pharmacy.domain.enumeration;
+
+/**
+ * The SearchIndexOperation enumeration.
+ */
+public enum SearchIndexOperation {
+    INDEX,
+    DELETE,
+}
@@ -0,0 +1,115 @@
+package com.hm.pharmacy.management;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records the Hibernate figures counted by {@link HibernateStatementCounter} for each request, tagged with the endpoint.
+ */
+@Service
+public class HibernateMetersService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HibernateMetersService.class);
+
+    public static final String STATEMENTS_METER_NAME = "hibernate.request.statements";
+    public static final String STATEMENTS_METER_DESCRIPTION = "SQL statements prepared per request";
+    public static final String ENTITIES_METER_NAME = "hibernate.request.entities";
+    public static final String ENTITIES_METER_DESCRIPTION = "Entities loaded per request";
+    public static final String CACHE_METER_NAME = "hibernate.request.cache";
+    public static final String CACHE_METER_DESCRIPTION = "Second-level cache lookups of the requests";
+    public static final String METHOD_DIMENSION = "method";
+    public static final String URI_DIMENSION = "uri";
+    public static final String RESULT_DIMENSION = "result";
+
+    private final MeterRegistry registry;
+
+    private final int statementWarnThreshold;
+
+    public HibernateMetersService(MeterRegistry registry, ApplicationProperties applicationProperties) {
+        this.registry = registry;
+        this.statementWarnThreshold = applicationProperties.getHibernateStatistics().getStatementWarnThreshold();
+    }
+
+    /**
+     * Record the figures of a request, warning when it prepared more statements than the threshold.
+     *
+     * @param method the HTTP method of the request.
+     * @param uri the URI pattern of the endpoint.
+     * @param counts the figures counted while the request was handled.
+     */
+    public void record(String method, String uri, HibernateStatementCounter.Counts counts) {
+        Tags tags = Tags.of(METHOD_DIMENSION, method, URI_DIMENSION, uri);
+        DistributionSummary.builder(STATEMENTS_METER_NAME)
+            .description(STATEMENTS_METER_DESCRIPTION)
+            .baseUnit("statements")
+            .tags(tags)
+            .register(registry)
+            .record(counts.getStatements());
+        DistributionSummary.builder(ENTITIES_METER_NAME)
+            .description(ENTITIES_METER_DESCRIPTION)
+            .baseUnit("entities")
+            .tags(tags)
+            .register(registry)
+            .record(counts.getEntities());
+        cacheCounter(tags, "hit").increment(counts.getCacheHits());
+        cacheCounter(tags, "miss").increment(counts.getCacheMisses());
+        if (counts.getStatements() > statementWarnThreshold) {
+            LOG.warn(
+                "{} {} prepared {} SQL statements, loaded {} entities ({} cache hits, {} misses)",
+                method,
+                uri,
+                counts.getStatements(),
+                counts.getEntities(),
+                counts.getCacheHits(),
+                counts.getCacheMisses()
+            );
+        }
+    }
+
+    private Counter cacheCounter(Tags tags, String result) {
+        return Counter.builder(CACHE_METER_NAME)
+            .description(CACHE_METER_DESCRIPTION)
+            .tags(tags)
+            .tag(RESULT_DIMENSION, result)
+            .register(registry);
+    }
+
+    /**
+     * @return the figures of each endpoint, by method and URI pattern.
+     */
+    public Map<String, Map<String, Number>> endpointMetrics() {
+        Map<String, Map<String, Number>> metrics = new TreeMap<>();
+        registry
+            .find(STATEMENTS_METER_NAME)
+            .summaries()
+            .forEach(statements -> {
+                String method = statements.getId().getTag(METHOD_DIMENSION);
+                String uri = statements.getId().getTag(URI_DIMENSION);
+                Tags tags = Tags.of(METHOD_DIMENSION, method, URI_DIMENSION, uri);
+                DistributionSummary entities = registry.find(ENTITIES_METER_NAME).tags(tags).summary();
+                Counter hits = registry.find(CACHE_METER_NAME).tags(tags).tag(RESULT_DIMENSION, "hit").counter();
+                Counter misses = registry.find(CACHE_METER_NAME).tags(tags).tag(RESULT_DIMENSION, "miss").counter();
+
+                Map<String, Number> endpoint = new LinkedHashMap<>();
+                endpoint.put("count", statements.count());
+                endpoint.put("statements", statements.totalAmount());
+                endpoint.put("statementsMean", statements.mean());
+                endpoint.put("statementsMax", statements.max());
+                endpoint.put("entities", entities != null ? entities.totalAmount() : 0);
+                endpoint.put("entitiesMax", entities != null ? entities.max() : 0);
+                endpoint.put("cacheHits", hits != null ? hits.count() : 0);
+                endpoint.put("cacheMisses", misses != null ? misses.count() : 0);
+                metrics.put(method + " " + uri, endpoint);
+            });
+        return metrics;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hm.pharmacy.management;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import tech.jhipster.config.metric.JHipsterMetricsEndpoint;
+
+/**
+ * {@code /management/jhimetrics} endpoint adding the Hibernate figures of each endpoint, under {@code hibernate}, to
+ * those reported by JHipster.
+ */
+public class HibernateMetricsEndpoint extends JHipsterMetricsEndpoint {
+
+    private final HibernateMetersService hibernateMetersService;
+
+    public HibernateMetricsEndpoint(MeterRegistry meterRegistry, HibernateMetersService hibernateMetersService) {
+        super(meterRegistry);
+        this.hibernateMetersService = hibernateMetersService;
+    }
+
+    @Override
+    @ReadOperation
+    public Map<String, Map<?, ?>> allMetrics() {
+        Map<String, Map<?, ?>> metrics = super.allMetrics();
+        metrics.put("hibernate", hibernateMetersService.endpointMetrics());
+        return metrics;
+    }
+}
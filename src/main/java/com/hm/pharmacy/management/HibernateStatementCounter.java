@@ -0,0 +1,140 @@
+package com.hm.pharmacy.management;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Counts the SQL statements, loaded entities and second-level cache lookups of the Hibernate sessions of a thread.
+ * <p>
+ * Hibernate creates its own instances of the session listener, so the counts are held by the thread rather than by a
+ * bean. Nothing is counted on threads where counting was not started, such as those of the scheduled jobs.
+ */
+public final class HibernateStatementCounter {
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    private HibernateStatementCounter() {}
+
+    /**
+     * Start counting on the current thread, from zero.
+     *
+     * @return the counts, updated until {@link #stop()} is called.
+     */
+    public static Counts start() {
+        Counts counts = new Counts();
+        COUNTS.set(counts);
+        return counts;
+    }
+
+    /**
+     * Stop counting on the current thread.
+     */
+    public static void stop() {
+        COUNTS.remove();
+    }
+
+    /**
+     * The figures counted on a thread.
+     */
+    public static final class Counts {
+
+        private int statements;
+
+        private int entities;
+
+        private int cacheHits;
+
+        private int cacheMisses;
+
+        /**
+         * @return the number of SQL statements prepared.
+         */
+        public int getStatements() {
+            return statements;
+        }
+
+        /**
+         * @return the number of entities loaded, from the result sets or the second-level cache.
+         */
+        public int getEntities() {
+            return entities;
+        }
+
+        public int getCacheHits() {
+            return cacheHits;
+        }
+
+        public int getCacheMisses() {
+            return cacheMisses;
+        }
+    }
+
+    /**
+     * Counts the statements, leaving their SQL unchanged.
+     */
+    public static final class Inspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            Counts counts = COUNTS.get();
+            if (counts != null) {
+                counts.statements++;
+            }
+            return sql;
+        }
+    }
+
+    /**
+     * Counts the second-level cache lookups, instantiated by Hibernate for each session.
+     */
+    public static final class CacheListener implements SessionEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void cacheGetEnd(boolean hit) {
+            Counts counts = COUNTS.get();
+            if (counts == null) {
+                return;
+            }
+            if (hit) {
+                counts.cacheHits++;
+            } else {
+                counts.cacheMisses++;
+            }
+        }
+    }
+
+    /**
+     * Adds a post-load listener counting the entities loaded.
+     */
+    public static final class LoadIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, event -> {
+                    Counts counts = COUNTS.get();
+                    if (counts != null) {
+                        counts.entities++;
+                    }
+                });
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            // Nothing to release
+        }
+    }
+}
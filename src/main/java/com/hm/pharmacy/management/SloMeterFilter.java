@@ -0,0 +1,65 @@
+package com.hm.pharmacy.management;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/**
+ * Publishes the histogram buckets of the latency objectives of the routes configured in {@code application.slo} on the
+ * HTTP server request timers of their endpoints.
+ * <p>
+ * The other timers publish neither histogram nor percentiles, so that each latency objective costs one time series
+ * per bucket, on the endpoints it applies to only.
+ */
+@Component
+public class SloMeterFilter implements MeterFilter {
+
+    public static final String HTTP_SERVER_REQUESTS_METER_NAME = "http.server.requests";
+    public static final String URI_DIMENSION = "uri";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, ApplicationProperties.Slo.Route> routes;
+
+    public SloMeterFilter(ApplicationProperties applicationProperties) {
+        this.routes = applicationProperties.getSlo().getRoutes();
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!HTTP_SERVER_REQUESTS_METER_NAME.equals(id.getName())) {
+            return config;
+        }
+        return route(id.getTag(URI_DIMENSION))
+            .map(route ->
+                DistributionStatisticConfig.builder()
+                    .serviceLevelObjectives(routes.get(route).getBuckets().stream().mapToDouble(Duration::toNanos).toArray())
+                    .build()
+                    .merge(config)
+            )
+            .orElse(config);
+    }
+
+    /**
+     * @param uri the URI pattern of an endpoint.
+     * @return the name of the first route matching the endpoint, if any.
+     */
+    public Optional<String> route(String uri) {
+        if (uri == null) {
+            return Optional.empty();
+        }
+        return routes
+            .entrySet()
+            .stream()
+            .filter(route -> route.getValue().getUris().stream().anyMatch(pattern -> pathMatcher.match(pattern, uri)))
+            .map(Map.Entry::getKey)
+            .findFirst();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hm.pharmacy.management;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint reporting the slow API requests kept by the {@link SlowRequestsService}.
+ * <p>
+ * {@code GET /management/slow-requests} lists them, the slowest first; {@code DELETE /management/slow-requests}
+ * forgets them.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestsService slowRequestsService;
+
+    public SlowRequestsEndpoint(SlowRequestsService slowRequestsService) {
+        this.slowRequestsService = slowRequestsService;
+    }
+
+    @ReadOperation
+    public List<SlowRequestsService.SlowRequest> slowRequests() {
+        return slowRequestsService.findAll();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowRequestsService.clear();
+    }
+}
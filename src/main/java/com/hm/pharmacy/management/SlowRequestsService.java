@@ -0,0 +1,174 @@
+package com.hm.pharmacy.management;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the slowest API requests slower than {@code application.slow-requests.threshold}, with the Hibernate figures
+ * counted by {@link HibernateStatementCounter}, in a heap of {@code application.slow-requests.capacity} requests
+ * ordered by duration: once full, a request only makes its way in by pushing out the fastest one kept, so that a burst
+ * of requests just over the threshold does not flush the slowest ones.
+ * <p>
+ * Only the requests slower than both the threshold and the fastest request kept take the lock of the heap, the others
+ * are only compared to these.
+ */
+@Service
+public class SlowRequestsService {
+
+    private static final Comparator<SlowRequest> FASTEST_FIRST = Comparator.comparingLong(SlowRequest::getDurationMillis);
+
+    private final long thresholdNanos;
+
+    private final int capacity;
+
+    private final PriorityQueue<SlowRequest> requests;
+
+    /**
+     * The duration of the fastest request kept once the heap is full, below which requests are not kept.
+     */
+    private volatile long floorMillis = -1;
+
+    public SlowRequestsService(ApplicationProperties applicationProperties) {
+        this.thresholdNanos = applicationProperties.getSlowRequests().getThreshold().toNanos();
+        this.capacity = applicationProperties.getSlowRequests().getCapacity();
+        this.requests = new PriorityQueue<>(Math.max(capacity, 1), FASTEST_FIRST);
+    }
+
+    /**
+     * Keep a request if it is slower than the threshold, in place of the fastest request kept once the heap is full.
+     *
+     * @param method the HTTP method of the request.
+     * @param uri the URI pattern of the endpoint.
+     * @param path the path of the request.
+     * @param status the HTTP status of the response.
+     * @param durationNanos the time taken by the request.
+     * @param counts the figures counted while the request was handled.
+     */
+    public void record(String method, String uri, String path, int status, long durationNanos, HibernateStatementCounter.Counts counts) {
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (durationNanos < thresholdNanos || capacity == 0 || durationMillis <= floorMillis) {
+            return;
+        }
+        SlowRequest request = new SlowRequest(
+            Instant.now(),
+            method,
+            uri,
+            path,
+            status,
+            durationMillis,
+            counts.getStatements(),
+            counts.getEntities()
+        );
+        synchronized (requests) {
+            if (requests.size() == capacity) {
+                if (durationMillis <= requests.peek().getDurationMillis()) {
+                    return;
+                }
+                requests.poll();
+            }
+            requests.add(request);
+            if (requests.size() == capacity) {
+                floorMillis = requests.peek().getDurationMillis();
+            }
+        }
+    }
+
+    /**
+     * @return the slow requests kept, the slowest first.
+     */
+    public List<SlowRequest> findAll() {
+        List<SlowRequest> kept;
+        synchronized (requests) {
+            kept = new ArrayList<>(requests);
+        }
+        kept.sort(FASTEST_FIRST.reversed());
+        return kept;
+    }
+
+    /**
+     * Forget the slow requests kept, for instance to watch a new release.
+     */
+    public void clear() {
+        synchronized (requests) {
+            requests.clear();
+            floorMillis = -1;
+        }
+    }
+
+    /**
+     * A request slower than the threshold.
+     */
+    public static final class SlowRequest {
+
+        private final Instant time;
+
+        private final String method;
+
+        private final String uri;
+
+        private final String path;
+
+        private final int status;
+
+        private final long durationMillis;
+
+        private final int statements;
+
+        private final int entities;
+
+        SlowRequest(Instant time, String method, String uri, String path, int status, long durationMillis, int statements, int entities) {
+            this.time = time;
+            this.method = method;
+            this.uri = uri;
+            this.path = path;
+            this.status = status;
+            this.durationMillis = durationMillis;
+            this.statements = statements;
+            this.entities = entities;
+        }
+
+        public Instant getTime() {
+            return time;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return the URI pattern of the endpoint.
+         */
+        public String getUri() {
+            return uri;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * @return the number of SQL statements prepared.
+         */
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntities() {
+            return entities;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.Authority;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,18 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AuthorityRepository extends JpaRepository<Authority, String> {}
+public interface AuthorityRepository extends JpaRepository<Authority, String> {
+    String AUTHORITY_QUERIES_CACHE = "authorityQueries";
+
+    /**
+     * All the authorities, from the query cache until an authority is written.
+     */
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = AUTHORITY_QUERIES_CACHE),
+        }
+    )
+    List<Authority> findAll();
+}
@@ -1,7 +1,12 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.MedicineBatches;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,72 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MedicineBatchesRepository extends JpaRepository<MedicineBatches, Long> {}
+public interface MedicineBatchesRepository extends JpaRepository<MedicineBatches, Long>, JpaSpecificationExecutor<MedicineBatches> {
+    List<AllocatableBatch> findAllByMedicinesIdAndQuantityGreaterThan(Long medicinesId, Integer quantity);
+
+    boolean existsByMedicinesId(Long medicinesId);
+
+    /**
+     * Read the batches with quantity left expiring up to a date, ordered by expiry date then id, after a keyset cursor.
+     * <p>
+     * The cursor is the expiry date and id of the last batch of the previous page, so each page is a range scan of the
+     * expiry date index, whatever its depth. The first page starts after ({@code from}, 0), {@code from} included.
+     *
+     * @param afterDate the expiry date of the cursor.
+     * @param afterId the id of the cursor.
+     * @param to the last expiry date read, included.
+     * @param pageable the page size; the page number and sort are ignored.
+     * @return the batches of the page.
+     */
+    @Query(
+        "select b.id as id, b.batchNumber as batchNumber, b.expiryDate as expiryDate, b.quantity as quantity," +
+        " m.id as medicinesId, m.name as medicinesName" +
+        " from MedicineBatches b left join b.medicines m" +
+        " where b.expiryDate >= :afterDate and b.expiryDate <= :to and b.quantity > 0" +
+        " and (b.expiryDate > :afterDate or b.id > :afterId)" +
+        " order by b.expiryDate, b.id"
+    )
+    List<ExpiringBatch> findExpiringAfter(
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") long afterId,
+        @Param("to") LocalDate to,
+        Pageable pageable
+    );
+
+    @Query(
+        "select b.id as id, b.batchNumber as batchNumber, b.expiryDate as expiryDate, b.quantity as quantity," +
+        " m.id as medicinesId, m.name as medicinesName" +
+        " from MedicineBatches b left join b.medicines m where b.id in :ids"
+    )
+    List<ExpiringBatch> findExpiringByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * The columns of a batch needed to allocate sale quantities to it, selected without hydrating the entity.
+     */
+    interface AllocatableBatch {
+        Long getId();
+
+        String getBatchNumber();
+
+        LocalDate getExpiryDate();
+
+        Integer getQuantity();
+    }
+
+    /**
+     * The columns of a batch shown on the expiry radar, with the name of its medicine.
+     */
+    interface ExpiringBatch {
+        Long getId();
+
+        String getBatchNumber();
+
+        LocalDate getExpiryDate();
+
+        Integer getQuantity();
+
+        Long getMedicinesId();
+
+        String getMedicinesName();
+    }
+}
@@ -0,0 +1,50 @@
+package com.hm.pharmacy.repository;
+
+import com.hm.pharmacy.domain.MedicineReorderSummary;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the MedicineReorderSummary entity.
+ */
+@Repository
+public interface MedicineReorderSummaryRepository extends JpaRepository<MedicineReorderSummary, Long> {
+    List<MedicineReorderSummary> findAllByUpdatedDateBefore(Instant updatedDate);
+
+    /**
+     * Read the medicines whose stock is at or below their reorder point, with their summary.
+     *
+     * @return the medicines to reorder, by name.
+     */
+    @Query(
+        "select m.id as medicinesId, m.name as medicinesName, m.stock as stock, r.velocity as velocity," +
+        " r.velocityDate as velocityDate, r.reorderPoint as reorderPoint, r.orderUpTo as orderUpTo" +
+        " from MedicineReorderSummary r join Medicines m on m.id = r.medicinesId" +
+        " where r.reorderPoint > 0 and coalesce(m.stock, 0) <= r.reorderPoint" +
+        " order by m.name, m.id"
+    )
+    List<ReorderRow> findAllAtOrBelowReorderPoint();
+
+    /**
+     * A medicine to reorder, with its current stock.
+     */
+    interface ReorderRow {
+        Long getMedicinesId();
+
+        String getMedicinesName();
+
+        Integer getStock();
+
+        Double getVelocity();
+
+        LocalDate getVelocityDate();
+
+        Integer getReorderPoint();
+
+        Integer getOrderUpTo();
+    }
+}
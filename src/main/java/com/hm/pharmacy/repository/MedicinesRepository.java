@@ -1,6 +1,9 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.Medicines;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,25 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MedicinesRepository extends JpaRepository<Medicines, Long> {}
+public interface MedicinesRepository extends JpaRepository<Medicines, Long>, JpaSpecificationExecutor<Medicines> {
+    List<CatalogRow> findAllCatalogRowsBy();
+
+    List<CatalogRow> findCatalogRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * The columns of a medicine read into the catalog, selected without hydrating the entity.
+     */
+    interface CatalogRow {
+        Long getId();
+
+        String getName();
+
+        String getManufacturer();
+
+        String getCategory();
+
+        BigDecimal getPrice();
+
+        Integer getStock();
+    }
+}
@@ -1,7 +1,14 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.Payments;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +16,39 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PaymentsRepository extends JpaRepository<Payments, Long> {}
+public interface PaymentsRepository extends JpaRepository<Payments, Long>, JpaSpecificationExecutor<Payments> {
+    /**
+     * Stream all the payments in id order from a forward-only cursor, for exports.
+     * <p>
+     * A fetch size of {@link Integer#MIN_VALUE} makes the MySQL driver stream rows one by one instead of buffering
+     * the whole result set. Must be consumed inside a transaction, and closed once done.
+     *
+     * @return the stream of payments.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        }
+    )
+    @Query("select payments from Payments payments order by payments.id")
+    Stream<Payments> streamAll();
+
+    @Query(
+        "select p.sales.id as salesId, p.paymentMethod as paymentMethod, p.amount as amount" +
+        " from Payments p where p.sales.id in :salesIds"
+    )
+    List<SalePayment> findSalePaymentsBySalesIdIn(@Param("salesIds") Collection<Long> salesIds);
+
+    /**
+     * The method and amount of a payment of a sale, selected without hydrating the entity.
+     */
+    interface SalePayment {
+        Long getSalesId();
+
+        String getPaymentMethod();
+
+        BigDecimal getAmount();
+    }
+}
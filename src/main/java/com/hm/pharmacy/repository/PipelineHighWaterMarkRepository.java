@@ -0,0 +1,24 @@
+package com.hm.pharmacy.repository;
+
+import com.hm.pharmacy.domain.PipelineHighWaterMark;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the PipelineHighWaterMark entity.
+ */
+@Repository
+public interface PipelineHighWaterMarkRepository extends JpaRepository<PipelineHighWaterMark, String> {
+    /**
+     * Lock the high-water mark of a pipeline until the end of the transaction, waiting for another node to release it.
+     *
+     * @param name the name of the pipeline.
+     * @return the locked high-water mark.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from PipelineHighWaterMark h where h.name = :name")
+    Optional<PipelineHighWaterMark> findForUpdate(@Param("name") String name);
+}
@@ -9,4 +9,4 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PrescriptionsRepository extends JpaRepository<Prescriptions, Long> {}
+public interface PrescriptionsRepository extends JpaRepository<Prescriptions, Long>, JpaSpecificationExecutor<Prescriptions> {}
@@ -1,7 +1,10 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.PurchaseItems;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,30 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PurchaseItemsRepository extends JpaRepository<PurchaseItems, Long> {}
+public interface PurchaseItemsRepository extends JpaRepository<PurchaseItems, Long>, JpaSpecificationExecutor<PurchaseItems> {
+    /**
+     * Read the supplier each medicine was last purchased from.
+     *
+     * @param medicinesIds the ids of the medicines.
+     * @return the suppliers, by medicine; none for the medicines never purchased from a supplier.
+     */
+    @Query(
+        "select pi.medicines.id as medicinesId, s.id as suppliersId, s.name as suppliersName" +
+        " from PurchaseItems pi join pi.purchases p join p.suppliers s" +
+        " where pi.medicines.id in :medicinesIds and p.id = (" +
+        "select max(p2.id) from PurchaseItems pi2 join pi2.purchases p2" +
+        " where pi2.medicines.id = pi.medicines.id and p2.suppliers is not null)"
+    )
+    List<LastSupplier> findLastSuppliersByMedicinesIdIn(@Param("medicinesIds") Collection<Long> medicinesIds);
+
+    /**
+     * The supplier a medicine was last purchased from.
+     */
+    interface LastSupplier {
+        Long getMedicinesId();
+
+        Long getSuppliersId();
+
+        String getSuppliersName();
+    }
+}
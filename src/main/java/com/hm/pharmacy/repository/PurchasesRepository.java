@@ -9,4 +9,4 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PurchasesRepository extends JpaRepository<Purchases, Long> {}
+public interface PurchasesRepository extends JpaRepository<Purchases, Long>, JpaSpecificationExecutor<Purchases> {}
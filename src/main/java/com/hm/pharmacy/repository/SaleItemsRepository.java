@@ -1,7 +1,12 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.SaleItems;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,45 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SaleItemsRepository extends JpaRepository<SaleItems, Long> {}
+public interface SaleItemsRepository extends JpaRepository<SaleItems, Long>, JpaSpecificationExecutor<SaleItems> {
+    @Query(
+        "select s.saleDate as saleDate, si.medicines.id as medicinesId, si.quantity as quantity" +
+        " from SaleItems si join si.sales s" +
+        " where s.id in :salesIds and s.saleDate is not null and si.medicines is not null and si.quantity is not null"
+    )
+    List<SoldQuantity> findSoldQuantitiesBySalesIdIn(@Param("salesIds") Collection<Long> salesIds);
+
+    @Query(
+        "select s.id as salesId, s.saleDate as saleDate, si.medicines.id as medicinesId, si.quantity as quantity, si.price as price" +
+        " from SaleItems si join si.sales s" +
+        " where s.id in :salesIds and s.saleDate is not null and si.medicines is not null and si.quantity is not null" +
+        " order by s.id, si.id"
+    )
+    List<SoldLine> findSoldLinesBySalesIdIn(@Param("salesIds") Collection<Long> salesIds);
+
+    /**
+     * The quantity of a medicine sold by a sale line, selected without hydrating the entities.
+     */
+    interface SoldQuantity {
+        Instant getSaleDate();
+
+        Long getMedicinesId();
+
+        Integer getQuantity();
+    }
+
+    /**
+     * A sale line with its sale and price, selected without hydrating the entities.
+     */
+    interface SoldLine {
+        Long getSalesId();
+
+        Instant getSaleDate();
+
+        Long getMedicinesId();
+
+        Integer getQuantity();
+
+        BigDecimal getPrice();
+    }
+}
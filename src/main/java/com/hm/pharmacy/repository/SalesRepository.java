@@ -1,7 +1,19 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.Sales;
+import jakarta.persistence.QueryHint;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +21,94 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SalesRepository extends JpaRepository<Sales, Long> {}
+public interface SalesRepository extends JpaRepository<Sales, Long>, JpaSpecificationExecutor<Sales> {
+    /**
+     * Stream all the sales in id order from a forward-only cursor, for exports.
+     * <p>
+     * A fetch size of {@link Integer#MIN_VALUE} makes the MySQL driver stream rows one by one instead of buffering
+     * the whole result set. Must be consumed inside a transaction, and closed once done.
+     *
+     * @return the stream of sales.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        }
+    )
+    @Query("select sales from Sales sales order by sales.id")
+    Stream<Sales> streamAll();
+
+    /**
+     * Read the ids of the settled sales after a high-water mark, in order, up to the first sale inserted too recently
+     * for all the sales with a lower id to have committed.
+     * <p>
+     * Sales are settled on the time they were inserted at, the sale date being set by the client. Both that time and
+     * the settle cutoff are taken from the database clock, so that nodes with drifting clocks agree on them. Reading
+     * stops at the first unsettled sale, so that a high-water mark moved to the last id read never passes a sale still
+     * committing.
+     *
+     * @param afterId the high-water mark.
+     * @param settleDelay the time a sale must have been inserted for.
+     * @param pageable the maximum number of ids.
+     * @return the ids, in order.
+     */
+    default List<Long> findSettledIdsAfter(long afterId, Duration settleDelay, Pageable pageable) {
+        Instant settledBefore = findUtcTimestamp().toInstant(ZoneOffset.UTC).minus(settleDelay);
+        List<Long> ids = new ArrayList<>();
+        for (InsertedSale sale : findInsertedAfter(afterId, pageable)) {
+            if (sale.getCreatedDate().isAfter(settledBefore)) {
+                break;
+            }
+            ids.add(sale.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * @return the current time of the database clock, in UTC.
+     */
+    @Query(value = "select utc_timestamp(6)", nativeQuery = true)
+    LocalDateTime findUtcTimestamp();
+
+    @Query("select s.id as id, s.createdDate as createdDate from Sales s where s.id > :afterId order by s.id")
+    List<InsertedSale> findInsertedAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Read a sale with its lines, their medicines and its payments, in one statement.
+     * <p>
+     * The lines and payments of a sale are few, so that the product of the two fetch joins stays small.
+     *
+     * @param id the id of the sale.
+     * @return the sale, with its associations initialized.
+     */
+    @Query(
+        "select s from Sales s" +
+        " left join fetch s.saleItems si left join fetch si.medicines" +
+        " left join fetch s.payments" +
+        " where s.id = :id"
+    )
+    Optional<Sales> findOneWithItemsAndPayments(@Param("id") Long id);
+
+    /**
+     * Read the id of the last sale inserted before a time, to start tailing the sales from.
+     * <p>
+     * Sales are taken on the time they were inserted at, which follows the order of the ids, rather than on their sale
+     * date, which the client sets: a single backdated sale would otherwise move the start past all the sales before it.
+     *
+     * @param before the insert time.
+     * @return the id, if any sale was inserted before.
+     */
+    @Query("select max(s.id) from Sales s where s.createdDate < :before")
+    Optional<Long> findMaxIdBefore(@Param("before") Instant before);
+
+    /**
+     * The id of a sale with the time it was inserted at.
+     */
+    interface InsertedSale {
+        Long getId();
+
+        Instant getCreatedDate();
+    }
+}
@@ -0,0 +1,231 @@
+package com.hm.pharmacy.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository maintaining and reading the daily sales rollups.
+ * <p>
+ * Rollups are added to with {@code INSERT ... SELECT ... ON DUPLICATE KEY UPDATE}: the sales of a range are aggregated
+ * by the database and added to the rows of their days in one statement per rollup, without reading the sales into the
+ * application. Days are those of the sale dates as stored, in UTC.
+ */
+@Repository
+public class SalesRollupRepository {
+
+    private static final List<String> ROLLUP_TABLES = List.of(
+        "sales_daily_rollup",
+        "sales_daily_medicine_rollup",
+        "sales_daily_payment_rollup",
+        "sales_daily_customer_rollup"
+    );
+
+    private static final String SALES_ROLLUP =
+        "insert into sales_daily_rollup (sale_date, sales_count, total_amount)" +
+        " select * from (select date(s.sale_date) as sale_date, count(*) as sales_count," +
+        " coalesce(sum(s.total_amount), 0) as total_amount" +
+        " from sales s where %s group by date(s.sale_date)) agg" +
+        " on duplicate key update sales_count = sales_daily_rollup.sales_count + agg.sales_count," +
+        " total_amount = sales_daily_rollup.total_amount + agg.total_amount";
+
+    private static final String MEDICINE_ROLLUP =
+        "insert into sales_daily_medicine_rollup (sale_date, medicines_id, quantity, amount)" +
+        " select * from (select date(s.sale_date) as sale_date, si.medicines_id, sum(coalesce(si.quantity, 0)) as quantity," +
+        " coalesce(sum(si.quantity * si.price), 0) as amount" +
+        " from sale_items si join sales s on s.id = si.sales_id" +
+        " where si.medicines_id is not null and %s group by date(s.sale_date), si.medicines_id) agg" +
+        " on duplicate key update quantity = sales_daily_medicine_rollup.quantity + agg.quantity," +
+        " amount = sales_daily_medicine_rollup.amount + agg.amount";
+
+    private static final String PAYMENT_ROLLUP =
+        "insert into sales_daily_payment_rollup (sale_date, payment_method, payments_count, amount)" +
+        " select * from (select date(s.sale_date) as sale_date, coalesce(p.payment_method, '') as payment_method," +
+        " count(*) as payments_count, coalesce(sum(p.amount), 0) as amount" +
+        " from payments p join sales s on s.id = p.sales_id" +
+        " where %s group by date(s.sale_date), coalesce(p.payment_method, '')) agg" +
+        " on duplicate key update payments_count = sales_daily_payment_rollup.payments_count + agg.payments_count," +
+        " amount = sales_daily_payment_rollup.amount + agg.amount";
+
+    private static final String CUSTOMER_ROLLUP =
+        "insert into sales_daily_customer_rollup (sale_date, customers_id, sales_count, total_amount)" +
+        " select * from (select date(s.sale_date) as sale_date, s.customers_id, count(*) as sales_count," +
+        " coalesce(sum(s.total_amount), 0) as total_amount" +
+        " from sales s where s.customers_id is not null and %s group by date(s.sale_date), s.customers_id) agg" +
+        " on duplicate key update sales_count = sales_daily_customer_rollup.sales_count + agg.sales_count," +
+        " total_amount = sales_daily_customer_rollup.total_amount + agg.total_amount";
+
+    private static final List<String> ROLLUPS = List.of(SALES_ROLLUP, MEDICINE_ROLLUP, PAYMENT_ROLLUP, CUSTOMER_ROLLUP);
+
+    private static final String ID_RANGE = "s.sale_date is not null and s.id > ? and s.id <= ?";
+
+    private static final String DATE_RANGE = "s.sale_date >= ? and s.sale_date < ? and s.id <= ?";
+
+    private static final RowMapper<RollupLine> ROLLUP_LINE = (rs, rowNum) ->
+        new RollupLine(rs.getObject(1, Long.class), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getBigDecimal(5));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalesRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add the sales of an id range to the rollups.
+     *
+     * @param afterId the id after which sales are added.
+     * @param lastId the id of the last sale added.
+     */
+    public void addSales(long afterId, long lastId) {
+        for (String rollup : ROLLUPS) {
+            jdbcTemplate.update(rollup.formatted(ID_RANGE), afterId, lastId);
+        }
+    }
+
+    /**
+     * Replace the rollups of a range of days with the aggregates of their sales.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param lastId the id of the last sale the rollups hold, so that sales still to be added are left out.
+     */
+    public void rebuild(LocalDate from, LocalDate to, long lastId) {
+        for (String table : ROLLUP_TABLES) {
+            jdbcTemplate.update("delete from " + table + " where sale_date between ? and ?", from, to);
+        }
+        // Sale dates are stored in UTC, without zone: the bounds are midnights UTC.
+        Object[] range = { from.atStartOfDay(), to.plusDays(1).atStartOfDay(), lastId };
+        for (String rollup : ROLLUPS) {
+            jdbcTemplate.update(rollup.formatted(DATE_RANGE), range);
+        }
+    }
+
+    /**
+     * @return the number of sales and their total amount, over a range of days.
+     */
+    public RollupLine sumSales(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(
+            "select null, null, coalesce(sum(sales_count), 0), 0, coalesce(sum(total_amount), 0)" +
+            " from sales_daily_rollup where sale_date between ? and ?",
+            ROLLUP_LINE,
+            from,
+            to
+        );
+    }
+
+    /**
+     * @return the quantity sold and its amount, over a range of days.
+     */
+    public RollupLine sumSaleItems(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(
+            "select null, null, 0, coalesce(sum(quantity), 0), coalesce(sum(amount), 0)" +
+            " from sales_daily_medicine_rollup where sale_date between ? and ?",
+            ROLLUP_LINE,
+            from,
+            to
+        );
+    }
+
+    /**
+     * @return the number of sales and their total amount of each day with sales, in date order.
+     */
+    public List<RollupLine> findDays(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "select null, sale_date, sales_count, 0, total_amount" +
+            " from sales_daily_rollup where sale_date between ? and ? order by sale_date",
+            ROLLUP_LINE,
+            from,
+            to
+        );
+    }
+
+    /**
+     * @return the medicines sold the most, by amount, with their quantity sold.
+     */
+    public List<RollupLine> findTopMedicines(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(
+            "select r.medicines_id, m.name, 0, sum(r.quantity), sum(r.amount) as amount" +
+            " from sales_daily_medicine_rollup r left join medicines m on m.id = r.medicines_id" +
+            " where r.sale_date between ? and ? group by r.medicines_id, m.name order by amount desc, r.medicines_id limit ?",
+            ROLLUP_LINE,
+            from,
+            to,
+            limit
+        );
+    }
+
+    /**
+     * @return the number of payments and their amount by payment method, the method being empty when not set.
+     */
+    public List<RollupLine> findPaymentMethods(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "select null, payment_method, sum(payments_count), 0, sum(amount) as amount" +
+            " from sales_daily_payment_rollup where sale_date between ? and ? group by payment_method order by amount desc",
+            ROLLUP_LINE,
+            from,
+            to
+        );
+    }
+
+    /**
+     * @return the customers who spent the most, with their number of sales.
+     */
+    public List<RollupLine> findTopCustomers(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(
+            "select r.customers_id, c.name, sum(r.sales_count), 0, sum(r.total_amount) as amount" +
+            " from sales_daily_customer_rollup r left join customers c on c.id = r.customers_id" +
+            " where r.sale_date between ? and ? group by r.customers_id, c.name order by amount desc, r.customers_id limit ?",
+            ROLLUP_LINE,
+            from,
+            to,
+            limit
+        );
+    }
+
+    /**
+     * A line of a rollup, summed over a range of days: what it is about, a count, a quantity and an amount.
+     */
+    public static final class RollupLine {
+
+        private final Long id;
+
+        private final String label;
+
+        private final long count;
+
+        private final long quantity;
+
+        private final BigDecimal amount;
+
+        private RollupLine(Long id, String label, long count, long quantity, BigDecimal amount) {
+            this.id = id;
+            this.label = label;
+            this.count = count;
+            this.quantity = quantity;
+            this.amount = amount;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getQuantity() {
+            return quantity;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+    }
+}
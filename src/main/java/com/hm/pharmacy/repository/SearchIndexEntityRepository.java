@@ -0,0 +1,159 @@
+package com.hm.pharmacy.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository loading the entities indexed in Elasticsearch, ready to be written as documents.
+ * <p>
+ * Entities are loaded with a single query that also fetches the associations embedded in their documents (such as the
+ * {@code medicines} of a {@code SaleItems}), so that related names are resolved once per batch instead of once per
+ * document, and never end up as empty proxies in the index.
+ */
+@Repository
+public class SearchIndexEntityRepository {
+
+    private static final int FETCH_DEPTH = 2;
+
+    private final EntityManager entityManager;
+
+    private final Map<String, EntityType<?>> indexedTypes = new LinkedHashMap<>();
+
+    private final Map<String, String> selectQueries = new LinkedHashMap<>();
+
+    public SearchIndexEntityRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        entityManager
+            .getMetamodel()
+            .getEntities()
+            .stream()
+            .filter(type -> type.getJavaType().isAnnotationPresent(Document.class))
+            .sorted(Comparator.comparing(EntityType::getName))
+            .forEach(type -> {
+                indexedTypes.put(type.getName(), type);
+                selectQueries.put(type.getName(), selectQuery(type));
+            });
+    }
+
+    /**
+     * Get the indexed entity types.
+     *
+     * @return the indexed entity types, by entity name.
+     */
+    public Collection<EntityType<?>> findAllTypes() {
+        return indexedTypes.values();
+    }
+
+    /**
+     * Get an indexed entity type.
+     *
+     * @param name the entity name, such as {@code SaleItems}.
+     * @return the entity type, or empty if the entity is unknown or not indexed.
+     */
+    public Optional<EntityType<?>> findType(String name) {
+        return Optional.ofNullable(indexedTypes.get(name));
+    }
+
+    /**
+     * Load entities by id, with their embedded associations.
+     *
+     * @param type the entity type.
+     * @param ids the ids of the entities.
+     * @param <T> the entity class.
+     * @return the entities that still exist.
+     */
+    public <T> List<T> findAllById(EntityType<T> type, Collection<Long> ids) {
+        return entityManager
+            .createQuery(selectQueries.get(type.getName()) + " where e.id in :ids", type.getJavaType())
+            .setParameter("ids", ids)
+            .getResultList();
+    }
+
+    /**
+     * Load a page of entities in id order, with their embedded associations.
+     *
+     * @param type the entity type.
+     * @param afterId the id after which the page starts, exclusive.
+     * @param lastId the id at which the scan stops, inclusive.
+     * @param size the maximum number of entities.
+     * @param <T> the entity class.
+     * @return the entities with an id in {@code (afterId, lastId]}.
+     */
+    public <T> List<T> findPage(EntityType<T> type, long afterId, long lastId, int size) {
+        return entityManager
+            .createQuery(selectQueries.get(type.getName()) + " where e.id > :afterId and e.id <= :lastId order by e.id", type.getJavaType())
+            .setParameter("afterId", afterId)
+            .setParameter("lastId", lastId)
+            .setMaxResults(size)
+            .getResultList();
+    }
+
+    /**
+     * Get the smallest and largest ids of an entity table.
+     *
+     * @param type the entity type.
+     * @return the smallest and the largest id, or empty if the table is empty.
+     */
+    public Optional<long[]> findIdRange(EntityType<?> type) {
+        Object[] range = entityManager
+            .createQuery("select min(e.id), max(e.id) from " + type.getName() + " e", Object[].class)
+            .getSingleResult();
+        return range[0] == null ? Optional.empty() : Optional.of(new long[] { (Long) range[0], (Long) range[1] });
+    }
+
+    /**
+     * Count the rows of an entity table.
+     *
+     * @param type the entity type.
+     * @return the number of rows.
+     */
+    public long count(EntityType<?> type) {
+        return entityManager.createQuery("select count(e) from " + type.getName() + " e", Long.class).getSingleResult();
+    }
+
+    /**
+     * Get the id of an entity.
+     *
+     * @param entity the entity.
+     * @return its id.
+     */
+    public Long getId(Object entity) {
+        return (Long) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    private static String selectQuery(EntityType<?> type) {
+        StringBuilder jpql = new StringBuilder("select e from ").append(type.getName()).append(" e");
+        appendFetchJoins(jpql, type, "e", FETCH_DEPTH);
+        return jpql.toString();
+    }
+
+    private static void appendFetchJoins(StringBuilder jpql, ManagedType<?> type, String alias, int depth) {
+        if (depth == 0) {
+            return;
+        }
+        type
+            .getSingularAttributes()
+            .stream()
+            .filter(SingularAttribute::isAssociation)
+            .filter(attribute -> !(attribute.getJavaMember() instanceof Field field && field.isAnnotationPresent(Transient.class)))
+            .sorted(Comparator.comparing(Attribute::getName))
+            .forEach(attribute -> {
+                String join = alias + "_" + attribute.getName();
+                jpql.append(" left join fetch ").append(alias).append('.').append(attribute.getName()).append(' ').append(join);
+                appendFetchJoins(jpql, (ManagedType<?>) attribute.getType(), join, depth - 1);
+            });
+    }
+}
@@ -0,0 +1,76 @@
+package com.hm.pharmacy.repository;
+
+import com.hm.pharmacy.domain.SearchIndexOutbox;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the SearchIndexOutbox entity.
+ */
+@Repository
+public interface SearchIndexOutboxRepository extends JpaRepository<SearchIndexOutbox, Long> {
+    /**
+     * The lock timeout, in the {@code jakarta.persistence.lock.timeout} hint, that Hibernate turns into {@code SKIP LOCKED}.
+     */
+    String SKIP_LOCKED_TIMEOUT = "-2";
+
+    /**
+     * Queue a search index write for an entity, in the caller's transaction.
+     *
+     * @param entityClass the class of the indexed entity.
+     * @param entityId the id of the entity.
+     * @param operation whether the document should be indexed or deleted.
+     */
+    default void enqueue(Class<?> entityClass, Long entityId, SearchIndexOperation operation) {
+        Instant now = Instant.now();
+        save(
+            new SearchIndexOutbox()
+                .entityType(entityClass.getSimpleName())
+                .entityId(entityId)
+                .operation(operation)
+                .createdDate(now)
+                .nextAttemptDate(now)
+        );
+    }
+
+    /**
+     * Lock the oldest entries due for an attempt, skipping the ones already locked by another node, the dead letters and
+     * the entries of the entity types currently paused.
+     *
+     * @param now the current time.
+     * @param pageable the maximum number of entries to lock.
+     * @return the locked entries, in id order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED_TIMEOUT))
+    @Query(
+        "select o from SearchIndexOutbox o where o.nextAttemptDate <= :now and o.deadLetter = false" +
+        " and not exists (select p from SearchIndexPause p where p.entityType = o.entityType and p.pausedUntil > :now)" +
+        " order by o.id"
+    )
+    List<SearchIndexOutbox> findDueForUpdate(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Get the entries not applied yet, dead letters aside.
+     *
+     * @return the number of pending entries and the creation date of the oldest one.
+     */
+    @Query("select count(o) as pending, min(o.createdDate) as oldestCreatedDate from SearchIndexOutbox o where o.deadLetter = false")
+    Backlog findBacklog();
+
+    long countByDeadLetterTrue();
+
+    interface Backlog {
+        long getPending();
+
+        Instant getOldestCreatedDate();
+    }
+}
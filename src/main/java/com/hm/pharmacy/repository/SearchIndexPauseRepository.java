@@ -0,0 +1,11 @@
+package com.hm.pharmacy.repository;
+
+import com.hm.pharmacy.domain.SearchIndexPause;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the SearchIndexPause entity.
+ */
+@Repository
+public interface SearchIndexPauseRepository extends JpaRepository<SearchIndexPause, String> {}
@@ -0,0 +1,119 @@
+package com.hm.pharmacy.repository;
+
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.domain.Medicines;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hibernate.Hibernate;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Repository adjusting the stock of {@link Medicines} and the quantity of {@link MedicineBatches} in place.
+ * <p>
+ * Each adjustment is a single {@code UPDATE ... SET stock = stock - ? WHERE id = ? AND stock >= ?}, so concurrent tills
+ * never overwrite each other's decrements and stock never goes negative, without locking rows for longer than the update.
+ * All the lines of a call are sent as one JDBC batch, which relies on the driver reporting the update count of each
+ * statement. As the updates bypass Hibernate, adjusted instances already loaded in the persistence context are refreshed,
+ * and the adjusted entities are evicted from the second-level cache, and the cached queries over their table are
+ * invalidated, and again once the transaction has committed.
+ */
+@Repository
+public class StockRepository {
+
+    private static final String MEDICINES_DECREMENT =
+        "update medicines set stock = coalesce(stock, 0) - ? where id = ? and coalesce(stock, 0) >= ?";
+
+    private static final String MEDICINE_BATCHES_DECREMENT =
+        "update medicine_batches set quantity = coalesce(quantity, 0) - ? where id = ? and coalesce(quantity, 0) >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    public StockRepository(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Decrement the stock of medicines, or increment it with a negative quantity.
+     *
+     * @param quantities the quantity to take from each medicine, by medicine id.
+     * @return the ids of the medicines left untouched, because they do not exist or have not enough stock.
+     */
+    public List<Long> decrementMedicinesStock(Map<Long, Integer> quantities) {
+        return decrement(Medicines.class, MEDICINES_DECREMENT, quantities);
+    }
+
+    /**
+     * Decrement the quantity of medicine batches, or increment it with a negative quantity.
+     *
+     * @param quantities the quantity to take from each batch, by batch id.
+     * @return the ids of the batches left untouched, because they do not exist or have not enough quantity left.
+     */
+    public List<Long> decrementMedicineBatchesQuantity(Map<Long, Integer> quantities) {
+        return decrement(MedicineBatches.class, MEDICINE_BATCHES_DECREMENT, quantities);
+    }
+
+    private List<Long> decrement(Class<?> entityClass, String sql, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        // Rows are locked in id order whatever the order of the basket, so that concurrent batches cannot deadlock
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        List<Object[]> arguments = new ArrayList<>(sortedQuantities.size());
+        sortedQuantities.forEach((id, quantity) -> arguments.add(new Object[] { quantity, id, quantity }));
+        int[] updateCounts = jdbcTemplate.batchUpdate(sql, arguments);
+
+        List<Long> untouched = new ArrayList<>();
+        List<Long> adjusted = new ArrayList<>();
+        int i = 0;
+        for (Long id : sortedQuantities.keySet()) {
+            (updateCounts[i++] == 0 ? untouched : adjusted).add(id);
+        }
+        evict(entityClass, adjusted);
+        return untouched;
+    }
+
+    private void evict(Class<?> entityClass, List<Long> ids) {
+        for (Long id : ids) {
+            // Returns the instance of the persistence context if there is one, or an uninitialized proxy
+            Object reference = entityManager.getReference(entityClass, id);
+            if (Hibernate.isInitialized(reference)) {
+                entityManager.refresh(reference);
+            } else {
+                entityManager.detach(reference);
+            }
+        }
+        evictFromCache(entityClass, ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictFromCache(entityClass, ids);
+                    }
+                }
+            );
+        }
+    }
+
+    private void evictFromCache(Class<?> entityClass, Iterable<Long> ids) {
+        ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(entityClass, id));
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+        if (timestampsCache != null) {
+            String[] tables = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass).getSynchronizedQuerySpaces();
+            timestampsCache.invalidate(tables, session);
+        }
+    }
+}
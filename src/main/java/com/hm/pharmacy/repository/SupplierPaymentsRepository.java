@@ -1,6 +1,9 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.SupplierPayments;
+import jakarta.persistence.QueryHint;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,22 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SupplierPaymentsRepository extends JpaRepository<SupplierPayments, Long> {}
+public interface SupplierPaymentsRepository extends JpaRepository<SupplierPayments, Long>, JpaSpecificationExecutor<SupplierPayments> {
+    /**
+     * Stream all the supplierPayments in id order from a forward-only cursor, for exports.
+     * <p>
+     * A fetch size of {@link Integer#MIN_VALUE} makes the MySQL driver stream rows one by one instead of buffering
+     * the whole result set. Must be consumed inside a transaction, and closed once done.
+     *
+     * @return the stream of supplierPayments.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        }
+    )
+    @Query("select supplierPayments from SupplierPayments supplierPayments order by supplierPayments.id")
+    Stream<SupplierPayments> streamAll();
+}
@@ -1,6 +1,11 @@
 package com.hm.pharmacy.repository;
 
 import com.hm.pharmacy.domain.Suppliers;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +14,27 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SuppliersRepository extends JpaRepository<Suppliers, Long> {}
+public interface SuppliersRepository extends JpaRepository<Suppliers, Long>, JpaSpecificationExecutor<Suppliers> {
+    String SUPPLIERS_QUERIES_CACHE = "suppliersQueries";
+
+    /**
+     * A page of the suppliers matching the criteria of a list screen, from the query cache until a supplier is written.
+     */
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SUPPLIERS_QUERIES_CACHE),
+        }
+    )
+    Page<Suppliers> findAll(Specification<Suppliers> spec, Pageable pageable);
+
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SUPPLIERS_QUERIES_CACHE),
+        }
+    )
+    long count(Specification<Suppliers> spec);
+}
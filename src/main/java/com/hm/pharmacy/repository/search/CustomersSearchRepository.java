@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.Customers;
-import com.hm.pharmacy.repository.CustomersRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Customers} entity.
@@ -17,31 +17,28 @@ import org.springframework.scheduling.annotation.Async;
 public interface CustomersSearchRepository extends ElasticsearchRepository<Customers, Long>, CustomersSearchRepositoryInternal {}
 
 interface CustomersSearchRepositoryInternal {
-    Stream<Customers> search(String query);
+    SearchPage<Customers> search(TextSearch search, Pageable pageable);
 
     Stream<Customers> search(Query query);
 
-    @Async
     void index(Customers entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class CustomersSearchRepositoryInternalImpl implements CustomersSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final CustomersRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    CustomersSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, CustomersRepository repository) {
+    CustomersSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Customers> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Customers> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Customers.class, search, pageable);
     }
 
     @Override
@@ -51,11 +48,11 @@ class CustomersSearchRepositoryInternalImpl implements CustomersSearchRepository
 
     @Override
     public void index(Customers entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Customers.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Customers.class);
+        outboxRepository.enqueue(Customers.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.MedicineBatches;
-import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link MedicineBatches} entity.
@@ -18,31 +18,28 @@ public interface MedicineBatchesSearchRepository
     extends ElasticsearchRepository<MedicineBatches, Long>, MedicineBatchesSearchRepositoryInternal {}
 
 interface MedicineBatchesSearchRepositoryInternal {
-    Stream<MedicineBatches> search(String query);
+    SearchPage<MedicineBatches> search(TextSearch search, Pageable pageable);
 
     Stream<MedicineBatches> search(Query query);
 
-    @Async
     void index(MedicineBatches entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class MedicineBatchesSearchRepositoryInternalImpl implements MedicineBatchesSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final MedicineBatchesRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    MedicineBatchesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, MedicineBatchesRepository repository) {
+    MedicineBatchesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<MedicineBatches> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<MedicineBatches> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, MedicineBatches.class, search, pageable);
     }
 
     @Override
@@ -52,11 +49,11 @@ class MedicineBatchesSearchRepositoryInternalImpl implements MedicineBatchesSear
 
     @Override
     public void index(MedicineBatches entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(MedicineBatches.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), MedicineBatches.class);
+        outboxRepository.enqueue(MedicineBatches.class, id, SearchIndexOperation.DELETE);
     }
 }
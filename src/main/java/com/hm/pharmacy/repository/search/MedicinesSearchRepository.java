@@ -1,15 +1,20 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import com.hm.pharmacy.domain.Medicines;
-import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
+import java.util.List;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Medicines} entity.
@@ -17,31 +22,36 @@ import org.springframework.scheduling.annotation.Async;
 public interface MedicinesSearchRepository extends ElasticsearchRepository<Medicines, Long>, MedicinesSearchRepositoryInternal {}
 
 interface MedicinesSearchRepositoryInternal {
-    Stream<Medicines> search(String query);
+    SearchPage<Medicines> search(TextSearch search, Pageable pageable);
 
     Stream<Medicines> search(Query query);
 
-    @Async
+    List<Medicines> suggest(String prefix, int size);
+
     void index(Medicines entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class MedicinesSearchRepositoryInternalImpl implements MedicinesSearchRepositoryInternal {
 
+    private static final String[] SUGGEST_FIELDS = Stream.of("name", "manufacturer")
+        .flatMap(field -> Stream.of(field + ".suggest", field + ".suggest._2gram", field + ".suggest._3gram"))
+        .toArray(String[]::new);
+
+    private static final String[] SUGGEST_SOURCE = { "id", "name", "manufacturer", "stock" };
+
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final MedicinesRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    MedicinesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, MedicinesRepository repository) {
+    MedicinesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Medicines> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Medicines> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Medicines.class, search, pageable);
     }
 
     @Override
@@ -49,13 +59,30 @@ class MedicinesSearchRepositoryInternalImpl implements MedicinesSearchRepository
         return elasticsearchTemplate.search(query, Medicines.class).map(SearchHit::getContent).stream();
     }
 
+    /**
+     * Prefix match on the {@code search_as_you_type} sub-fields of the name and manufacturer, reading back only the
+     * fields of a suggestion and skipping the total hit count.
+     */
+    @Override
+    public List<Medicines> suggest(String prefix, int size) {
+        NativeQuery query = NativeQuery.builder()
+            .withQuery(q ->
+                q.multiMatch(m -> m.query(prefix).type(TextQueryType.BoolPrefix).operator(Operator.And).fields(List.of(SUGGEST_FIELDS)))
+            )
+            .withSourceFilter(new FetchSourceFilter(SUGGEST_SOURCE, null))
+            .withTrackTotalHits(false)
+            .withMaxResults(size)
+            .build();
+        return elasticsearchTemplate.search(query, Medicines.class).map(SearchHit::getContent).toList();
+    }
+
     @Override
     public void index(Medicines entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Medicines.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Medicines.class);
+        outboxRepository.enqueue(Medicines.class, id, SearchIndexOperation.DELETE);
     }
 }
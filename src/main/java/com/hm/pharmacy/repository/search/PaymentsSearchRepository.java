@@ -1,15 +1,16 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.Payments;
-import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Payments} entity.
@@ -17,31 +18,32 @@ import org.springframework.scheduling.annotation.Async;
 public interface PaymentsSearchRepository extends ElasticsearchRepository<Payments, Long>, PaymentsSearchRepositoryInternal {}
 
 interface PaymentsSearchRepositoryInternal {
-    Stream<Payments> search(String query);
+    SearchPage<Payments> search(TextSearch search, Pageable pageable);
 
     Stream<Payments> search(Query query);
 
-    @Async
+    Stream<Payments> scrollAll();
+
     void index(Payments entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class PaymentsSearchRepositoryInternalImpl implements PaymentsSearchRepositoryInternal {
 
+    private static final int SCROLL_BATCH_SIZE = 1000;
+
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final PaymentsRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    PaymentsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, PaymentsRepository repository) {
+    PaymentsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Payments> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Payments> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Payments.class, search, pageable);
     }
 
     @Override
@@ -49,13 +51,20 @@ class PaymentsSearchRepositoryInternalImpl implements PaymentsSearchRepositoryIn
         return elasticsearchTemplate.search(query, Payments.class).map(SearchHit::getContent).stream();
     }
 
+    @Override
+    public Stream<Payments> scrollAll() {
+        Query query = Query.findAll();
+        query.setPageable(PageRequest.of(0, SCROLL_BATCH_SIZE));
+        return elasticsearchTemplate.searchForStream(query, Payments.class).stream().map(SearchHit::getContent);
+    }
+
     @Override
     public void index(Payments entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Payments.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Payments.class);
+        outboxRepository.enqueue(Payments.class, id, SearchIndexOperation.DELETE);
     }
 }
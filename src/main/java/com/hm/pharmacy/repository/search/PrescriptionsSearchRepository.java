@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.Prescriptions;
-import com.hm.pharmacy.repository.PrescriptionsRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Prescriptions} entity.
@@ -18,31 +18,28 @@ public interface PrescriptionsSearchRepository
     extends ElasticsearchRepository<Prescriptions, Long>, PrescriptionsSearchRepositoryInternal {}
 
 interface PrescriptionsSearchRepositoryInternal {
-    Stream<Prescriptions> search(String query);
+    SearchPage<Prescriptions> search(TextSearch search, Pageable pageable);
 
     Stream<Prescriptions> search(Query query);
 
-    @Async
     void index(Prescriptions entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class PrescriptionsSearchRepositoryInternalImpl implements PrescriptionsSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final PrescriptionsRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    PrescriptionsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, PrescriptionsRepository repository) {
+    PrescriptionsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Prescriptions> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Prescriptions> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Prescriptions.class, search, pageable);
     }
 
     @Override
@@ -52,11 +49,11 @@ class PrescriptionsSearchRepositoryInternalImpl implements PrescriptionsSearchRe
 
     @Override
     public void index(Prescriptions entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Prescriptions.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Prescriptions.class);
+        outboxRepository.enqueue(Prescriptions.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.PurchaseItems;
-import com.hm.pharmacy.repository.PurchaseItemsRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link PurchaseItems} entity.
@@ -18,31 +18,28 @@ public interface PurchaseItemsSearchRepository
     extends ElasticsearchRepository<PurchaseItems, Long>, PurchaseItemsSearchRepositoryInternal {}
 
 interface PurchaseItemsSearchRepositoryInternal {
-    Stream<PurchaseItems> search(String query);
+    SearchPage<PurchaseItems> search(TextSearch search, Pageable pageable);
 
     Stream<PurchaseItems> search(Query query);
 
-    @Async
     void index(PurchaseItems entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class PurchaseItemsSearchRepositoryInternalImpl implements PurchaseItemsSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final PurchaseItemsRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    PurchaseItemsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, PurchaseItemsRepository repository) {
+    PurchaseItemsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<PurchaseItems> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<PurchaseItems> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, PurchaseItems.class, search, pageable);
     }
 
     @Override
@@ -52,11 +49,11 @@ class PurchaseItemsSearchRepositoryInternalImpl implements PurchaseItemsSearchRe
 
     @Override
     public void index(PurchaseItems entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(PurchaseItems.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), PurchaseItems.class);
+        outboxRepository.enqueue(PurchaseItems.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.Purchases;
-import com.hm.pharmacy.repository.PurchasesRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Purchases} entity.
@@ -17,31 +17,28 @@ import org.springframework.scheduling.annotation.Async;
 public interface PurchasesSearchRepository extends ElasticsearchRepository<Purchases, Long>, PurchasesSearchRepositoryInternal {}
 
 interface PurchasesSearchRepositoryInternal {
-    Stream<Purchases> search(String query);
+    SearchPage<Purchases> search(TextSearch search, Pageable pageable);
 
     Stream<Purchases> search(Query query);
 
-    @Async
     void index(Purchases entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class PurchasesSearchRepositoryInternalImpl implements PurchasesSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final PurchasesRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    PurchasesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, PurchasesRepository repository) {
+    PurchasesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Purchases> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Purchases> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Purchases.class, search, pageable);
     }
 
     @Override
@@ -51,11 +48,11 @@ class PurchasesSearchRepositoryInternalImpl implements PurchasesSearchRepository
 
     @Override
     public void index(Purchases entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Purchases.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Purchases.class);
+        outboxRepository.enqueue(Purchases.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.SaleItems;
-import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link SaleItems} entity.
@@ -17,31 +17,28 @@ import org.springframework.scheduling.annotation.Async;
 public interface SaleItemsSearchRepository extends ElasticsearchRepository<SaleItems, Long>, SaleItemsSearchRepositoryInternal {}
 
 interface SaleItemsSearchRepositoryInternal {
-    Stream<SaleItems> search(String query);
+    SearchPage<SaleItems> search(TextSearch search, Pageable pageable);
 
     Stream<SaleItems> search(Query query);
 
-    @Async
     void index(SaleItems entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class SaleItemsSearchRepositoryInternalImpl implements SaleItemsSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final SaleItemsRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    SaleItemsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SaleItemsRepository repository) {
+    SaleItemsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<SaleItems> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<SaleItems> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, SaleItems.class, search, pageable);
     }
 
     @Override
@@ -51,11 +48,11 @@ class SaleItemsSearchRepositoryInternalImpl implements SaleItemsSearchRepository
 
     @Override
     public void index(SaleItems entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(SaleItems.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), SaleItems.class);
+        outboxRepository.enqueue(SaleItems.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -1,15 +1,18 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.SaleItems;
 import com.hm.pharmacy.domain.Sales;
-import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Sales} entity.
@@ -17,31 +20,34 @@ import org.springframework.scheduling.annotation.Async;
 public interface SalesSearchRepository extends ElasticsearchRepository<Sales, Long>, SalesSearchRepositoryInternal {}
 
 interface SalesSearchRepositoryInternal {
-    Stream<Sales> search(String query);
+    SearchPage<Sales> search(TextSearch search, Pageable pageable);
 
     Stream<Sales> search(Query query);
 
-    @Async
+    Stream<Sales> scrollAll();
+
     void index(Sales entity);
 
-    @Async
+    void indexWithItemsAndPayments(Sales entity);
+
     void deleteFromIndexById(Long id);
 }
 
 class SalesSearchRepositoryInternalImpl implements SalesSearchRepositoryInternal {
 
+    private static final int SCROLL_BATCH_SIZE = 1000;
+
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final SalesRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    SalesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SalesRepository repository) {
+    SalesSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Sales> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Sales> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Sales.class, search, pageable);
     }
 
     @Override
@@ -49,13 +55,29 @@ class SalesSearchRepositoryInternalImpl implements SalesSearchRepositoryInternal
         return elasticsearchTemplate.search(query, Sales.class).map(SearchHit::getContent).stream();
     }
 
+    @Override
+    public Stream<Sales> scrollAll() {
+        Query query = Query.findAll();
+        query.setPageable(PageRequest.of(0, SCROLL_BATCH_SIZE));
+        return elasticsearchTemplate.searchForStream(query, Sales.class).stream().map(SearchHit::getContent);
+    }
+
     @Override
     public void index(Sales entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Sales.class, entity.getId(), SearchIndexOperation.INDEX);
+    }
+
+    @Override
+    public void indexWithItemsAndPayments(Sales entity) {
+        outboxRepository.enqueue(Sales.class, entity.getId(), SearchIndexOperation.INDEX);
+        entity
+            .getSaleItems()
+            .forEach(saleItems -> outboxRepository.enqueue(SaleItems.class, saleItems.getId(), SearchIndexOperation.INDEX));
+        entity.getPayments().forEach(payments -> outboxRepository.enqueue(Payments.class, payments.getId(), SearchIndexOperation.INDEX));
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Sales.class);
+        outboxRepository.enqueue(Sales.class, id, SearchIndexOperation.DELETE);
     }
 }
@@ -0,0 +1,133 @@
+package com.hm.pharmacy.repository.search;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository managing versioned Elasticsearch indices behind the alias of each indexed entity.
+ * <p>
+ * The index name of an entity, such as {@code sales}, is served by an alias pointing to a versioned index such as
+ * {@code sales-20261018093000000}, so that a whole new index can be loaded aside and made live atomically.
+ */
+@Repository
+public class SearchIndexAliasRepository {
+
+    // The Elasticsearch default, for an entity without a live index to take the refresh interval from
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+
+    private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+
+    public SearchIndexAliasRepository(ElasticsearchTemplate elasticsearchTemplate) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+    }
+
+    /**
+     * Create an empty versioned index for an entity, with its mapping and with refresh disabled for bulk loading.
+     *
+     * @param entityClass the indexed entity class.
+     * @param version the version suffix of the index.
+     * @return the name of the new index.
+     */
+    public String createVersionedIndex(Class<?> entityClass, String version) {
+        String indexName = getAlias(entityClass) + "-" + version;
+        IndexOperations entityIndexOps = elasticsearchTemplate.indexOps(entityClass);
+        elasticsearchTemplate
+            .indexOps(IndexCoordinates.of(indexName))
+            .create(entityIndexOps.createSettings(), entityIndexOps.createMapping());
+        setRefreshInterval(indexName, "-1");
+        return indexName;
+    }
+
+    /**
+     * Enable refresh again on a loaded index, with the refresh interval of the index currently live behind the alias of
+     * the entity, and refresh it so that all its documents are searchable.
+     *
+     * @param entityClass the indexed entity class.
+     * @param indexName the name of the loaded index, not live yet.
+     */
+    public void finishLoading(Class<?> entityClass, String indexName) {
+        setRefreshInterval(indexName, findRefreshInterval(getAlias(entityClass)).orElse(DEFAULT_REFRESH_INTERVAL));
+        elasticsearchTemplate.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    /**
+     * Atomically point the alias of an entity to a new index, then delete the indices it pointed to before.
+     * <p>
+     * A plain index still named like the alias, as created before the first reindex, is deleted in the same request.
+     *
+     * @param entityClass the indexed entity class.
+     * @param indexName the name of the new index.
+     */
+    public void switchAlias(Class<?> entityClass, String indexName) {
+        String alias = getAlias(entityClass);
+        elasticsearchTemplate.execute(client -> {
+            Set<String> previousIndices = client.indices().existsAlias(e -> e.name(alias)).value()
+                ? client.indices().getAlias(g -> g.name(alias)).result().keySet()
+                : Set.of();
+            boolean plainIndex = previousIndices.isEmpty() && client.indices().exists(e -> e.index(alias)).value();
+            client
+                .indices()
+                .updateAliases(update -> {
+                    if (plainIndex) {
+                        update.actions(action -> action.removeIndex(removeIndex -> removeIndex.index(alias)));
+                    }
+                    previousIndices.forEach(previous ->
+                        update.actions(action -> action.remove(remove -> remove.index(previous).alias(alias)))
+                    );
+                    return update.actions(action -> action.add(add -> add.index(indexName).alias(alias).isWriteIndex(true)));
+                });
+            for (String previous : previousIndices) {
+                if (!previous.equals(indexName)) {
+                    client.indices().delete(delete -> delete.index(previous));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Delete an index, such as one whose loading failed.
+     *
+     * @param indexName the name of the index.
+     */
+    public void deleteIndex(String indexName) {
+        elasticsearchTemplate.indexOps(IndexCoordinates.of(indexName)).delete();
+    }
+
+    private String getAlias(Class<?> entityClass) {
+        return elasticsearchTemplate.getIndexCoordinatesFor(entityClass).getIndexName();
+    }
+
+    private Optional<String> findRefreshInterval(String indexName) {
+        return elasticsearchTemplate.execute(client -> {
+            if (!client.indices().exists(e -> e.index(indexName)).value()) {
+                return Optional.empty();
+            }
+            return client
+                .indices()
+                .getSettings(get -> get.index(indexName).name(REFRESH_INTERVAL_SETTING).includeDefaults(true))
+                .result()
+                .values()
+                .stream()
+                .flatMap(state -> Stream.of(state.settings(), state.defaults()))
+                .filter(settings -> settings != null && settings.index() != null && settings.index().refreshInterval() != null)
+                .map(settings -> String.valueOf(settings.index().refreshInterval()._get()))
+                .findFirst();
+        });
+    }
+
+    private void setRefreshInterval(String indexName, String refreshInterval) {
+        elasticsearchTemplate.execute(client ->
+            client
+                .indices()
+                .putSettings(put -> put.index(indexName).settings(settings -> settings.refreshInterval(t -> t.time(refreshInterval))))
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.hm.pharmacy.repository.search;
+
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository writing documents of any indexed entity with Elasticsearch bulk requests.
+ * <p>
+ * Versioned writes use external versions: Elasticsearch only applies a write whose version is higher than the one of
+ * the document, so that writes sent out of order by concurrent nodes cannot overwrite a newer document.
+ */
+@Repository
+public class SearchIndexBulkRepository {
+
+    private static final int VERSION_CONFLICT_STATUS = 409;
+
+    private final ElasticsearchTemplate elasticsearchTemplate;
+
+    public SearchIndexBulkRepository(ElasticsearchTemplate elasticsearchTemplate) {
+        this.elasticsearchTemplate = elasticsearchTemplate;
+    }
+
+    /**
+     * Index entities with a single bulk request, each with an external version. Documents already indexed with the
+     * same or a higher version are left untouched.
+     *
+     * @param entityClass the class of the entities.
+     * @param entities the entities to index, by id.
+     * @param versions the version of each document, by id.
+     * @throws BulkFailureException if some documents could not be indexed for another reason than their version.
+     */
+    public void indexAll(Class<?> entityClass, Map<Long, ?> entities, Map<Long, Long> versions) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        // The version type is the one of the @Document annotation, external by default
+        List<IndexQuery> queries = entities
+            .entrySet()
+            .stream()
+            .map(entry ->
+                new IndexQueryBuilder()
+                    .withId(String.valueOf(entry.getKey()))
+                    .withObject(entry.getValue())
+                    .withVersion(versions.get(entry.getKey()))
+                    .build()
+            )
+            .toList();
+        try {
+            elasticsearchTemplate.bulkIndex(queries, elasticsearchTemplate.getIndexCoordinatesFor(entityClass));
+        } catch (BulkFailureException e) {
+            Map<String, BulkFailureException.FailureDetails> failures = e
+                .getFailedDocuments()
+                .entrySet()
+                .stream()
+                .filter(failure -> !Integer.valueOf(VERSION_CONFLICT_STATUS).equals(failure.getValue().status()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (!failures.isEmpty()) {
+                throw new BulkFailureException(e.getMessage(), failures);
+            }
+        }
+    }
+
+    /**
+     * Index entities into a given index with a single bulk request.
+     *
+     * @param indexName the name of the index, or of an alias pointing to it.
+     * @param entities the entities to index.
+     * @throws org.springframework.data.elasticsearch.BulkFailureException if some documents could not be indexed.
+     */
+    public void indexAll(String indexName, List<?> entities) {
+        if (!entities.isEmpty()) {
+            elasticsearchTemplate.save(entities, IndexCoordinates.of(indexName));
+        }
+    }
+
+    /**
+     * Delete documents with a single bulk request, each with an external version. Documents already missing from the
+     * index, or indexed with the same or a higher version, are ignored.
+     *
+     * @param entityClass the class of the entities.
+     * @param versions the version of each deletion, by document id.
+     * @throws IllegalStateException if some documents could not be deleted.
+     */
+    public void deleteAllById(Class<?> entityClass, Map<Long, Long> versions) {
+        if (versions.isEmpty()) {
+            return;
+        }
+        IndexCoordinates index = elasticsearchTemplate.getIndexCoordinatesFor(entityClass);
+        BulkResponse response = elasticsearchTemplate.execute(client ->
+            client.bulk(bulk -> {
+                versions.forEach((id, version) ->
+                    bulk.operations(op ->
+                        op.delete(delete ->
+                            delete.index(index.getIndexName()).id(String.valueOf(id)).version(version).versionType(VersionType.External)
+                        )
+                    )
+                );
+                return bulk;
+            })
+        );
+        if (response.errors()) {
+            List<String> failures = response
+                .items()
+                .stream()
+                .filter(item -> item.error() != null && item.status() != VERSION_CONFLICT_STATUS)
+                .map(BulkResponseItem::id)
+                .toList();
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Could not delete " + index.getIndexName() + " documents " + failures);
+            }
+        }
+    }
+}
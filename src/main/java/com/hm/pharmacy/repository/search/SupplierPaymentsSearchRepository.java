@@ -1,15 +1,16 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.SupplierPayments;
-import com.hm.pharmacy.repository.SupplierPaymentsRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link SupplierPayments} entity.
@@ -18,31 +19,35 @@ public interface SupplierPaymentsSearchRepository
     extends ElasticsearchRepository<SupplierPayments, Long>, SupplierPaymentsSearchRepositoryInternal {}
 
 interface SupplierPaymentsSearchRepositoryInternal {
-    Stream<SupplierPayments> search(String query);
+    SearchPage<SupplierPayments> search(TextSearch search, Pageable pageable);
 
     Stream<SupplierPayments> search(Query query);
 
-    @Async
+    Stream<SupplierPayments> scrollAll();
+
     void index(SupplierPayments entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class SupplierPaymentsSearchRepositoryInternalImpl implements SupplierPaymentsSearchRepositoryInternal {
 
+    private static final int SCROLL_BATCH_SIZE = 1000;
+
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final SupplierPaymentsRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    SupplierPaymentsSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SupplierPaymentsRepository repository) {
+    SupplierPaymentsSearchRepositoryInternalImpl(
+        ElasticsearchTemplate elasticsearchTemplate,
+        SearchIndexOutboxRepository outboxRepository
+    ) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<SupplierPayments> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<SupplierPayments> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, SupplierPayments.class, search, pageable);
     }
 
     @Override
@@ -50,13 +55,20 @@ class SupplierPaymentsSearchRepositoryInternalImpl implements SupplierPaymentsSe
         return elasticsearchTemplate.search(query, SupplierPayments.class).map(SearchHit::getContent).stream();
     }
 
+    @Override
+    public Stream<SupplierPayments> scrollAll() {
+        Query query = Query.findAll();
+        query.setPageable(PageRequest.of(0, SCROLL_BATCH_SIZE));
+        return elasticsearchTemplate.searchForStream(query, SupplierPayments.class).stream().map(SearchHit::getContent);
+    }
+
     @Override
     public void index(SupplierPayments entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(SupplierPayments.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), SupplierPayments.class);
+        outboxRepository.enqueue(SupplierPayments.class, id, SearchIndexOperation.DELETE);
     }
 }
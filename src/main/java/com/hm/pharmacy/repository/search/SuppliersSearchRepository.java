@@ -1,15 +1,15 @@
 package com.hm.pharmacy.repository.search;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.QueryStringQuery;
 import com.hm.pharmacy.domain.Suppliers;
-import com.hm.pharmacy.repository.SuppliersRepository;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
-import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-import org.springframework.scheduling.annotation.Async;
 
 /**
  * Spring Data Elasticsearch repository for the {@link Suppliers} entity.
@@ -17,31 +17,28 @@ import org.springframework.scheduling.annotation.Async;
 public interface SuppliersSearchRepository extends ElasticsearchRepository<Suppliers, Long>, SuppliersSearchRepositoryInternal {}
 
 interface SuppliersSearchRepositoryInternal {
-    Stream<Suppliers> search(String query);
+    SearchPage<Suppliers> search(TextSearch search, Pageable pageable);
 
     Stream<Suppliers> search(Query query);
 
-    @Async
     void index(Suppliers entity);
 
-    @Async
     void deleteFromIndexById(Long id);
 }
 
 class SuppliersSearchRepositoryInternalImpl implements SuppliersSearchRepositoryInternal {
 
     private final ElasticsearchTemplate elasticsearchTemplate;
-    private final SuppliersRepository repository;
+    private final SearchIndexOutboxRepository outboxRepository;
 
-    SuppliersSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SuppliersRepository repository) {
+    SuppliersSearchRepositoryInternalImpl(ElasticsearchTemplate elasticsearchTemplate, SearchIndexOutboxRepository outboxRepository) {
         this.elasticsearchTemplate = elasticsearchTemplate;
-        this.repository = repository;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
-    public Stream<Suppliers> search(String query) {
-        NativeQuery nativeQuery = new NativeQuery(QueryStringQuery.of(qs -> qs.query(query))._toQuery());
-        return search(nativeQuery);
+    public SearchPage<Suppliers> search(TextSearch search, Pageable pageable) {
+        return TextSearchQueries.search(elasticsearchTemplate, Suppliers.class, search, pageable);
     }
 
     @Override
@@ -51,11 +48,11 @@ class SuppliersSearchRepositoryInternalImpl implements SuppliersSearchRepository
 
     @Override
     public void index(Suppliers entity) {
-        repository.findById(entity.getId()).ifPresent(elasticsearchTemplate::save);
+        outboxRepository.enqueue(Suppliers.class, entity.getId(), SearchIndexOperation.INDEX);
     }
 
     @Override
     public void deleteFromIndexById(Long id) {
-        elasticsearchTemplate.delete(String.valueOf(id), Suppliers.class);
+        outboxRepository.enqueue(Suppliers.class, id, SearchIndexOperation.DELETE);
     }
 }
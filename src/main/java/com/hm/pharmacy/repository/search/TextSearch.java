@@ -0,0 +1,47 @@
+package com.hm.pharmacy.repository.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A free-text search over the text fields of an indexed entity, with optional filters.
+ */
+public class TextSearch {
+
+    private final String text;
+
+    private final Map<String, String> filters;
+
+    private final List<Object> searchAfter;
+
+    private final boolean highlight;
+
+    /**
+     * @param text the text to search for, in simple query string syntax; blank to match every document.
+     * @param filters the values that fields must have, by field name.
+     * @param searchAfter the sort values of the last hit of the previous page, to read pages beyond the result window.
+     * @param highlight whether the hits should carry the fragments of their text fields with the matching terms highlighted.
+     */
+    public TextSearch(String text, Map<String, String> filters, List<Object> searchAfter, boolean highlight) {
+        this.text = text;
+        this.filters = filters;
+        this.searchAfter = searchAfter;
+        this.highlight = highlight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Map<String, String> getFilters() {
+        return filters;
+    }
+
+    public List<Object> getSearchAfter() {
+        return searchAfter;
+    }
+
+    public boolean isHighlight() {
+        return highlight;
+    }
+}
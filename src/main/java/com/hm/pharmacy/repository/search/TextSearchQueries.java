@@ -0,0 +1,163 @@
+package com.hm.pharmacy.repository.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.SearchHitSupport;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds and runs the {@link TextSearch} queries shared by the search repositories.
+ * <p>
+ * The text is matched with a {@code simple_query_string} query over the {@link FieldType#Text} fields of the entity,
+ * which never fails on user syntax and cannot expand leading wildcards. Pages are bounded by the pageable and by the
+ * result window, and deeper pages are read with {@code search_after}. Hits are sorted by the requested non-text
+ * fields, or by relevance, with the id as a tiebreaker so that {@code search_after} is stable.
+ * <p>
+ * Highlighted fragments are HTML-escaped, and returned in the highlight fields of the hits: the documents themselves are
+ * left as indexed.
+ */
+final class TextSearchQueries {
+
+    /** Elasticsearch's default {@code index.max_result_window}. */
+    static final int MAX_RESULT_WINDOW = 10000;
+
+    private static final String ID_FIELD = "id";
+
+    private static final Map<Class<?>, DocumentFields> DOCUMENT_FIELDS = new ConcurrentHashMap<>();
+
+    private TextSearchQueries() {}
+
+    static <T> SearchPage<T> search(
+        ElasticsearchTemplate elasticsearchTemplate,
+        Class<T> entityClass,
+        TextSearch search,
+        Pageable pageable
+    ) {
+        DocumentFields fields = DOCUMENT_FIELDS.computeIfAbsent(entityClass, DocumentFields::new);
+        boolean searchAfter = search.getSearchAfter() != null && !search.getSearchAfter().isEmpty();
+        if (!searchAfter && pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Pages beyond " + MAX_RESULT_WINDOW + " results must be read with searchAfter");
+        }
+
+        NativeQueryBuilder query = NativeQuery.builder()
+            .withQuery(buildQuery(fields, search))
+            .withSort(buildSort(fields, pageable.getSort()))
+            .withPageable(PageRequest.of(searchAfter ? 0 : pageable.getPageNumber(), pageable.getPageSize()));
+        if (searchAfter) {
+            query.withSearchAfter(search.getSearchAfter());
+        }
+        if (search.isHighlight() && !fields.text.isEmpty()) {
+            HighlightParameters parameters = HighlightParameters.builder().withNumberOfFragments(0).withEncoder("html").build();
+            List<HighlightField> highlightFields = fields.text.stream().map(HighlightField::new).toList();
+            query.withHighlightQuery(new HighlightQuery(new Highlight(parameters, highlightFields), entityClass));
+        }
+
+        SearchHits<T> hits = elasticsearchTemplate.search(query.build(), entityClass);
+        return SearchHitSupport.searchPageFor(hits, pageable);
+    }
+
+    private static Query buildQuery(DocumentFields fields, TextSearch search) {
+        List<Query> filters = new ArrayList<>();
+        if (search.getFilters() != null) {
+            search
+                .getFilters()
+                .forEach((name, value) -> {
+                    if (fields.text.contains(name)) {
+                        filters.add(Query.of(q -> q.match(m -> m.field(name).query(value).operator(Operator.And))));
+                    } else if (fields.exact.contains(name)) {
+                        filters.add(Query.of(q -> q.term(t -> t.field(name).value(FieldValue.of(value)))));
+                    } else {
+                        throw new IllegalArgumentException("Cannot filter on field " + name);
+                    }
+                });
+        }
+        Query text = StringUtils.hasText(search.getText()) && !fields.text.isEmpty()
+            ? Query.of(q ->
+                q.simpleQueryString(s ->
+                    s.query(search.getText()).fields(fields.text).defaultOperator(Operator.And).lenient(true)
+                )
+            )
+            : Query.of(q -> q.matchAll(m -> m));
+        return Query.of(q -> q.bool(b -> b.must(text).filter(filters)));
+    }
+
+    private static List<SortOptions> buildSort(DocumentFields fields, Sort sort) {
+        List<SortOptions> sortOptions = new ArrayList<>();
+        boolean sortedById = false;
+        for (Sort.Order order : sort) {
+            if (!fields.exact.contains(order.getProperty())) {
+                // Text fields are analyzed and cannot be sorted on
+                continue;
+            }
+            SortOrder direction = order.isAscending() ? SortOrder.Asc : SortOrder.Desc;
+            sortOptions.add(SortOptions.of(s -> s.field(f -> f.field(order.getProperty()).order(direction))));
+            sortedById |= ID_FIELD.equals(order.getProperty());
+        }
+        if (sortOptions.isEmpty()) {
+            sortOptions.add(SortOptions.of(s -> s.score(score -> score.order(SortOrder.Desc))));
+        }
+        if (!sortedById) {
+            sortOptions.add(SortOptions.of(s -> s.field(f -> f.field(ID_FIELD).order(SortOrder.Asc))));
+        }
+        return sortOptions;
+    }
+
+    /**
+     * The analyzed text fields, and the other simple fields matched exactly, of an indexed entity.
+     */
+    private static final class DocumentFields {
+
+        private final List<String> text = new ArrayList<>();
+
+        private final List<String> exact = new ArrayList<>();
+
+        private DocumentFields(Class<?> entityClass) {
+            ReflectionUtils.doWithFields(entityClass, field -> {
+                if (
+                    Modifier.isStatic(field.getModifiers()) ||
+                    field.isAnnotationPresent(Transient.class) ||
+                    !BeanUtils.isSimpleValueType(field.getType())
+                ) {
+                    return;
+                }
+                org.springframework.data.elasticsearch.annotations.Field annotation = field.getAnnotation(
+                    org.springframework.data.elasticsearch.annotations.Field.class
+                );
+                MultiField multiField = field.getAnnotation(MultiField.class);
+                if (annotation == null && multiField != null) {
+                    annotation = multiField.mainField();
+                }
+                if (annotation != null && annotation.type() == FieldType.Text && field.getType() == String.class) {
+                    text.add(field.getName());
+                } else {
+                    exact.add(field.getName());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hm.pharmacy.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hm.pharmacy.management.SecurityMetersService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} keeping the tokens it decoded, so that a token presented again is neither parsed nor verified
+ * again until it expires.
+ * <p>
+ * Tokens are keyed by their SHA-256 hash, so that the cache does not hold the tokens themselves. Only the tokens the
+ * delegate decoded are kept, each until its own expiry: invalid tokens always go through the delegate, and its failure
+ * counters. The cache is bounded in size, the tokens least likely to be presented again being evicted first to make
+ * room for new ones.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    private final Cache<String, Jwt> tokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, SecurityMetersService metersService, Clock clock) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+        this.clock = clock;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new TokenExpiry(clock))
+            .ticker(() -> {
+                Instant now = clock.instant();
+                return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+            })
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt jwt = tokens.getIfPresent(key);
+        if (jwt != null) {
+            metersService.trackTokenCacheHit();
+            return jwt;
+        }
+        metersService.trackTokenCacheMiss();
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && clock.instant().isBefore(jwt.getExpiresAt())) {
+            tokens.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * @return the number of tokens kept.
+     */
+    public int size() {
+        tokens.cleanUp();
+        return (int) tokens.estimatedSize();
+    }
+
+    /**
+     * Expires each token at its own expiry, whatever the accesses and updates in between.
+     */
+    private static final class TokenExpiry implements Expiry<String, Jwt> {
+
+        private final Clock clock;
+
+        private TokenExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return Duration.between(clock.instant(), jwt.getExpiresAt()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hm.pharmacy.security;
+
+import com.hm.pharmacy.management.SecurityMetersService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} timing each hash and verification, and asking for the password of a user to be rehashed
+ * whenever it was hashed with another work factor than the configured one.
+ * <p>
+ * Spring Security only upgrades hashes to a stronger work factor: here lowering the work factor rehashes the passwords
+ * too, so that the cost of a login can be tuned both ways without resetting the passwords.
+ */
+public class MeteredBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[abyx]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    private final SecurityMetersService metersService;
+
+    public MeteredBCryptPasswordEncoder(int strength, SecurityMetersService metersService) {
+        super(strength);
+        this.strength = strength;
+        this.metersService = metersService;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return metersService.timePasswordEncode(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return metersService.timePasswordMatch(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
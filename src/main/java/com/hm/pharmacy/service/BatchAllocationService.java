@@ -0,0 +1,293 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.repository.MedicineBatchesRepository.AllocatableBatch;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
+import com.hm.pharmacy.repository.StockRepository;
+import com.hm.pharmacy.service.dto.BatchAllocationDTO;
+import com.hm.pharmacy.service.event.MedicineBatchesChangedEvent;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service allocating sale quantities to {@link MedicineBatches}, first expiry first out.
+ * <p>
+ * The batches of each medicine are kept in memory in a heap ordered by expiry date, loaded on first use, so that an
+ * allocation only polls the batches it takes from. Expired batches are skipped and dropped from the heap. Batches
+ * without an expiry date come last. Allocations of the same medicine are serialized by a per-medicine lock, and the
+ * quantities are taken in the database with one batch of conditional updates: if another node took from a batch in
+ * the meantime, the heap is reloaded and the allocation retried. Heaps are read on the transaction and connection of the
+ * caller, which already holds row locks: reading them on a connection of their own could exhaust the pool. Callers take
+ * the stock of the medicines first, so that the snapshot of their transaction is not older than the last sale of these
+ * medicines. Heaps are dropped when their transaction rolls back, when batches are changed outside of a sale, and after
+ * a time to live, to pick up changes from other nodes.
+ * <p>
+ * The batches sold from are published in a {@link MedicineBatchesChangedEvent}, for the other views of the batches.
+ * <p>
+ * Medicines without any batch are not tracked, and are sold from their stock only.
+ */
+@Service
+@Transactional
+public class BatchAllocationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchAllocationService.class);
+
+    private static final Comparator<Slot> FIRST_EXPIRY_FIRST = Comparator.comparing(
+        (Slot slot) -> slot.expiryDate,
+        Comparator.nullsLast(Comparator.naturalOrder())
+    ).thenComparingLong(slot -> slot.id);
+
+    private final MedicineBatchesRepository medicineBatchesRepository;
+
+    private final StockRepository stockRepository;
+
+    private final SearchIndexOutboxRepository outboxRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ApplicationProperties.BatchAllocation properties;
+
+    private final Map<Long, BatchQueue> queues = new ConcurrentHashMap<>();
+
+    public BatchAllocationService(
+        MedicineBatchesRepository medicineBatchesRepository,
+        StockRepository stockRepository,
+        SearchIndexOutboxRepository outboxRepository,
+        ApplicationEventPublisher eventPublisher,
+        ApplicationProperties applicationProperties
+    ) {
+        this.medicineBatchesRepository = medicineBatchesRepository;
+        this.stockRepository = stockRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = applicationProperties.getBatchAllocation();
+    }
+
+    /**
+     * Take sale quantities from the batches of medicines, earliest expiry first.
+     * <p>
+     * The stock of the medicines should be taken first in the same transaction, before any other read, so that the
+     * batches reloaded by a retry include the quantities taken by the sales committed meanwhile.
+     *
+     * @param quantities the quantity sold of each medicine, by medicine id.
+     * @return the quantities taken from each batch; none for the medicines without batches.
+     * @throws InsufficientStockException if the unexpired batches of a medicine do not cover its quantity; nothing is
+     * taken then.
+     */
+    public List<BatchAllocationDTO> allocate(Map<Long, Integer> quantities) {
+        LOG.debug("Request to allocate batches : {}", quantities);
+        // Locks are always taken in medicine id order, so that two baskets cannot deadlock.
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        for (int attempt = 1; ; attempt++) {
+            List<BatchQueue> locked = new ArrayList<>();
+            try {
+                List<BatchAllocationDTO> allocations = new ArrayList<>();
+                LocalDate today = LocalDate.now();
+                for (Map.Entry<Long, Integer> line : sorted.entrySet()) {
+                    BatchQueue queue = lockQueue(line.getKey());
+                    locked.add(queue);
+                    if (queue.tracked) {
+                        queue.take(line.getValue(), today, allocations);
+                    }
+                }
+                List<Long> untouched = apply(allocations);
+                if (untouched.isEmpty()) {
+                    registerRollbackInvalidation(sorted.keySet());
+                    if (!allocations.isEmpty()) {
+                        eventPublisher.publishEvent(
+                            MedicineBatchesChangedEvent.sold(allocations.stream().map(BatchAllocationDTO::getMedicineBatchesId).toList())
+                        );
+                    }
+                    return allocations;
+                }
+                locked.forEach(queue -> queues.remove(queue.medicinesId, queue));
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw new InsufficientStockException(
+                        allocations
+                            .stream()
+                            .filter(allocation -> untouched.contains(allocation.getMedicineBatchesId()))
+                            .findFirst()
+                            .orElseThrow()
+                            .getMedicinesId()
+                    );
+                }
+                LOG.debug("Batches changed concurrently, retrying allocation {}", attempt + 1);
+            } catch (InsufficientStockException e) {
+                // Quantities taken from the heaps before the failing medicine are not written back: reload them.
+                locked.forEach(queue -> queues.remove(queue.medicinesId, queue));
+                throw e;
+            } finally {
+                locked.forEach(queue -> queue.lock.unlock());
+            }
+        }
+    }
+
+    /**
+     * Drop the batch heaps once batches have been changed outside of a sale, so that they are reloaded. Sales are already
+     * accounted for in the heaps.
+     *
+     * @param event the changed batches.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMedicineBatchesChanged(MedicineBatchesChangedEvent event) {
+        if (event.isSale()) {
+            return;
+        }
+        LOG.debug("Dropping the batch heaps after {}", event);
+        queues.clear();
+    }
+
+    /**
+     * @return the ids of the batches that could not be taken from; nothing is taken then.
+     */
+    private List<Long> apply(List<BatchAllocationDTO> allocations) {
+        Map<Long, Integer> taken = new LinkedHashMap<>();
+        allocations.forEach(allocation -> taken.put(allocation.getMedicineBatchesId(), allocation.getQuantity()));
+        List<Long> untouched = stockRepository.decrementMedicineBatchesQuantity(taken);
+        if (!untouched.isEmpty()) {
+            Map<Long, Integer> givenBack = new LinkedHashMap<>();
+            taken.forEach((id, quantity) -> {
+                if (!untouched.contains(id)) {
+                    givenBack.put(id, -quantity);
+                }
+            });
+            stockRepository.decrementMedicineBatchesQuantity(givenBack);
+            return untouched;
+        }
+        for (Long medicineBatchesId : taken.keySet()) {
+            outboxRepository.enqueue(MedicineBatches.class, medicineBatchesId, SearchIndexOperation.INDEX);
+        }
+        return List.of();
+    }
+
+    private BatchQueue lockQueue(Long medicinesId) {
+        while (true) {
+            Instant expired = Instant.now().minus(properties.getQueueTtl());
+            BatchQueue queue = queues.get(medicinesId);
+            if (queue == null || queue.loadedAt.isBefore(expired)) {
+                // Loaded outside of the map, so that the database is not queried while holding a bin of it.
+                BatchQueue loaded = load(medicinesId);
+                if (queue == null) {
+                    queues.putIfAbsent(medicinesId, loaded);
+                } else {
+                    queues.replace(medicinesId, queue, loaded);
+                }
+                continue;
+            }
+            queue.lock.lock();
+            // The heap may have been dropped or reloaded while this thread was waiting for its lock.
+            if (queues.get(medicinesId) == queue) {
+                return queue;
+            }
+            queue.lock.unlock();
+        }
+    }
+
+    private BatchQueue load(Long medicinesId) {
+        List<AllocatableBatch> batches = medicineBatchesRepository.findAllByMedicinesIdAndQuantityGreaterThan(medicinesId, 0);
+        boolean tracked = !batches.isEmpty() || medicineBatchesRepository.existsByMedicinesId(medicinesId);
+        return new BatchQueue(medicinesId, tracked, batches);
+    }
+
+    private void registerRollbackInvalidation(Set<Long> medicinesIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            medicinesIds.forEach(queues::remove);
+                        }
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * The unexpired batches of a medicine with quantity left, earliest expiry first.
+     */
+    private static final class BatchQueue {
+
+        private final Long medicinesId;
+
+        private final boolean tracked;
+
+        private final PriorityQueue<Slot> heap = new PriorityQueue<>(FIRST_EXPIRY_FIRST);
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Instant loadedAt = Instant.now();
+
+        private BatchQueue(Long medicinesId, boolean tracked, List<AllocatableBatch> batches) {
+            this.medicinesId = medicinesId;
+            this.tracked = tracked;
+            batches.forEach(batch -> heap.add(new Slot(batch)));
+        }
+
+        /**
+         * Take a quantity from the batches, earliest expiry first, dropping expired batches.
+         */
+        private void take(int quantity, LocalDate today, List<BatchAllocationDTO> allocations) {
+            int needed = quantity;
+            List<Slot> polled = new ArrayList<>();
+            while (needed > 0 && !heap.isEmpty()) {
+                Slot slot = heap.poll();
+                if (slot.expiryDate != null && slot.expiryDate.isBefore(today)) {
+                    continue;
+                }
+                int taken = Math.min(slot.remaining, needed);
+                allocations.add(new BatchAllocationDTO(medicinesId, slot.id, slot.batchNumber, slot.expiryDate, taken));
+                slot.remaining -= taken;
+                needed -= taken;
+                polled.add(slot);
+            }
+            if (needed > 0) {
+                throw new InsufficientStockException(medicinesId);
+            }
+            polled.stream().filter(slot -> slot.remaining > 0).forEach(heap::add);
+        }
+    }
+
+    /**
+     * A batch in a heap, with the quantity not yet allocated.
+     */
+    private static final class Slot {
+
+        private final long id;
+
+        private final String batchNumber;
+
+        private final LocalDate expiryDate;
+
+        private int remaining;
+
+        private Slot(AllocatableBatch batch) {
+            this.id = batch.getId();
+            this.batchNumber = batch.getBatchNumber();
+            this.expiryDate = batch.getExpiryDate();
+            this.remaining = batch.getQuantity();
+        }
+    }
+}
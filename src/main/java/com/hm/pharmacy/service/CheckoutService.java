@@ -0,0 +1,174 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.repository.CustomersRepository;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.repository.search.SalesSearchRepository;
+import com.hm.pharmacy.service.dto.BatchAllocationDTO;
+import com.hm.pharmacy.service.dto.CheckoutDTO;
+import com.hm.pharmacy.service.dto.CheckoutLineDTO;
+import com.hm.pharmacy.service.dto.CheckoutPaymentDTO;
+import com.hm.pharmacy.service.dto.InvoiceDTO;
+import com.hm.pharmacy.service.dto.InvoiceLineDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class turning a whole basket into a {@link Sales} with its {@link SaleItems} and {@link Payments}.
+ * <p>
+ * Everything is written in a single transaction: the medicines of the basket are priced from the
+ * {@link MedicineCatalog}, only those missing from it or changed since it read them being loaded with one query, their
+ * stock is taken with one batch of conditional updates through the {@link StockService}, the units are allocated to
+ * their batches by the {@link BatchAllocationService}, and search-index updates for the sale, its lines and its payments
+ * are queued in the same transaction once they are persisted.
+ */
+@Service
+@Transactional
+public class CheckoutService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckoutService.class);
+
+    private final SalesRepository salesRepository;
+
+    private final SaleItemsRepository saleItemsRepository;
+
+    private final PaymentsRepository paymentsRepository;
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final CustomersRepository customersRepository;
+
+    private final SalesSearchRepository salesSearchRepository;
+
+    private final StockService stockService;
+
+    private final BatchAllocationService batchAllocationService;
+
+    private final MedicineCatalog medicineCatalog;
+
+    public CheckoutService(
+        SalesRepository salesRepository,
+        SaleItemsRepository saleItemsRepository,
+        PaymentsRepository paymentsRepository,
+        MedicinesRepository medicinesRepository,
+        CustomersRepository customersRepository,
+        SalesSearchRepository salesSearchRepository,
+        StockService stockService,
+        BatchAllocationService batchAllocationService,
+        MedicineCatalog medicineCatalog
+    ) {
+        this.salesRepository = salesRepository;
+        this.saleItemsRepository = saleItemsRepository;
+        this.paymentsRepository = paymentsRepository;
+        this.medicinesRepository = medicinesRepository;
+        this.customersRepository = customersRepository;
+        this.salesSearchRepository = salesSearchRepository;
+        this.stockService = stockService;
+        this.batchAllocationService = batchAllocationService;
+        this.medicineCatalog = medicineCatalog;
+    }
+
+    /**
+     * Persist a basket as a sale and decrement the stock of its medicines.
+     *
+     * @param checkout the basket to persist.
+     * @return the finished invoice.
+     * @throws MedicineNotFoundException if a line references an unknown medicine.
+     * @throws InsufficientStockException if a medicine has not enough stock, or not enough in unexpired batches, for all
+     * the lines referencing it.
+     */
+    public InvoiceDTO checkout(CheckoutDTO checkout) {
+        LOG.debug("Request to checkout : {}", checkout);
+        Map<Long, Integer> quantities = checkout
+            .getLines()
+            .stream()
+            .collect(Collectors.toMap(CheckoutLineDTO::getMedicinesId, CheckoutLineDTO::getQuantity, Integer::sum, LinkedHashMap::new));
+        // The stock is taken before anything is read, so that the batches are read after the sales of these medicines
+        stockService.decrement(quantities);
+        Map<Long, MedicineCatalog.Entry> catalogEntries = new HashMap<>();
+        List<Long> uncatalogued = new ArrayList<>();
+        for (Long medicinesId : quantities.keySet()) {
+            MedicineCatalog.Entry entry = medicineCatalog.get(medicinesId);
+            // An entry not yet read back since the medicine was last changed could carry an old price
+            if (entry != null && !medicineCatalog.isStale(medicinesId)) {
+                catalogEntries.put(medicinesId, entry);
+            } else {
+                uncatalogued.add(medicinesId);
+            }
+        }
+        // Medicines missing from the catalog or changed since its last refresh are read from the database
+        Map<Long, Medicines> loadedMedicines = uncatalogued.isEmpty()
+            ? Map.of()
+            : medicinesRepository.findAllById(uncatalogued).stream().collect(Collectors.toMap(Medicines::getId, Function.identity()));
+        for (Long medicinesId : uncatalogued) {
+            if (!loadedMedicines.containsKey(medicinesId)) {
+                throw new MedicineNotFoundException(medicinesId);
+            }
+        }
+        List<BatchAllocationDTO> batchAllocations = batchAllocationService.allocate(quantities);
+
+        Instant now = Instant.now();
+        Sales sales = new Sales()
+            .saleDate(checkout.getSaleDate() != null ? checkout.getSaleDate() : now)
+            .invoiceNumber(checkout.getInvoiceNumber());
+        if (checkout.getCustomersId() != null) {
+            sales.setCustomers(customersRepository.getReferenceById(checkout.getCustomersId()));
+        }
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<Long, String> medicinesNames = new HashMap<>();
+        for (CheckoutLineDTO line : checkout.getLines()) {
+            MedicineCatalog.Entry entry = catalogEntries.get(line.getMedicinesId());
+            // A catalogued medicine is only referenced by id, never loaded
+            Medicines medicine = entry != null
+                ? medicinesRepository.getReferenceById(line.getMedicinesId())
+                : loadedMedicines.get(line.getMedicinesId());
+            medicinesNames.put(line.getMedicinesId(), entry != null ? entry.getName() : medicine.getName());
+            BigDecimal listPrice = entry != null ? entry.getPrice() : medicine.getPrice();
+            BigDecimal price = line.getPrice() != null ? line.getPrice() : listPrice;
+            sales.addSaleItems(new SaleItems().medicines(medicine).quantity(line.getQuantity()).price(price));
+            if (price != null) {
+                totalAmount = totalAmount.add(price.multiply(BigDecimal.valueOf(line.getQuantity())));
+            }
+        }
+        sales.setTotalAmount(totalAmount);
+
+        for (CheckoutPaymentDTO payment : checkout.getPayments()) {
+            sales.addPayments(
+                new Payments()
+                    .paymentDate(now)
+                    .paymentMethod(payment.getPaymentMethod())
+                    .paymentStatus(payment.getPaymentStatus())
+                    .amount(payment.getAmount())
+            );
+        }
+
+        salesRepository.save(sales);
+        saleItemsRepository.saveAll(sales.getSaleItems());
+        paymentsRepository.saveAll(sales.getPayments());
+        salesRepository.flush();
+        salesSearchRepository.indexWithItemsAndPayments(sales);
+        InvoiceDTO invoice = new InvoiceDTO(sales, saleItems ->
+            new InvoiceLineDTO(saleItems, medicinesNames.get(saleItems.getMedicines().getId()))
+        );
+        invoice.setBatchAllocations(batchAllocations);
+        return invoice;
+    }
+}
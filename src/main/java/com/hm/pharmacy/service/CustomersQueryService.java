@@ -0,0 +1,89 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Customers;
+import com.hm.pharmacy.repository.CustomersRepository;
+import com.hm.pharmacy.service.criteria.CustomersCriteria;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import com.hm.pharmacy.service.mapper.CustomersMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Customers} entities in the database.
+ * The main input is a {@link CustomersCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link CustomersDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomersQueryService extends QueryService<Customers> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomersQueryService.class);
+
+    private final CustomersRepository customersRepository;
+
+    private final CustomersMapper customersMapper;
+
+    public CustomersQueryService(CustomersRepository customersRepository, CustomersMapper customersMapper) {
+        this.customersRepository = customersRepository;
+        this.customersMapper = customersMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link CustomersDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CustomersDTO> findByCriteria(CustomersCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Customers> specification = createSpecification(criteria);
+        return customersRepository.findAll(specification, page).map(customersMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(CustomersCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Customers> specification = createSpecification(criteria);
+        return customersRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link CustomersCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Customers> createSpecification(CustomersCriteria criteria) {
+        Specification<Customers> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Customers_.id),
+                buildStringSpecification(criteria.getName(), Customers_.name),
+                buildStringSpecification(criteria.getPhone(), Customers_.phone),
+                buildStringSpecification(criteria.getEmail(), Customers_.email),
+                buildSpecification(
+                    criteria.getPrescriptionsId(),
+                    root -> root.join(Customers_.prescriptions, JoinType.LEFT).get(Prescriptions_.id)
+                ),
+                buildSpecification(criteria.getSalesId(), root -> root.join(Customers_.sales, JoinType.LEFT).get(Sales_.id))
+            );
+        }
+        return specification;
+    }
+}
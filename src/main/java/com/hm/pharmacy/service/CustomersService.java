@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.CustomersRepository;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import com.hm.pharmacy.service.mapper.CustomersMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Customers}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomersService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomersService.class);
+
+    private final CustomersRepository customersRepository;
+
+    private final CustomersMapper customersMapper;
+
+    public CustomersService(CustomersRepository customersRepository, CustomersMapper customersMapper) {
+        this.customersRepository = customersRepository;
+        this.customersMapper = customersMapper;
+    }
+
+    /**
+     * Get one customers by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<CustomersDTO> findOne(Long id) {
+        LOG.debug("Request to get Customers : {}", id);
+        return customersRepository.findById(id).map(customersMapper::toDto);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.service.dto.ExpiringBatchDTO;
+import java.util.List;
+
+/**
+ * Receives the medicine batches that have entered the expiry alert window.
+ * <p>
+ * Every bean implementing this interface is called by {@link ExpiryRadarService}, from its scheduled scan. A batch is
+ * pushed once per node lifetime, unless its expiry date changes.
+ */
+public interface ExpiryAlertSink {
+    /**
+     * Push alerts for batches nearing their expiry date.
+     *
+     * @param batches the batches, earliest expiry first; never empty.
+     */
+    void alert(List<ExpiringBatchDTO> batches);
+}
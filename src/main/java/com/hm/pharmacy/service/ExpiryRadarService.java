@@ -0,0 +1,509 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.repository.MedicineBatchesRepository.ExpiringBatch;
+import com.hm.pharmacy.service.dto.ExpiringBatchDTO;
+import com.hm.pharmacy.service.dto.ExpiryCalendarDayDTO;
+import com.hm.pharmacy.service.event.MedicineBatchesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service finding the medicine batches nearing their expiry date.
+ * <p>
+ * Batches are read by range scans of the expiry date index, paged by keyset on the expiry date and id, so that no page
+ * reads more rows than it returns. The batches expiring within the horizon are also held in an in-memory calendar,
+ * bucketed by expiry date, which backs the gauges and the alerts: it is read in full at startup and then periodically,
+ * follows the batches named by a {@link MedicineBatchesChangedEvent}, and in between each scan only drops the days
+ * gone by and reads the days entering the horizon. Each scan pushes the batches that entered the alert window to every
+ * {@link ExpiryAlertSink}.
+ * <p>
+ * Writers update the calendar one at a time, then publish an immutable snapshot of its days in a volatile field, which
+ * the calendar endpoint and the gauges read without taking any lock. As every sale changes batches, the changed batches
+ * are read back on the task executor rather than on the thread committing them, the ids changed while a refresh runs
+ * being read back together by the next one.
+ */
+@Service
+public class ExpiryRadarService {
+
+    public static final String EXPIRING_METER_NAME = "medicine.batches.expiring";
+    public static final String EXPIRING_QUANTITY_METER_NAME = "medicine.batches.expiring.quantity";
+    public static final String ALERTS_METER_NAME = "medicine.batches.expiry.alerts";
+    public static final String SCANS_METER_NAME = "medicine.batches.expiry.scans";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExpiryRadarService.class);
+
+    private final MedicineBatchesRepository medicineBatchesRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final List<ExpiryAlertSink> alertSinks;
+
+    private final ApplicationProperties.ExpiryRadar properties;
+
+    private final Counter alertsCounter;
+
+    private final Timer fullScanTimer;
+
+    private final Timer incrementalScanTimer;
+
+    private final Timer partialScanTimer;
+
+    // The calendar and its cursors are guarded by this.
+
+    private final NavigableMap<LocalDate, Map<Long, ExpiringBatchDTO>> calendar = new TreeMap<>();
+
+    private final Map<Long, ExpiringBatchDTO> batches = new HashMap<>();
+
+    private final Map<Long, LocalDate> alerted = new HashMap<>();
+
+    private LocalDate today;
+
+    private LocalDate scannedThrough;
+
+    private Instant fullScanAt = Instant.MIN;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public ExpiryRadarService(
+        MedicineBatchesRepository medicineBatchesRepository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        List<ExpiryAlertSink> alertSinks,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.medicineBatchesRepository = medicineBatchesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.alertSinks = alertSinks;
+        this.properties = applicationProperties.getExpiryRadar();
+        this.alertsCounter = Counter.builder(ALERTS_METER_NAME)
+            .description("Number of medicine batches pushed to the expiry alert sinks.")
+            .register(registry);
+        this.fullScanTimer = scansTimerBuilder("full").register(registry);
+        this.incrementalScanTimer = scansTimerBuilder("incremental").register(registry);
+        this.partialScanTimer = scansTimerBuilder("partial").register(registry);
+        for (int days : properties.getGaugeDays()) {
+            Gauge.builder(EXPIRING_METER_NAME, this, radar -> radar.countExpiringWithin(days))
+                .baseUnit("batches")
+                .description("Number of medicine batches with quantity left expiring within the window.")
+                .tag("within", days + "d")
+                .register(registry);
+            Gauge.builder(EXPIRING_QUANTITY_METER_NAME, this, radar -> radar.quantityExpiringWithin(days))
+                .description("Quantity left in the medicine batches expiring within the window.")
+                .tag("within", days + "d")
+                .register(registry);
+        }
+    }
+
+    private Timer.Builder scansTimerBuilder(String scope) {
+        return Timer.builder(SCANS_METER_NAME)
+            .description("Time taken to scan the medicine batches nearing expiry.")
+            .tag("scope", scope);
+    }
+
+    /**
+     * Read a page of the batches with quantity left expiring within some days, earliest expiry first.
+     *
+     * @param days the number of days from today.
+     * @param afterDate the expiry date of the last batch of the previous page, or {@code null} for the first page.
+     * @param afterId the id of the last batch of the previous page, or {@code null} for the first page.
+     * @param size the maximum number of batches, capped.
+     * @return the batches of the page, telling whether more batches follow.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ExpiringBatchDTO> findExpiring(int days, LocalDate afterDate, Long afterId, int size) {
+        LocalDate from = LocalDate.now();
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), properties.getMaxPageSize()));
+        // One more row than the page tells whether another page follows, without counting.
+        List<ExpiringBatchDTO> read = medicineBatchesRepository
+            .findExpiringAfter(
+                afterDate != null ? afterDate : from,
+                afterId != null ? afterId : 0L,
+                from.plusDays(days),
+                PageRequest.of(0, pageable.getPageSize() + 1)
+            )
+            .stream()
+            .map(ExpiryRadarService::toDto)
+            .toList();
+        boolean hasNext = read.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? read.subList(0, pageable.getPageSize()) : read, pageable, hasNext);
+    }
+
+    /**
+     * @return the days of the in-memory calendar on which batches expire, with their number and quantity left.
+     */
+    public List<ExpiryCalendarDayDTO> getCalendar() {
+        return snapshot.getDays();
+    }
+
+    /**
+     * @param days the number of days from today.
+     * @return the number of batches of the in-memory calendar expiring within the days.
+     */
+    public int countExpiringWithin(int days) {
+        Snapshot current = snapshot;
+        int index = current.indexThrough(days);
+        return index < 0 ? 0 : (int) current.cumulativeBatches[index];
+    }
+
+    /**
+     * @param days the number of days from today.
+     * @return the quantity left in the batches of the in-memory calendar expiring within the days.
+     */
+    public long quantityExpiringWithin(int days) {
+        Snapshot current = snapshot;
+        int index = current.indexThrough(days);
+        return index < 0 ? 0 : current.cumulativeQuantities[index];
+    }
+
+    /**
+     * Load the calendar once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        taskExecutor.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not load the expiry calendar, it will be loaded on the next scan: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Bring the calendar up to date, then push the batches that entered the alert window to the alert sinks.
+     *
+     * @return the batches pushed.
+     */
+    @Scheduled(
+        initialDelayString = "${application.expiry-radar.scan-delay:15m}",
+        fixedDelayString = "${application.expiry-radar.scan-delay:15m}"
+    )
+    public List<ExpiringBatchDTO> scan() {
+        List<ExpiringBatchDTO> alerts;
+        synchronized (this) {
+            if (scannedThrough == null || Instant.now().isAfter(fullScanAt.plus(properties.getFullRefresh()))) {
+                reload();
+            } else {
+                roll();
+            }
+            alerts = collectAlerts();
+            publish();
+        }
+        if (!alerts.isEmpty()) {
+            LOG.debug("Pushing {} batches nearing expiry to the alert sinks", alerts.size());
+            for (ExpiryAlertSink alertSink : alertSinks) {
+                try {
+                    alertSink.alert(alerts);
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not push expiry alerts to {}: {}", alertSink.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+            alertsCounter.increment(alerts.size());
+        }
+        return alerts;
+    }
+
+    /**
+     * Read the whole calendar from the database.
+     */
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        LocalDate from = LocalDate.now();
+        LocalDate horizon = from.plusDays(properties.getHorizonDays());
+        List<ExpiringBatchDTO> read = scan(from, 0L, horizon);
+        calendar.clear();
+        batches.clear();
+        read.forEach(this::put);
+        today = from;
+        scannedThrough = horizon;
+        fullScanAt = Instant.now();
+        forgetChangedAlerts(alerted.keySet());
+        publish();
+        fullScanTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOG.debug("Loaded {} batches into the expiry calendar", read.size());
+    }
+
+    /**
+     * Schedule the batches of an event to be read back once its transaction has committed, or straight away outside a
+     * transaction.
+     *
+     * @param event the changed batches.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMedicineBatchesChanged(MedicineBatchesChangedEvent event) {
+        pendingIds.addAll(event.getIds());
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (!pendingIds.isEmpty() && refreshScheduled.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(this::refreshPending);
+            } catch (RuntimeException e) {
+                refreshScheduled.set(false);
+                LOG.warn("Could not schedule a refresh of the expiry calendar, it will be refreshed later: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void refreshPending() {
+        try {
+            while (!pendingIds.isEmpty()) {
+                List<Long> ids = List.copyOf(pendingIds);
+                pendingIds.removeAll(ids);
+                refresh(ids);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not refresh the expiry calendar, it will be refreshed by the next full scan: {}", e.getMessage());
+        } finally {
+            refreshScheduled.set(false);
+        }
+        // Ids added after the loop ended but before the flag was cleared
+        scheduleRefresh();
+    }
+
+    /**
+     * Read some batches back from the database into the calendar, dropping those no longer expiring within it.
+     *
+     * @param ids the ids of the batches.
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        if (ids.isEmpty() || scannedThrough == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<ExpiringBatch> rows = transactionTemplate.execute(status -> medicineBatchesRepository.findExpiringByIdIn(ids));
+        ids.forEach(this::remove);
+        for (ExpiringBatch row : rows) {
+            LocalDate expiryDate = row.getExpiryDate();
+            boolean inCalendar = expiryDate != null && !expiryDate.isBefore(today) && !expiryDate.isAfter(scannedThrough);
+            if (inCalendar && row.getQuantity() != null && row.getQuantity() > 0) {
+                put(toDto(row));
+            }
+        }
+        forgetChangedAlerts(ids);
+        publish();
+        partialScanTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Drop the days gone by, and read the days entering the horizon, if the date has changed since the last scan.
+     */
+    private void roll() {
+        LocalDate from = LocalDate.now();
+        if (from.equals(today)) {
+            return;
+        }
+        long start = System.nanoTime();
+        NavigableMap<LocalDate, Map<Long, ExpiringBatchDTO>> past = calendar.headMap(from, false);
+        for (Map<Long, ExpiringBatchDTO> day : past.values()) {
+            batches.keySet().removeAll(day.keySet());
+            alerted.keySet().removeAll(day.keySet());
+        }
+        past.clear();
+        LocalDate horizon = from.plusDays(properties.getHorizonDays());
+        if (horizon.isAfter(scannedThrough)) {
+            // Starting after the highest id of the last day read, so that only the days after it are read.
+            scan(scannedThrough, Long.MAX_VALUE, horizon).forEach(this::put);
+        }
+        today = from;
+        scannedThrough = horizon;
+        incrementalScanTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Read the batches expiring after a keyset cursor and up to a date, one page per transaction.
+     */
+    private List<ExpiringBatchDTO> scan(LocalDate afterDate, long afterId, LocalDate to) {
+        Pageable page = PageRequest.of(0, properties.getScanPageSize());
+        List<ExpiringBatchDTO> read = new ArrayList<>();
+        LocalDate cursorDate = afterDate;
+        long cursorId = afterId;
+        while (true) {
+            LocalDate date = cursorDate;
+            long id = cursorId;
+            List<ExpiringBatch> rows = transactionTemplate.execute(status ->
+                medicineBatchesRepository.findExpiringAfter(date, id, to, page)
+            );
+            rows.forEach(row -> read.add(toDto(row)));
+            if (rows.size() < page.getPageSize()) {
+                return read;
+            }
+            ExpiringBatch last = rows.get(rows.size() - 1);
+            cursorDate = last.getExpiryDate();
+            cursorId = last.getId();
+        }
+    }
+
+    /**
+     * Swap in a snapshot of the calendar as it now is.
+     */
+    private void publish() {
+        snapshot = Snapshot.of(today, calendar);
+    }
+
+    private List<ExpiringBatchDTO> collectAlerts() {
+        List<ExpiringBatchDTO> alerts = new ArrayList<>();
+        for (Map<Long, ExpiringBatchDTO> day : calendar.headMap(today.plusDays(properties.getAlertDays()), true).values()) {
+            for (ExpiringBatchDTO batch : day.values()) {
+                if (alerted.putIfAbsent(batch.getId(), batch.getExpiryDate()) == null) {
+                    alerts.add(batch);
+                }
+            }
+        }
+        return alerts;
+    }
+
+    /**
+     * Forget the alerts pushed for batches that have left the calendar or changed expiry date, to push them again if
+     * they come back.
+     */
+    private void forgetChangedAlerts(Collection<Long> ids) {
+        List.copyOf(ids).forEach(id -> {
+            ExpiringBatchDTO batch = batches.get(id);
+            if (batch == null || !Objects.equals(alerted.get(id), batch.getExpiryDate())) {
+                alerted.remove(id);
+            }
+        });
+    }
+
+    private void put(ExpiringBatchDTO batch) {
+        batches.put(batch.getId(), batch);
+        calendar.computeIfAbsent(batch.getExpiryDate(), date -> new TreeMap<>()).put(batch.getId(), batch);
+    }
+
+    private void remove(Long id) {
+        ExpiringBatchDTO batch = batches.remove(id);
+        if (batch != null) {
+            Map<Long, ExpiringBatchDTO> day = calendar.get(batch.getExpiryDate());
+            day.remove(id);
+            if (day.isEmpty()) {
+                calendar.remove(batch.getExpiryDate());
+            }
+        }
+    }
+
+    private static long quantityOf(Collection<ExpiringBatchDTO> batches) {
+        return batches.stream().mapToLong(ExpiringBatchDTO::getQuantity).sum();
+    }
+
+    private static ExpiringBatchDTO toDto(ExpiringBatch row) {
+        ExpiringBatchDTO batch = new ExpiringBatchDTO();
+        batch.setId(row.getId());
+        batch.setBatchNumber(row.getBatchNumber());
+        batch.setExpiryDate(row.getExpiryDate());
+        batch.setQuantity(row.getQuantity());
+        batch.setMedicinesId(row.getMedicinesId());
+        batch.setMedicinesName(row.getMedicinesName());
+        return batch;
+    }
+
+    /**
+     * An immutable view of the calendar days: their dates in order, with the number of batches and the quantity left
+     * expiring on or before each of them.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(null, new LocalDate[0], new long[0], new long[0]);
+
+        private final LocalDate today;
+
+        private final LocalDate[] dates;
+
+        private final long[] cumulativeBatches;
+
+        private final long[] cumulativeQuantities;
+
+        private Snapshot(LocalDate today, LocalDate[] dates, long[] cumulativeBatches, long[] cumulativeQuantities) {
+            this.today = today;
+            this.dates = dates;
+            this.cumulativeBatches = cumulativeBatches;
+            this.cumulativeQuantities = cumulativeQuantities;
+        }
+
+        private static Snapshot of(LocalDate today, NavigableMap<LocalDate, Map<Long, ExpiringBatchDTO>> calendar) {
+            LocalDate[] dates = new LocalDate[calendar.size()];
+            long[] cumulativeBatches = new long[dates.length];
+            long[] cumulativeQuantities = new long[dates.length];
+            int i = 0;
+            long batches = 0;
+            long quantity = 0;
+            for (Map.Entry<LocalDate, Map<Long, ExpiringBatchDTO>> day : calendar.entrySet()) {
+                batches += day.getValue().size();
+                quantity += quantityOf(day.getValue().values());
+                dates[i] = day.getKey();
+                cumulativeBatches[i] = batches;
+                cumulativeQuantities[i] = quantity;
+                i++;
+            }
+            return new Snapshot(today, dates, cumulativeBatches, cumulativeQuantities);
+        }
+
+        /**
+         * @return the index of the last day expiring within the days from today, or -1 if there is none.
+         */
+        private int indexThrough(int days) {
+            if (today == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(dates, today.plusDays(days));
+            return index >= 0 ? index : -index - 2;
+        }
+
+        private List<ExpiryCalendarDayDTO> getDays() {
+            List<ExpiryCalendarDayDTO> days = new ArrayList<>(dates.length);
+            for (int i = 0; i < dates.length; i++) {
+                long batches = cumulativeBatches[i] - (i > 0 ? cumulativeBatches[i - 1] : 0);
+                long quantity = cumulativeQuantities[i] - (i > 0 ? cumulativeQuantities[i - 1] : 0);
+                days.add(new ExpiryCalendarDayDTO(dates[i], (int) batches, quantity));
+            }
+            return days;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.hm.pharmacy.service;
+
+public class InsufficientStockException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long medicinesId;
+
+    public InsufficientStockException(Long medicinesId) {
+        super("Insufficient stock for medicine " + medicinesId);
+        this.medicinesId = medicinesId;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+}
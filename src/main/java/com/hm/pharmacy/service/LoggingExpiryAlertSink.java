@@ -0,0 +1,29 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.service.dto.ExpiringBatchDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link ExpiryAlertSink}, logging a warning per batch nearing its expiry date.
+ */
+@Component
+public class LoggingExpiryAlertSink implements ExpiryAlertSink {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoggingExpiryAlertSink.class);
+
+    @Override
+    public void alert(List<ExpiringBatchDTO> batches) {
+        for (ExpiringBatchDTO batch : batches) {
+            LOG.warn(
+                "Batch {} of {} expires on {} with {} left",
+                batch.getBatchNumber(),
+                batch.getMedicinesName(),
+                batch.getExpiryDate(),
+                batch.getQuantity()
+            );
+        }
+    }
+}
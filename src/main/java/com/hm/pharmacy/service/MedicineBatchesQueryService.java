@@ -0,0 +1,92 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.service.criteria.MedicineBatchesCriteria;
+import com.hm.pharmacy.service.dto.MedicineBatchesDTO;
+import com.hm.pharmacy.service.mapper.MedicineBatchesMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link MedicineBatches} entities in the database.
+ * The main input is a {@link MedicineBatchesCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link MedicineBatchesDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MedicineBatchesQueryService extends QueryService<MedicineBatches> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicineBatchesQueryService.class);
+
+    private final MedicineBatchesRepository medicineBatchesRepository;
+
+    private final MedicineBatchesMapper medicineBatchesMapper;
+
+    public MedicineBatchesQueryService(MedicineBatchesRepository medicineBatchesRepository, MedicineBatchesMapper medicineBatchesMapper) {
+        this.medicineBatchesRepository = medicineBatchesRepository;
+        this.medicineBatchesMapper = medicineBatchesMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link MedicineBatchesDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MedicineBatchesDTO> findByCriteria(MedicineBatchesCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<MedicineBatches> specification = createSpecification(criteria);
+        return medicineBatchesRepository.findAll(specification, page).map(medicineBatchesMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MedicineBatchesCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<MedicineBatches> specification = createSpecification(criteria);
+        return medicineBatchesRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MedicineBatchesCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<MedicineBatches> createSpecification(MedicineBatchesCriteria criteria) {
+        Specification<MedicineBatches> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), MedicineBatches_.id),
+                buildStringSpecification(criteria.getBatchNumber(), MedicineBatches_.batchNumber),
+                buildRangeSpecification(criteria.getExpiryDate(), MedicineBatches_.expiryDate),
+                buildRangeSpecification(criteria.getQuantity(), MedicineBatches_.quantity),
+                buildSpecification(
+                    criteria.getPurchasesId(),
+                    root -> root.join(MedicineBatches_.purchases, JoinType.LEFT).get(Purchases_.id)
+                ),
+                buildSpecification(
+                    criteria.getMedicinesId(),
+                    root -> root.join(MedicineBatches_.medicines, JoinType.LEFT).get(Medicines_.id)
+                )
+            );
+        }
+        return specification;
+    }
+}
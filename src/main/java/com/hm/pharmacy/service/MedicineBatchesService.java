@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.service.dto.MedicineBatchesDTO;
+import com.hm.pharmacy.service.mapper.MedicineBatchesMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.MedicineBatches}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MedicineBatchesService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicineBatchesService.class);
+
+    private final MedicineBatchesRepository medicineBatchesRepository;
+
+    private final MedicineBatchesMapper medicineBatchesMapper;
+
+    public MedicineBatchesService(MedicineBatchesRepository medicineBatchesRepository, MedicineBatchesMapper medicineBatchesMapper) {
+        this.medicineBatchesRepository = medicineBatchesRepository;
+        this.medicineBatchesMapper = medicineBatchesMapper;
+    }
+
+    /**
+     * Get one medicineBatches by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<MedicineBatchesDTO> findOne(Long id) {
+        LOG.debug("Request to get MedicineBatches : {}", id);
+        return medicineBatchesRepository.findById(id).map(medicineBatchesMapper::toDto);
+    }
+}
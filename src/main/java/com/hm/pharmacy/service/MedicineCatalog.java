@@ -0,0 +1,413 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.MedicinesRepository.CatalogRow;
+import com.hm.pharmacy.service.event.MedicinesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory catalog of the medicines, read on every sale line without going through Hibernate.
+ * <p>
+ * The catalog is an immutable snapshot, sorted by id and looked up by binary search, held in a volatile field: readers
+ * take no lock and always see a consistent snapshot. Writers rebuild a copy and swap it in, one at a time; the medicines
+ * named by a {@link MedicinesChangedEvent} are read back once their transaction has committed, and the whole catalog is
+ * reloaded at startup and then periodically, to catch changes made outside the application.
+ * <p>
+ * The changed medicines are read back on the task executor rather than on the thread committing them: the ids changed
+ * while a refresh runs are gathered and read back together by the next one, so that a burst of sales costs a few
+ * refreshes rather than one per sale. Until they are read back, the medicines changed otherwise than by their stock are
+ * reported as stale, so that callers which must not use an old price read them from the database instead. A failed
+ * refresh keeps its medicines pending, and is retried after a delay.
+ */
+@Service
+public class MedicineCatalog {
+
+    public static final String LOOKUPS_METER_NAME = "medicine.catalog.lookups";
+    public static final String REFRESHES_METER_NAME = "medicine.catalog.refreshes";
+    public static final String SIZE_METER_NAME = "medicine.catalog.size";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicineCatalog.class);
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Timer fullRefreshTimer;
+
+    private final Timer partialRefreshTimer;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private volatile boolean loaded;
+
+    /**
+     * The ids changed since they were last read back, with the sequence number of their last change.
+     */
+    private final Map<Long, Long> pendingIds = new ConcurrentHashMap<>();
+
+    /**
+     * The pending ids changed otherwise than by their stock, with the sequence number of their last such change.
+     */
+    private final Map<Long, Long> staleIds = new ConcurrentHashMap<>();
+
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public MedicineCatalog(
+        MedicinesRepository medicinesRepository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        MeterRegistry registry
+    ) {
+        this.medicinesRepository = medicinesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.hitCounter = lookupsCounterBuilder("hit").register(registry);
+        this.missCounter = lookupsCounterBuilder("miss").register(registry);
+        this.fullRefreshTimer = refreshesTimerBuilder("full").register(registry);
+        this.partialRefreshTimer = refreshesTimerBuilder("partial").register(registry);
+        Gauge.builder(SIZE_METER_NAME, this, MedicineCatalog::size)
+            .baseUnit("medicines")
+            .description("Number of medicines in the in-memory catalog.")
+            .register(registry);
+    }
+
+    private Counter.Builder lookupsCounterBuilder(String result) {
+        return Counter.builder(LOOKUPS_METER_NAME)
+            .description("Number of medicines looked up in the in-memory catalog.")
+            .tag("result", result);
+    }
+
+    private Timer.Builder refreshesTimerBuilder(String scope) {
+        return Timer.builder(REFRESHES_METER_NAME)
+            .description("Time taken to refresh the in-memory medicine catalog.")
+            .tag("scope", scope);
+    }
+
+    /**
+     * Look up a medicine.
+     *
+     * @param id the id of the medicine.
+     * @return the medicine as of the last refresh, or {@code null} if it is not in the catalog.
+     */
+    public Entry get(long id) {
+        Entry entry = snapshot.get(id);
+        (entry != null ? hitCounter : missCounter).increment();
+        return entry;
+    }
+
+    /**
+     * Whether a medicine has been changed, otherwise than by its stock, since the catalog last read it back: its entry, if
+     * any, may then have an old name or price.
+     *
+     * @param id the id of the medicine.
+     * @return whether the change of the medicine is still to be read back.
+     */
+    public boolean isStale(long id) {
+        return staleIds.containsKey(id);
+    }
+
+    /**
+     * @return all the medicines of the catalog, sorted by id.
+     */
+    public List<Entry> getAll() {
+        return snapshot.list;
+    }
+
+    /**
+     * @param category the category, matched exactly.
+     * @return the medicines of the catalog in this category, sorted by name then id.
+     */
+    public List<Entry> getByCategory(String category) {
+        return snapshot.byCategory().getOrDefault(category, List.of());
+    }
+
+    /**
+     * @return the number of medicines in the catalog.
+     */
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    /**
+     * @return whether the catalog has been loaded at least once; until then every lookup misses.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Load the catalog once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        taskExecutor.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not load the medicine catalog, it will be loaded on the next refresh: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Reload the whole catalog from the database.
+     */
+    @Scheduled(
+        initialDelayString = "${application.medicine-catalog.full-refresh:10m}",
+        fixedDelayString = "${application.medicine-catalog.full-refresh:10m}"
+    )
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        Map<Long, Long> changes = Map.copyOf(pendingIds);
+        Map<Long, Long> staleChanges = Map.copyOf(staleIds);
+        List<CatalogRow> rows = transactionTemplate.execute(status -> medicinesRepository.findAllCatalogRowsBy());
+        snapshot = Snapshot.of(rows.stream().map(Entry::new).toArray(Entry[]::new));
+        changes.forEach(pendingIds::remove);
+        staleChanges.forEach(staleIds::remove);
+        loaded = true;
+        fullRefreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOG.debug("Loaded {} medicines into the catalog", rows.size());
+    }
+
+    /**
+     * Schedule the medicines of an event to be read back once its transaction has committed, or straight away outside a
+     * transaction.
+     *
+     * @param event the changed medicines.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMedicinesChanged(MedicinesChangedEvent event) {
+        long sequence = changeSequence.incrementAndGet();
+        // Marked stale first, so that a refresh reading the medicine in between does not leave it pending but stale
+        if (!event.isStockOnly()) {
+            event.getIds().forEach(id -> staleIds.put(id, sequence));
+        }
+        event.getIds().forEach(id -> pendingIds.put(id, sequence));
+        scheduleRefresh();
+    }
+
+    /**
+     * Retry reading back the medicines whose refresh failed.
+     */
+    @Scheduled(
+        initialDelayString = "${application.medicine-catalog.retry-delay:10s}",
+        fixedDelayString = "${application.medicine-catalog.retry-delay:10s}"
+    )
+    public void retryRefresh() {
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (!pendingIds.isEmpty() && refreshScheduled.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(this::refreshPending);
+            } catch (RuntimeException e) {
+                refreshScheduled.set(false);
+                LOG.warn("Could not schedule a refresh of the medicine catalog, it will be refreshed later: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void refreshPending() {
+        try {
+            while (!pendingIds.isEmpty()) {
+                Map<Long, Long> changes = Map.copyOf(pendingIds);
+                Map<Long, Long> staleChanges = Map.copyOf(staleIds);
+                refresh(changes.keySet());
+                // Ids changed again while they were read back stay pending
+                changes.forEach(pendingIds::remove);
+                staleChanges.forEach((id, sequence) -> {
+                    if (changes.containsKey(id)) {
+                        staleIds.remove(id, sequence);
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not refresh the medicine catalog, it will be retried: {}", e.getMessage());
+            refreshScheduled.set(false);
+            return;
+        }
+        refreshScheduled.set(false);
+        // Ids added after the loop ended but before the flag was cleared
+        scheduleRefresh();
+    }
+
+    /**
+     * Read some medicines back from the database into the catalog, dropping those that no longer exist.
+     *
+     * @param ids the ids of the medicines.
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<CatalogRow> rows = transactionTemplate.execute(status -> medicinesRepository.findCatalogRowsByIdIn(ids));
+        snapshot = snapshot.with(rows.stream().map(Entry::new).toArray(Entry[]::new), Set.copyOf(ids));
+        partialRefreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * A medicine as held in the catalog.
+     */
+    public static final class Entry {
+
+        private final long id;
+
+        private final String name;
+
+        private final String manufacturer;
+
+        private final String category;
+
+        private final BigDecimal price;
+
+        private final int stock;
+
+        private Entry(CatalogRow row) {
+            this.id = row.getId();
+            this.name = row.getName();
+            this.manufacturer = row.getManufacturer();
+            this.category = row.getCategory();
+            this.price = row.getPrice();
+            this.stock = row.getStock() != null ? row.getStock() : 0;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getManufacturer() {
+            return manufacturer;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        /**
+         * @return the stock, 0 if it is not set.
+         */
+        public int getStock() {
+            return stock;
+        }
+    }
+
+    /**
+     * An immutable catalog: the entries sorted by id, and their ids in a primitive array for the binary search.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new Entry[0]);
+
+        private final long[] ids;
+
+        private final Entry[] entries;
+
+        private final List<Entry> list;
+
+        /**
+         * The entries grouped by category, indexed on first use: the snapshots replaced on every sale are rarely asked
+         * for it.
+         */
+        private volatile Map<String, List<Entry>> categories;
+
+        private Snapshot(long[] ids, Entry[] entries) {
+            this.ids = ids;
+            this.entries = entries;
+            this.list = Collections.unmodifiableList(Arrays.asList(entries));
+        }
+
+        private static Snapshot of(Entry[] entries) {
+            Arrays.sort(entries, Comparator.comparingLong(Entry::getId));
+            return new Snapshot(Arrays.stream(entries).mapToLong(Entry::getId).toArray(), entries);
+        }
+
+        private Entry get(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? entries[index] : null;
+        }
+
+        private Map<String, List<Entry>> byCategory() {
+            Map<String, List<Entry>> result = categories;
+            if (result == null) {
+                // Computed at most a few times over when racing, each time to the same index
+                result = Arrays.stream(entries)
+                    .filter(entry -> entry.category != null)
+                    .sorted(Comparator.comparing(Entry::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .collect(Collectors.groupingBy(Entry::getCategory, Collectors.toUnmodifiableList()));
+                categories = result;
+            }
+            return result;
+        }
+
+        /**
+         * Copy this snapshot, replacing the entries of the refreshed ids with those read back.
+         */
+        private Snapshot with(Entry[] updated, Set<Long> refreshed) {
+            Arrays.sort(updated, Comparator.comparingLong(Entry::getId));
+            Entry[] merged = new Entry[entries.length + updated.length];
+            int size = 0;
+            int u = 0;
+            for (Entry entry : entries) {
+                while (u < updated.length && updated[u].id < entry.id) {
+                    merged[size++] = updated[u++];
+                }
+                if (!refreshed.contains(entry.id)) {
+                    merged[size++] = entry;
+                }
+            }
+            while (u < updated.length) {
+                merged[size++] = updated[u++];
+            }
+            Entry[] trimmed = Arrays.copyOf(merged, size);
+            return new Snapshot(Arrays.stream(trimmed).mapToLong(Entry::getId).toArray(), trimmed);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.hm.pharmacy.service;
+
+public class MedicineNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long medicinesId;
+
+    public MedicineNotFoundException(Long medicinesId) {
+        super("Medicine " + medicinesId + " not found");
+        this.medicinesId = medicinesId;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+}
@@ -0,0 +1,194 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.search.MedicinesSearchRepository;
+import com.hm.pharmacy.service.dto.MedicineSuggestionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service suggesting medicines while their name or manufacturer is typed at the counter.
+ * <p>
+ * Suggestions come from the {@code search_as_you_type} sub-fields of the medicines index. When Elasticsearch fails,
+ * they are served from a {@link MedicineSuggestionTrie} built from the database, without calling Elasticsearch again
+ * until the retry delay has passed, so that a down cluster does not add its timeouts to every keystroke.
+ */
+@Service
+public class MedicineSuggestService {
+
+    public static final String SUGGEST_METER_NAME = "medicines.suggest";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicineSuggestService.class);
+
+    private final MedicinesSearchRepository medicinesSearchRepository;
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final MedicineCatalog medicineCatalog;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final ApplicationProperties.MedicineSuggest properties;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Timer elasticsearchTimer;
+
+    private final Timer fallbackTimer;
+
+    private volatile MedicineSuggestionTrie trie;
+
+    private volatile Instant trieBuiltAt = Instant.MIN;
+
+    private volatile Instant elasticsearchRetryAt = Instant.MIN;
+
+    public MedicineSuggestService(
+        MedicinesSearchRepository medicinesSearchRepository,
+        MedicinesRepository medicinesRepository,
+        MedicineCatalog medicineCatalog,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.medicinesSearchRepository = medicinesSearchRepository;
+        this.medicinesRepository = medicinesRepository;
+        this.medicineCatalog = medicineCatalog;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.properties = applicationProperties.getMedicineSuggest();
+        this.elasticsearchTimer = suggestTimerBuilder("elasticsearch").register(registry);
+        this.fallbackTimer = suggestTimerBuilder("fallback").register(registry);
+    }
+
+    private Timer.Builder suggestTimerBuilder(String source) {
+        return Timer.builder(SUGGEST_METER_NAME)
+            .description("Time taken to suggest medicines for a typed prefix.")
+            .tag("source", source);
+    }
+
+    /**
+     * Build the fallback suggestions once the application is started, so that they are ready if Elasticsearch fails.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildInBackground();
+    }
+
+    /**
+     * Suggest medicines having a word of their name or manufacturer starting with a prefix.
+     *
+     * @param prefix the typed prefix.
+     * @param size the maximum number of suggestions, capped to the configured maximum.
+     * @return the suggestions, best first.
+     */
+    public List<MedicineSuggestionDTO> suggest(String prefix, int size) {
+        int limit = Math.min(Math.max(size, 1), properties.getMaxResults());
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (Instant.now().isAfter(elasticsearchRetryAt)) {
+            long start = System.nanoTime();
+            try {
+                List<MedicineSuggestionDTO> suggestions = medicinesSearchRepository
+                    .suggest(prefix.strip(), limit)
+                    .stream()
+                    .map(MedicineSuggestionDTO::new)
+                    .toList();
+                elasticsearchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                return suggestions;
+            } catch (RuntimeException e) {
+                elasticsearchRetryAt = Instant.now().plus(properties.getElasticsearchRetry());
+                LOG.warn("Medicine suggestions fall back to the database until {}: {}", elasticsearchRetryAt, e.getMessage());
+            }
+        }
+        long start = System.nanoTime();
+        List<MedicineSuggestionDTO> suggestions = suggestFromFallback(prefix, limit);
+        fallbackTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        return suggestions;
+    }
+
+    private List<MedicineSuggestionDTO> suggestFromFallback(String prefix, int limit) {
+        MedicineSuggestionTrie current = trie;
+        if (current == null) {
+            current = rebuild();
+        } else if (trieBuiltAt.plus(properties.getFallbackRefresh()).isBefore(Instant.now())) {
+            rebuildInBackground();
+        }
+        List<Long> ids = current.suggest(prefix, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Stock is read from the catalog, or from the (second-level cached) entities, rather than from the trie,
+        // which is rebuilt rarely.
+        List<MedicineSuggestionDTO> suggestions = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            MedicineCatalog.Entry entry = medicineCatalog.get(id);
+            if (entry != null) {
+                suggestions.add(new MedicineSuggestionDTO(entry));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            medicinesRepository.findAllById(missing).forEach(medicine -> suggestions.add(new MedicineSuggestionDTO(medicine)));
+            suggestions.sort(Comparator.comparingInt(suggestion -> ids.indexOf(suggestion.getId())));
+        }
+        return suggestions;
+    }
+
+    private void rebuildInBackground() {
+        if (rebuilding.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        rebuild();
+                    } catch (RuntimeException e) {
+                        LOG.warn("Could not build the fallback medicine suggestions: {}", e.getMessage());
+                    } finally {
+                        rebuilding.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Rejected by a full task queue: the current suggestions are served until the next attempt
+                rebuilding.set(false);
+                LOG.warn("Could not schedule the rebuild of the fallback medicine suggestions: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized MedicineSuggestionTrie rebuild() {
+        long start = System.nanoTime();
+        MedicineSuggestionTrie built = readOnlyTransactionTemplate.execute(status ->
+            MedicineSuggestionTrie.of(medicinesRepository.findAll())
+        );
+        trie = built;
+        trieBuiltAt = Instant.now();
+        LOG.debug(
+            "Built the fallback medicine suggestions for {} medicines in {} ms",
+            built.size(),
+            (System.nanoTime() - start) / 1_000_000
+        );
+        return built;
+    }
+}
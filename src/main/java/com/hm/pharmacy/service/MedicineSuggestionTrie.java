@@ -0,0 +1,194 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.Medicines;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix tree of the medicine names and manufacturers, answering suggestions without Elasticsearch.
+ * <p>
+ * Every word of a name or manufacturer starts a key, so that {@code "cet"} matches {@code "Cetirizine"} and
+ * {@code "500"} matches {@code "Paracetamol 500"}. Keys are lower-cased with consecutive separators collapsed, and
+ * matches are returned in key order, each medicine once.
+ */
+final class MedicineSuggestionTrie {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final Node root;
+
+    private final int size;
+
+    private MedicineSuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Build a trie from the names and manufacturers of medicines.
+     *
+     * @param medicines the medicines to index.
+     * @return the trie.
+     */
+    static MedicineSuggestionTrie of(Collection<Medicines> medicines) {
+        Builder root = new Builder();
+        int size = 0;
+        List<Medicines> sorted = new ArrayList<>(medicines);
+        sorted.sort(Comparator.comparing(Medicines::getId));
+        for (Medicines medicine : sorted) {
+            boolean indexed = root.addWords(normalize(medicine.getName()), medicine.getId());
+            indexed |= root.addWords(normalize(medicine.getManufacturer()), medicine.getId());
+            if (indexed) {
+                size++;
+            }
+        }
+        return new MedicineSuggestionTrie(root.build(), size);
+    }
+
+    /**
+     * @return the number of medicines with a name or a manufacturer.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Find the medicines having a word of their name or manufacturer starting with a prefix.
+     *
+     * @param prefix the typed prefix.
+     * @param limit the maximum number of medicines to return.
+     * @return the ids of the matching medicines, in key order.
+     */
+    List<Long> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        node.collect(ids, limit);
+        return List.copyOf(ids);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean separator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * A node of the frozen trie: its children sorted by label, and the medicines whose key ends here.
+     */
+    private static final class Node {
+
+        private final char[] labels;
+
+        private final Node[] children;
+
+        private final long[] ids;
+
+        private Node(char[] labels, Node[] children, long[] ids) {
+            this.labels = labels;
+            this.children = children;
+            this.ids = ids;
+        }
+
+        private Node child(char label) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (labels[mid] < label) {
+                    low = mid + 1;
+                } else if (labels[mid] > label) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private boolean collect(Set<Long> result, int limit) {
+            for (long id : ids) {
+                result.add(id);
+                if (result.size() >= limit) {
+                    return true;
+                }
+            }
+            for (Node child : children) {
+                if (child.collect(result, limit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A mutable node, used while the trie is built.
+     */
+    private static final class Builder {
+
+        private final Map<Character, Builder> children = new TreeMap<>();
+
+        private final Set<Long> ids = new LinkedHashSet<>();
+
+        private boolean addWords(String text, Long id) {
+            if (text.isEmpty()) {
+                return false;
+            }
+            int start = 0;
+            while (start >= 0) {
+                Builder node = this;
+                for (int i = start; i < text.length(); i++) {
+                    node = node.children.computeIfAbsent(text.charAt(i), c -> new Builder());
+                }
+                node.ids.add(id);
+                int separator = text.indexOf(' ', start);
+                start = separator < 0 ? -1 : separator + 1;
+            }
+            return true;
+        }
+
+        private Node build() {
+            char[] labels = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            long[] nodeIds = ids.isEmpty() ? NO_IDS : ids.stream().mapToLong(Long::longValue).toArray();
+            return new Node(labels, nodes, nodeIds);
+        }
+    }
+}
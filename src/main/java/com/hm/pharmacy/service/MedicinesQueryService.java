@@ -0,0 +1,138 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.service.criteria.MedicinesCriteria;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import com.hm.pharmacy.service.mapper.MedicinesMapper;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Medicines} entities in the database.
+ * The main input is a {@link MedicinesCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link MedicinesDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MedicinesQueryService extends QueryService<Medicines> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicinesQueryService.class);
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final MedicinesMapper medicinesMapper;
+
+    private final MedicineCatalog medicineCatalog;
+
+    public MedicinesQueryService(MedicinesRepository medicinesRepository, MedicinesMapper medicinesMapper, MedicineCatalog medicineCatalog) {
+        this.medicinesRepository = medicinesRepository;
+        this.medicinesMapper = medicinesMapper;
+        this.medicineCatalog = medicineCatalog;
+    }
+
+    /**
+     * Return a {@link Page} of {@link MedicinesDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MedicinesDTO> findByCriteria(MedicinesCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Medicines> specification = createSpecification(criteria);
+        return medicinesRepository.findAll(specification, page).map(medicinesMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MedicinesCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Medicines> specification = createSpecification(criteria);
+        return medicinesRepository.count(specification);
+    }
+
+    /**
+     * Return a {@link Page} of the medicines of a category, sorted by name then id.
+     * <p>
+     * They are read from the {@link MedicineCatalog}, which stock updates refresh in memory, rather than from the
+     * database; only until the catalog is first loaded are they queried.
+     * @param category The category, matched exactly.
+     * @param page The page, which should be returned; its sort is ignored.
+     * @return the medicines of the category.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<MedicinesDTO> findByCategory(String category, Pageable page) {
+        LOG.debug("find by category : {}, page: {}", category, page);
+        if (!medicineCatalog.isLoaded()) {
+            MedicinesCriteria criteria = new MedicinesCriteria();
+            criteria.category().setEquals(category);
+            Pageable byName = PageRequest.of(page.getPageNumber(), page.getPageSize(), Sort.by(Medicines_.NAME, Medicines_.ID));
+            return medicinesRepository.findAll(createSpecification(criteria), byName).map(medicinesMapper::toDto);
+        }
+        List<MedicineCatalog.Entry> entries = medicineCatalog.getByCategory(category);
+        int from = (int) Math.min(page.getOffset(), entries.size());
+        int to = Math.min(from + page.getPageSize(), entries.size());
+        return new PageImpl<>(entries.subList(from, to).stream().map(MedicinesQueryService::toDto).toList(), page, entries.size());
+    }
+
+    private static MedicinesDTO toDto(MedicineCatalog.Entry entry) {
+        MedicinesDTO dto = new MedicinesDTO();
+        dto.setId(entry.getId());
+        dto.setName(entry.getName());
+        dto.setManufacturer(entry.getManufacturer());
+        dto.setCategory(entry.getCategory());
+        dto.setPrice(entry.getPrice());
+        dto.setStock(entry.getStock());
+        return dto;
+    }
+
+    /**
+     * Function to convert {@link MedicinesCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Medicines> createSpecification(MedicinesCriteria criteria) {
+        Specification<Medicines> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Medicines_.id),
+                buildStringSpecification(criteria.getName(), Medicines_.name),
+                buildStringSpecification(criteria.getManufacturer(), Medicines_.manufacturer),
+                buildStringSpecification(criteria.getCategory(), Medicines_.category),
+                buildRangeSpecification(criteria.getPrice(), Medicines_.price),
+                buildRangeSpecification(criteria.getStock(), Medicines_.stock),
+                buildSpecification(
+                    criteria.getPurchaseItemsId(),
+                    root -> root.join(Medicines_.purchaseItems, JoinType.LEFT).get(PurchaseItems_.id)
+                ),
+                buildSpecification(
+                    criteria.getMedicineBatchesId(),
+                    root -> root.join(Medicines_.medicineBatches, JoinType.LEFT).get(MedicineBatches_.id)
+                ),
+                buildSpecification(criteria.getSaleItemsId(), root -> root.join(Medicines_.saleItems, JoinType.LEFT).get(SaleItems_.id))
+            );
+        }
+        return specification;
+    }
+}
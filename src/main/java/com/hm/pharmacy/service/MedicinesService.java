@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import com.hm.pharmacy.service.mapper.MedicinesMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Medicines}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MedicinesService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MedicinesService.class);
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final MedicinesMapper medicinesMapper;
+
+    public MedicinesService(MedicinesRepository medicinesRepository, MedicinesMapper medicinesMapper) {
+        this.medicinesRepository = medicinesRepository;
+        this.medicinesMapper = medicinesMapper;
+    }
+
+    /**
+     * Get one medicines by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<MedicinesDTO> findOne(Long id) {
+        LOG.debug("Request to get Medicines : {}", id);
+        return medicinesRepository.findById(id).map(medicinesMapper::toDto);
+    }
+}
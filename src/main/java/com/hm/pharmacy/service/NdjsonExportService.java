@@ -0,0 +1,100 @@
+package com.hm.pharmacy.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hm.pharmacy.config.ApplicationProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+/**
+ * Service writing whole collections as newline-delimited JSON, one entity per line.
+ * <p>
+ * Rows are pulled one at a time from a {@link Stream} (a forward-only database cursor or an Elasticsearch scroll),
+ * written through a single {@link JsonGenerator} and evicted from the persistence context, so memory stays flat
+ * whatever the number of rows.
+ * <p>
+ * As an export outlasts the {@code spring.mvc.async.request-timeout} of the other asynchronous requests, it is given
+ * {@code application.export.timeout} instead.
+ */
+@Service
+public class NdjsonExportService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final Logger LOG = LoggerFactory.getLogger(NdjsonExportService.class);
+
+    private final ObjectWriter objectWriter;
+
+    private final EntityManager entityManager;
+
+    private final long timeoutMillis;
+
+    public NdjsonExportService(ObjectMapper objectMapper, EntityManager entityManager, ApplicationProperties applicationProperties) {
+        this.objectWriter = objectMapper
+            .writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.entityManager = entityManager;
+        this.timeoutMillis = applicationProperties.getExport().getTimeout().toMillis();
+    }
+
+    /**
+     * Let the export started by the current request stream for as long as {@code application.export.timeout}.
+     * <p>
+     * To be called by the handler method, before it returns the body to stream.
+     *
+     * @param request the request of the export.
+     */
+    public void applyTimeout(HttpServletRequest request) {
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(timeoutMillis);
+        }
+    }
+
+    /**
+     * Write every row of a stream to the output as newline-delimited JSON.
+     *
+     * @param rows opens the stream of rows to write; it is called inside a read-only transaction and closed once written.
+     * @param out the output to write to.
+     * @param <T> the type of the rows.
+     * @return the number of rows written.
+     * @throws IOException if the output cannot be written.
+     */
+    @Transactional(readOnly = true)
+    public <T> long writeNdjson(Supplier<Stream<T>> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<T> stream = rows.get(); JsonGenerator generator = objectWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                objectWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+                if (entityManager.contains(row)) {
+                    entityManager.detach(row);
+                }
+                count++;
+            }
+        }
+        LOG.debug("Exported {} rows as ndjson", count);
+        return count;
+    }
+}
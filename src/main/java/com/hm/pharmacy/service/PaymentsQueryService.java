@@ -0,0 +1,86 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.service.criteria.PaymentsCriteria;
+import com.hm.pharmacy.service.dto.PaymentsDTO;
+import com.hm.pharmacy.service.mapper.PaymentsMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Payments} entities in the database.
+ * The main input is a {@link PaymentsCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link PaymentsDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PaymentsQueryService extends QueryService<Payments> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentsQueryService.class);
+
+    private final PaymentsRepository paymentsRepository;
+
+    private final PaymentsMapper paymentsMapper;
+
+    public PaymentsQueryService(PaymentsRepository paymentsRepository, PaymentsMapper paymentsMapper) {
+        this.paymentsRepository = paymentsRepository;
+        this.paymentsMapper = paymentsMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link PaymentsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<PaymentsDTO> findByCriteria(PaymentsCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Payments> specification = createSpecification(criteria);
+        return paymentsRepository.findAll(specification, page).map(paymentsMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PaymentsCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Payments> specification = createSpecification(criteria);
+        return paymentsRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PaymentsCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Payments> createSpecification(PaymentsCriteria criteria) {
+        Specification<Payments> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Payments_.id),
+                buildRangeSpecification(criteria.getPaymentDate(), Payments_.paymentDate),
+                buildStringSpecification(criteria.getPaymentMethod(), Payments_.paymentMethod),
+                buildStringSpecification(criteria.getPaymentStatus(), Payments_.paymentStatus),
+                buildRangeSpecification(criteria.getAmount(), Payments_.amount),
+                buildSpecification(criteria.getSalesId(), root -> root.join(Payments_.sales, JoinType.LEFT).get(Sales_.id))
+            );
+        }
+        return specification;
+    }
+}
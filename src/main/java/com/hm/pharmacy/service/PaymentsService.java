@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.service.dto.PaymentsDTO;
+import com.hm.pharmacy.service.mapper.PaymentsMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Payments}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PaymentsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PaymentsService.class);
+
+    private final PaymentsRepository paymentsRepository;
+
+    private final PaymentsMapper paymentsMapper;
+
+    public PaymentsService(PaymentsRepository paymentsRepository, PaymentsMapper paymentsMapper) {
+        this.paymentsRepository = paymentsRepository;
+        this.paymentsMapper = paymentsMapper;
+    }
+
+    /**
+     * Get one payments by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<PaymentsDTO> findOne(Long id) {
+        LOG.debug("Request to get Payments : {}", id);
+        return paymentsRepository.findById(id).map(paymentsMapper::toDto);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Prescriptions;
+import com.hm.pharmacy.repository.PrescriptionsRepository;
+import com.hm.pharmacy.service.criteria.PrescriptionsCriteria;
+import com.hm.pharmacy.service.dto.PrescriptionsDTO;
+import com.hm.pharmacy.service.mapper.PrescriptionsMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Prescriptions} entities in the database.
+ * The main input is a {@link PrescriptionsCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link PrescriptionsDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PrescriptionsQueryService extends QueryService<Prescriptions> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrescriptionsQueryService.class);
+
+    private final PrescriptionsRepository prescriptionsRepository;
+
+    private final PrescriptionsMapper prescriptionsMapper;
+
+    public PrescriptionsQueryService(PrescriptionsRepository prescriptionsRepository, PrescriptionsMapper prescriptionsMapper) {
+        this.prescriptionsRepository = prescriptionsRepository;
+        this.prescriptionsMapper = prescriptionsMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link PrescriptionsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<PrescriptionsDTO> findByCriteria(PrescriptionsCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Prescriptions> specification = createSpecification(criteria);
+        return prescriptionsRepository.findAll(specification, page).map(prescriptionsMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PrescriptionsCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Prescriptions> specification = createSpecification(criteria);
+        return prescriptionsRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PrescriptionsCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Prescriptions> createSpecification(PrescriptionsCriteria criteria) {
+        Specification<Prescriptions> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Prescriptions_.id),
+                buildStringSpecification(criteria.getDoctorName(), Prescriptions_.doctorName),
+                buildRangeSpecification(criteria.getPrescriptionDate(), Prescriptions_.prescriptionDate),
+                buildSpecification(
+                    criteria.getCustomersId(),
+                    root -> root.join(Prescriptions_.customers, JoinType.LEFT).get(Customers_.id)
+                )
+            );
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.PrescriptionsRepository;
+import com.hm.pharmacy.service.dto.PrescriptionsDTO;
+import com.hm.pharmacy.service.mapper.PrescriptionsMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Prescriptions}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PrescriptionsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrescriptionsService.class);
+
+    private final PrescriptionsRepository prescriptionsRepository;
+
+    private final PrescriptionsMapper prescriptionsMapper;
+
+    public PrescriptionsService(PrescriptionsRepository prescriptionsRepository, PrescriptionsMapper prescriptionsMapper) {
+        this.prescriptionsRepository = prescriptionsRepository;
+        this.prescriptionsMapper = prescriptionsMapper;
+    }
+
+    /**
+     * Get one prescriptions by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<PrescriptionsDTO> findOne(Long id) {
+        LOG.debug("Request to get Prescriptions : {}", id);
+        return prescriptionsRepository.findById(id).map(prescriptionsMapper::toDto);
+    }
+}
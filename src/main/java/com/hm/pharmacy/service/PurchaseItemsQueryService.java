@@ -0,0 +1,91 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.PurchaseItems;
+import com.hm.pharmacy.repository.PurchaseItemsRepository;
+import com.hm.pharmacy.service.criteria.PurchaseItemsCriteria;
+import com.hm.pharmacy.service.dto.PurchaseItemsDTO;
+import com.hm.pharmacy.service.mapper.PurchaseItemsMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link PurchaseItems} entities in the database.
+ * The main input is a {@link PurchaseItemsCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link PurchaseItemsDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PurchaseItemsQueryService extends QueryService<PurchaseItems> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchaseItemsQueryService.class);
+
+    private final PurchaseItemsRepository purchaseItemsRepository;
+
+    private final PurchaseItemsMapper purchaseItemsMapper;
+
+    public PurchaseItemsQueryService(PurchaseItemsRepository purchaseItemsRepository, PurchaseItemsMapper purchaseItemsMapper) {
+        this.purchaseItemsRepository = purchaseItemsRepository;
+        this.purchaseItemsMapper = purchaseItemsMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link PurchaseItemsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<PurchaseItemsDTO> findByCriteria(PurchaseItemsCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<PurchaseItems> specification = createSpecification(criteria);
+        return purchaseItemsRepository.findAll(specification, page).map(purchaseItemsMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PurchaseItemsCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<PurchaseItems> specification = createSpecification(criteria);
+        return purchaseItemsRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PurchaseItemsCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<PurchaseItems> createSpecification(PurchaseItemsCriteria criteria) {
+        Specification<PurchaseItems> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), PurchaseItems_.id),
+                buildRangeSpecification(criteria.getQuantity(), PurchaseItems_.quantity),
+                buildRangeSpecification(criteria.getPrice(), PurchaseItems_.price),
+                buildSpecification(
+                    criteria.getPurchasesId(),
+                    root -> root.join(PurchaseItems_.purchases, JoinType.LEFT).get(Purchases_.id)
+                ),
+                buildSpecification(
+                    criteria.getMedicinesId(),
+                    root -> root.join(PurchaseItems_.medicines, JoinType.LEFT).get(Medicines_.id)
+                )
+            );
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.PurchaseItemsRepository;
+import com.hm.pharmacy.service.dto.PurchaseItemsDTO;
+import com.hm.pharmacy.service.mapper.PurchaseItemsMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.PurchaseItems}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PurchaseItemsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchaseItemsService.class);
+
+    private final PurchaseItemsRepository purchaseItemsRepository;
+
+    private final PurchaseItemsMapper purchaseItemsMapper;
+
+    public PurchaseItemsService(PurchaseItemsRepository purchaseItemsRepository, PurchaseItemsMapper purchaseItemsMapper) {
+        this.purchaseItemsRepository = purchaseItemsRepository;
+        this.purchaseItemsMapper = purchaseItemsMapper;
+    }
+
+    /**
+     * Get one purchaseItems by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<PurchaseItemsDTO> findOne(Long id) {
+        LOG.debug("Request to get PurchaseItems : {}", id);
+        return purchaseItemsRepository.findById(id).map(purchaseItemsMapper::toDto);
+    }
+}
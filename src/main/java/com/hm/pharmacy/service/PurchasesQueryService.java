@@ -0,0 +1,97 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Purchases;
+import com.hm.pharmacy.repository.PurchasesRepository;
+import com.hm.pharmacy.service.criteria.PurchasesCriteria;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import com.hm.pharmacy.service.mapper.PurchasesMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Purchases} entities in the database.
+ * The main input is a {@link PurchasesCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link PurchasesDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PurchasesQueryService extends QueryService<Purchases> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchasesQueryService.class);
+
+    private final PurchasesRepository purchasesRepository;
+
+    private final PurchasesMapper purchasesMapper;
+
+    public PurchasesQueryService(PurchasesRepository purchasesRepository, PurchasesMapper purchasesMapper) {
+        this.purchasesRepository = purchasesRepository;
+        this.purchasesMapper = purchasesMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link PurchasesDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<PurchasesDTO> findByCriteria(PurchasesCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Purchases> specification = createSpecification(criteria);
+        return purchasesRepository.findAll(specification, page).map(purchasesMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PurchasesCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Purchases> specification = createSpecification(criteria);
+        return purchasesRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PurchasesCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Purchases> createSpecification(PurchasesCriteria criteria) {
+        Specification<Purchases> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Purchases_.id),
+                buildRangeSpecification(criteria.getPurchaseDate(), Purchases_.purchaseDate),
+                buildStringSpecification(criteria.getInvoiceNumber(), Purchases_.invoiceNumber),
+                buildRangeSpecification(criteria.getTotalAmount(), Purchases_.totalAmount),
+                buildSpecification(
+                    criteria.getPurchaseItemsId(),
+                    root -> root.join(Purchases_.purchaseItems, JoinType.LEFT).get(PurchaseItems_.id)
+                ),
+                buildSpecification(
+                    criteria.getMedicineBatchesId(),
+                    root -> root.join(Purchases_.medicineBatches, JoinType.LEFT).get(MedicineBatches_.id)
+                ),
+                buildSpecification(
+                    criteria.getSupplierPaymentsId(),
+                    root -> root.join(Purchases_.supplierPayments, JoinType.LEFT).get(SupplierPayments_.id)
+                ),
+                buildSpecification(criteria.getSuppliersId(), root -> root.join(Purchases_.suppliers, JoinType.LEFT).get(Suppliers_.id))
+            );
+        }
+        return specification;
+    }
+}
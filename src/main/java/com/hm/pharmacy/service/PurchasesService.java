@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.PurchasesRepository;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import com.hm.pharmacy.service.mapper.PurchasesMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Purchases}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PurchasesService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PurchasesService.class);
+
+    private final PurchasesRepository purchasesRepository;
+
+    private final PurchasesMapper purchasesMapper;
+
+    public PurchasesService(PurchasesRepository purchasesRepository, PurchasesMapper purchasesMapper) {
+        this.purchasesRepository = purchasesRepository;
+        this.purchasesMapper = purchasesMapper;
+    }
+
+    /**
+     * Get one purchases by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<PurchasesDTO> findOne(Long id) {
+        LOG.debug("Request to get Purchases : {}", id);
+        return purchasesRepository.findById(id).map(purchasesMapper::toDto);
+    }
+}
@@ -0,0 +1,273 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.domain.MedicineReorderSummary;
+import com.hm.pharmacy.domain.PipelineHighWaterMark;
+import com.hm.pharmacy.repository.MedicineReorderSummaryRepository;
+import com.hm.pharmacy.repository.MedicineReorderSummaryRepository.ReorderRow;
+import com.hm.pharmacy.repository.PipelineHighWaterMarkRepository;
+import com.hm.pharmacy.repository.PurchaseItemsRepository;
+import com.hm.pharmacy.repository.PurchaseItemsRepository.LastSupplier;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository.SoldQuantity;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.ReorderSuggestionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background pipeline computing the reorder point of each medicine from its sales velocity.
+ * <p>
+ * The daily sales velocity of a medicine is an exponentially weighted moving average of its quantity sold per day,
+ * kept in its {@link MedicineReorderSummary}: folding in new sales only needs that row, so each run reads the sales
+ * after a high-water mark on their id, in batches, instead of scanning the sales history. The reorder point covers the
+ * sales of the lead time and a safety margin; a medicine at or below it is suggested for purchase from the supplier it
+ * was last purchased from, up to its order-up-to level. Sales are read once settled, a settle delay after they were
+ * inserted, and the high-water mark stops at the first sale not settled yet, so that a sale committed after one with a
+ * higher id is not skipped as long as it commits within the settle delay; sales changed or deleted once read are not
+ * taken back out. Days are UTC days, whatever the time zone of the node running the pipeline.
+ */
+@Service
+public class ReorderPointService {
+
+    public static final String PIPELINE_NAME = "reorder-point";
+
+    public static final String SALES_METER_NAME = "reorder.point.sales";
+    public static final String RUNS_METER_NAME = "reorder.point.runs";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReorderPointService.class);
+
+    private final PipelineHighWaterMarkRepository highWaterMarkRepository;
+
+    private final SalesRepository salesRepository;
+
+    private final SaleItemsRepository saleItemsRepository;
+
+    private final MedicineReorderSummaryRepository summaryRepository;
+
+    private final PurchaseItemsRepository purchaseItemsRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.ReorderPoint properties;
+
+    private final double smoothing;
+
+    private final Counter salesCounter;
+
+    private final Timer runsTimer;
+
+    public ReorderPointService(
+        PipelineHighWaterMarkRepository highWaterMarkRepository,
+        SalesRepository salesRepository,
+        SaleItemsRepository saleItemsRepository,
+        MedicineReorderSummaryRepository summaryRepository,
+        PurchaseItemsRepository purchaseItemsRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.highWaterMarkRepository = highWaterMarkRepository;
+        this.salesRepository = salesRepository;
+        this.saleItemsRepository = saleItemsRepository;
+        this.summaryRepository = summaryRepository;
+        this.purchaseItemsRepository = purchaseItemsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = applicationProperties.getReorderPoint();
+        // The weight of an N-day simple moving average with the same average age.
+        this.smoothing = 2.0 / (properties.getVelocityDays() + 1);
+        this.salesCounter = Counter.builder(SALES_METER_NAME)
+            .description("Number of sales folded into the sales velocity of the medicines.")
+            .register(registry);
+        this.runsTimer = Timer.builder(RUNS_METER_NAME)
+            .description("Time taken by a run of the reorder point pipeline.")
+            .register(registry);
+    }
+
+    /**
+     * Fold the sales made since the last run into the sales velocities, then bring the reorder points up to date.
+     *
+     * @return the number of sales folded.
+     */
+    @Scheduled(
+        initialDelayString = "${application.reorder-point.run-delay:5m}",
+        fixedDelayString = "${application.reorder-point.run-delay:5m}"
+    )
+    public int run() {
+        long start = System.nanoTime();
+        int folded = 0;
+        int read;
+        do {
+            read = transactionTemplate.execute(status -> foldNextSales());
+            folded += read;
+        } while (read == properties.getBatchSize());
+        transactionTemplate.executeWithoutResult(status -> decayReorderPoints());
+        runsTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOG.debug("Folded {} sales into the reorder points", folded);
+        return folded;
+    }
+
+    /**
+     * Get the medicines at or below their reorder point, with the quantity to purchase.
+     *
+     * @param suppliersId the id of a supplier to restrict the suggestions to, or {@code null} for all.
+     * @return the suggestions, by supplier then medicine name; those without a known supplier last.
+     */
+    @Transactional(readOnly = true)
+    public List<ReorderSuggestionDTO> getSuggestions(Long suppliersId) {
+        LOG.debug("Request to get reorder suggestions for Suppliers : {}", suppliersId);
+        List<ReorderRow> rows = summaryRepository.findAllAtOrBelowReorderPoint();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, LastSupplier> suppliers = purchaseItemsRepository
+            .findLastSuppliersByMedicinesIdIn(rows.stream().map(ReorderRow::getMedicinesId).toList())
+            .stream()
+            .collect(Collectors.toMap(LastSupplier::getMedicinesId, Function.identity(), (first, second) -> first));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<ReorderSuggestionDTO> suggestions = new ArrayList<>();
+        for (ReorderRow row : rows) {
+            LastSupplier supplier = suppliers.get(row.getMedicinesId());
+            if (suppliersId != null && (supplier == null || !suppliersId.equals(supplier.getSuppliersId()))) {
+                continue;
+            }
+            int stock = row.getStock() != null ? row.getStock() : 0;
+            ReorderSuggestionDTO suggestion = new ReorderSuggestionDTO();
+            suggestion.setMedicinesId(row.getMedicinesId());
+            suggestion.setMedicinesName(row.getMedicinesName());
+            suggestion.setStock(stock);
+            suggestion.setDailyVelocity(velocityOn(row.getVelocity(), row.getVelocityDate(), today));
+            suggestion.setReorderPoint(row.getReorderPoint());
+            suggestion.setSuggestedQuantity(Math.max(row.getOrderUpTo() - Math.max(stock, 0), 0));
+            if (supplier != null) {
+                suggestion.setSuppliersId(supplier.getSuppliersId());
+                suggestion.setSuppliersName(supplier.getSuppliersName());
+            }
+            suggestions.add(suggestion);
+        }
+        // Stable, so that the suggestions of a supplier stay by medicine name
+        suggestions.sort(
+            Comparator.comparing(ReorderSuggestionDTO::getSuppliersName, Comparator.nullsLast(Comparator.naturalOrder()))
+        );
+        return suggestions;
+    }
+
+    /**
+     * Fold the next batch of settled sales after the high-water mark, and move the mark past them.
+     *
+     * @return the number of sales read.
+     */
+    private int foldNextSales() {
+        PipelineHighWaterMark mark = lockHighWaterMark();
+        if (mark.getLastId() == null) {
+            // Starting from scratch: older sales would not weigh in the moving average anyway.
+            LocalDate historyStart = LocalDate.now(ZoneOffset.UTC).minusDays(properties.getHistoryDays());
+            mark.setLastId(salesRepository.findMaxIdBefore(startOf(historyStart)).orElse(0L));
+        }
+        List<Long> salesIds = salesRepository.findSettledIdsAfter(
+            mark.getLastId(),
+            properties.getSettleDelay(),
+            PageRequest.of(0, properties.getBatchSize())
+        );
+        if (salesIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, NavigableMap<LocalDate, Long>> sold = new HashMap<>();
+        for (SoldQuantity line : saleItemsRepository.findSoldQuantitiesBySalesIdIn(salesIds)) {
+            LocalDate day = LocalDate.ofInstant(line.getSaleDate(), ZoneOffset.UTC);
+            long quantity = line.getQuantity();
+            sold.computeIfAbsent(line.getMedicinesId(), id -> new TreeMap<>()).merge(day, quantity, Long::sum);
+        }
+        Map<Long, MedicineReorderSummary> summaries = summaryRepository
+            .findAllById(sold.keySet())
+            .stream()
+            .collect(Collectors.toMap(MedicineReorderSummary::getMedicinesId, Function.identity()));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant now = Instant.now();
+        sold.forEach((medicinesId, days) -> {
+            MedicineReorderSummary summary = summaries.computeIfAbsent(medicinesId, id ->
+                new MedicineReorderSummary().medicinesId(id).velocity(0.0).velocityDate(days.firstKey())
+            );
+            days.forEach((day, quantity) -> fold(summary, day, quantity));
+            derive(summary, today, now);
+        });
+        summaryRepository.saveAll(summaries.values());
+
+        mark.lastId(salesIds.get(salesIds.size() - 1)).updatedDate(now);
+        salesCounter.increment(salesIds.size());
+        return salesIds.size();
+    }
+
+    /**
+     * Decay the reorder points not derived today, as the velocity of a medicine falls on the days it does not sell.
+     */
+    private void decayReorderPoints() {
+        lockHighWaterMark();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant now = Instant.now();
+        List<MedicineReorderSummary> stale = summaryRepository.findAllByUpdatedDateBefore(startOf(today));
+        stale.forEach(summary -> derive(summary, today, now));
+        summaryRepository.saveAll(stale);
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private PipelineHighWaterMark lockHighWaterMark() {
+        return highWaterMarkRepository
+            .findForUpdate(PIPELINE_NAME)
+            .orElseGet(() -> highWaterMarkRepository.saveAndFlush(new PipelineHighWaterMark().name(PIPELINE_NAME)));
+    }
+
+    /**
+     * Add the quantity sold on a day to the moving average, whether the day is before or after the last one folded.
+     */
+    private void fold(MedicineReorderSummary summary, LocalDate day, long quantity) {
+        if (day.isAfter(summary.getVelocityDate())) {
+            summary.velocity(velocityOn(summary.getVelocity(), summary.getVelocityDate(), day)).velocityDate(day);
+        }
+        long age = ChronoUnit.DAYS.between(day, summary.getVelocityDate());
+        summary.setVelocity(summary.getVelocity() + smoothing * quantity * Math.pow(1 - smoothing, age));
+    }
+
+    private void derive(MedicineReorderSummary summary, LocalDate today, Instant now) {
+        double velocity = velocityOn(summary.getVelocity(), summary.getVelocityDate(), today);
+        int reorderDays = properties.getLeadTimeDays() + properties.getSafetyDays();
+        summary
+            .reorderPoint((int) Math.round(velocity * reorderDays))
+            .orderUpTo((int) Math.round(velocity * (reorderDays + properties.getCoverDays())))
+            .updatedDate(now);
+    }
+
+    private double velocityOn(double velocity, LocalDate velocityDate, LocalDate date) {
+        long days = ChronoUnit.DAYS.between(velocityDate, date);
+        return days > 0 ? velocity * Math.pow(1 - smoothing, days) : velocity;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.service.criteria.SaleItemsCriteria;
+import com.hm.pharmacy.service.dto.SaleItemsDTO;
+import com.hm.pharmacy.service.mapper.SaleItemsMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link SaleItems} entities in the database.
+ * The main input is a {@link SaleItemsCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link SaleItemsDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SaleItemsQueryService extends QueryService<SaleItems> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SaleItemsQueryService.class);
+
+    private final SaleItemsRepository saleItemsRepository;
+
+    private final SaleItemsMapper saleItemsMapper;
+
+    public SaleItemsQueryService(SaleItemsRepository saleItemsRepository, SaleItemsMapper saleItemsMapper) {
+        this.saleItemsRepository = saleItemsRepository;
+        this.saleItemsMapper = saleItemsMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link SaleItemsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SaleItemsDTO> findByCriteria(SaleItemsCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<SaleItems> specification = createSpecification(criteria);
+        return saleItemsRepository.findAll(specification, page).map(saleItemsMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SaleItemsCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<SaleItems> specification = createSpecification(criteria);
+        return saleItemsRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SaleItemsCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<SaleItems> createSpecification(SaleItemsCriteria criteria) {
+        Specification<SaleItems> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), SaleItems_.id),
+                buildRangeSpecification(criteria.getQuantity(), SaleItems_.quantity),
+                buildRangeSpecification(criteria.getPrice(), SaleItems_.price),
+                buildSpecification(criteria.getMedicinesId(), root -> root.join(SaleItems_.medicines, JoinType.LEFT).get(Medicines_.id)),
+                buildSpecification(criteria.getSalesId(), root -> root.join(SaleItems_.sales, JoinType.LEFT).get(Sales_.id))
+            );
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.service.dto.SaleItemsDTO;
+import com.hm.pharmacy.service.mapper.SaleItemsMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.SaleItems}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SaleItemsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SaleItemsService.class);
+
+    private final SaleItemsRepository saleItemsRepository;
+
+    private final SaleItemsMapper saleItemsMapper;
+
+    public SaleItemsService(SaleItemsRepository saleItemsRepository, SaleItemsMapper saleItemsMapper) {
+        this.saleItemsRepository = saleItemsRepository;
+        this.saleItemsMapper = saleItemsMapper;
+    }
+
+    /**
+     * Get one saleItems by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<SaleItemsDTO> findOne(Long id) {
+        LOG.debug("Request to get SaleItems : {}", id);
+        return saleItemsRepository.findById(id).map(saleItemsMapper::toDto);
+    }
+}
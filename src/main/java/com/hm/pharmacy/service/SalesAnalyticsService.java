@@ -0,0 +1,400 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.repository.PaymentsRepository.SalePayment;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository.SoldLine;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.SalesAnalyticsQueryDTO;
+import com.hm.pharmacy.service.dto.SalesAnalyticsQueryDTO.Dimension;
+import com.hm.pharmacy.service.dto.SalesAnalyticsRowDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service answering ad-hoc sales analytics from an in-memory, columnar copy of the sale lines.
+ * <p>
+ * The sale lines of the last {@code history-days} are loaded into a {@link SalesFactTable}, and the sales made since
+ * are appended to it by a background job tailing their ids. The job stops at the first sale inserted less than a settle
+ * delay ago, so that a sale committed after one with a higher id is not skipped as long as it commits within that
+ * delay. A query scans the table in parallel on a dedicated fork/join pool, without touching the database: the category
+ * and manufacturer of the medicines are those of the {@link MedicineCatalog}, as of the query. A sale paid by several
+ * methods counts under the method of its largest payment. Sales changed or deleted once loaded, and payments added to
+ * them later, are only picked up by the periodic full reload.
+ */
+@Service
+public class SalesAnalyticsService {
+
+    public static final String LINES_METER_NAME = "sales.analytics.lines";
+    public static final String LOADS_METER_NAME = "sales.analytics.loads";
+    public static final String QUERIES_METER_NAME = "sales.analytics.queries";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SalesAnalyticsService.class);
+
+    private final SalesRepository salesRepository;
+
+    private final SaleItemsRepository saleItemsRepository;
+
+    private final PaymentsRepository paymentsRepository;
+
+    private final MedicineCatalog medicineCatalog;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final ApplicationProperties.SalesAnalytics properties;
+
+    private final ForkJoinPool pool;
+
+    private final Timer fullLoadTimer;
+
+    private final Timer incrementalLoadTimer;
+
+    private final Map<Dimension, Timer> queryTimers = new EnumMap<>(Dimension.class);
+
+    private volatile SalesFactTable table = SalesFactTable.EMPTY;
+
+    private SalesFactTable.Appender appender;
+
+    private long lastSalesId;
+
+    public SalesAnalyticsService(
+        SalesRepository salesRepository,
+        SaleItemsRepository saleItemsRepository,
+        PaymentsRepository paymentsRepository,
+        MedicineCatalog medicineCatalog,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.salesRepository = salesRepository;
+        this.saleItemsRepository = saleItemsRepository;
+        this.paymentsRepository = paymentsRepository;
+        this.medicineCatalog = medicineCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.properties = applicationProperties.getSalesAnalytics();
+        this.pool = new ForkJoinPool(properties.getParallelism(), SalesAnalyticsService::newWorkerThread, null, false);
+        this.fullLoadTimer = loadsTimerBuilder("full").register(registry);
+        this.incrementalLoadTimer = loadsTimerBuilder("incremental").register(registry);
+        Gauge.builder(LINES_METER_NAME, this, service -> service.table.size())
+            .baseUnit("lines")
+            .description("Number of sale lines in the in-memory sales analytics table.")
+            .register(registry);
+        for (Dimension dimension : Dimension.values()) {
+            queryTimers.put(
+                dimension,
+                Timer.builder(QUERIES_METER_NAME)
+                    .description("Time taken to answer a sales analytics query.")
+                    .tag("dimension", dimension.name().toLowerCase())
+                    .register(registry)
+            );
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("hm-pharmacy-analytics-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private Timer.Builder loadsTimerBuilder(String scope) {
+        return Timer.builder(LOADS_METER_NAME)
+            .description("Time taken to load sales into the in-memory sales analytics table.")
+            .tag("scope", scope);
+    }
+
+    /**
+     * Load the sales once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        taskExecutor.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not load the sales analytics, they will be loaded on the next refresh: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Reload all the sales of the history from the database.
+     *
+     * @return the number of sales loaded.
+     */
+    @Scheduled(
+        initialDelayString = "${application.sales-analytics.full-reload:1h}",
+        fixedDelayString = "${application.sales-analytics.full-reload:1h}"
+    )
+    public synchronized int reload() {
+        long start = System.nanoTime();
+        LocalDate historyStart = LocalDate.now().minusDays(properties.getHistoryDays());
+        long afterId = transactionTemplate.execute(status ->
+            salesRepository.findMaxIdBefore(historyStart.atStartOfDay(ZoneId.systemDefault()).toInstant()).orElse(0L)
+        );
+        SalesFactTable.Appender loading = new SalesFactTable.Appender(ZoneId.systemDefault());
+        int loaded = 0;
+        List<Long> salesIds;
+        do {
+            salesIds = appendNextSales(loading, afterId);
+            if (!salesIds.isEmpty()) {
+                afterId = salesIds.get(salesIds.size() - 1);
+            }
+            loaded += salesIds.size();
+        } while (salesIds.size() == properties.getBatchSize());
+        appender = loading;
+        lastSalesId = afterId;
+        table = loading.snapshot();
+        fullLoadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOG.debug("Loaded {} sales, {} sale lines, into the sales analytics", loaded, table.size());
+        return loaded;
+    }
+
+    /**
+     * Append the sales made since the last load.
+     *
+     * @return the number of sales appended.
+     */
+    @Scheduled(
+        initialDelayString = "${application.sales-analytics.refresh-delay:30s}",
+        fixedDelayString = "${application.sales-analytics.refresh-delay:30s}"
+    )
+    public synchronized int refresh() {
+        if (appender == null) {
+            return reload();
+        }
+        long start = System.nanoTime();
+        int appended = 0;
+        List<Long> salesIds;
+        do {
+            salesIds = appendNextSales(appender, lastSalesId);
+            if (!salesIds.isEmpty()) {
+                lastSalesId = salesIds.get(salesIds.size() - 1);
+                table = appender.snapshot();
+            }
+            appended += salesIds.size();
+        } while (salesIds.size() == properties.getBatchSize());
+        incrementalLoadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return appended;
+    }
+
+    /**
+     * Sum the sale lines of a range of days by a dimension.
+     *
+     * @param query the range, filters and dimension.
+     * @return the groups with sale lines: by hour or day in order, otherwise by amount, largest first.
+     * @throws IllegalArgumentException if the dimension or the range is missing, or the range is empty or too long.
+     */
+    public List<SalesAnalyticsRowDTO> query(SalesAnalyticsQueryDTO query) {
+        LOG.debug("Request to query the sales analytics : {}", query);
+        if (query.getGroupBy() == null || query.getFrom() == null || query.getTo() == null) {
+            throw new IllegalArgumentException("The dimension and the range of days are required");
+        }
+        if (query.getFrom().isAfter(query.getTo())) {
+            throw new IllegalArgumentException("The range must not end before it starts");
+        }
+        if (ChronoUnit.DAYS.between(query.getFrom(), query.getTo()) >= properties.getMaxRangeDays()) {
+            throw new IllegalArgumentException("The range must not be longer than " + properties.getMaxRangeDays() + " days");
+        }
+        long start = System.nanoTime();
+        SalesFactTable current = table;
+        List<SalesAnalyticsRowDTO> rows = new Query(current, query).run();
+        queryTimers.get(query.getGroupBy()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return rows;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Append the lines of the next batch of settled sales after an id.
+     *
+     * @return the ids of the sales read, in order.
+     */
+    private List<Long> appendNextSales(SalesFactTable.Appender target, long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> salesIds = salesRepository.findSettledIdsAfter(
+                afterId,
+                properties.getSettleDelay(),
+                PageRequest.of(0, properties.getBatchSize())
+            );
+            if (salesIds.isEmpty()) {
+                return salesIds;
+            }
+            Map<Long, String> paymentMethods = findLargestPaymentMethods(salesIds);
+            for (SoldLine line : saleItemsRepository.findSoldLinesBySalesIdIn(salesIds)) {
+                BigDecimal price = line.getPrice() != null ? line.getPrice() : BigDecimal.ZERO;
+                long unitCents = price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+                int quantity = line.getQuantity();
+                String paymentMethod = paymentMethods.get(line.getSalesId());
+                target.append(line.getSaleDate(), line.getMedicinesId(), quantity, unitCents * quantity, paymentMethod);
+            }
+            return salesIds;
+        });
+    }
+
+    /**
+     * @return the method of the largest payment of each sale with payments, by sale id.
+     */
+    private Map<Long, String> findLargestPaymentMethods(List<Long> salesIds) {
+        Map<Long, SalePayment> largest = new HashMap<>();
+        Comparator<SalePayment> byAmount = Comparator.comparing(SalePayment::getAmount, Comparator.nullsFirst(Comparator.naturalOrder()));
+        for (SalePayment payment : paymentsRepository.findSalePaymentsBySalesIdIn(salesIds)) {
+            largest.merge(payment.getSalesId(), payment, (first, second) -> byAmount.compare(second, first) > 0 ? second : first);
+        }
+        Map<Long, String> methods = new HashMap<>();
+        largest.forEach((salesId, payment) -> methods.put(salesId, payment.getPaymentMethod()));
+        return methods;
+    }
+
+    private static int code(String label, List<String> labels, Map<String, Integer> codes) {
+        return codes.computeIfAbsent(label, key -> {
+            labels.add(key);
+            return labels.size() - 1;
+        });
+    }
+
+    /**
+     * A query over one snapshot of the table: resolves the filters and groups to codes, scans, then decodes the groups.
+     */
+    private final class Query {
+
+        private final SalesFactTable table;
+
+        private final SalesAnalyticsQueryDTO query;
+
+        private final Map<Long, MedicineCatalog.Entry> medicines;
+
+        private Query(SalesFactTable table, SalesAnalyticsQueryDTO query) {
+            this.table = table;
+            this.query = query;
+            this.medicines = new HashMap<>();
+            medicineCatalog.getAll().forEach(entry -> medicines.put(entry.getId(), entry));
+        }
+
+        private List<SalesAnalyticsRowDTO> run() {
+            int paymentCode = query.getPaymentMethod() != null ? table.paymentCode(query.getPaymentMethod()) : -1;
+            if (query.getPaymentMethod() != null && paymentCode < 0) {
+                return List.of();
+            }
+            ZoneId zone = table.zone();
+            Instant from = query.getFrom().atStartOfDay(zone).toInstant();
+            Instant to = query.getTo().plusDays(1).atStartOfDay(zone).toInstant();
+            long firstDay = query.getFrom().toEpochDay();
+
+            // Medicine groups: the category or manufacturer code, or the medicine index itself; -1 when filtered out
+            int[] medicineGroups = new int[table.medicineCount()];
+            List<String> labels = new ArrayList<>();
+            Map<String, Integer> codes = new HashMap<>();
+            for (int index = 0; index < medicineGroups.length; index++) {
+                long medicinesId = table.medicineId(index);
+                MedicineCatalog.Entry entry = medicines.get(medicinesId);
+                if (!matches(medicinesId, entry)) {
+                    medicineGroups[index] = -1;
+                    continue;
+                }
+                medicineGroups[index] = switch (query.getGroupBy()) {
+                    case CATEGORY -> code(entry != null ? entry.getCategory() : null, labels, codes);
+                    case MANUFACTURER -> code(entry != null ? entry.getManufacturer() : null, labels, codes);
+                    case MEDICINE -> index;
+                    default -> 0;
+                };
+            }
+
+            SalesFactTable.Key key =
+                switch (query.getGroupBy()) {
+                    case CATEGORY, MANUFACTURER, MEDICINE -> SalesFactTable.Key.MEDICINE;
+                    case HOUR -> SalesFactTable.Key.HOUR;
+                    case DAY -> SalesFactTable.Key.DAY;
+                    case PAYMENT_METHOD -> SalesFactTable.Key.PAYMENT_METHOD;
+                };
+            int groups =
+                switch (query.getGroupBy()) {
+                    case CATEGORY, MANUFACTURER -> labels.size();
+                    case MEDICINE -> medicineGroups.length;
+                    case HOUR -> 24;
+                    case DAY -> (int) (query.getTo().toEpochDay() - firstDay + 1);
+                    case PAYMENT_METHOD -> table.paymentMethodCount();
+                };
+            SalesFactTable.Scan scan = new SalesFactTable.Scan(key, groups, from, to, firstDay, medicineGroups, paymentCode);
+            SalesFactTable.Aggregate aggregate = table.aggregate(scan, pool, properties.getChunkSize());
+
+            Function<Integer, String> label =
+                switch (query.getGroupBy()) {
+                    case CATEGORY, MANUFACTURER -> labels::get;
+                    case MEDICINE -> group -> {
+                        MedicineCatalog.Entry entry = medicines.get(table.medicineId(group));
+                        return entry != null ? entry.getName() : null;
+                    };
+                    case HOUR -> String::valueOf;
+                    case DAY -> group -> LocalDate.ofEpochDay(firstDay + group).toString();
+                    case PAYMENT_METHOD -> table::paymentMethod;
+                };
+            List<SalesAnalyticsRowDTO> rows = new ArrayList<>();
+            for (int group = 0; group < aggregate.groups(); group++) {
+                if (aggregate.lines(group) == 0) {
+                    continue;
+                }
+                SalesAnalyticsRowDTO row = new SalesAnalyticsRowDTO();
+                row.setKey(label.apply(group));
+                row.setMedicinesId(query.getGroupBy() == Dimension.MEDICINE ? table.medicineId(group) : null);
+                row.setLines(aggregate.lines(group));
+                row.setQuantity(aggregate.quantity(group));
+                row.setAmount(BigDecimal.valueOf(aggregate.cents(group), 2));
+                rows.add(row);
+            }
+            if (query.getGroupBy() != Dimension.HOUR && query.getGroupBy() != Dimension.DAY) {
+                rows.sort(Comparator.comparing(SalesAnalyticsRowDTO::getAmount).reversed());
+            }
+            return rows;
+        }
+
+        private boolean matches(long medicinesId, MedicineCatalog.Entry entry) {
+            if (query.getMedicinesId() != null && query.getMedicinesId() != medicinesId) {
+                return false;
+            }
+            if (query.getCategory() != null && (entry == null || !query.getCategory().equals(entry.getCategory()))) {
+                return false;
+            }
+            return query.getManufacturer() == null || (entry != null && query.getManufacturer().equals(entry.getManufacturer()));
+        }
+    }
+}
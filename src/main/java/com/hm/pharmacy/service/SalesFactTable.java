@@ -0,0 +1,387 @@
+package com.hm.pharmacy.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Columnar, append-only table of the sale lines, scanned in parallel by the sales analytics.
+ * <p>
+ * Each sale line is a row across primitive columns: the epoch second, local day and local hour of its sale, the dense
+ * index of its medicine, its quantity, its amount in cents, and the dictionary code of the payment method of its sale.
+ * A table is an immutable view of the first rows of the columns: an {@link Appender} writes new rows past the end of
+ * the views it handed out, then hands out a new one, so that readers are never blocked and never see a partial row.
+ * Aggregations split the rows in chunks summed by fork/join tasks, then add the sums up.
+ */
+final class SalesFactTable {
+
+    static final SalesFactTable EMPTY = new Appender(ZoneId.systemDefault()).snapshot();
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * What the rows of a scan are grouped by.
+     */
+    enum Key {
+        /** The group given to the medicine of the row by the scan. */
+        MEDICINE,
+        /** The local hour of the sale, from 0 to 23. */
+        HOUR,
+        /** The local day of the sale, from the first day of the scan. */
+        DAY,
+        /** The payment method code of the sale. */
+        PAYMENT_METHOD,
+    }
+
+    private final ZoneId zone;
+
+    private final int size;
+
+    private final long[] seconds;
+
+    private final int[] days;
+
+    private final byte[] hours;
+
+    private final int[] medicines;
+
+    private final int[] quantities;
+
+    private final long[] cents;
+
+    private final int[] paymentCodes;
+
+    private final long[] medicineIds;
+
+    private final String[] paymentMethods;
+
+    private SalesFactTable(Appender appender) {
+        this.zone = appender.zone;
+        this.size = appender.size;
+        this.seconds = appender.seconds;
+        this.days = appender.days;
+        this.hours = appender.hours;
+        this.medicines = appender.medicines;
+        this.quantities = appender.quantities;
+        this.cents = appender.cents;
+        this.paymentCodes = appender.paymentCodes;
+        this.medicineIds = Arrays.copyOf(appender.medicineIds, appender.medicineIndexes.size());
+        this.paymentMethods = appender.paymentMethods.toArray(String[]::new);
+    }
+
+    /**
+     * @return the zone of the local days and hours.
+     */
+    ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * @return the number of sale lines.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of distinct medicines sold, the medicine indexes ranging from 0 to it, excluded.
+     */
+    int medicineCount() {
+        return medicineIds.length;
+    }
+
+    /**
+     * @return the id of the medicine of an index.
+     */
+    long medicineId(int index) {
+        return medicineIds[index];
+    }
+
+    /**
+     * @return the number of distinct payment methods, the codes ranging from 0 to it, excluded.
+     */
+    int paymentMethodCount() {
+        return paymentMethods.length;
+    }
+
+    /**
+     * @return the payment method of a code, {@code null} for the sales without payment.
+     */
+    String paymentMethod(int code) {
+        return paymentMethods[code];
+    }
+
+    /**
+     * @return the code of a payment method, or -1 if no sale was paid with it.
+     */
+    int paymentCode(String paymentMethod) {
+        for (int code = 0; code < paymentMethods.length; code++) {
+            if (paymentMethods[code] != null && paymentMethods[code].equals(paymentMethod)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sum the rows of a scan by group, in parallel.
+     *
+     * @param scan the rows to sum and how to group them.
+     * @param pool the pool running the scan.
+     * @param chunkSize the number of rows summed by one task.
+     * @return the sums.
+     */
+    Aggregate aggregate(Scan scan, ForkJoinPool pool, int chunkSize) {
+        if (scan.medicineGroups.length < medicineIds.length) {
+            throw new IllegalArgumentException("The scan must give a group to each medicine");
+        }
+        return pool.invoke(new ScanTask(scan, 0, size, Math.max(chunkSize, 1)));
+    }
+
+    private Aggregate scanRange(Scan scan, int from, int to) {
+        Aggregate aggregate = new Aggregate(scan.groups);
+        for (int row = from; row < to; row++) {
+            if (seconds[row] < scan.fromSecond || seconds[row] >= scan.toSecond) {
+                continue;
+            }
+            if (scan.paymentCode >= 0 && paymentCodes[row] != scan.paymentCode) {
+                continue;
+            }
+            int medicineGroup = scan.medicineGroups[medicines[row]];
+            if (medicineGroup < 0) {
+                continue;
+            }
+            int group =
+                switch (scan.key) {
+                    case MEDICINE -> medicineGroup;
+                    case HOUR -> hours[row];
+                    case DAY -> days[row] - scan.firstDay;
+                    case PAYMENT_METHOD -> paymentCodes[row];
+                };
+            aggregate.lines[group]++;
+            aggregate.quantities[group] += quantities[row];
+            aggregate.cents[group] += cents[row];
+        }
+        return aggregate;
+    }
+
+    /**
+     * Sums a range of rows, splitting it in two while it is longer than a chunk.
+     */
+    private final class ScanTask extends RecursiveTask<Aggregate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Scan scan;
+
+        private final int from;
+
+        private final int to;
+
+        private final int chunkSize;
+
+        private ScanTask(Scan scan, int from, int to, int chunkSize) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Aggregate compute() {
+            if (to - from <= chunkSize) {
+                return scanRange(scan, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(scan, from, middle, chunkSize);
+            left.fork();
+            Aggregate right = new ScanTask(scan, middle, to, chunkSize).compute();
+            return right.add(left.join());
+        }
+    }
+
+    /**
+     * The rows to sum, and how to group them.
+     */
+    static final class Scan {
+
+        private final Key key;
+
+        private final int groups;
+
+        private final long fromSecond;
+
+        private final long toSecond;
+
+        private final int firstDay;
+
+        private final int[] medicineGroups;
+
+        private final int paymentCode;
+
+        /**
+         * @param key what the rows are grouped by.
+         * @param groups the number of groups, the groups ranging from 0 to it, excluded.
+         * @param from the start of the sales summed.
+         * @param to the end of the sales summed, excluded.
+         * @param firstDay the local epoch day of group 0, when grouping by day.
+         * @param medicineGroups the group of each medicine index, or -1 to leave the medicine out.
+         * @param paymentCode the payment method code of the sales summed, or -1 for all.
+         */
+        Scan(Key key, int groups, Instant from, Instant to, long firstDay, int[] medicineGroups, int paymentCode) {
+            this.key = key;
+            this.groups = groups;
+            this.fromSecond = from.getEpochSecond();
+            this.toSecond = to.getEpochSecond();
+            this.firstDay = (int) firstDay;
+            this.medicineGroups = medicineGroups;
+            this.paymentCode = paymentCode;
+        }
+    }
+
+    /**
+     * The number of lines, quantity sold and amount in cents of each group.
+     */
+    static final class Aggregate {
+
+        private final long[] lines;
+
+        private final long[] quantities;
+
+        private final long[] cents;
+
+        private Aggregate(int groups) {
+            this.lines = new long[groups];
+            this.quantities = new long[groups];
+            this.cents = new long[groups];
+        }
+
+        private Aggregate add(Aggregate other) {
+            for (int group = 0; group < lines.length; group++) {
+                lines[group] += other.lines[group];
+                quantities[group] += other.quantities[group];
+                cents[group] += other.cents[group];
+            }
+            return this;
+        }
+
+        int groups() {
+            return lines.length;
+        }
+
+        long lines(int group) {
+            return lines[group];
+        }
+
+        long quantity(int group) {
+            return quantities[group];
+        }
+
+        long cents(int group) {
+            return cents[group];
+        }
+    }
+
+    /**
+     * Writes the rows of a table, from a single thread.
+     */
+    static final class Appender {
+
+        private final ZoneId zone;
+
+        private int size;
+
+        private long[] seconds = new long[INITIAL_CAPACITY];
+
+        private int[] days = new int[INITIAL_CAPACITY];
+
+        private byte[] hours = new byte[INITIAL_CAPACITY];
+
+        private int[] medicines = new int[INITIAL_CAPACITY];
+
+        private int[] quantities = new int[INITIAL_CAPACITY];
+
+        private long[] cents = new long[INITIAL_CAPACITY];
+
+        private int[] paymentCodes = new int[INITIAL_CAPACITY];
+
+        private final Map<Long, Integer> medicineIndexes = new HashMap<>();
+
+        private long[] medicineIds = new long[INITIAL_CAPACITY];
+
+        private final Map<String, Integer> paymentCodesByMethod = new HashMap<>();
+
+        private final List<String> paymentMethods = new ArrayList<>();
+
+        Appender(ZoneId zone) {
+            this.zone = zone;
+            // Code 0 is that of the sales without payment
+            paymentMethods.add(null);
+            paymentCodesByMethod.put(null, 0);
+        }
+
+        /**
+         * Add a sale line.
+         *
+         * @param saleDate the date of the sale.
+         * @param medicinesId the id of the medicine sold.
+         * @param quantity the quantity sold.
+         * @param cents the amount of the line, in cents.
+         * @param paymentMethod the payment method of the sale, {@code null} if it has no payment.
+         */
+        void append(Instant saleDate, long medicinesId, int quantity, long cents, String paymentMethod) {
+            if (size == seconds.length) {
+                grow();
+            }
+            LocalDateTime local = LocalDateTime.ofInstant(saleDate, zone);
+            seconds[size] = saleDate.getEpochSecond();
+            days[size] = (int) local.toLocalDate().toEpochDay();
+            hours[size] = (byte) local.getHour();
+            medicines[size] = medicineIndexes.computeIfAbsent(medicinesId, this::addMedicine);
+            quantities[size] = quantity;
+            this.cents[size] = cents;
+            paymentCodes[size] = paymentCodesByMethod.computeIfAbsent(paymentMethod, method -> {
+                paymentMethods.add(method);
+                return paymentMethods.size() - 1;
+            });
+            size++;
+        }
+
+        /**
+         * @return a view of the rows added so far.
+         */
+        SalesFactTable snapshot() {
+            return new SalesFactTable(this);
+        }
+
+        private int addMedicine(long medicinesId) {
+            int index = medicineIndexes.size();
+            if (index == medicineIds.length) {
+                medicineIds = Arrays.copyOf(medicineIds, index * 2);
+            }
+            medicineIds[index] = medicinesId;
+            return index;
+        }
+
+        /**
+         * Move the rows to larger columns, leaving those of the views handed out untouched.
+         */
+        private void grow() {
+            int capacity = seconds.length * 2;
+            seconds = Arrays.copyOf(seconds, capacity);
+            days = Arrays.copyOf(days, capacity);
+            hours = Arrays.copyOf(hours, capacity);
+            medicines = Arrays.copyOf(medicines, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            cents = Arrays.copyOf(cents, capacity);
+            paymentCodes = Arrays.copyOf(paymentCodes, capacity);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.criteria.SalesCriteria;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import com.hm.pharmacy.service.mapper.SalesMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Sales} entities in the database.
+ * The main input is a {@link SalesCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link SalesDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SalesQueryService extends QueryService<Sales> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SalesQueryService.class);
+
+    private final SalesRepository salesRepository;
+
+    private final SalesMapper salesMapper;
+
+    public SalesQueryService(SalesRepository salesRepository, SalesMapper salesMapper) {
+        this.salesRepository = salesRepository;
+        this.salesMapper = salesMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link SalesDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SalesDTO> findByCriteria(SalesCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Sales> specification = createSpecification(criteria);
+        return salesRepository.findAll(specification, page).map(salesMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SalesCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Sales> specification = createSpecification(criteria);
+        return salesRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SalesCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Sales> createSpecification(SalesCriteria criteria) {
+        Specification<Sales> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Sales_.id),
+                buildRangeSpecification(criteria.getSaleDate(), Sales_.saleDate),
+                buildStringSpecification(criteria.getInvoiceNumber(), Sales_.invoiceNumber),
+                buildRangeSpecification(criteria.getTotalAmount(), Sales_.totalAmount),
+                buildSpecification(criteria.getSaleItemsId(), root -> root.join(Sales_.saleItems, JoinType.LEFT).get(SaleItems_.id)),
+                buildSpecification(criteria.getPaymentsId(), root -> root.join(Sales_.payments, JoinType.LEFT).get(Payments_.id)),
+                buildSpecification(criteria.getCustomersId(), root -> root.join(Sales_.customers, JoinType.LEFT).get(Customers_.id))
+            );
+        }
+        return specification;
+    }
+}
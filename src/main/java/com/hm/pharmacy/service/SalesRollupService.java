@@ -0,0 +1,212 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.domain.PipelineHighWaterMark;
+import com.hm.pharmacy.repository.PipelineHighWaterMarkRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.repository.SalesRollupRepository;
+import com.hm.pharmacy.repository.SalesRollupRepository.RollupLine;
+import com.hm.pharmacy.service.dto.SalesRollupLineDTO;
+import com.hm.pharmacy.service.dto.SalesSummaryDTO;
+import com.hm.pharmacy.service.dto.SalesSummaryDayDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service maintaining the daily sales rollups, and answering sales summaries from them.
+ * <p>
+ * A micro-batch job tails the sales after the {@code sales-rollup} high-water mark and adds them to the rollups, so
+ * that a summary only reads one row per day, medicine, payment method or customer, whatever the number of sales.
+ * Sales are rolled up once settled, so that a sale committed after one with a higher id is not skipped. Sales changed
+ * or deleted once rolled up, and payments added to them later, are only taken into account by rebuilding their days.
+ */
+@Service
+public class SalesRollupService {
+
+    public static final String PIPELINE_NAME = "sales-rollup";
+
+    public static final String SALES_METER_NAME = "sales.rollup.sales";
+    public static final String RUNS_METER_NAME = "sales.rollup.runs";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SalesRollupService.class);
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    private final SalesRepository salesRepository;
+
+    private final PipelineHighWaterMarkRepository highWaterMarkRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.SalesRollup properties;
+
+    private final Counter salesCounter;
+
+    private final Timer runsTimer;
+
+    public SalesRollupService(
+        SalesRollupRepository salesRollupRepository,
+        SalesRepository salesRepository,
+        PipelineHighWaterMarkRepository highWaterMarkRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.salesRepository = salesRepository;
+        this.highWaterMarkRepository = highWaterMarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = applicationProperties.getSalesRollup();
+        this.salesCounter = Counter.builder(SALES_METER_NAME)
+            .description("Number of sales added to the daily sales rollups.")
+            .register(registry);
+        this.runsTimer = Timer.builder(RUNS_METER_NAME)
+            .description("Time taken by a run of the daily sales rollups.")
+            .register(registry);
+    }
+
+    /**
+     * Add the sales made since the last run to the rollups, one batch of sales per transaction.
+     *
+     * @return the number of sales added.
+     */
+    @Scheduled(
+        initialDelayString = "${application.sales-rollup.run-delay:30s}",
+        fixedDelayString = "${application.sales-rollup.run-delay:30s}"
+    )
+    public int run() {
+        long start = System.nanoTime();
+        int added = 0;
+        int read;
+        do {
+            read = transactionTemplate.execute(status -> addNextSales());
+            added += read;
+        } while (read == properties.getBatchSize());
+        runsTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LOG.debug("Added {} sales to the daily rollups", added);
+        return added;
+    }
+
+    /**
+     * Rebuild the rollups of a range of days from the sales, after sales of those days were changed.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @throws IllegalArgumentException if the range is empty or too long.
+     */
+    @Transactional
+    public void rebuild(LocalDate from, LocalDate to) {
+        LOG.debug("Request to rebuild the daily sales rollups from {} to {}", from, to);
+        checkRange(from, to);
+        // Holding the high-water mark, so that the job cannot add sales of these days while they are rebuilt
+        PipelineHighWaterMark mark = lockHighWaterMark();
+        salesRollupRepository.rebuild(from, to, mark.getLastId() != null ? mark.getLastId() : 0L);
+    }
+
+    /**
+     * Summarize the sales of a range of days from the rollups.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param limit the number of top medicines and top customers.
+     * @return the summary.
+     * @throws IllegalArgumentException if the range is empty or too long, or the limit is not positive or too large.
+     */
+    @Transactional(readOnly = true)
+    public SalesSummaryDTO getSummary(LocalDate from, LocalDate to, int limit) {
+        LOG.debug("Request to get the sales summary from {} to {}", from, to);
+        checkRange(from, to);
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + properties.getMaxLimit());
+        }
+        SalesSummaryDTO summary = new SalesSummaryDTO();
+        summary.setFrom(from);
+        summary.setTo(to);
+        RollupLine sales = salesRollupRepository.sumSales(from, to);
+        summary.setSalesCount(sales.getCount());
+        summary.setTotalAmount(sales.getAmount());
+        RollupLine items = salesRollupRepository.sumSaleItems(from, to);
+        summary.setItemsQuantity(items.getQuantity());
+        summary.setItemsAmount(items.getAmount());
+        summary.setDays(
+            salesRollupRepository
+                .findDays(from, to)
+                .stream()
+                .map(day -> new SalesSummaryDayDTO(LocalDate.parse(day.getLabel()), day.getCount(), day.getAmount()))
+                .toList()
+        );
+        summary.setPaymentMethods(toDtos(salesRollupRepository.findPaymentMethods(from, to), true, false));
+        summary.setTopMedicines(toDtos(salesRollupRepository.findTopMedicines(from, to, limit), false, true));
+        summary.setTopCustomers(toDtos(salesRollupRepository.findTopCustomers(from, to, limit), true, false));
+        return summary;
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The range must not end before it starts");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxRangeDays()) {
+            throw new IllegalArgumentException("The range must not be longer than " + properties.getMaxRangeDays() + " days");
+        }
+    }
+
+    /**
+     * Add the next batch of settled sales after the high-water mark to the rollups, and move the mark past them.
+     *
+     * @return the number of sales read.
+     */
+    private int addNextSales() {
+        PipelineHighWaterMark mark = lockHighWaterMark();
+        long afterId = mark.getLastId() != null ? mark.getLastId() : 0L;
+        List<Long> salesIds = salesRepository.findSettledIdsAfter(
+            afterId,
+            properties.getSettleDelay(),
+            PageRequest.of(0, properties.getBatchSize())
+        );
+        if (salesIds.isEmpty()) {
+            return 0;
+        }
+        long lastId = salesIds.get(salesIds.size() - 1);
+        salesRollupRepository.addSales(afterId, lastId);
+        mark.lastId(lastId).updatedDate(Instant.now());
+        salesCounter.increment(salesIds.size());
+        return salesIds.size();
+    }
+
+    private PipelineHighWaterMark lockHighWaterMark() {
+        return highWaterMarkRepository
+            .findForUpdate(PIPELINE_NAME)
+            .orElseGet(() -> highWaterMarkRepository.saveAndFlush(new PipelineHighWaterMark().name(PIPELINE_NAME)));
+    }
+
+    private static List<SalesRollupLineDTO> toDtos(List<RollupLine> lines, boolean counted, boolean quantified) {
+        return lines
+            .stream()
+            .map(line -> {
+                SalesRollupLineDTO dto = new SalesRollupLineDTO();
+                dto.setId(line.getId());
+                dto.setName(line.getLabel() == null || line.getLabel().isEmpty() ? null : line.getLabel());
+                dto.setCount(counted ? line.getCount() : null);
+                dto.setQuantity(quantified ? line.getQuantity() : null);
+                dto.setAmount(line.getAmount());
+                return dto;
+            })
+            .toList();
+    }
+}
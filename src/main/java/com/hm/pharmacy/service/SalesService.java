@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import com.hm.pharmacy.service.mapper.SalesMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Sales}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SalesService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SalesService.class);
+
+    private final SalesRepository salesRepository;
+
+    private final SalesMapper salesMapper;
+
+    public SalesService(SalesRepository salesRepository, SalesMapper salesMapper) {
+        this.salesRepository = salesRepository;
+        this.salesMapper = salesMapper;
+    }
+
+    /**
+     * Get one sales by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<SalesDTO> findOne(Long id) {
+        LOG.debug("Request to get Sales : {}", id);
+        return salesRepository.findById(id).map(salesMapper::toDto);
+    }
+}
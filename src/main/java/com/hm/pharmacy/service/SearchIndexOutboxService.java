@@ -0,0 +1,259 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.domain.SearchIndexOutbox;
+import com.hm.pharmacy.domain.SearchIndexPause;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.SearchIndexEntityRepository;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
+import com.hm.pharmacy.repository.SearchIndexPauseRepository;
+import com.hm.pharmacy.repository.search.SearchIndexBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.metamodel.EntityType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service draining the {@link SearchIndexOutbox} into Elasticsearch.
+ * <p>
+ * Entries are locked a batch at a time, so several nodes can drain concurrently. Repeated entries for the same
+ * document are coalesced into a single write of its current database state, and each entity type is sent with one
+ * bulk request. Each write carries the id of the latest entry of its document as external version, so that a node
+ * sending an older state after another node sent a newer one leaves the newer document in place.
+ * <p>
+ * Entries of a failed bulk request are kept and retried with an exponential backoff, and given up as dead letters
+ * after {@code max-attempts} attempts: they stay in the outbox for inspection, and a reindex of their entity restores
+ * the documents they missed.
+ * <p>
+ * Draining can be paused for an entity type while its index is rebuilt: the pause is stored in the database, so that
+ * the drainers of every node leave its entries in the outbox, to be applied to the new index once it is live.
+ */
+@Service
+public class SearchIndexOutboxService {
+
+    public static final String LAG_METER_NAME = "search.index.outbox.lag";
+    public static final String PENDING_METER_NAME = "search.index.outbox.pending";
+    public static final String DEAD_LETTERS_METER_NAME = "search.index.outbox.dead-letters";
+    public static final String WRITES_METER_NAME = "search.index.outbox.writes";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexOutboxService.class);
+
+    private final SearchIndexOutboxRepository outboxRepository;
+
+    private final SearchIndexPauseRepository pauseRepository;
+
+    private final SearchIndexBulkRepository bulkRepository;
+
+    private final SearchIndexEntityRepository entityRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.SearchIndexOutbox properties;
+
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong deadLetters = new AtomicLong();
+
+    private final Counter indexedCounter;
+
+    private final Counter deletedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter deadLetterCounter;
+
+    public SearchIndexOutboxService(
+        SearchIndexOutboxRepository outboxRepository,
+        SearchIndexPauseRepository pauseRepository,
+        SearchIndexBulkRepository bulkRepository,
+        SearchIndexEntityRepository entityRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry registry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.pauseRepository = pauseRepository;
+        this.bulkRepository = bulkRepository;
+        this.entityRepository = entityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getSearchIndexOutbox();
+        Gauge.builder(LAG_METER_NAME, this, SearchIndexOutboxService::getLagSeconds)
+            .baseUnit("seconds")
+            .description("Age of the oldest search index write not yet applied.")
+            .register(registry);
+        Gauge.builder(PENDING_METER_NAME, pending, AtomicLong::get)
+            .baseUnit("entries")
+            .description("Number of search index writes not yet applied.")
+            .register(registry);
+        Gauge.builder(DEAD_LETTERS_METER_NAME, deadLetters, AtomicLong::get)
+            .baseUnit("entries")
+            .description("Number of search index writes given up after too many failed attempts.")
+            .register(registry);
+        this.indexedCounter = writesCounterBuilder("index").register(registry);
+        this.deletedCounter = writesCounterBuilder("delete").register(registry);
+        this.failedCounter = writesCounterBuilder("failed").register(registry);
+        this.deadLetterCounter = writesCounterBuilder("dead-letter").register(registry);
+    }
+
+    private Counter.Builder writesCounterBuilder(String result) {
+        return Counter.builder(WRITES_METER_NAME)
+            .baseUnit("documents")
+            .description("Number of documents written to the search index from the outbox.")
+            .tag("result", result);
+    }
+
+    /**
+     * Age of the oldest pending entry, as of the last backlog refresh. It keeps growing if the drainer stalls.
+     *
+     * @return the lag in seconds, or 0 if nothing is pending.
+     */
+    public double getLagSeconds() {
+        Instant oldest = oldestPending.get();
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis() / 1000.0);
+    }
+
+    /**
+     * Stop applying the entries of an entity type on every node, until {@link #resume(String)} is called or the lease
+     * lapses. Pausing an entity type again renews the lease.
+     * <p>
+     * A batch of entries already being written when the pause starts is still written.
+     *
+     * @param entityType the entity name, such as {@code SaleItems}.
+     * @param lease how long the pause lasts unless renewed.
+     */
+    public void pause(String entityType, Duration lease) {
+        pauseRepository.save(new SearchIndexPause().entityType(entityType).pausedUntil(Instant.now().plus(lease)));
+    }
+
+    /**
+     * Apply the entries of an entity type again, on every node.
+     *
+     * @param entityType the entity name, such as {@code SaleItems}.
+     */
+    public void resume(String entityType) {
+        pauseRepository.deleteById(entityType);
+    }
+
+    /**
+     * Drain all the entries currently due, one batch per transaction.
+     */
+    @Scheduled(fixedDelayString = "${application.search-index-outbox.drain-delay:1s}")
+    public void drain() {
+        int drained;
+        do {
+            drained = transactionTemplate.execute(status -> drainBatch());
+        } while (drained == properties.getBatchSize());
+    }
+
+    /**
+     * Read the number of pending entries, the oldest one and the number of dead letters for the gauges.
+     */
+    @Scheduled(fixedDelayString = "${application.search-index-outbox.backlog-refresh:15s}")
+    public void refreshBacklog() {
+        SearchIndexOutboxRepository.Backlog backlog = outboxRepository.findBacklog();
+        pending.set(backlog.getPending());
+        oldestPending.set(backlog.getOldestCreatedDate());
+        deadLetters.set(outboxRepository.countByDeadLetterTrue());
+    }
+
+    private int drainBatch() {
+        Instant now = Instant.now();
+        List<SearchIndexOutbox> entries = outboxRepository.findDueForUpdate(now, PageRequest.of(0, properties.getBatchSize()));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<SearchIndexOutbox>> entriesByType = new LinkedHashMap<>();
+        // Entries are in id order, so the last entry of each document is its latest one
+        Map<String, Map<Long, SearchIndexOutbox>> latestByType = new HashMap<>();
+        for (SearchIndexOutbox entry : entries) {
+            entriesByType.computeIfAbsent(entry.getEntityType(), type -> new ArrayList<>()).add(entry);
+            latestByType.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>()).put(entry.getEntityId(), entry);
+        }
+
+        entriesByType.forEach((typeName, typeEntries) -> {
+            EntityType<?> type = entityRepository.findType(typeName).orElse(null);
+            if (type == null) {
+                LOG.warn("Dropping {} search index entries for unknown type {}", typeEntries.size(), typeName);
+            } else {
+                try {
+                    write(type, latestByType.get(typeName));
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not write {} search index entries for {}, will retry: {}", typeEntries.size(), typeName, e.toString());
+                    failedCounter.increment(latestByType.get(typeName).size());
+                    typeEntries.forEach(entry -> scheduleRetry(entry, now));
+                    return;
+                }
+            }
+            outboxRepository.deleteAllInBatch(typeEntries);
+        });
+        LOG.debug("Drained {} search index entries", entries.size());
+        return entries.size();
+    }
+
+    private <T> void write(EntityType<T> type, Map<Long, SearchIndexOutbox> latest) {
+        Map<Long, Long> versions = new LinkedHashMap<>();
+        Set<Long> toIndex = new LinkedHashSet<>();
+        Set<Long> toDelete = new LinkedHashSet<>();
+        latest.forEach((id, entry) -> {
+            versions.put(id, entry.getId());
+            (entry.getOperation() == SearchIndexOperation.DELETE ? toDelete : toIndex).add(id);
+        });
+
+        if (!toIndex.isEmpty()) {
+            Map<Long, T> entities = new LinkedHashMap<>();
+            entityRepository.findAllById(type, toIndex).forEach(entity -> entities.put(entityRepository.getId(entity), entity));
+            bulkRepository.indexAll(type.getJavaType(), entities, versions);
+            indexedCounter.increment(entities.size());
+            // Entities deleted since the entry was written are removed from the index instead
+            toIndex.removeAll(entities.keySet());
+            toDelete.addAll(toIndex);
+        }
+        Map<Long, Long> deleteVersions = new LinkedHashMap<>(versions);
+        deleteVersions.keySet().retainAll(toDelete);
+        bulkRepository.deleteAllById(type.getJavaType(), deleteVersions);
+        deletedCounter.increment(toDelete.size());
+    }
+
+    private void scheduleRetry(SearchIndexOutbox entry, Instant now) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        if (attempts >= properties.getMaxAttempts()) {
+            LOG.error(
+                "Giving up the search index entry {} of {} {} after {} attempts",
+                entry.getId(),
+                entry.getEntityType(),
+                entry.getEntityId(),
+                attempts
+            );
+            entry.setDeadLetter(true);
+            deadLetterCounter.increment();
+            return;
+        }
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(properties.getMaxBackoff()) > 0) {
+            backoff = properties.getMaxBackoff();
+        }
+        entry.setNextAttemptDate(now.plus(backoff));
+    }
+}
@@ -0,0 +1,276 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.repository.SearchIndexEntityRepository;
+import com.hm.pharmacy.repository.search.SearchIndexAliasRepository;
+import com.hm.pharmacy.repository.search.SearchIndexBulkRepository;
+import com.hm.pharmacy.service.dto.SearchReindexStatusDTO;
+import jakarta.persistence.metamodel.EntityType;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service rebuilding the search index of an entity from the database, without downtime.
+ * <p>
+ * The table is split into id ranges read in parallel with keyset pagination, and bulk loaded into a new versioned
+ * index with refresh disabled. The alias of the entity is then switched atomically to the new index, and the previous
+ * one is deleted: searches keep hitting the complete previous index until then.
+ * <p>
+ * The outbox entries of the entity are held back on every node while it is reindexed, and applied to the new index
+ * once it is live. The pause is a lease renewed as the pages are loaded, lapsing if this node dies mid-reindex.
+ */
+@Service
+public class SearchReindexService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchReindexService.class);
+
+    private static final DateTimeFormatter VERSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final SearchIndexEntityRepository entityRepository;
+
+    private final SearchIndexAliasRepository aliasRepository;
+
+    private final SearchIndexBulkRepository bulkRepository;
+
+    private final SearchIndexOutboxService searchIndexOutboxService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final ApplicationProperties.SearchReindex properties;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public SearchReindexService(
+        SearchIndexEntityRepository entityRepository,
+        SearchIndexAliasRepository aliasRepository,
+        SearchIndexBulkRepository bulkRepository,
+        SearchIndexOutboxService searchIndexOutboxService,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        ApplicationProperties applicationProperties
+    ) {
+        this.entityRepository = entityRepository;
+        this.aliasRepository = aliasRepository;
+        this.bulkRepository = bulkRepository;
+        this.searchIndexOutboxService = searchIndexOutboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.properties = applicationProperties.getSearchReindex();
+    }
+
+    /**
+     * Get the progress of the last reindex of each entity.
+     *
+     * @return the progress of each reindex.
+     */
+    public List<SearchReindexStatusDTO> findAll() {
+        return jobs.values().stream().map(Job::toStatus).toList();
+    }
+
+    /**
+     * Start rebuilding the search index of an entity in the background, unless it is already being rebuilt.
+     *
+     * @param name the entity name or its index name, such as {@code SaleItems} or {@code saleitems}.
+     * @return the progress of the reindex, or empty if no indexed entity has this name.
+     */
+    public Optional<SearchReindexStatusDTO> reindex(String name) {
+        return entityRepository
+            .findAllTypes()
+            .stream()
+            .filter(type -> type.getName().equalsIgnoreCase(name))
+            .findFirst()
+            .map(type -> start(type).toStatus());
+    }
+
+    /**
+     * Start rebuilding the search index of every indexed entity in the background.
+     *
+     * @return the progress of each reindex.
+     */
+    public List<SearchReindexStatusDTO> reindexAll() {
+        List<SearchReindexStatusDTO> statuses = new ArrayList<>();
+        entityRepository.findAllTypes().forEach(type -> statuses.add(start(type).toStatus()));
+        return statuses;
+    }
+
+    private Job start(EntityType<?> type) {
+        Job current = jobs.get(type.getName());
+        if (current != null && current.isRunning()) {
+            return current;
+        }
+        Job job = new Job(type.getName());
+        if (current == null ? jobs.putIfAbsent(type.getName(), job) != null : !jobs.replace(type.getName(), current, job)) {
+            // Started concurrently by another request
+            return jobs.get(type.getName());
+        }
+        try {
+            taskExecutor.execute(() -> run(type, job));
+        } catch (RuntimeException e) {
+            // Rejected by a full task queue: failed rather than left running, so that it can be started again
+            LOG.warn("Could not start reindexing {}: {}", type.getName(), e.toString());
+            job.finish(SearchReindexStatusDTO.FAILED, e.toString());
+        }
+        return job;
+    }
+
+    private <T> void run(EntityType<T> type, Job job) {
+        LOG.info("Reindexing {}", type.getName());
+        renewPause(job);
+        String indexName = null;
+        try {
+            indexName = aliasRepository.createVersionedIndex(type.getJavaType(), VERSION_FORMATTER.format(job.startedAt));
+            job.index = indexName;
+            job.total = transactionTemplate.execute(status -> entityRepository.count(type));
+            long[] idRange = transactionTemplate.execute(status -> entityRepository.findIdRange(type)).orElse(null);
+            if (idRange != null) {
+                loadPartitions(type, indexName, idRange[0], idRange[1], job);
+            }
+            aliasRepository.finishLoading(type.getJavaType(), indexName);
+            aliasRepository.switchAlias(type.getJavaType(), indexName);
+            job.finish(SearchReindexStatusDTO.COMPLETED, null);
+            LOG.info("Reindexed {} documents of {} into {}", job.indexed.get(), type.getName(), indexName);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(job, indexName, e);
+        } catch (Exception e) {
+            fail(job, indexName, e);
+        } finally {
+            searchIndexOutboxService.resume(type.getName());
+        }
+    }
+
+    private <T> void loadPartitions(EntityType<T> type, String indexName, long minId, long maxId, Job job) throws Exception {
+        int parallelism = properties.getParallelism();
+        long width = Math.max(1, (maxId - minId + parallelism) / parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("hm-pharmacy-reindex-"));
+        try {
+            List<Future<?>> partitions = new ArrayList<>();
+            for (long afterId = minId - 1; afterId < maxId; afterId += width) {
+                long from = afterId;
+                long to = Math.min(maxId, afterId + width);
+                partitions.add(executor.submit(() -> loadPartition(type, indexName, from, to, job)));
+            }
+            for (Future<?> partition : partitions) {
+                try {
+                    partition.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> void loadPartition(EntityType<T> type, String indexName, long afterId, long lastId, Job job) {
+        int pageSize = properties.getPageSize();
+        long cursor = afterId;
+        List<T> page;
+        do {
+            long from = cursor;
+            page = transactionTemplate.execute(status -> entityRepository.findPage(type, from, lastId, pageSize));
+            if (page.isEmpty()) {
+                return;
+            }
+            bulkRepository.indexAll(indexName, page);
+            job.indexed.addAndGet(page.size());
+            renewPause(job);
+            cursor = entityRepository.getId(page.get(page.size() - 1));
+        } while (page.size() == pageSize && !Thread.currentThread().isInterrupted());
+    }
+
+    private void renewPause(Job job) {
+        Instant now = Instant.now();
+        Duration lease = properties.getPauseLease();
+        if (job.pauseRenewal == null || now.isAfter(job.pauseRenewal)) {
+            // Renewed once half of the lease is over; concurrent partitions renewing it together is harmless
+            job.pauseRenewal = now.plus(lease.dividedBy(2));
+            searchIndexOutboxService.pause(job.entity, lease);
+        }
+    }
+
+    private void fail(Job job, String indexName, Exception e) {
+        LOG.error("Could not reindex {}", job.entity, e);
+        job.finish(SearchReindexStatusDTO.FAILED, e.toString());
+        if (indexName != null) {
+            try {
+                aliasRepository.deleteIndex(indexName);
+            } catch (RuntimeException deleteException) {
+                LOG.warn("Could not delete the partial index {}: {}", indexName, deleteException.toString());
+            }
+        }
+    }
+
+    private static final class Job {
+
+        private final String entity;
+
+        private final Instant startedAt = Instant.now();
+
+        private final AtomicLong indexed = new AtomicLong();
+
+        private volatile String index;
+
+        private volatile long total;
+
+        private volatile String status = SearchReindexStatusDTO.RUNNING;
+
+        private volatile Instant finishedAt;
+
+        private volatile Instant pauseRenewal;
+
+        private volatile String error;
+
+        private Job(String entity) {
+            this.entity = entity;
+        }
+
+        private boolean isRunning() {
+            return SearchReindexStatusDTO.RUNNING.equals(status);
+        }
+
+        private void finish(String status, String error) {
+            this.finishedAt = Instant.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        private SearchReindexStatusDTO toStatus() {
+            SearchReindexStatusDTO dto = new SearchReindexStatusDTO();
+            dto.setEntity(entity);
+            dto.setIndex(index);
+            dto.setStatus(status);
+            dto.setTotal(total);
+            dto.setIndexed(indexed.get());
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setError(error);
+            long elapsedMillis = Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis();
+            dto.setDocumentsPerSecond(elapsedMillis > 0 ? indexed.get() * 1000.0 / elapsedMillis : 0);
+            return dto;
+        }
+    }
+}
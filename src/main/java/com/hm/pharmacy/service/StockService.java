@@ -0,0 +1,94 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
+import com.hm.pharmacy.repository.StockRepository;
+import com.hm.pharmacy.service.event.MedicinesChangedEvent;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service adjusting the stock of {@link Medicines} with atomic, conditional updates.
+ * <p>
+ * A decrement only applies if the stock covers it, and all the lines of a call either apply or are rolled back
+ * together, so two tills selling the same medicine can neither lose an update nor sell stock that is not there.
+ */
+@Service
+@Transactional
+public class StockService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StockService.class);
+
+    private final StockRepository stockRepository;
+
+    private final MedicinesRepository medicinesRepository;
+
+    private final SearchIndexOutboxRepository outboxRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StockService(
+        StockRepository stockRepository,
+        MedicinesRepository medicinesRepository,
+        SearchIndexOutboxRepository outboxRepository,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.stockRepository = stockRepository;
+        this.medicinesRepository = medicinesRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Take quantities from the stock of medicines, with one batched statement.
+     *
+     * @param quantities the quantity to take from each medicine, by medicine id.
+     * @throws MedicineNotFoundException if a medicine does not exist.
+     * @throws InsufficientStockException if a medicine has not enough stock; no stock is taken then.
+     */
+    public void decrement(Map<Long, Integer> quantities) {
+        LOG.debug("Request to decrement the stock of medicines : {}", quantities);
+        List<Long> untouched = stockRepository.decrementMedicinesStock(quantities);
+        if (!untouched.isEmpty()) {
+            // Give back what was taken, so that no stock is lost even if the caller goes on with the transaction.
+            Map<Long, Integer> taken = new LinkedHashMap<>();
+            quantities.forEach((id, quantity) -> {
+                if (!untouched.contains(id)) {
+                    taken.put(id, -quantity);
+                }
+            });
+            stockRepository.decrementMedicinesStock(taken);
+            Long medicinesId = untouched.get(0);
+            throw medicinesRepository.existsById(medicinesId)
+                ? new InsufficientStockException(medicinesId)
+                : new MedicineNotFoundException(medicinesId);
+        }
+        for (Long medicinesId : quantities.keySet()) {
+            outboxRepository.enqueue(Medicines.class, medicinesId, SearchIndexOperation.INDEX);
+        }
+        eventPublisher.publishEvent(MedicinesChangedEvent.stock(quantities.keySet()));
+    }
+
+    /**
+     * Add to, or take from, the stock of a medicine.
+     *
+     * @param medicinesId the id of the medicine.
+     * @param delta the quantity to add, negative to take stock.
+     * @return the medicine with its new stock.
+     * @throws MedicineNotFoundException if the medicine does not exist.
+     * @throws InsufficientStockException if the medicine has less stock than taken.
+     */
+    public Medicines adjust(Long medicinesId, int delta) {
+        LOG.debug("Request to adjust the stock of Medicines {} by {}", medicinesId, delta);
+        decrement(Map.of(medicinesId, -delta));
+        return medicinesRepository.findById(medicinesId).orElseThrow(() -> new MedicineNotFoundException(medicinesId));
+    }
+}
@@ -0,0 +1,96 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.SupplierPayments;
+import com.hm.pharmacy.repository.SupplierPaymentsRepository;
+import com.hm.pharmacy.service.criteria.SupplierPaymentsCriteria;
+import com.hm.pharmacy.service.dto.SupplierPaymentsDTO;
+import com.hm.pharmacy.service.mapper.SupplierPaymentsMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link SupplierPayments} entities in the database.
+ * The main input is a {@link SupplierPaymentsCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link SupplierPaymentsDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SupplierPaymentsQueryService extends QueryService<SupplierPayments> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SupplierPaymentsQueryService.class);
+
+    private final SupplierPaymentsRepository supplierPaymentsRepository;
+
+    private final SupplierPaymentsMapper supplierPaymentsMapper;
+
+    public SupplierPaymentsQueryService(
+        SupplierPaymentsRepository supplierPaymentsRepository,
+        SupplierPaymentsMapper supplierPaymentsMapper
+    ) {
+        this.supplierPaymentsRepository = supplierPaymentsRepository;
+        this.supplierPaymentsMapper = supplierPaymentsMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link SupplierPaymentsDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SupplierPaymentsDTO> findByCriteria(SupplierPaymentsCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<SupplierPayments> specification = createSpecification(criteria);
+        return supplierPaymentsRepository.findAll(specification, page).map(supplierPaymentsMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SupplierPaymentsCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<SupplierPayments> specification = createSpecification(criteria);
+        return supplierPaymentsRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SupplierPaymentsCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<SupplierPayments> createSpecification(SupplierPaymentsCriteria criteria) {
+        Specification<SupplierPayments> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), SupplierPayments_.id),
+                buildRangeSpecification(criteria.getPaymentDate(), SupplierPayments_.paymentDate),
+                buildStringSpecification(criteria.getPaymentMethod(), SupplierPayments_.paymentMethod),
+                buildStringSpecification(criteria.getPaymentStatus(), SupplierPayments_.paymentStatus),
+                buildRangeSpecification(criteria.getAmountPaid(), SupplierPayments_.amountPaid),
+                buildSpecification(
+                    criteria.getSuppliersId(),
+                    root -> root.join(SupplierPayments_.suppliers, JoinType.LEFT).get(Suppliers_.id)
+                ),
+                buildSpecification(
+                    criteria.getPurchasesId(),
+                    root -> root.join(SupplierPayments_.purchases, JoinType.LEFT).get(Purchases_.id)
+                )
+            );
+        }
+        return specification;
+    }
+}
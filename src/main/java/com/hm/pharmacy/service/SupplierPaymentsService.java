@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.SupplierPaymentsRepository;
+import com.hm.pharmacy.service.dto.SupplierPaymentsDTO;
+import com.hm.pharmacy.service.mapper.SupplierPaymentsMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.SupplierPayments}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SupplierPaymentsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SupplierPaymentsService.class);
+
+    private final SupplierPaymentsRepository supplierPaymentsRepository;
+
+    private final SupplierPaymentsMapper supplierPaymentsMapper;
+
+    public SupplierPaymentsService(SupplierPaymentsRepository supplierPaymentsRepository, SupplierPaymentsMapper supplierPaymentsMapper) {
+        this.supplierPaymentsRepository = supplierPaymentsRepository;
+        this.supplierPaymentsMapper = supplierPaymentsMapper;
+    }
+
+    /**
+     * Get one supplierPayments by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<SupplierPaymentsDTO> findOne(Long id) {
+        LOG.debug("Request to get SupplierPayments : {}", id);
+        return supplierPaymentsRepository.findById(id).map(supplierPaymentsMapper::toDto);
+    }
+}
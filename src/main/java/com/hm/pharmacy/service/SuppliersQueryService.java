@@ -0,0 +1,90 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.domain.*; // for static metamodels
+import com.hm.pharmacy.domain.Suppliers;
+import com.hm.pharmacy.repository.SuppliersRepository;
+import com.hm.pharmacy.service.criteria.SuppliersCriteria;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
+import com.hm.pharmacy.service.mapper.SuppliersMapper;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Suppliers} entities in the database.
+ * The main input is a {@link SuppliersCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link SuppliersDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SuppliersQueryService extends QueryService<Suppliers> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SuppliersQueryService.class);
+
+    private final SuppliersRepository suppliersRepository;
+
+    private final SuppliersMapper suppliersMapper;
+
+    public SuppliersQueryService(SuppliersRepository suppliersRepository, SuppliersMapper suppliersMapper) {
+        this.suppliersRepository = suppliersRepository;
+        this.suppliersMapper = suppliersMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link SuppliersDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SuppliersDTO> findByCriteria(SuppliersCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Suppliers> specification = createSpecification(criteria);
+        return suppliersRepository.findAll(specification, page).map(suppliersMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the  database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SuppliersCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Suppliers> specification = createSpecification(criteria);
+        return suppliersRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SuppliersCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Suppliers> createSpecification(SuppliersCriteria criteria) {
+        Specification<Suppliers> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Suppliers_.id),
+                buildStringSpecification(criteria.getName(), Suppliers_.name),
+                buildStringSpecification(criteria.getContactPerson(), Suppliers_.contactPerson),
+                buildStringSpecification(criteria.getPhone(), Suppliers_.phone),
+                buildStringSpecification(criteria.getEmail(), Suppliers_.email),
+                buildSpecification(criteria.getPurchasesId(), root -> root.join(Suppliers_.purchases, JoinType.LEFT).get(Purchases_.id)),
+                buildSpecification(
+                    criteria.getSupplierPaymentsId(),
+                    root -> root.join(Suppliers_.supplierPayments, JoinType.LEFT).get(SupplierPayments_.id)
+                )
+            );
+        }
+        return specification;
+    }
+}
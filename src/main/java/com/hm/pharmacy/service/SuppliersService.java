@@ -0,0 +1,40 @@
+package com.hm.pharmacy.service;
+
+import com.hm.pharmacy.repository.SuppliersRepository;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
+import com.hm.pharmacy.service.mapper.SuppliersMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for reading {@link com.hm.pharmacy.domain.Suppliers}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SuppliersService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SuppliersService.class);
+
+    private final SuppliersRepository suppliersRepository;
+
+    private final SuppliersMapper suppliersMapper;
+
+    public SuppliersService(SuppliersRepository suppliersRepository, SuppliersMapper suppliersMapper) {
+        this.suppliersRepository = suppliersRepository;
+        this.suppliersMapper = suppliersMapper;
+    }
+
+    /**
+     * Get one suppliers by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<SuppliersDTO> findOne(Long id) {
+        LOG.debug("Request to get Suppliers : {}", id);
+        return suppliersRepository.findById(id).map(suppliersMapper::toDto);
+    }
+}
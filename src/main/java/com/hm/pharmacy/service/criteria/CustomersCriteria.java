@@ -0,0 +1,227 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Customers} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.CustomersResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /customers?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class CustomersCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter phone;
+
+    private StringFilter email;
+
+    private LongFilter prescriptionsId;
+
+    private LongFilter salesId;
+
+    private Boolean distinct;
+
+    public CustomersCriteria() {}
+
+    public CustomersCriteria(CustomersCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.name = other.optionalName().map(StringFilter::copy).orElse(null);
+        this.phone = other.optionalPhone().map(StringFilter::copy).orElse(null);
+        this.email = other.optionalEmail().map(StringFilter::copy).orElse(null);
+        this.prescriptionsId = other.optionalPrescriptionsId().map(LongFilter::copy).orElse(null);
+        this.salesId = other.optionalSalesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public CustomersCriteria copy() {
+        return new CustomersCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public Optional<StringFilter> optionalName() {
+        return Optional.ofNullable(name);
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            setName(new StringFilter());
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getPhone() {
+        return phone;
+    }
+
+    public Optional<StringFilter> optionalPhone() {
+        return Optional.ofNullable(phone);
+    }
+
+    public StringFilter phone() {
+        if (phone == null) {
+            setPhone(new StringFilter());
+        }
+        return phone;
+    }
+
+    public void setPhone(StringFilter phone) {
+        this.phone = phone;
+    }
+
+    public StringFilter getEmail() {
+        return email;
+    }
+
+    public Optional<StringFilter> optionalEmail() {
+        return Optional.ofNullable(email);
+    }
+
+    public StringFilter email() {
+        if (email == null) {
+            setEmail(new StringFilter());
+        }
+        return email;
+    }
+
+    public void setEmail(StringFilter email) {
+        this.email = email;
+    }
+
+    public LongFilter getPrescriptionsId() {
+        return prescriptionsId;
+    }
+
+    public Optional<LongFilter> optionalPrescriptionsId() {
+        return Optional.ofNullable(prescriptionsId);
+    }
+
+    public LongFilter prescriptionsId() {
+        if (prescriptionsId == null) {
+            setPrescriptionsId(new LongFilter());
+        }
+        return prescriptionsId;
+    }
+
+    public void setPrescriptionsId(LongFilter prescriptionsId) {
+        this.prescriptionsId = prescriptionsId;
+    }
+
+    public LongFilter getSalesId() {
+        return salesId;
+    }
+
+    public Optional<LongFilter> optionalSalesId() {
+        return Optional.ofNullable(salesId);
+    }
+
+    public LongFilter salesId() {
+        if (salesId == null) {
+            setSalesId(new LongFilter());
+        }
+        return salesId;
+    }
+
+    public void setSalesId(LongFilter salesId) {
+        this.salesId = salesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CustomersCriteria that = (CustomersCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(phone, that.phone) &&
+            Objects.equals(email, that.email) &&
+            Objects.equals(prescriptionsId, that.prescriptionsId) &&
+            Objects.equals(salesId, that.salesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, phone, email, prescriptionsId, salesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CustomersCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalName().map(f -> "name=" + f + ", ").orElse("") +
+            optionalPhone().map(f -> "phone=" + f + ", ").orElse("") +
+            optionalEmail().map(f -> "email=" + f + ", ").orElse("") +
+            optionalPrescriptionsId().map(f -> "prescriptionsId=" + f + ", ").orElse("") +
+            optionalSalesId().map(f -> "salesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,227 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.MedicineBatches} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.MedicineBatchesResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /medicine-batches?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MedicineBatchesCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter batchNumber;
+
+    private LocalDateFilter expiryDate;
+
+    private IntegerFilter quantity;
+
+    private LongFilter purchasesId;
+
+    private LongFilter medicinesId;
+
+    private Boolean distinct;
+
+    public MedicineBatchesCriteria() {}
+
+    public MedicineBatchesCriteria(MedicineBatchesCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.batchNumber = other.optionalBatchNumber().map(StringFilter::copy).orElse(null);
+        this.expiryDate = other.optionalExpiryDate().map(LocalDateFilter::copy).orElse(null);
+        this.quantity = other.optionalQuantity().map(IntegerFilter::copy).orElse(null);
+        this.purchasesId = other.optionalPurchasesId().map(LongFilter::copy).orElse(null);
+        this.medicinesId = other.optionalMedicinesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public MedicineBatchesCriteria copy() {
+        return new MedicineBatchesCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getBatchNumber() {
+        return batchNumber;
+    }
+
+    public Optional<StringFilter> optionalBatchNumber() {
+        return Optional.ofNullable(batchNumber);
+    }
+
+    public StringFilter batchNumber() {
+        if (batchNumber == null) {
+            setBatchNumber(new StringFilter());
+        }
+        return batchNumber;
+    }
+
+    public void setBatchNumber(StringFilter batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
+    public LocalDateFilter getExpiryDate() {
+        return expiryDate;
+    }
+
+    public Optional<LocalDateFilter> optionalExpiryDate() {
+        return Optional.ofNullable(expiryDate);
+    }
+
+    public LocalDateFilter expiryDate() {
+        if (expiryDate == null) {
+            setExpiryDate(new LocalDateFilter());
+        }
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDateFilter expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    public IntegerFilter getQuantity() {
+        return quantity;
+    }
+
+    public Optional<IntegerFilter> optionalQuantity() {
+        return Optional.ofNullable(quantity);
+    }
+
+    public IntegerFilter quantity() {
+        if (quantity == null) {
+            setQuantity(new IntegerFilter());
+        }
+        return quantity;
+    }
+
+    public void setQuantity(IntegerFilter quantity) {
+        this.quantity = quantity;
+    }
+
+    public LongFilter getPurchasesId() {
+        return purchasesId;
+    }
+
+    public Optional<LongFilter> optionalPurchasesId() {
+        return Optional.ofNullable(purchasesId);
+    }
+
+    public LongFilter purchasesId() {
+        if (purchasesId == null) {
+            setPurchasesId(new LongFilter());
+        }
+        return purchasesId;
+    }
+
+    public void setPurchasesId(LongFilter purchasesId) {
+        this.purchasesId = purchasesId;
+    }
+
+    public LongFilter getMedicinesId() {
+        return medicinesId;
+    }
+
+    public Optional<LongFilter> optionalMedicinesId() {
+        return Optional.ofNullable(medicinesId);
+    }
+
+    public LongFilter medicinesId() {
+        if (medicinesId == null) {
+            setMedicinesId(new LongFilter());
+        }
+        return medicinesId;
+    }
+
+    public void setMedicinesId(LongFilter medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MedicineBatchesCriteria that = (MedicineBatchesCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(batchNumber, that.batchNumber) &&
+            Objects.equals(expiryDate, that.expiryDate) &&
+            Objects.equals(quantity, that.quantity) &&
+            Objects.equals(purchasesId, that.purchasesId) &&
+            Objects.equals(medicinesId, that.medicinesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, batchNumber, expiryDate, quantity, purchasesId, medicinesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicineBatchesCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalBatchNumber().map(f -> "batchNumber=" + f + ", ").orElse("") +
+            optionalExpiryDate().map(f -> "expiryDate=" + f + ", ").orElse("") +
+            optionalQuantity().map(f -> "quantity=" + f + ", ").orElse("") +
+            optionalPurchasesId().map(f -> "purchasesId=" + f + ", ").orElse("") +
+            optionalMedicinesId().map(f -> "medicinesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
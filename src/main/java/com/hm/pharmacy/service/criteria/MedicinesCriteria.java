@@ -0,0 +1,299 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Medicines} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.MedicinesResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /medicines?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MedicinesCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter manufacturer;
+
+    private StringFilter category;
+
+    private BigDecimalFilter price;
+
+    private IntegerFilter stock;
+
+    private LongFilter purchaseItemsId;
+
+    private LongFilter medicineBatchesId;
+
+    private LongFilter saleItemsId;
+
+    private Boolean distinct;
+
+    public MedicinesCriteria() {}
+
+    public MedicinesCriteria(MedicinesCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.name = other.optionalName().map(StringFilter::copy).orElse(null);
+        this.manufacturer = other.optionalManufacturer().map(StringFilter::copy).orElse(null);
+        this.category = other.optionalCategory().map(StringFilter::copy).orElse(null);
+        this.price = other.optionalPrice().map(BigDecimalFilter::copy).orElse(null);
+        this.stock = other.optionalStock().map(IntegerFilter::copy).orElse(null);
+        this.purchaseItemsId = other.optionalPurchaseItemsId().map(LongFilter::copy).orElse(null);
+        this.medicineBatchesId = other.optionalMedicineBatchesId().map(LongFilter::copy).orElse(null);
+        this.saleItemsId = other.optionalSaleItemsId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public MedicinesCriteria copy() {
+        return new MedicinesCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public Optional<StringFilter> optionalName() {
+        return Optional.ofNullable(name);
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            setName(new StringFilter());
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getManufacturer() {
+        return manufacturer;
+    }
+
+    public Optional<StringFilter> optionalManufacturer() {
+        return Optional.ofNullable(manufacturer);
+    }
+
+    public StringFilter manufacturer() {
+        if (manufacturer == null) {
+            setManufacturer(new StringFilter());
+        }
+        return manufacturer;
+    }
+
+    public void setManufacturer(StringFilter manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public StringFilter getCategory() {
+        return category;
+    }
+
+    public Optional<StringFilter> optionalCategory() {
+        return Optional.ofNullable(category);
+    }
+
+    public StringFilter category() {
+        if (category == null) {
+            setCategory(new StringFilter());
+        }
+        return category;
+    }
+
+    public void setCategory(StringFilter category) {
+        this.category = category;
+    }
+
+    public BigDecimalFilter getPrice() {
+        return price;
+    }
+
+    public Optional<BigDecimalFilter> optionalPrice() {
+        return Optional.ofNullable(price);
+    }
+
+    public BigDecimalFilter price() {
+        if (price == null) {
+            setPrice(new BigDecimalFilter());
+        }
+        return price;
+    }
+
+    public void setPrice(BigDecimalFilter price) {
+        this.price = price;
+    }
+
+    public IntegerFilter getStock() {
+        return stock;
+    }
+
+    public Optional<IntegerFilter> optionalStock() {
+        return Optional.ofNullable(stock);
+    }
+
+    public IntegerFilter stock() {
+        if (stock == null) {
+            setStock(new IntegerFilter());
+        }
+        return stock;
+    }
+
+    public void setStock(IntegerFilter stock) {
+        this.stock = stock;
+    }
+
+    public LongFilter getPurchaseItemsId() {
+        return purchaseItemsId;
+    }
+
+    public Optional<LongFilter> optionalPurchaseItemsId() {
+        return Optional.ofNullable(purchaseItemsId);
+    }
+
+    public LongFilter purchaseItemsId() {
+        if (purchaseItemsId == null) {
+            setPurchaseItemsId(new LongFilter());
+        }
+        return purchaseItemsId;
+    }
+
+    public void setPurchaseItemsId(LongFilter purchaseItemsId) {
+        this.purchaseItemsId = purchaseItemsId;
+    }
+
+    public LongFilter getMedicineBatchesId() {
+        return medicineBatchesId;
+    }
+
+    public Optional<LongFilter> optionalMedicineBatchesId() {
+        return Optional.ofNullable(medicineBatchesId);
+    }
+
+    public LongFilter medicineBatchesId() {
+        if (medicineBatchesId == null) {
+            setMedicineBatchesId(new LongFilter());
+        }
+        return medicineBatchesId;
+    }
+
+    public void setMedicineBatchesId(LongFilter medicineBatchesId) {
+        this.medicineBatchesId = medicineBatchesId;
+    }
+
+    public LongFilter getSaleItemsId() {
+        return saleItemsId;
+    }
+
+    public Optional<LongFilter> optionalSaleItemsId() {
+        return Optional.ofNullable(saleItemsId);
+    }
+
+    public LongFilter saleItemsId() {
+        if (saleItemsId == null) {
+            setSaleItemsId(new LongFilter());
+        }
+        return saleItemsId;
+    }
+
+    public void setSaleItemsId(LongFilter saleItemsId) {
+        this.saleItemsId = saleItemsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MedicinesCriteria that = (MedicinesCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(manufacturer, that.manufacturer) &&
+            Objects.equals(category, that.category) &&
+            Objects.equals(price, that.price) &&
+            Objects.equals(stock, that.stock) &&
+            Objects.equals(purchaseItemsId, that.purchaseItemsId) &&
+            Objects.equals(medicineBatchesId, that.medicineBatchesId) &&
+            Objects.equals(saleItemsId, that.saleItemsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, manufacturer, category, price, stock, purchaseItemsId, medicineBatchesId, saleItemsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicinesCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalName().map(f -> "name=" + f + ", ").orElse("") +
+            optionalManufacturer().map(f -> "manufacturer=" + f + ", ").orElse("") +
+            optionalCategory().map(f -> "category=" + f + ", ").orElse("") +
+            optionalPrice().map(f -> "price=" + f + ", ").orElse("") +
+            optionalStock().map(f -> "stock=" + f + ", ").orElse("") +
+            optionalPurchaseItemsId().map(f -> "purchaseItemsId=" + f + ", ").orElse("") +
+            optionalMedicineBatchesId().map(f -> "medicineBatchesId=" + f + ", ").orElse("") +
+            optionalSaleItemsId().map(f -> "saleItemsId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
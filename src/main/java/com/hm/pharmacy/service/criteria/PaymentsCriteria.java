@@ -0,0 +1,227 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Payments} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.PaymentsResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /payments?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PaymentsCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private InstantFilter paymentDate;
+
+    private StringFilter paymentMethod;
+
+    private StringFilter paymentStatus;
+
+    private BigDecimalFilter amount;
+
+    private LongFilter salesId;
+
+    private Boolean distinct;
+
+    public PaymentsCriteria() {}
+
+    public PaymentsCriteria(PaymentsCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.paymentDate = other.optionalPaymentDate().map(InstantFilter::copy).orElse(null);
+        this.paymentMethod = other.optionalPaymentMethod().map(StringFilter::copy).orElse(null);
+        this.paymentStatus = other.optionalPaymentStatus().map(StringFilter::copy).orElse(null);
+        this.amount = other.optionalAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.salesId = other.optionalSalesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public PaymentsCriteria copy() {
+        return new PaymentsCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public InstantFilter getPaymentDate() {
+        return paymentDate;
+    }
+
+    public Optional<InstantFilter> optionalPaymentDate() {
+        return Optional.ofNullable(paymentDate);
+    }
+
+    public InstantFilter paymentDate() {
+        if (paymentDate == null) {
+            setPaymentDate(new InstantFilter());
+        }
+        return paymentDate;
+    }
+
+    public void setPaymentDate(InstantFilter paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public StringFilter getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public Optional<StringFilter> optionalPaymentMethod() {
+        return Optional.ofNullable(paymentMethod);
+    }
+
+    public StringFilter paymentMethod() {
+        if (paymentMethod == null) {
+            setPaymentMethod(new StringFilter());
+        }
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(StringFilter paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public StringFilter getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public Optional<StringFilter> optionalPaymentStatus() {
+        return Optional.ofNullable(paymentStatus);
+    }
+
+    public StringFilter paymentStatus() {
+        if (paymentStatus == null) {
+            setPaymentStatus(new StringFilter());
+        }
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(StringFilter paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimalFilter getAmount() {
+        return amount;
+    }
+
+    public Optional<BigDecimalFilter> optionalAmount() {
+        return Optional.ofNullable(amount);
+    }
+
+    public BigDecimalFilter amount() {
+        if (amount == null) {
+            setAmount(new BigDecimalFilter());
+        }
+        return amount;
+    }
+
+    public void setAmount(BigDecimalFilter amount) {
+        this.amount = amount;
+    }
+
+    public LongFilter getSalesId() {
+        return salesId;
+    }
+
+    public Optional<LongFilter> optionalSalesId() {
+        return Optional.ofNullable(salesId);
+    }
+
+    public LongFilter salesId() {
+        if (salesId == null) {
+            setSalesId(new LongFilter());
+        }
+        return salesId;
+    }
+
+    public void setSalesId(LongFilter salesId) {
+        this.salesId = salesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PaymentsCriteria that = (PaymentsCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(paymentDate, that.paymentDate) &&
+            Objects.equals(paymentMethod, that.paymentMethod) &&
+            Objects.equals(paymentStatus, that.paymentStatus) &&
+            Objects.equals(amount, that.amount) &&
+            Objects.equals(salesId, that.salesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, paymentDate, paymentMethod, paymentStatus, amount, salesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PaymentsCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalPaymentDate().map(f -> "paymentDate=" + f + ", ").orElse("") +
+            optionalPaymentMethod().map(f -> "paymentMethod=" + f + ", ").orElse("") +
+            optionalPaymentStatus().map(f -> "paymentStatus=" + f + ", ").orElse("") +
+            optionalAmount().map(f -> "amount=" + f + ", ").orElse("") +
+            optionalSalesId().map(f -> "salesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,179 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Prescriptions} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.PrescriptionsResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /prescriptions?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PrescriptionsCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter doctorName;
+
+    private LocalDateFilter prescriptionDate;
+
+    private LongFilter customersId;
+
+    private Boolean distinct;
+
+    public PrescriptionsCriteria() {}
+
+    public PrescriptionsCriteria(PrescriptionsCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.doctorName = other.optionalDoctorName().map(StringFilter::copy).orElse(null);
+        this.prescriptionDate = other.optionalPrescriptionDate().map(LocalDateFilter::copy).orElse(null);
+        this.customersId = other.optionalCustomersId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public PrescriptionsCriteria copy() {
+        return new PrescriptionsCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getDoctorName() {
+        return doctorName;
+    }
+
+    public Optional<StringFilter> optionalDoctorName() {
+        return Optional.ofNullable(doctorName);
+    }
+
+    public StringFilter doctorName() {
+        if (doctorName == null) {
+            setDoctorName(new StringFilter());
+        }
+        return doctorName;
+    }
+
+    public void setDoctorName(StringFilter doctorName) {
+        this.doctorName = doctorName;
+    }
+
+    public LocalDateFilter getPrescriptionDate() {
+        return prescriptionDate;
+    }
+
+    public Optional<LocalDateFilter> optionalPrescriptionDate() {
+        return Optional.ofNullable(prescriptionDate);
+    }
+
+    public LocalDateFilter prescriptionDate() {
+        if (prescriptionDate == null) {
+            setPrescriptionDate(new LocalDateFilter());
+        }
+        return prescriptionDate;
+    }
+
+    public void setPrescriptionDate(LocalDateFilter prescriptionDate) {
+        this.prescriptionDate = prescriptionDate;
+    }
+
+    public LongFilter getCustomersId() {
+        return customersId;
+    }
+
+    public Optional<LongFilter> optionalCustomersId() {
+        return Optional.ofNullable(customersId);
+    }
+
+    public LongFilter customersId() {
+        if (customersId == null) {
+            setCustomersId(new LongFilter());
+        }
+        return customersId;
+    }
+
+    public void setCustomersId(LongFilter customersId) {
+        this.customersId = customersId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PrescriptionsCriteria that = (PrescriptionsCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(doctorName, that.doctorName) &&
+            Objects.equals(prescriptionDate, that.prescriptionDate) &&
+            Objects.equals(customersId, that.customersId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, doctorName, prescriptionDate, customersId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PrescriptionsCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalDoctorName().map(f -> "doctorName=" + f + ", ").orElse("") +
+            optionalPrescriptionDate().map(f -> "prescriptionDate=" + f + ", ").orElse("") +
+            optionalCustomersId().map(f -> "customersId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
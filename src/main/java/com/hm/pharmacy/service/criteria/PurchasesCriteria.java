@@ -0,0 +1,285 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Purchases} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.PurchasesResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /purchases?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PurchasesCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private LocalDateFilter purchaseDate;
+
+    private StringFilter invoiceNumber;
+
+    private BigDecimalFilter totalAmount;
+
+    private LongFilter purchaseItemsId;
+
+    private LongFilter medicineBatchesId;
+
+    private LongFilter supplierPaymentsId;
+
+    private LongFilter suppliersId;
+
+    private Boolean distinct;
+
+    public PurchasesCriteria() {}
+
+    public PurchasesCriteria(PurchasesCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.purchaseDate = other.optionalPurchaseDate().map(LocalDateFilter::copy).orElse(null);
+        this.invoiceNumber = other.optionalInvoiceNumber().map(StringFilter::copy).orElse(null);
+        this.totalAmount = other.optionalTotalAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.purchaseItemsId = other.optionalPurchaseItemsId().map(LongFilter::copy).orElse(null);
+        this.medicineBatchesId = other.optionalMedicineBatchesId().map(LongFilter::copy).orElse(null);
+        this.supplierPaymentsId = other.optionalSupplierPaymentsId().map(LongFilter::copy).orElse(null);
+        this.suppliersId = other.optionalSuppliersId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public PurchasesCriteria copy() {
+        return new PurchasesCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public LocalDateFilter getPurchaseDate() {
+        return purchaseDate;
+    }
+
+    public Optional<LocalDateFilter> optionalPurchaseDate() {
+        return Optional.ofNullable(purchaseDate);
+    }
+
+    public LocalDateFilter purchaseDate() {
+        if (purchaseDate == null) {
+            setPurchaseDate(new LocalDateFilter());
+        }
+        return purchaseDate;
+    }
+
+    public void setPurchaseDate(LocalDateFilter purchaseDate) {
+        this.purchaseDate = purchaseDate;
+    }
+
+    public StringFilter getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public Optional<StringFilter> optionalInvoiceNumber() {
+        return Optional.ofNullable(invoiceNumber);
+    }
+
+    public StringFilter invoiceNumber() {
+        if (invoiceNumber == null) {
+            setInvoiceNumber(new StringFilter());
+        }
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(StringFilter invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public BigDecimalFilter getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Optional<BigDecimalFilter> optionalTotalAmount() {
+        return Optional.ofNullable(totalAmount);
+    }
+
+    public BigDecimalFilter totalAmount() {
+        if (totalAmount == null) {
+            setTotalAmount(new BigDecimalFilter());
+        }
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimalFilter totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LongFilter getPurchaseItemsId() {
+        return purchaseItemsId;
+    }
+
+    public Optional<LongFilter> optionalPurchaseItemsId() {
+        return Optional.ofNullable(purchaseItemsId);
+    }
+
+    public LongFilter purchaseItemsId() {
+        if (purchaseItemsId == null) {
+            setPurchaseItemsId(new LongFilter());
+        }
+        return purchaseItemsId;
+    }
+
+    public void setPurchaseItemsId(LongFilter purchaseItemsId) {
+        this.purchaseItemsId = purchaseItemsId;
+    }
+
+    public LongFilter getMedicineBatchesId() {
+        return medicineBatchesId;
+    }
+
+    public Optional<LongFilter> optionalMedicineBatchesId() {
+        return Optional.ofNullable(medicineBatchesId);
+    }
+
+    public LongFilter medicineBatchesId() {
+        if (medicineBatchesId == null) {
+            setMedicineBatchesId(new LongFilter());
+        }
+        return medicineBatchesId;
+    }
+
+    public void setMedicineBatchesId(LongFilter medicineBatchesId) {
+        this.medicineBatchesId = medicineBatchesId;
+    }
+
+    public LongFilter getSupplierPaymentsId() {
+        return supplierPaymentsId;
+    }
+
+    public Optional<LongFilter> optionalSupplierPaymentsId() {
+        return Optional.ofNullable(supplierPaymentsId);
+    }
+
+    public LongFilter supplierPaymentsId() {
+        if (supplierPaymentsId == null) {
+            setSupplierPaymentsId(new LongFilter());
+        }
+        return supplierPaymentsId;
+    }
+
+    public void setSupplierPaymentsId(LongFilter supplierPaymentsId) {
+        this.supplierPaymentsId = supplierPaymentsId;
+    }
+
+    public LongFilter getSuppliersId() {
+        return suppliersId;
+    }
+
+    public Optional<LongFilter> optionalSuppliersId() {
+        return Optional.ofNullable(suppliersId);
+    }
+
+    public LongFilter suppliersId() {
+        if (suppliersId == null) {
+            setSuppliersId(new LongFilter());
+        }
+        return suppliersId;
+    }
+
+    public void setSuppliersId(LongFilter suppliersId) {
+        this.suppliersId = suppliersId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PurchasesCriteria that = (PurchasesCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(purchaseDate, that.purchaseDate) &&
+            Objects.equals(invoiceNumber, that.invoiceNumber) &&
+            Objects.equals(totalAmount, that.totalAmount) &&
+            Objects.equals(purchaseItemsId, that.purchaseItemsId) &&
+            Objects.equals(medicineBatchesId, that.medicineBatchesId) &&
+            Objects.equals(supplierPaymentsId, that.supplierPaymentsId) &&
+            Objects.equals(suppliersId, that.suppliersId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id,
+            purchaseDate,
+            invoiceNumber,
+            totalAmount,
+            purchaseItemsId,
+            medicineBatchesId,
+            supplierPaymentsId,
+            suppliersId,
+            distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PurchasesCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalPurchaseDate().map(f -> "purchaseDate=" + f + ", ").orElse("") +
+            optionalInvoiceNumber().map(f -> "invoiceNumber=" + f + ", ").orElse("") +
+            optionalTotalAmount().map(f -> "totalAmount=" + f + ", ").orElse("") +
+            optionalPurchaseItemsId().map(f -> "purchaseItemsId=" + f + ", ").orElse("") +
+            optionalMedicineBatchesId().map(f -> "medicineBatchesId=" + f + ", ").orElse("") +
+            optionalSupplierPaymentsId().map(f -> "supplierPaymentsId=" + f + ", ").orElse("") +
+            optionalSuppliersId().map(f -> "suppliersId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
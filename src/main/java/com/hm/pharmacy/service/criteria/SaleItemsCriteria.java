@@ -0,0 +1,203 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.SaleItems} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.SaleItemsResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /sale-items?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SaleItemsCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter quantity;
+
+    private BigDecimalFilter price;
+
+    private LongFilter medicinesId;
+
+    private LongFilter salesId;
+
+    private Boolean distinct;
+
+    public SaleItemsCriteria() {}
+
+    public SaleItemsCriteria(SaleItemsCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.quantity = other.optionalQuantity().map(IntegerFilter::copy).orElse(null);
+        this.price = other.optionalPrice().map(BigDecimalFilter::copy).orElse(null);
+        this.medicinesId = other.optionalMedicinesId().map(LongFilter::copy).orElse(null);
+        this.salesId = other.optionalSalesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public SaleItemsCriteria copy() {
+        return new SaleItemsCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getQuantity() {
+        return quantity;
+    }
+
+    public Optional<IntegerFilter> optionalQuantity() {
+        return Optional.ofNullable(quantity);
+    }
+
+    public IntegerFilter quantity() {
+        if (quantity == null) {
+            setQuantity(new IntegerFilter());
+        }
+        return quantity;
+    }
+
+    public void setQuantity(IntegerFilter quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimalFilter getPrice() {
+        return price;
+    }
+
+    public Optional<BigDecimalFilter> optionalPrice() {
+        return Optional.ofNullable(price);
+    }
+
+    public BigDecimalFilter price() {
+        if (price == null) {
+            setPrice(new BigDecimalFilter());
+        }
+        return price;
+    }
+
+    public void setPrice(BigDecimalFilter price) {
+        this.price = price;
+    }
+
+    public LongFilter getMedicinesId() {
+        return medicinesId;
+    }
+
+    public Optional<LongFilter> optionalMedicinesId() {
+        return Optional.ofNullable(medicinesId);
+    }
+
+    public LongFilter medicinesId() {
+        if (medicinesId == null) {
+            setMedicinesId(new LongFilter());
+        }
+        return medicinesId;
+    }
+
+    public void setMedicinesId(LongFilter medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public LongFilter getSalesId() {
+        return salesId;
+    }
+
+    public Optional<LongFilter> optionalSalesId() {
+        return Optional.ofNullable(salesId);
+    }
+
+    public LongFilter salesId() {
+        if (salesId == null) {
+            setSalesId(new LongFilter());
+        }
+        return salesId;
+    }
+
+    public void setSalesId(LongFilter salesId) {
+        this.salesId = salesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SaleItemsCriteria that = (SaleItemsCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(quantity, that.quantity) &&
+            Objects.equals(price, that.price) &&
+            Objects.equals(medicinesId, that.medicinesId) &&
+            Objects.equals(salesId, that.salesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, quantity, price, medicinesId, salesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SaleItemsCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalQuantity().map(f -> "quantity=" + f + ", ").orElse("") +
+            optionalPrice().map(f -> "price=" + f + ", ").orElse("") +
+            optionalMedicinesId().map(f -> "medicinesId=" + f + ", ").orElse("") +
+            optionalSalesId().map(f -> "salesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
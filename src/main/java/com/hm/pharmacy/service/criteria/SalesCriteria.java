@@ -0,0 +1,251 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Sales} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.SalesResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /sales?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SalesCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private InstantFilter saleDate;
+
+    private StringFilter invoiceNumber;
+
+    private BigDecimalFilter totalAmount;
+
+    private LongFilter saleItemsId;
+
+    private LongFilter paymentsId;
+
+    private LongFilter customersId;
+
+    private Boolean distinct;
+
+    public SalesCriteria() {}
+
+    public SalesCriteria(SalesCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.saleDate = other.optionalSaleDate().map(InstantFilter::copy).orElse(null);
+        this.invoiceNumber = other.optionalInvoiceNumber().map(StringFilter::copy).orElse(null);
+        this.totalAmount = other.optionalTotalAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.saleItemsId = other.optionalSaleItemsId().map(LongFilter::copy).orElse(null);
+        this.paymentsId = other.optionalPaymentsId().map(LongFilter::copy).orElse(null);
+        this.customersId = other.optionalCustomersId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public SalesCriteria copy() {
+        return new SalesCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public InstantFilter getSaleDate() {
+        return saleDate;
+    }
+
+    public Optional<InstantFilter> optionalSaleDate() {
+        return Optional.ofNullable(saleDate);
+    }
+
+    public InstantFilter saleDate() {
+        if (saleDate == null) {
+            setSaleDate(new InstantFilter());
+        }
+        return saleDate;
+    }
+
+    public void setSaleDate(InstantFilter saleDate) {
+        this.saleDate = saleDate;
+    }
+
+    public StringFilter getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public Optional<StringFilter> optionalInvoiceNumber() {
+        return Optional.ofNullable(invoiceNumber);
+    }
+
+    public StringFilter invoiceNumber() {
+        if (invoiceNumber == null) {
+            setInvoiceNumber(new StringFilter());
+        }
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(StringFilter invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public BigDecimalFilter getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Optional<BigDecimalFilter> optionalTotalAmount() {
+        return Optional.ofNullable(totalAmount);
+    }
+
+    public BigDecimalFilter totalAmount() {
+        if (totalAmount == null) {
+            setTotalAmount(new BigDecimalFilter());
+        }
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimalFilter totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LongFilter getSaleItemsId() {
+        return saleItemsId;
+    }
+
+    public Optional<LongFilter> optionalSaleItemsId() {
+        return Optional.ofNullable(saleItemsId);
+    }
+
+    public LongFilter saleItemsId() {
+        if (saleItemsId == null) {
+            setSaleItemsId(new LongFilter());
+        }
+        return saleItemsId;
+    }
+
+    public void setSaleItemsId(LongFilter saleItemsId) {
+        this.saleItemsId = saleItemsId;
+    }
+
+    public LongFilter getPaymentsId() {
+        return paymentsId;
+    }
+
+    public Optional<LongFilter> optionalPaymentsId() {
+        return Optional.ofNullable(paymentsId);
+    }
+
+    public LongFilter paymentsId() {
+        if (paymentsId == null) {
+            setPaymentsId(new LongFilter());
+        }
+        return paymentsId;
+    }
+
+    public void setPaymentsId(LongFilter paymentsId) {
+        this.paymentsId = paymentsId;
+    }
+
+    public LongFilter getCustomersId() {
+        return customersId;
+    }
+
+    public Optional<LongFilter> optionalCustomersId() {
+        return Optional.ofNullable(customersId);
+    }
+
+    public LongFilter customersId() {
+        if (customersId == null) {
+            setCustomersId(new LongFilter());
+        }
+        return customersId;
+    }
+
+    public void setCustomersId(LongFilter customersId) {
+        this.customersId = customersId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SalesCriteria that = (SalesCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(saleDate, that.saleDate) &&
+            Objects.equals(invoiceNumber, that.invoiceNumber) &&
+            Objects.equals(totalAmount, that.totalAmount) &&
+            Objects.equals(saleItemsId, that.saleItemsId) &&
+            Objects.equals(paymentsId, that.paymentsId) &&
+            Objects.equals(customersId, that.customersId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, saleDate, invoiceNumber, totalAmount, saleItemsId, paymentsId, customersId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalSaleDate().map(f -> "saleDate=" + f + ", ").orElse("") +
+            optionalInvoiceNumber().map(f -> "invoiceNumber=" + f + ", ").orElse("") +
+            optionalTotalAmount().map(f -> "totalAmount=" + f + ", ").orElse("") +
+            optionalSaleItemsId().map(f -> "saleItemsId=" + f + ", ").orElse("") +
+            optionalPaymentsId().map(f -> "paymentsId=" + f + ", ").orElse("") +
+            optionalCustomersId().map(f -> "customersId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
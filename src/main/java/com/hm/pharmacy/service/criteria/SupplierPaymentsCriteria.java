@@ -0,0 +1,251 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.SupplierPayments} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.SupplierPaymentsResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /supplier-payments?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SupplierPaymentsCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private InstantFilter paymentDate;
+
+    private StringFilter paymentMethod;
+
+    private StringFilter paymentStatus;
+
+    private BigDecimalFilter amountPaid;
+
+    private LongFilter suppliersId;
+
+    private LongFilter purchasesId;
+
+    private Boolean distinct;
+
+    public SupplierPaymentsCriteria() {}
+
+    public SupplierPaymentsCriteria(SupplierPaymentsCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.paymentDate = other.optionalPaymentDate().map(InstantFilter::copy).orElse(null);
+        this.paymentMethod = other.optionalPaymentMethod().map(StringFilter::copy).orElse(null);
+        this.paymentStatus = other.optionalPaymentStatus().map(StringFilter::copy).orElse(null);
+        this.amountPaid = other.optionalAmountPaid().map(BigDecimalFilter::copy).orElse(null);
+        this.suppliersId = other.optionalSuppliersId().map(LongFilter::copy).orElse(null);
+        this.purchasesId = other.optionalPurchasesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public SupplierPaymentsCriteria copy() {
+        return new SupplierPaymentsCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public InstantFilter getPaymentDate() {
+        return paymentDate;
+    }
+
+    public Optional<InstantFilter> optionalPaymentDate() {
+        return Optional.ofNullable(paymentDate);
+    }
+
+    public InstantFilter paymentDate() {
+        if (paymentDate == null) {
+            setPaymentDate(new InstantFilter());
+        }
+        return paymentDate;
+    }
+
+    public void setPaymentDate(InstantFilter paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public StringFilter getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public Optional<StringFilter> optionalPaymentMethod() {
+        return Optional.ofNullable(paymentMethod);
+    }
+
+    public StringFilter paymentMethod() {
+        if (paymentMethod == null) {
+            setPaymentMethod(new StringFilter());
+        }
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(StringFilter paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public StringFilter getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public Optional<StringFilter> optionalPaymentStatus() {
+        return Optional.ofNullable(paymentStatus);
+    }
+
+    public StringFilter paymentStatus() {
+        if (paymentStatus == null) {
+            setPaymentStatus(new StringFilter());
+        }
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(StringFilter paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimalFilter getAmountPaid() {
+        return amountPaid;
+    }
+
+    public Optional<BigDecimalFilter> optionalAmountPaid() {
+        return Optional.ofNullable(amountPaid);
+    }
+
+    public BigDecimalFilter amountPaid() {
+        if (amountPaid == null) {
+            setAmountPaid(new BigDecimalFilter());
+        }
+        return amountPaid;
+    }
+
+    public void setAmountPaid(BigDecimalFilter amountPaid) {
+        this.amountPaid = amountPaid;
+    }
+
+    public LongFilter getSuppliersId() {
+        return suppliersId;
+    }
+
+    public Optional<LongFilter> optionalSuppliersId() {
+        return Optional.ofNullable(suppliersId);
+    }
+
+    public LongFilter suppliersId() {
+        if (suppliersId == null) {
+            setSuppliersId(new LongFilter());
+        }
+        return suppliersId;
+    }
+
+    public void setSuppliersId(LongFilter suppliersId) {
+        this.suppliersId = suppliersId;
+    }
+
+    public LongFilter getPurchasesId() {
+        return purchasesId;
+    }
+
+    public Optional<LongFilter> optionalPurchasesId() {
+        return Optional.ofNullable(purchasesId);
+    }
+
+    public LongFilter purchasesId() {
+        if (purchasesId == null) {
+            setPurchasesId(new LongFilter());
+        }
+        return purchasesId;
+    }
+
+    public void setPurchasesId(LongFilter purchasesId) {
+        this.purchasesId = purchasesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SupplierPaymentsCriteria that = (SupplierPaymentsCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(paymentDate, that.paymentDate) &&
+            Objects.equals(paymentMethod, that.paymentMethod) &&
+            Objects.equals(paymentStatus, that.paymentStatus) &&
+            Objects.equals(amountPaid, that.amountPaid) &&
+            Objects.equals(suppliersId, that.suppliersId) &&
+            Objects.equals(purchasesId, that.purchasesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, paymentDate, paymentMethod, paymentStatus, amountPaid, suppliersId, purchasesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SupplierPaymentsCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalPaymentDate().map(f -> "paymentDate=" + f + ", ").orElse("") +
+            optionalPaymentMethod().map(f -> "paymentMethod=" + f + ", ").orElse("") +
+            optionalPaymentStatus().map(f -> "paymentStatus=" + f + ", ").orElse("") +
+            optionalAmountPaid().map(f -> "amountPaid=" + f + ", ").orElse("") +
+            optionalSuppliersId().map(f -> "suppliersId=" + f + ", ").orElse("") +
+            optionalPurchasesId().map(f -> "purchasesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,251 @@
+package com.hm.pharmacy.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.hm.pharmacy.domain.Suppliers} entity. This class is used
+ * in {@link com.hm.pharmacy.web.rest.SuppliersResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /suppliers?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SuppliersCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter contactPerson;
+
+    private StringFilter phone;
+
+    private StringFilter email;
+
+    private LongFilter purchasesId;
+
+    private LongFilter supplierPaymentsId;
+
+    private Boolean distinct;
+
+    public SuppliersCriteria() {}
+
+    public SuppliersCriteria(SuppliersCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.name = other.optionalName().map(StringFilter::copy).orElse(null);
+        this.contactPerson = other.optionalContactPerson().map(StringFilter::copy).orElse(null);
+        this.phone = other.optionalPhone().map(StringFilter::copy).orElse(null);
+        this.email = other.optionalEmail().map(StringFilter::copy).orElse(null);
+        this.purchasesId = other.optionalPurchasesId().map(LongFilter::copy).orElse(null);
+        this.supplierPaymentsId = other.optionalSupplierPaymentsId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public SuppliersCriteria copy() {
+        return new SuppliersCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public Optional<StringFilter> optionalName() {
+        return Optional.ofNullable(name);
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            setName(new StringFilter());
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getContactPerson() {
+        return contactPerson;
+    }
+
+    public Optional<StringFilter> optionalContactPerson() {
+        return Optional.ofNullable(contactPerson);
+    }
+
+    public StringFilter contactPerson() {
+        if (contactPerson == null) {
+            setContactPerson(new StringFilter());
+        }
+        return contactPerson;
+    }
+
+    public void setContactPerson(StringFilter contactPerson) {
+        this.contactPerson = contactPerson;
+    }
+
+    public StringFilter getPhone() {
+        return phone;
+    }
+
+    public Optional<StringFilter> optionalPhone() {
+        return Optional.ofNullable(phone);
+    }
+
+    public StringFilter phone() {
+        if (phone == null) {
+            setPhone(new StringFilter());
+        }
+        return phone;
+    }
+
+    public void setPhone(StringFilter phone) {
+        this.phone = phone;
+    }
+
+    public StringFilter getEmail() {
+        return email;
+    }
+
+    public Optional<StringFilter> optionalEmail() {
+        return Optional.ofNullable(email);
+    }
+
+    public StringFilter email() {
+        if (email == null) {
+            setEmail(new StringFilter());
+        }
+        return email;
+    }
+
+    public void setEmail(StringFilter email) {
+        this.email = email;
+    }
+
+    public LongFilter getPurchasesId() {
+        return purchasesId;
+    }
+
+    public Optional<LongFilter> optionalPurchasesId() {
+        return Optional.ofNullable(purchasesId);
+    }
+
+    public LongFilter purchasesId() {
+        if (purchasesId == null) {
+            setPurchasesId(new LongFilter());
+        }
+        return purchasesId;
+    }
+
+    public void setPurchasesId(LongFilter purchasesId) {
+        this.purchasesId = purchasesId;
+    }
+
+    public LongFilter getSupplierPaymentsId() {
+        return supplierPaymentsId;
+    }
+
+    public Optional<LongFilter> optionalSupplierPaymentsId() {
+        return Optional.ofNullable(supplierPaymentsId);
+    }
+
+    public LongFilter supplierPaymentsId() {
+        if (supplierPaymentsId == null) {
+            setSupplierPaymentsId(new LongFilter());
+        }
+        return supplierPaymentsId;
+    }
+
+    public void setSupplierPaymentsId(LongFilter supplierPaymentsId) {
+        this.supplierPaymentsId = supplierPaymentsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SuppliersCriteria that = (SuppliersCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(contactPerson, that.contactPerson) &&
+            Objects.equals(phone, that.phone) &&
+            Objects.equals(email, that.email) &&
+            Objects.equals(purchasesId, that.purchasesId) &&
+            Objects.equals(supplierPaymentsId, that.supplierPaymentsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, contactPerson, phone, email, purchasesId, supplierPaymentsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SuppliersCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalName().map(f -> "name=" + f + ", ").orElse("") +
+            optionalContactPerson().map(f -> "contactPerson=" + f + ", ").orElse("") +
+            optionalPhone().map(f -> "phone=" + f + ", ").orElse("") +
+            optionalEmail().map(f -> "email=" + f + ", ").orElse("") +
+            optionalPurchasesId().map(f -> "purchasesId=" + f + ", ").orElse("") +
+            optionalSupplierPaymentsId().map(f -> "supplierPaymentsId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
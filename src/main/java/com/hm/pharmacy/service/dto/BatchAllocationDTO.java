@@ -0,0 +1,86 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing the quantity of a sale taken from one medicine batch.
+ */
+public class BatchAllocationDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long medicinesId;
+
+    private Long medicineBatchesId;
+
+    private String batchNumber;
+
+    private LocalDate expiryDate;
+
+    private Integer quantity;
+
+    public BatchAllocationDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BatchAllocationDTO(Long medicinesId, Long medicineBatchesId, String batchNumber, LocalDate expiryDate, Integer quantity) {
+        this.medicinesId = medicinesId;
+        this.medicineBatchesId = medicineBatchesId;
+        this.batchNumber = batchNumber;
+        this.expiryDate = expiryDate;
+        this.quantity = quantity;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public Long getMedicineBatchesId() {
+        return medicineBatchesId;
+    }
+
+    public void setMedicineBatchesId(Long medicineBatchesId) {
+        this.medicineBatchesId = medicineBatchesId;
+    }
+
+    public String getBatchNumber() {
+        return batchNumber;
+    }
+
+    public void setBatchNumber(String batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BatchAllocationDTO{" +
+            "medicinesId=" + medicinesId +
+            ", medicineBatchesId=" + medicineBatchesId +
+            ", batchNumber='" + batchNumber + "'" +
+            ", expiryDate='" + expiryDate + "'" +
+            ", quantity=" + quantity +
+            "}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a whole basket submitted by a till: the sale header, its lines and its tenders.
+ */
+public class CheckoutDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant saleDate;
+
+    private String invoiceNumber;
+
+    private Long customersId;
+
+    @NotEmpty
+    @Valid
+    private List<CheckoutLineDTO> lines = new ArrayList<>();
+
+    @Valid
+    private List<CheckoutPaymentDTO> payments = new ArrayList<>();
+
+    public CheckoutDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public Instant getSaleDate() {
+        return saleDate;
+    }
+
+    public void setSaleDate(Instant saleDate) {
+        this.saleDate = saleDate;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public Long getCustomersId() {
+        return customersId;
+    }
+
+    public void setCustomersId(Long customersId) {
+        this.customersId = customersId;
+    }
+
+    public List<CheckoutLineDTO> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<CheckoutLineDTO> lines) {
+        this.lines = lines;
+    }
+
+    public List<CheckoutPaymentDTO> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<CheckoutPaymentDTO> payments) {
+        this.payments = payments;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CheckoutDTO{" +
+            "saleDate='" + saleDate + "'" +
+            ", invoiceNumber='" + invoiceNumber + "'" +
+            ", customersId=" + customersId +
+            ", lines=" + lines +
+            ", payments=" + payments +
+            "}";
+    }
+}
@@ -0,0 +1,69 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A DTO representing one basket line of a {@link CheckoutDTO}.
+ * <p>
+ * When no price is given, the current price of the medicine is used.
+ */
+public class CheckoutLineDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    private Long medicinesId;
+
+    @NotNull
+    @Min(1)
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    public CheckoutLineDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CheckoutLineDTO(Long medicinesId, Integer quantity, BigDecimal price) {
+        this.medicinesId = medicinesId;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CheckoutLineDTO{" +
+            "medicinesId=" + medicinesId +
+            ", quantity=" + quantity +
+            ", price=" + price +
+            "}";
+    }
+}
@@ -0,0 +1,64 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A DTO representing one tender of a {@link CheckoutDTO}.
+ */
+public class CheckoutPaymentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String paymentMethod;
+
+    private String paymentStatus;
+
+    @NotNull
+    private BigDecimal amount;
+
+    public CheckoutPaymentDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CheckoutPaymentDTO(String paymentMethod, String paymentStatus, BigDecimal amount) {
+        this.paymentMethod = paymentMethod;
+        this.paymentStatus = paymentStatus;
+        this.amount = amount;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CheckoutPaymentDTO{" +
+            "paymentMethod='" + paymentMethod + "'" +
+            ", paymentStatus='" + paymentStatus + "'" +
+            ", amount=" + amount +
+            "}";
+    }
+}
@@ -0,0 +1,98 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.persistence.Lob;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Customers} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class CustomersDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private String phone;
+
+    private String email;
+
+    @Lob
+    private String address;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CustomersDTO)) {
+            return false;
+        }
+
+        CustomersDTO customersDTO = (CustomersDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, customersDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CustomersDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", phone='" + getPhone() + "'" +
+            ", email='" + getEmail() + "'" +
+            ", address='" + getAddress() + "'" +
+            "}";
+    }
+}
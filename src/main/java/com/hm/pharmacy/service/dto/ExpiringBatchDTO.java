@@ -0,0 +1,85 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing a medicine batch nearing its expiry date, with quantity left.
+ */
+public class ExpiringBatchDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String batchNumber;
+
+    private LocalDate expiryDate;
+
+    private Integer quantity;
+
+    private Long medicinesId;
+
+    private String medicinesName;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getBatchNumber() {
+        return batchNumber;
+    }
+
+    public void setBatchNumber(String batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public String getMedicinesName() {
+        return medicinesName;
+    }
+
+    public void setMedicinesName(String medicinesName) {
+        this.medicinesName = medicinesName;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ExpiringBatchDTO{" +
+            "id=" + id +
+            ", batchNumber='" + batchNumber + "'" +
+            ", expiryDate='" + expiryDate + "'" +
+            ", quantity=" + quantity +
+            ", medicinesId=" + medicinesId +
+            ", medicinesName='" + medicinesName + "'" +
+            "}";
+    }
+}
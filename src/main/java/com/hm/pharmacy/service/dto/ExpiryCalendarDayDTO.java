@@ -0,0 +1,62 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing the medicine batches expiring on one day.
+ */
+public class ExpiryCalendarDayDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate date;
+
+    private int batches;
+
+    private long quantity;
+
+    public ExpiryCalendarDayDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ExpiryCalendarDayDTO(LocalDate date, int batches, long quantity) {
+        this.date = date;
+        this.batches = batches;
+        this.quantity = quantity;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public void setBatches(int batches) {
+        this.batches = batches;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ExpiryCalendarDayDTO{" +
+            "date='" + date + "'" +
+            ", batches=" + batches +
+            ", quantity=" + quantity +
+            "}";
+    }
+}
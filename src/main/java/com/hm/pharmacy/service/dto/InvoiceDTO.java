@@ -0,0 +1,163 @@
+package com.hm.pharmacy.service.dto;
+
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A DTO representing a finished sale as printed on the invoice: header, lines and payments.
+ */
+public class InvoiceDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant saleDate;
+
+    private String invoiceNumber;
+
+    private Long customersId;
+
+    private BigDecimal totalAmount;
+
+    private BigDecimal amountPaid;
+
+    private List<InvoiceLineDTO> lines = new ArrayList<>();
+
+    private List<InvoicePaymentDTO> payments = new ArrayList<>();
+
+    private List<BatchAllocationDTO> batchAllocations = new ArrayList<>();
+
+    public InvoiceDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public InvoiceDTO(Sales sales) {
+        this(sales, InvoiceLineDTO::new);
+    }
+
+    /**
+     * @param sales the sale.
+     * @param lineMapper the mapping of the sale lines.
+     */
+    public InvoiceDTO(Sales sales, Function<SaleItems, InvoiceLineDTO> lineMapper) {
+        this.id = sales.getId();
+        this.saleDate = sales.getSaleDate();
+        this.invoiceNumber = sales.getInvoiceNumber();
+        this.customersId = sales.getCustomers() != null ? sales.getCustomers().getId() : null;
+        this.totalAmount = sales.getTotalAmount();
+        this.lines = sales
+            .getSaleItems()
+            .stream()
+            .map(lineMapper)
+            .sorted(Comparator.comparing(InvoiceLineDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        this.payments = sales
+            .getPayments()
+            .stream()
+            .map(InvoicePaymentDTO::new)
+            .sorted(Comparator.comparing(InvoicePaymentDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        this.amountPaid = payments
+            .stream()
+            .map(InvoicePaymentDTO::getAmount)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getSaleDate() {
+        return saleDate;
+    }
+
+    public void setSaleDate(Instant saleDate) {
+        this.saleDate = saleDate;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public Long getCustomersId() {
+        return customersId;
+    }
+
+    public void setCustomersId(Long customersId) {
+        this.customersId = customersId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getAmountPaid() {
+        return amountPaid;
+    }
+
+    public void setAmountPaid(BigDecimal amountPaid) {
+        this.amountPaid = amountPaid;
+    }
+
+    public List<InvoiceLineDTO> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<InvoiceLineDTO> lines) {
+        this.lines = lines;
+    }
+
+    public List<InvoicePaymentDTO> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<InvoicePaymentDTO> payments) {
+        this.payments = payments;
+    }
+
+    /**
+     * @return the units of the sale taken from each medicine batch, earliest expiry first.
+     */
+    public List<BatchAllocationDTO> getBatchAllocations() {
+        return batchAllocations;
+    }
+
+    public void setBatchAllocations(List<BatchAllocationDTO> batchAllocations) {
+        this.batchAllocations = batchAllocations;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "InvoiceDTO{" +
+            "id=" + id +
+            ", saleDate='" + saleDate + "'" +
+            ", invoiceNumber='" + invoiceNumber + "'" +
+            ", customersId=" + customersId +
+            ", totalAmount=" + totalAmount +
+            ", amountPaid=" + amountPaid +
+            "}";
+    }
+}
@@ -0,0 +1,111 @@
+package com.hm.pharmacy.service.dto;
+
+import com.hm.pharmacy.domain.SaleItems;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A DTO representing one line of an {@link InvoiceDTO}.
+ */
+public class InvoiceLineDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Long medicinesId;
+
+    private String medicinesName;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    private BigDecimal lineTotal;
+
+    public InvoiceLineDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public InvoiceLineDTO(SaleItems saleItems) {
+        this(saleItems, saleItems.getMedicines() != null ? saleItems.getMedicines().getName() : null);
+    }
+
+    /**
+     * @param saleItems the sale line.
+     * @param medicinesName the name of its medicine, so that a medicine only referenced by id is not loaded to read it.
+     */
+    public InvoiceLineDTO(SaleItems saleItems, String medicinesName) {
+        this.id = saleItems.getId();
+        if (saleItems.getMedicines() != null) {
+            this.medicinesId = saleItems.getMedicines().getId();
+        }
+        this.medicinesName = medicinesName;
+        this.quantity = saleItems.getQuantity();
+        this.price = saleItems.getPrice();
+        if (quantity != null && price != null) {
+            this.lineTotal = price.multiply(BigDecimal.valueOf(quantity));
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public String getMedicinesName() {
+        return medicinesName;
+    }
+
+    public void setMedicinesName(String medicinesName) {
+        this.medicinesName = medicinesName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public void setLineTotal(BigDecimal lineTotal) {
+        this.lineTotal = lineTotal;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "InvoiceLineDTO{" +
+            "id=" + id +
+            ", medicinesId=" + medicinesId +
+            ", medicinesName='" + medicinesName + "'" +
+            ", quantity=" + quantity +
+            ", price=" + price +
+            ", lineTotal=" + lineTotal +
+            "}";
+    }
+}
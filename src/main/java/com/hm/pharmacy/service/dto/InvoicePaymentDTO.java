@@ -0,0 +1,88 @@
+package com.hm.pharmacy.service.dto;
+
+import com.hm.pharmacy.domain.Payments;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A DTO representing one payment of an {@link InvoiceDTO}.
+ */
+public class InvoicePaymentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant paymentDate;
+
+    private String paymentMethod;
+
+    private String paymentStatus;
+
+    private BigDecimal amount;
+
+    public InvoicePaymentDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public InvoicePaymentDTO(Payments payments) {
+        this.id = payments.getId();
+        this.paymentDate = payments.getPaymentDate();
+        this.paymentMethod = payments.getPaymentMethod();
+        this.paymentStatus = payments.getPaymentStatus();
+        this.amount = payments.getAmount();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(Instant paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "InvoicePaymentDTO{" +
+            "id=" + id +
+            ", paymentDate='" + paymentDate + "'" +
+            ", paymentMethod='" + paymentMethod + "'" +
+            ", paymentStatus='" + paymentStatus + "'" +
+            ", amount=" + amount +
+            "}";
+    }
+}
@@ -0,0 +1,108 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.MedicineBatches} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MedicineBatchesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String batchNumber;
+
+    private LocalDate expiryDate;
+
+    private Integer quantity;
+
+    private PurchasesDTO purchases;
+
+    private MedicinesDTO medicines;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getBatchNumber() {
+        return batchNumber;
+    }
+
+    public void setBatchNumber(String batchNumber) {
+        this.batchNumber = batchNumber;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public PurchasesDTO getPurchases() {
+        return purchases;
+    }
+
+    public void setPurchases(PurchasesDTO purchases) {
+        this.purchases = purchases;
+    }
+
+    public MedicinesDTO getMedicines() {
+        return medicines;
+    }
+
+    public void setMedicines(MedicinesDTO medicines) {
+        this.medicines = medicines;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MedicineBatchesDTO)) {
+            return false;
+        }
+
+        MedicineBatchesDTO medicineBatchesDTO = (MedicineBatchesDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, medicineBatchesDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicineBatchesDTO{" +
+            "id=" + getId() +
+            ", batchNumber='" + getBatchNumber() + "'" +
+            ", expiryDate='" + getExpiryDate() + "'" +
+            ", quantity=" + getQuantity() +
+            ", purchases=" + getPurchases() +
+            ", medicines=" + getMedicines() +
+            "}";
+    }
+}
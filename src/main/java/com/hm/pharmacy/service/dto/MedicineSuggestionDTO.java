@@ -0,0 +1,99 @@
+package com.hm.pharmacy.service.dto;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.service.MedicineCatalog;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO representing a medicine suggested while its name or manufacturer is being typed.
+ */
+public class MedicineSuggestionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private String manufacturer;
+
+    private Integer stock;
+
+    public MedicineSuggestionDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public MedicineSuggestionDTO(Medicines medicines) {
+        this.id = medicines.getId();
+        this.name = medicines.getName();
+        this.manufacturer = medicines.getManufacturer();
+        this.stock = medicines.getStock();
+    }
+
+    public MedicineSuggestionDTO(MedicineCatalog.Entry entry) {
+        this.id = entry.getId();
+        this.name = entry.getName();
+        this.manufacturer = entry.getManufacturer();
+        this.stock = entry.getStock();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getManufacturer() {
+        return manufacturer;
+    }
+
+    public void setManufacturer(String manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MedicineSuggestionDTO)) {
+            return false;
+        }
+        return id != null && id.equals(((MedicineSuggestionDTO) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicineSuggestionDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", manufacturer='" + getManufacturer() + "'" +
+            ", stock=" + getStock() +
+            "}";
+    }
+}
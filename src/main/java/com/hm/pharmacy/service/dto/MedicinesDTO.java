@@ -0,0 +1,108 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Medicines} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MedicinesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private String manufacturer;
+
+    private String category;
+
+    private BigDecimal price;
+
+    private Integer stock;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getManufacturer() {
+        return manufacturer;
+    }
+
+    public void setManufacturer(String manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MedicinesDTO)) {
+            return false;
+        }
+
+        MedicinesDTO medicinesDTO = (MedicinesDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, medicinesDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MedicinesDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", manufacturer='" + getManufacturer() + "'" +
+            ", category='" + getCategory() + "'" +
+            ", price=" + getPrice() +
+            ", stock=" + getStock() +
+            "}";
+    }
+}
@@ -0,0 +1,109 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Payments} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PaymentsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant paymentDate;
+
+    private String paymentMethod;
+
+    private String paymentStatus;
+
+    private BigDecimal amount;
+
+    private SalesDTO sales;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(Instant paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public SalesDTO getSales() {
+        return sales;
+    }
+
+    public void setSales(SalesDTO sales) {
+        this.sales = sales;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PaymentsDTO)) {
+            return false;
+        }
+
+        PaymentsDTO paymentsDTO = (PaymentsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, paymentsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PaymentsDTO{" +
+            "id=" + getId() +
+            ", paymentDate='" + getPaymentDate() + "'" +
+            ", paymentMethod='" + getPaymentMethod() + "'" +
+            ", paymentStatus='" + getPaymentStatus() + "'" +
+            ", amount=" + getAmount() +
+            ", sales=" + getSales() +
+            "}";
+    }
+}
@@ -0,0 +1,99 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.persistence.Lob;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Prescriptions} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PrescriptionsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String doctorName;
+
+    private LocalDate prescriptionDate;
+
+    @Lob
+    private String notes;
+
+    private CustomersDTO customers;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDoctorName() {
+        return doctorName;
+    }
+
+    public void setDoctorName(String doctorName) {
+        this.doctorName = doctorName;
+    }
+
+    public LocalDate getPrescriptionDate() {
+        return prescriptionDate;
+    }
+
+    public void setPrescriptionDate(LocalDate prescriptionDate) {
+        this.prescriptionDate = prescriptionDate;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public CustomersDTO getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(CustomersDTO customers) {
+        this.customers = customers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PrescriptionsDTO)) {
+            return false;
+        }
+
+        PrescriptionsDTO prescriptionsDTO = (PrescriptionsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, prescriptionsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PrescriptionsDTO{" +
+            "id=" + getId() +
+            ", doctorName='" + getDoctorName() + "'" +
+            ", prescriptionDate='" + getPrescriptionDate() + "'" +
+            ", notes='" + getNotes() + "'" +
+            ", customers=" + getCustomers() +
+            "}";
+    }
+}
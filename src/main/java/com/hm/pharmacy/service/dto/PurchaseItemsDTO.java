@@ -0,0 +1,97 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.PurchaseItems} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PurchaseItemsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    private PurchasesDTO purchases;
+
+    private MedicinesDTO medicines;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public PurchasesDTO getPurchases() {
+        return purchases;
+    }
+
+    public void setPurchases(PurchasesDTO purchases) {
+        this.purchases = purchases;
+    }
+
+    public MedicinesDTO getMedicines() {
+        return medicines;
+    }
+
+    public void setMedicines(MedicinesDTO medicines) {
+        this.medicines = medicines;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PurchaseItemsDTO)) {
+            return false;
+        }
+
+        PurchaseItemsDTO purchaseItemsDTO = (PurchaseItemsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, purchaseItemsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PurchaseItemsDTO{" +
+            "id=" + getId() +
+            ", quantity=" + getQuantity() +
+            ", price=" + getPrice() +
+            ", purchases=" + getPurchases() +
+            ", medicines=" + getMedicines() +
+            "}";
+    }
+}
@@ -0,0 +1,98 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Purchases} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PurchasesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private LocalDate purchaseDate;
+
+    private String invoiceNumber;
+
+    private BigDecimal totalAmount;
+
+    private SuppliersDTO suppliers;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getPurchaseDate() {
+        return purchaseDate;
+    }
+
+    public void setPurchaseDate(LocalDate purchaseDate) {
+        this.purchaseDate = purchaseDate;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public SuppliersDTO getSuppliers() {
+        return suppliers;
+    }
+
+    public void setSuppliers(SuppliersDTO suppliers) {
+        this.suppliers = suppliers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PurchasesDTO)) {
+            return false;
+        }
+
+        PurchasesDTO purchasesDTO = (PurchasesDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, purchasesDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PurchasesDTO{" +
+            "id=" + getId() +
+            ", purchaseDate='" + getPurchaseDate() + "'" +
+            ", invoiceNumber='" + getInvoiceNumber() + "'" +
+            ", totalAmount=" + getTotalAmount() +
+            ", suppliers=" + getSuppliers() +
+            "}";
+    }
+}
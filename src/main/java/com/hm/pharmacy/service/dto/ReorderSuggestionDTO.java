@@ -0,0 +1,106 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing a medicine at or below its reorder point, with the quantity to purchase from its supplier.
+ */
+public class ReorderSuggestionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long medicinesId;
+
+    private String medicinesName;
+
+    private Integer stock;
+
+    private Double dailyVelocity;
+
+    private Integer reorderPoint;
+
+    private Integer suggestedQuantity;
+
+    private Long suppliersId;
+
+    private String suppliersName;
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public String getMedicinesName() {
+        return medicinesName;
+    }
+
+    public void setMedicinesName(String medicinesName) {
+        this.medicinesName = medicinesName;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    public Double getDailyVelocity() {
+        return dailyVelocity;
+    }
+
+    public void setDailyVelocity(Double dailyVelocity) {
+        this.dailyVelocity = dailyVelocity;
+    }
+
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    public Integer getSuggestedQuantity() {
+        return suggestedQuantity;
+    }
+
+    public void setSuggestedQuantity(Integer suggestedQuantity) {
+        this.suggestedQuantity = suggestedQuantity;
+    }
+
+    public Long getSuppliersId() {
+        return suppliersId;
+    }
+
+    public void setSuppliersId(Long suppliersId) {
+        this.suppliersId = suppliersId;
+    }
+
+    public String getSuppliersName() {
+        return suppliersName;
+    }
+
+    public void setSuppliersName(String suppliersName) {
+        this.suppliersName = suppliersName;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ReorderSuggestionDTO{" +
+            "medicinesId=" + medicinesId +
+            ", medicinesName='" + medicinesName + "'" +
+            ", stock=" + stock +
+            ", dailyVelocity=" + dailyVelocity +
+            ", reorderPoint=" + reorderPoint +
+            ", suggestedQuantity=" + suggestedQuantity +
+            ", suppliersId=" + suppliersId +
+            ", suppliersName='" + suppliersName + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,97 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.SaleItems} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SaleItemsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    private MedicinesDTO medicines;
+
+    private SalesDTO sales;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public MedicinesDTO getMedicines() {
+        return medicines;
+    }
+
+    public void setMedicines(MedicinesDTO medicines) {
+        this.medicines = medicines;
+    }
+
+    public SalesDTO getSales() {
+        return sales;
+    }
+
+    public void setSales(SalesDTO sales) {
+        this.sales = sales;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SaleItemsDTO)) {
+            return false;
+        }
+
+        SaleItemsDTO saleItemsDTO = (SaleItemsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, saleItemsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SaleItemsDTO{" +
+            "id=" + getId() +
+            ", quantity=" + getQuantity() +
+            ", price=" + getPrice() +
+            ", medicines=" + getMedicines() +
+            ", sales=" + getSales() +
+            "}";
+    }
+}
@@ -0,0 +1,114 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.springdoc.core.annotations.ParameterObject;
+
+/**
+ * A DTO representing an ad-hoc sales analytics query: the sale lines of a range of days, filtered, and summed by one
+ * dimension.
+ */
+@ParameterObject
+public class SalesAnalyticsQueryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * What the sale lines are summed by.
+     */
+    public enum Dimension {
+        CATEGORY,
+        MANUFACTURER,
+        MEDICINE,
+        HOUR,
+        DAY,
+        PAYMENT_METHOD,
+    }
+
+    private Dimension groupBy;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private String category;
+
+    private String manufacturer;
+
+    private String paymentMethod;
+
+    private Long medicinesId;
+
+    public Dimension getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(Dimension groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    /**
+     * @return the last day, included.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getManufacturer() {
+        return manufacturer;
+    }
+
+    public void setManufacturer(String manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesAnalyticsQueryDTO{" +
+            "groupBy=" + groupBy +
+            ", from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", category='" + category + "'" +
+            ", manufacturer='" + manufacturer + "'" +
+            ", paymentMethod='" + paymentMethod + "'" +
+            ", medicinesId=" + medicinesId +
+            "}";
+    }
+}
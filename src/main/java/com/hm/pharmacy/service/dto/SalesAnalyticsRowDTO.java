@@ -0,0 +1,81 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A DTO representing the sale lines of one group of a sales analytics query.
+ */
+public class SalesAnalyticsRowDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String key;
+
+    private Long medicinesId;
+
+    private long lines;
+
+    private long quantity;
+
+    private BigDecimal amount;
+
+    /**
+     * @return the category, manufacturer, medicine name, hour, day or payment method of the group; {@code null} for the
+     * sale lines without one.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the id of the medicine, when grouping by medicine.
+     */
+    public Long getMedicinesId() {
+        return medicinesId;
+    }
+
+    public void setMedicinesId(Long medicinesId) {
+        this.medicinesId = medicinesId;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public void setLines(long lines) {
+        this.lines = lines;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesAnalyticsRowDTO{" +
+            "key='" + key + "'" +
+            ", medicinesId=" + medicinesId +
+            ", lines=" + lines +
+            ", quantity=" + quantity +
+            ", amount=" + amount +
+            "}";
+    }
+}
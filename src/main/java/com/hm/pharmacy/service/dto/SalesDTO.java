@@ -0,0 +1,98 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.Sales} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SalesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant saleDate;
+
+    private String invoiceNumber;
+
+    private BigDecimal totalAmount;
+
+    private CustomersDTO customers;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getSaleDate() {
+        return saleDate;
+    }
+
+    public void setSaleDate(Instant saleDate) {
+        this.saleDate = saleDate;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public CustomersDTO getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(CustomersDTO customers) {
+        this.customers = customers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SalesDTO)) {
+            return false;
+        }
+
+        SalesDTO salesDTO = (SalesDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, salesDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesDTO{" +
+            "id=" + getId() +
+            ", saleDate='" + getSaleDate() + "'" +
+            ", invoiceNumber='" + getInvoiceNumber() + "'" +
+            ", totalAmount=" + getTotalAmount() +
+            ", customers=" + getCustomers() +
+            "}";
+    }
+}
@@ -0,0 +1,128 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the sales over a range of days, read from the daily sales rollups.
+ */
+public class SalesSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private long salesCount;
+
+    private BigDecimal totalAmount;
+
+    private long itemsQuantity;
+
+    private BigDecimal itemsAmount;
+
+    private List<SalesSummaryDayDTO> days = new ArrayList<>();
+
+    private List<SalesRollupLineDTO> paymentMethods = new ArrayList<>();
+
+    private List<SalesRollupLineDTO> topMedicines = new ArrayList<>();
+
+    private List<SalesRollupLineDTO> topCustomers = new ArrayList<>();
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getSalesCount() {
+        return salesCount;
+    }
+
+    public void setSalesCount(long salesCount) {
+        this.salesCount = salesCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getItemsQuantity() {
+        return itemsQuantity;
+    }
+
+    public void setItemsQuantity(long itemsQuantity) {
+        this.itemsQuantity = itemsQuantity;
+    }
+
+    public BigDecimal getItemsAmount() {
+        return itemsAmount;
+    }
+
+    public void setItemsAmount(BigDecimal itemsAmount) {
+        this.itemsAmount = itemsAmount;
+    }
+
+    public List<SalesSummaryDayDTO> getDays() {
+        return days;
+    }
+
+    public void setDays(List<SalesSummaryDayDTO> days) {
+        this.days = days;
+    }
+
+    public List<SalesRollupLineDTO> getPaymentMethods() {
+        return paymentMethods;
+    }
+
+    public void setPaymentMethods(List<SalesRollupLineDTO> paymentMethods) {
+        this.paymentMethods = paymentMethods;
+    }
+
+    public List<SalesRollupLineDTO> getTopMedicines() {
+        return topMedicines;
+    }
+
+    public void setTopMedicines(List<SalesRollupLineDTO> topMedicines) {
+        this.topMedicines = topMedicines;
+    }
+
+    public List<SalesRollupLineDTO> getTopCustomers() {
+        return topCustomers;
+    }
+
+    public void setTopCustomers(List<SalesRollupLineDTO> topCustomers) {
+        this.topCustomers = topCustomers;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesSummaryDTO{" +
+            "from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", salesCount=" + salesCount +
+            ", totalAmount=" + totalAmount +
+            ", itemsQuantity=" + itemsQuantity +
+            ", itemsAmount=" + itemsAmount +
+            "}";
+    }
+}
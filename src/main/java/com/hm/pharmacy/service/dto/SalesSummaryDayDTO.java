@@ -0,0 +1,63 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing the sales of one day.
+ */
+public class SalesSummaryDayDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate date;
+
+    private long salesCount;
+
+    private BigDecimal totalAmount;
+
+    public SalesSummaryDayDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public SalesSummaryDayDTO(LocalDate date, long salesCount, BigDecimal totalAmount) {
+        this.date = date;
+        this.salesCount = salesCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getSalesCount() {
+        return salesCount;
+    }
+
+    public void setSalesCount(long salesCount) {
+        this.salesCount = salesCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SalesSummaryDayDTO{" +
+            "date='" + date + "'" +
+            ", salesCount=" + salesCount +
+            ", totalAmount=" + totalAmount +
+            "}";
+    }
+}
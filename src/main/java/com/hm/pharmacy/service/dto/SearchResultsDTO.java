@@ -0,0 +1,48 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO representing a page of search results, with the highlighted fragments of each result kept apart from it.
+ *
+ * @param <T> the type of the results.
+ */
+public class SearchResultsDTO<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<T> content;
+
+    private Map<String, Map<String, List<String>>> highlights;
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    /**
+     * @return the HTML-escaped fragments of the text fields, with the matching terms in {@code <em>} tags, by field name
+     * and by result id.
+     */
+    public Map<String, Map<String, List<String>>> getHighlights() {
+        return highlights;
+    }
+
+    public void setHighlights(Map<String, Map<String, List<String>>> highlights) {
+        this.highlights = highlights;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SearchResultsDTO{" +
+            "content=" + getContent() +
+            ", highlights=" + getHighlights() +
+            "}";
+    }
+}
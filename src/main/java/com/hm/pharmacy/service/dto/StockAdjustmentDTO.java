@@ -0,0 +1,42 @@
+package com.hm.pharmacy.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * A DTO representing a relative change to the stock of a medicine.
+ */
+public class StockAdjustmentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    private Integer delta;
+
+    public StockAdjustmentDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public StockAdjustmentDTO(Integer delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * @return the quantity to add to the stock, negative to take stock.
+     */
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "StockAdjustmentDTO{" +
+            "delta=" + delta +
+            "}";
+    }
+}
@@ -0,0 +1,120 @@
+package com.hm.pharmacy.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.hm.pharmacy.domain.SupplierPayments} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SupplierPaymentsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant paymentDate;
+
+    private String paymentMethod;
+
+    private String paymentStatus;
+
+    private BigDecimal amountPaid;
+
+    private SuppliersDTO suppliers;
+
+    private PurchasesDTO purchases;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(Instant paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(String paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BigDecimal getAmountPaid() {
+        return amountPaid;
+    }
+
+    public void setAmountPaid(BigDecimal amountPaid) {
+        this.amountPaid = amountPaid;
+    }
+
+    public SuppliersDTO getSuppliers() {
+        return suppliers;
+    }
+
+    public void setSuppliers(SuppliersDTO suppliers) {
+        this.suppliers = suppliers;
+    }
+
+    public PurchasesDTO getPurchases() {
+        return purchases;
+    }
+
+    public void setPurchases(PurchasesDTO purchases) {
+        this.purchases = purchases;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SupplierPaymentsDTO)) {
+            return false;
+        }
+
+        SupplierPaymentsDTO supplierPaymentsDTO = (SupplierPaymentsDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, supplierPaymentsDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SupplierPaymentsDTO{" +
+            "id=" + getId() +
+            ", paymentDate='" + getPaymentDate() + "'" +
+            ", paymentMethod='" + getPaymentMethod() + "'" +
+            ", paymentStatus='" + getPaymentStatus() + "'" +
+            ", amountPaid=" + getAmountPaid() +
+            ", suppliers=" + getSuppliers() +
+            ", purchases=" + getPurchases() +
+            "}";
+    }
+}
@@ -0,0 +1,53 @@
+package com.hm.pharmacy.service.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Event published when medicine batches are created, updated or deleted, or sold from.
+ * <p>
+ * Listeners that read the batches back should do so once the publishing transaction has committed.
+ */
+public class MedicineBatchesChangedEvent {
+
+    private final Set<Long> ids;
+
+    private final boolean sale;
+
+    public MedicineBatchesChangedEvent(Collection<Long> ids) {
+        this(ids, false);
+    }
+
+    private MedicineBatchesChangedEvent(Collection<Long> ids, boolean sale) {
+        this.ids = Set.copyOf(ids);
+        this.sale = sale;
+    }
+
+    public static MedicineBatchesChangedEvent of(Long id) {
+        return new MedicineBatchesChangedEvent(Set.of(id));
+    }
+
+    /**
+     * @param ids the ids of the batches sold from.
+     * @return the event of a sale taking quantities from batches.
+     */
+    public static MedicineBatchesChangedEvent sold(Collection<Long> ids) {
+        return new MedicineBatchesChangedEvent(ids, true);
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * @return whether the batches were only sold from.
+     */
+    public boolean isSale() {
+        return sale;
+    }
+
+    @Override
+    public String toString() {
+        return "MedicineBatchesChangedEvent{ids=" + ids + ", sale=" + sale + "}";
+    }
+}
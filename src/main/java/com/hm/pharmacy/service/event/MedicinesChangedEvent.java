@@ -0,0 +1,53 @@
+package com.hm.pharmacy.service.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Event published when medicines are created, updated or deleted, or when their stock changes.
+ * <p>
+ * Listeners that read the medicines back should do so once the publishing transaction has committed.
+ */
+public class MedicinesChangedEvent {
+
+    private final Set<Long> ids;
+
+    private final boolean stockOnly;
+
+    public MedicinesChangedEvent(Collection<Long> ids) {
+        this(ids, false);
+    }
+
+    private MedicinesChangedEvent(Collection<Long> ids, boolean stockOnly) {
+        this.ids = Set.copyOf(ids);
+        this.stockOnly = stockOnly;
+    }
+
+    public static MedicinesChangedEvent of(Long id) {
+        return new MedicinesChangedEvent(Set.of(id));
+    }
+
+    /**
+     * @param ids the ids of the medicines whose stock changed.
+     * @return the event of a change of the stock alone.
+     */
+    public static MedicinesChangedEvent stock(Collection<Long> ids) {
+        return new MedicinesChangedEvent(ids, true);
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+
+    /**
+     * @return whether only the stock of the medicines changed.
+     */
+    public boolean isStockOnly() {
+        return stockOnly;
+    }
+
+    @Override
+    public String toString() {
+        return "MedicinesChangedEvent{ids=" + ids + ", stockOnly=" + stockOnly + "}";
+    }
+}
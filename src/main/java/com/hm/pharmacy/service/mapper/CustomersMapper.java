@@ -0,0 +1,11 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Customers;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Customers} and its DTO {@link CustomersDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface CustomersMapper extends EntityMapper<CustomersDTO, Customers> {}
@@ -0,0 +1,33 @@
+package com.hm.pharmacy.service.mapper;
+
+import java.util.List;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Contract for a generic dto to entity mapper.
+ * <p>
+ * The DTOs do not carry the collections of an entity nor its server-set fields: they are left unmapped, without a
+ * warning, when mapping a DTO to its entity.
+ *
+ * @param <D> - DTO type parameter.
+ * @param <E> - Entity type parameter.
+ */
+
+public interface EntityMapper<D, E> {
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+    E toEntity(D dto);
+
+    D toDto(E entity);
+
+    List<E> toEntity(List<D> dtoList);
+
+    List<D> toDto(List<E> entityList);
+
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+    void partialUpdate(@MappingTarget E entity, D dto);
+}
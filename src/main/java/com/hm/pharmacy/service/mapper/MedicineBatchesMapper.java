@@ -0,0 +1,29 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.Purchases;
+import com.hm.pharmacy.service.dto.MedicineBatchesDTO;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link MedicineBatches} and its DTO {@link MedicineBatchesDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface MedicineBatchesMapper extends EntityMapper<MedicineBatchesDTO, MedicineBatches> {
+    @Mapping(target = "purchases", source = "purchases", qualifiedByName = "purchasesId")
+    @Mapping(target = "medicines", source = "medicines", qualifiedByName = "medicinesId")
+    MedicineBatchesDTO toDto(MedicineBatches s);
+
+    @Named("purchasesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    PurchasesDTO toDtoPurchasesId(Purchases purchases);
+
+    @Named("medicinesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    MedicinesDTO toDtoMedicinesId(Medicines medicines);
+}
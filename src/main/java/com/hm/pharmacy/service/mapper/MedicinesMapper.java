@@ -0,0 +1,11 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Medicines} and its DTO {@link MedicinesDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface MedicinesMapper extends EntityMapper<MedicinesDTO, Medicines> {}
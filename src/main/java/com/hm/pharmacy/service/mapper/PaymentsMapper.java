@@ -0,0 +1,21 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.service.dto.PaymentsDTO;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Payments} and its DTO {@link PaymentsDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface PaymentsMapper extends EntityMapper<PaymentsDTO, Payments> {
+    @Mapping(target = "sales", source = "sales", qualifiedByName = "salesId")
+    PaymentsDTO toDto(Payments s);
+
+    @Named("salesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    SalesDTO toDtoSalesId(Sales sales);
+}
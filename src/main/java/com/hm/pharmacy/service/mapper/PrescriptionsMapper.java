@@ -0,0 +1,21 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Customers;
+import com.hm.pharmacy.domain.Prescriptions;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import com.hm.pharmacy.service.dto.PrescriptionsDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Prescriptions} and its DTO {@link PrescriptionsDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface PrescriptionsMapper extends EntityMapper<PrescriptionsDTO, Prescriptions> {
+    @Mapping(target = "customers", source = "customers", qualifiedByName = "customersId")
+    PrescriptionsDTO toDto(Prescriptions s);
+
+    @Named("customersId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    CustomersDTO toDtoCustomersId(Customers customers);
+}
@@ -0,0 +1,21 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Purchases;
+import com.hm.pharmacy.domain.Suppliers;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Purchases} and its DTO {@link PurchasesDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface PurchasesMapper extends EntityMapper<PurchasesDTO, Purchases> {
+    @Mapping(target = "suppliers", source = "suppliers", qualifiedByName = "suppliersId")
+    PurchasesDTO toDto(Purchases s);
+
+    @Named("suppliersId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    SuppliersDTO toDtoSuppliersId(Suppliers suppliers);
+}
@@ -0,0 +1,29 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import com.hm.pharmacy.service.dto.SaleItemsDTO;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link SaleItems} and its DTO {@link SaleItemsDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface SaleItemsMapper extends EntityMapper<SaleItemsDTO, SaleItems> {
+    @Mapping(target = "medicines", source = "medicines", qualifiedByName = "medicinesId")
+    @Mapping(target = "sales", source = "sales", qualifiedByName = "salesId")
+    SaleItemsDTO toDto(SaleItems s);
+
+    @Named("medicinesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    MedicinesDTO toDtoMedicinesId(Medicines medicines);
+
+    @Named("salesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    SalesDTO toDtoSalesId(Sales sales);
+}
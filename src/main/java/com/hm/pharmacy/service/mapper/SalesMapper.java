@@ -0,0 +1,21 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Customers;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Sales} and its DTO {@link SalesDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface SalesMapper extends EntityMapper<SalesDTO, Sales> {
+    @Mapping(target = "customers", source = "customers", qualifiedByName = "customersId")
+    SalesDTO toDto(Sales s);
+
+    @Named("customersId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    CustomersDTO toDtoCustomersId(Customers customers);
+}
@@ -0,0 +1,29 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Purchases;
+import com.hm.pharmacy.domain.SupplierPayments;
+import com.hm.pharmacy.domain.Suppliers;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import com.hm.pharmacy.service.dto.SupplierPaymentsDTO;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link SupplierPayments} and its DTO {@link SupplierPaymentsDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface SupplierPaymentsMapper extends EntityMapper<SupplierPaymentsDTO, SupplierPayments> {
+    @Mapping(target = "suppliers", source = "suppliers", qualifiedByName = "suppliersId")
+    @Mapping(target = "purchases", source = "purchases", qualifiedByName = "purchasesId")
+    SupplierPaymentsDTO toDto(SupplierPayments s);
+
+    @Named("suppliersId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    SuppliersDTO toDtoSuppliersId(Suppliers suppliers);
+
+    @Named("purchasesId")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    PurchasesDTO toDtoPurchasesId(Purchases purchases);
+}
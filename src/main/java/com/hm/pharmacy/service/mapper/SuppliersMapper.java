@@ -0,0 +1,11 @@
+package com.hm.pharmacy.service.mapper;
+
+import com.hm.pharmacy.domain.Suppliers;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Suppliers} and its DTO {@link SuppliersDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface SuppliersMapper extends EntityMapper<SuppliersDTO, Suppliers> {}
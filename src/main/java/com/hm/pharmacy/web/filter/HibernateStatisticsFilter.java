@@ -0,0 +1,55 @@
+package com.hm.pharmacy.web.filter;
+
+import com.hm.pharmacy.management.HibernateMetersService;
+import com.hm.pharmacy.management.HibernateStatementCounter;
+import com.hm.pharmacy.management.SlowRequestsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class HibernateStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final HibernateMetersService hibernateMetersService;
+
+    private final SlowRequestsService slowRequestsService;
+
+    public HibernateStatisticsFilter(HibernateMetersService hibernateMetersService, SlowRequestsService slowRequestsService) {
+        this.hibernateMetersService = hibernateMetersService;
+        this.slowRequestsService = slowRequestsService;
+    }
+
+    /**
+     * Only the API requests are counted, the static resources and management endpoints being left out.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    /**
+     * Counts the Hibernate statements, entities and cache lookups of the request, recorded under its URI pattern, and
+     * keeps the request if it is slow.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long start = System.nanoTime();
+        HibernateStatementCounter.Counts counts = HibernateStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateStatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            hibernateMetersService.record(request.getMethod(), uri, counts);
+            long duration = System.nanoTime() - start;
+            slowRequestsService.record(request.getMethod(), uri, request.getRequestURI(), response.getStatus(), duration, counts);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hm.pharmacy.web.rest;
+
+import com.hm.pharmacy.service.SalesAnalyticsService;
+import com.hm.pharmacy.service.dto.SalesAnalyticsQueryDTO;
+import com.hm.pharmacy.service.dto.SalesAnalyticsRowDTO;
+import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for ad-hoc analytics, answered from in-memory copies of the data.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnalyticsResource.class);
+
+    private static final String ENTITY_NAME = "sales";
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    public AnalyticsResource(SalesAnalyticsService salesAnalyticsService) {
+        this.salesAnalyticsService = salesAnalyticsService;
+    }
+
+    /**
+     * {@code GET  /analytics/sales} : sum the sale lines of a range of days by category, manufacturer, medicine, hour of
+     * day, day or payment method, optionally filtered on a category, manufacturer, medicine or payment method.
+     * <p>
+     * Sales are loaded shortly after they are made: the most recent ones may not be counted yet.
+     * For example: {@code /analytics/sales?groupBy=CATEGORY&from=2026-01-01&to=2026-01-31&paymentMethod=CASH}
+     *
+     * @param query the range, filters and dimension.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the groups in body, or with status
+     * {@code 400 (Bad Request)} if the query is invalid.
+     */
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesAnalyticsRowDTO>> getSalesAnalytics(SalesAnalyticsQueryDTO query) {
+        LOG.debug("REST request to get sales analytics : {}", query);
+        try {
+            return ResponseEntity.ok(salesAnalyticsService.query(query));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "analyticsquery");
+        }
+    }
+}
@@ -5,16 +5,22 @@ import static com.hm.pharmacy.security.SecurityUtils.JWT_ALGORITHM;
 import static com.hm.pharmacy.security.SecurityUtils.USER_ID_CLAIM;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hm.pharmacy.management.SecurityMetersService;
 import com.hm.pharmacy.security.DomainUserDetailsService.UserWithId;
+import com.hm.pharmacy.web.rest.errors.LoginThrottledException;
 import com.hm.pharmacy.web.rest.vm.LoginVM;
 import jakarta.validation.Valid;
 import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +28,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -48,24 +53,55 @@ public class AuthenticateController {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final Executor passwordHashingExecutor;
+
+    private final SecurityMetersService securityMetersService;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        @Qualifier("passwordHashingExecutor") Executor passwordHashingExecutor,
+        SecurityMetersService securityMetersService
+    ) {
         this.jwtEncoder = jwtEncoder;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.securityMetersService = securityMetersService;
     }
 
+    /**
+     * {@code POST /authenticate} : authenticate a user and issue a token.
+     * <p>
+     * The password is verified on the password hashing executor, releasing the request thread meanwhile.
+     *
+     * @param loginVM the credentials of the user.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the token,
+     * with status {@code 401 (Unauthorized)} if the credentials are wrong,
+     * or with status {@code 429 (Too Many Requests)} if the executor has no room left for the login.
+     */
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public CompletableFuture<ResponseEntity<JWTToken>> authorize(@Valid @RequestBody LoginVM loginVM) {
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
         );
 
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = this.createToken(authentication, loginVM.isRememberMe());
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setBearerAuth(jwt);
-        return new ResponseEntity<>(new JWTToken(jwt), httpHeaders, HttpStatus.OK);
+        try {
+            return CompletableFuture.supplyAsync(
+                () -> {
+                    Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+                    String jwt = this.createToken(authentication, loginVM.isRememberMe());
+                    HttpHeaders httpHeaders = new HttpHeaders();
+                    httpHeaders.setBearerAuth(jwt);
+                    return new ResponseEntity<>(new JWTToken(jwt), httpHeaders, HttpStatus.OK);
+                },
+                passwordHashingExecutor
+            );
+        } catch (TaskRejectedException e) {
+            LOG.warn("Refused the login of {}: all the password hashing threads are busy", loginVM.getUsername());
+            securityMetersService.trackRejectedLogin();
+            throw new LoginThrottledException(e);
+        }
     }
 
     /**
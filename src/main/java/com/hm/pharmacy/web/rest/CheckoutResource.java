@@ -0,0 +1,52 @@
+package com.hm.pharmacy.web.rest;
+
+import com.hm.pharmacy.service.CheckoutService;
+import com.hm.pharmacy.service.dto.CheckoutDTO;
+import com.hm.pharmacy.service.dto.InvoiceDTO;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for checking out a whole basket in one call.
+ */
+@RestController
+@RequestMapping("/api/checkout")
+public class CheckoutResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckoutResource.class);
+
+    private static final String ENTITY_NAME = "sales";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final CheckoutService checkoutService;
+
+    public CheckoutResource(CheckoutService checkoutService) {
+        this.checkoutService = checkoutService;
+    }
+
+    /**
+     * {@code POST  /checkout} : Create a sale with all its items and payments, and decrement the stock of its medicines.
+     *
+     * @param checkout the basket to check out.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the invoice of the new sale,
+     * or with status {@code 400 (Bad Request)} if a medicine is unknown or has not enough stock.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    public ResponseEntity<InvoiceDTO> checkout(@Valid @RequestBody CheckoutDTO checkout) throws URISyntaxException {
+        LOG.debug("REST request to checkout : {}", checkout);
+        InvoiceDTO invoice = checkoutService.checkout(checkout);
+        return ResponseEntity.created(new URI("/api/sales/" + invoice.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, invoice.getId().toString()))
+            .body(invoice);
+    }
+}
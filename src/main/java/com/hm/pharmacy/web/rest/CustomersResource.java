@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Customers;
 import com.hm.pharmacy.repository.CustomersRepository;
 import com.hm.pharmacy.repository.search.CustomersSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.CustomersQueryService;
+import com.hm.pharmacy.service.CustomersService;
+import com.hm.pharmacy.service.criteria.CustomersCriteria;
+import com.hm.pharmacy.service.dto.CustomersDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +51,20 @@ public class CustomersResource {
 
     private final CustomersSearchRepository customersSearchRepository;
 
-    public CustomersResource(CustomersRepository customersRepository, CustomersSearchRepository customersSearchRepository) {
+    private final CustomersQueryService customersQueryService;
+
+    private final CustomersService customersService;
+
+    public CustomersResource(
+        CustomersRepository customersRepository,
+        CustomersSearchRepository customersSearchRepository,
+        CustomersQueryService customersQueryService,
+        CustomersService customersService
+    ) {
         this.customersRepository = customersRepository;
         this.customersSearchRepository = customersSearchRepository;
+        this.customersQueryService = customersQueryService;
+        this.customersService = customersService;
     }
 
     /**
@@ -159,12 +182,33 @@ public class CustomersResource {
     /**
      * {@code GET  /customers} : get all the customers.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of customers in body.
      */
     @GetMapping("")
-    public List<Customers> getAllCustomers() {
-        LOG.debug("REST request to get all Customers");
-        return customersRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<CustomersDTO>> getAllCustomers(
+        CustomersCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Customers by criteria: {}", criteria);
+
+        Page<CustomersDTO> page = customersQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /customers/count} : count all the customers.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countCustomers(CustomersCriteria criteria) {
+        LOG.debug("REST request to count Customers by criteria: {}", criteria);
+        return ResponseEntity.ok().body(customersQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -174,10 +218,11 @@ public class CustomersResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the customers, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Customers> getCustomers(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<CustomersDTO> getCustomers(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Customers : {}", id);
-        Optional<Customers> customers = customersRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(customers);
+        Optional<CustomersDTO> customersDTO = customersService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(customersDTO);
     }
 
     /**
@@ -197,17 +242,56 @@ public class CustomersResource {
     }
 
     /**
-     * {@code SEARCH  /customers/_search?query=:query} : search for the customers corresponding
+     * {@code SEARCH  /customers/_search?query=:query} : search for a page of the customers corresponding
      * to the query.
      *
-     * @param query the query of the customers search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the customers if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Customers> searchCustomers(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Customers for query {}", query);
+    public ResponseEntity<List<Customers>> searchCustomers(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Customers for query {}", query);
+        SearchPage<Customers> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /customers/_search?query=:query&highlight=true} : search for a page of the customers corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the customers if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Customers>> searchCustomersWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Customers for query {}", query);
+        SearchPage<Customers> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Customers> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(customersSearchRepository.search(query).spliterator(), false).toList();
+            return customersSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
@@ -3,21 +3,41 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.MedicineBatches;
 import com.hm.pharmacy.repository.MedicineBatchesRepository;
 import com.hm.pharmacy.repository.search.MedicineBatchesSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.ExpiryRadarService;
+import com.hm.pharmacy.service.MedicineBatchesQueryService;
+import com.hm.pharmacy.service.MedicineBatchesService;
+import com.hm.pharmacy.service.criteria.MedicineBatchesCriteria;
+import com.hm.pharmacy.service.dto.ExpiringBatchDTO;
+import com.hm.pharmacy.service.dto.ExpiryCalendarDayDTO;
+import com.hm.pharmacy.service.dto.MedicineBatchesDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
+import com.hm.pharmacy.service.event.MedicineBatchesChangedEvent;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,12 +59,28 @@ public class MedicineBatchesResource {
 
     private final MedicineBatchesSearchRepository medicineBatchesSearchRepository;
 
+    private final MedicineBatchesQueryService medicineBatchesQueryService;
+
+    private final MedicineBatchesService medicineBatchesService;
+
+    private final ExpiryRadarService expiryRadarService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public MedicineBatchesResource(
         MedicineBatchesRepository medicineBatchesRepository,
-        MedicineBatchesSearchRepository medicineBatchesSearchRepository
+        MedicineBatchesSearchRepository medicineBatchesSearchRepository,
+        MedicineBatchesQueryService medicineBatchesQueryService,
+        MedicineBatchesService medicineBatchesService,
+        ExpiryRadarService expiryRadarService,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.medicineBatchesRepository = medicineBatchesRepository;
         this.medicineBatchesSearchRepository = medicineBatchesSearchRepository;
+        this.medicineBatchesQueryService = medicineBatchesQueryService;
+        this.medicineBatchesService = medicineBatchesService;
+        this.expiryRadarService = expiryRadarService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -62,6 +98,7 @@ public class MedicineBatchesResource {
         }
         medicineBatches = medicineBatchesRepository.save(medicineBatches);
         medicineBatchesSearchRepository.index(medicineBatches);
+        eventPublisher.publishEvent(MedicineBatchesChangedEvent.of(medicineBatches.getId()));
         return ResponseEntity.created(new URI("/api/medicine-batches/" + medicineBatches.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, medicineBatches.getId().toString()))
             .body(medicineBatches);
@@ -96,6 +133,7 @@ public class MedicineBatchesResource {
 
         medicineBatches = medicineBatchesRepository.save(medicineBatches);
         medicineBatchesSearchRepository.index(medicineBatches);
+        eventPublisher.publishEvent(MedicineBatchesChangedEvent.of(medicineBatches.getId()));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, medicineBatches.getId().toString()))
             .body(medicineBatches);
@@ -147,6 +185,7 @@ public class MedicineBatchesResource {
             .map(medicineBatchesRepository::save)
             .map(savedMedicineBatches -> {
                 medicineBatchesSearchRepository.index(savedMedicineBatches);
+                eventPublisher.publishEvent(MedicineBatchesChangedEvent.of(savedMedicineBatches.getId()));
                 return savedMedicineBatches;
             });
 
@@ -159,12 +198,88 @@ public class MedicineBatchesResource {
     /**
      * {@code GET  /medicine-batches} : get all the medicineBatches.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of medicineBatches in body.
      */
     @GetMapping("")
-    public List<MedicineBatches> getAllMedicineBatches() {
-        LOG.debug("REST request to get all MedicineBatches");
-        return medicineBatchesRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<MedicineBatchesDTO>> getAllMedicineBatches(
+        MedicineBatchesCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get MedicineBatches by criteria: {}", criteria);
+
+        Page<MedicineBatchesDTO> page = medicineBatchesQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /medicine-batches/count} : count all the medicineBatches.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countMedicineBatches(MedicineBatchesCriteria criteria) {
+        LOG.debug("REST request to count MedicineBatches by criteria: {}", criteria);
+        return ResponseEntity.ok().body(medicineBatchesQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /medicine-batches/expiring?days=:days} : get the medicineBatches with quantity left expiring within the
+     * next days, earliest expiry first.
+     * <p>
+     * Pages are read by keyset: the next page starts after the expiry date and id of the last batch of the previous one,
+     * and its URL is given in the {@code Link} header when there is one.
+     *
+     * @param days the number of days from today.
+     * @param afterDate the expiry date of the last batch of the previous page.
+     * @param afterId the id of the last batch of the previous page.
+     * @param size the maximum number of batches.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the batches in body, or with status
+     * {@code 400 (Bad Request)} if the window or the cursor is invalid.
+     */
+    @GetMapping("/expiring")
+    public ResponseEntity<List<ExpiringBatchDTO>> getExpiringMedicineBatches(
+        @RequestParam(name = "days", defaultValue = "30") int days,
+        @RequestParam(name = "afterDate", required = false) LocalDate afterDate,
+        @RequestParam(name = "afterId", required = false) Long afterId,
+        @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get MedicineBatches expiring within {} days after {}/{}", days, afterDate, afterId);
+        if (days < 0) {
+            throw new BadRequestAlertException("The number of days must not be negative", ENTITY_NAME, "expirywindow");
+        }
+        if ((afterDate == null) != (afterId == null)) {
+            throw new BadRequestAlertException("afterDate and afterId must be given together", ENTITY_NAME, "expirywindow");
+        }
+        Slice<ExpiringBatchDTO> slice = expiryRadarService.findExpiring(days, afterDate, afterId, size);
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            ExpiringBatchDTO last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("afterDate", last.getExpiryDate())
+                .replaceQueryParam("afterId", last.getId())
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /medicine-batches/expiry-calendar} : get the days on which medicineBatches expire within the radar
+     * horizon, from the in-memory expiry calendar.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the days, with their number of batches and
+     * quantity left, in body.
+     */
+    @GetMapping("/expiry-calendar")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<ExpiryCalendarDayDTO>> getExpiryCalendar() {
+        LOG.debug("REST request to get the MedicineBatches expiry calendar");
+        return ResponseEntity.ok(expiryRadarService.getCalendar());
     }
 
     /**
@@ -174,10 +289,11 @@ public class MedicineBatchesResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the medicineBatches, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MedicineBatches> getMedicineBatches(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<MedicineBatchesDTO> getMedicineBatches(@PathVariable("id") Long id) {
         LOG.debug("REST request to get MedicineBatches : {}", id);
-        Optional<MedicineBatches> medicineBatches = medicineBatchesRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(medicineBatches);
+        Optional<MedicineBatchesDTO> medicineBatchesDTO = medicineBatchesService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(medicineBatchesDTO);
     }
 
     /**
@@ -191,23 +307,63 @@ public class MedicineBatchesResource {
         LOG.debug("REST request to delete MedicineBatches : {}", id);
         medicineBatchesRepository.deleteById(id);
         medicineBatchesSearchRepository.deleteFromIndexById(id);
+        eventPublisher.publishEvent(MedicineBatchesChangedEvent.of(id));
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
 
     /**
-     * {@code SEARCH  /medicine-batches/_search?query=:query} : search for the medicineBatches corresponding
+     * {@code SEARCH  /medicine-batches/_search?query=:query} : search for a page of the medicineBatches corresponding
      * to the query.
      *
-     * @param query the query of the medicineBatches search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the medicineBatches if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<MedicineBatches> searchMedicineBatches(@RequestParam("query") String query) {
-        LOG.debug("REST request to search MedicineBatches for query {}", query);
+    public ResponseEntity<List<MedicineBatches>> searchMedicineBatches(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of MedicineBatches for query {}", query);
+        SearchPage<MedicineBatches> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /medicine-batches/_search?query=:query&highlight=true} : search for a page of the medicineBatches corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the medicineBatches if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<MedicineBatches>> searchMedicineBatchesWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted MedicineBatches for query {}", query);
+        SearchPage<MedicineBatches> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<MedicineBatches> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(medicineBatchesSearchRepository.search(query).spliterator(), false).toList();
+            return medicineBatchesSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
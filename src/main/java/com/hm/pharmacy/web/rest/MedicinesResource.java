@@ -3,21 +3,43 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Medicines;
 import com.hm.pharmacy.repository.MedicinesRepository;
 import com.hm.pharmacy.repository.search.MedicinesSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.MedicineSuggestService;
+import com.hm.pharmacy.service.MedicinesQueryService;
+import com.hm.pharmacy.service.MedicinesService;
+import com.hm.pharmacy.service.ReorderPointService;
+import com.hm.pharmacy.service.StockService;
+import com.hm.pharmacy.service.criteria.MedicinesCriteria;
+import com.hm.pharmacy.service.dto.MedicineSuggestionDTO;
+import com.hm.pharmacy.service.dto.MedicinesDTO;
+import com.hm.pharmacy.service.dto.ReorderSuggestionDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
+import com.hm.pharmacy.service.dto.StockAdjustmentDTO;
+import com.hm.pharmacy.service.event.MedicinesChangedEvent;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
+import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +61,36 @@ public class MedicinesResource {
 
     private final MedicinesSearchRepository medicinesSearchRepository;
 
-    public MedicinesResource(MedicinesRepository medicinesRepository, MedicinesSearchRepository medicinesSearchRepository) {
+    private final MedicinesQueryService medicinesQueryService;
+
+    private final MedicinesService medicinesService;
+
+    private final MedicineSuggestService medicineSuggestService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final StockService stockService;
+
+    private final ReorderPointService reorderPointService;
+
+    public MedicinesResource(
+        MedicinesRepository medicinesRepository,
+        MedicinesSearchRepository medicinesSearchRepository,
+        MedicinesQueryService medicinesQueryService,
+        MedicinesService medicinesService,
+        MedicineSuggestService medicineSuggestService,
+        ApplicationEventPublisher eventPublisher,
+        StockService stockService,
+        ReorderPointService reorderPointService
+    ) {
         this.medicinesRepository = medicinesRepository;
         this.medicinesSearchRepository = medicinesSearchRepository;
+        this.medicinesQueryService = medicinesQueryService;
+        this.medicinesService = medicinesService;
+        this.medicineSuggestService = medicineSuggestService;
+        this.eventPublisher = eventPublisher;
+        this.stockService = stockService;
+        this.reorderPointService = reorderPointService;
     }
 
     /**
@@ -59,6 +108,7 @@ public class MedicinesResource {
         }
         medicines = medicinesRepository.save(medicines);
         medicinesSearchRepository.index(medicines);
+        eventPublisher.publishEvent(MedicinesChangedEvent.of(medicines.getId()));
         return ResponseEntity.created(new URI("/api/medicines/" + medicines.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, medicines.getId().toString()))
             .body(medicines);
@@ -66,6 +116,8 @@ public class MedicinesResource {
 
     /**
      * {@code PUT  /medicines/:id} : Updates an existing medicines.
+     * <p>
+     * The stock is left as it is: change it with {@code POST /medicines/:id/stock-adjustments}.
      *
      * @param id the id of the medicines to save.
      * @param medicines the medicines to update.
@@ -87,12 +139,14 @@ public class MedicinesResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!medicinesRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        Medicines existingMedicines = medicinesRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        medicines.setStock(existingMedicines.getStock());
 
         medicines = medicinesRepository.save(medicines);
         medicinesSearchRepository.index(medicines);
+        eventPublisher.publishEvent(MedicinesChangedEvent.of(medicines.getId()));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, medicines.getId().toString()))
             .body(medicines);
@@ -100,6 +154,8 @@ public class MedicinesResource {
 
     /**
      * {@code PATCH  /medicines/:id} : Partial updates given fields of an existing medicines, field will ignore if it is null
+     * <p>
+     * The stock is left as it is: change it with {@code POST /medicines/:id/stock-adjustments}.
      *
      * @param id the id of the medicines to save.
      * @param medicines the medicines to update.
@@ -141,15 +197,13 @@ public class MedicinesResource {
                 if (medicines.getPrice() != null) {
                     existingMedicines.setPrice(medicines.getPrice());
                 }
-                if (medicines.getStock() != null) {
-                    existingMedicines.setStock(medicines.getStock());
-                }
 
                 return existingMedicines;
             })
             .map(medicinesRepository::save)
             .map(savedMedicines -> {
                 medicinesSearchRepository.index(savedMedicines);
+                eventPublisher.publishEvent(MedicinesChangedEvent.of(savedMedicines.getId()));
                 return savedMedicines;
             });
 
@@ -159,15 +213,80 @@ public class MedicinesResource {
         );
     }
 
+    /**
+     * {@code POST  /medicines/:id/stock-adjustments} : Add to, or take from, the stock of an existing medicines.
+     * <p>
+     * This is the only way to correct the stock by hand: the change is applied relative to the current stock in the database,
+     * so that concurrent adjustments and sales are never lost.
+     *
+     * @param id the id of the medicines to adjust.
+     * @param adjustment the change to apply to the stock.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated medicines,
+     * or with status {@code 400 (Bad Request)} if the medicines is not found or has less stock than taken.
+     */
+    @PostMapping("/{id}/stock-adjustments")
+    public ResponseEntity<Medicines> adjustMedicinesStock(
+        @PathVariable("id") final Long id,
+        @Valid @RequestBody StockAdjustmentDTO adjustment
+    ) {
+        LOG.debug("REST request to adjust the stock of Medicines : {}, {}", id, adjustment);
+        Medicines medicines = stockService.adjust(id, adjustment.getDelta());
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .body(medicines);
+    }
+
     /**
      * {@code GET  /medicines} : get all the medicines.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of medicines in body.
      */
     @GetMapping("")
-    public List<Medicines> getAllMedicines() {
-        LOG.debug("REST request to get all Medicines");
-        return medicinesRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<MedicinesDTO>> getAllMedicines(
+        MedicinesCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Medicines by criteria: {}", criteria);
+
+        Page<MedicinesDTO> page = medicinesQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /medicines/by-category} : get the medicines of a category, by name.
+     * <p>
+     * Read from the in-memory catalog, so that the sales updating the stock do not send this lookup to the database.
+     *
+     * @param category the category.
+     * @param pageable the pagination information; the sort is ignored.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of medicines in body.
+     */
+    @GetMapping("/by-category")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<MedicinesDTO>> getMedicinesByCategory(
+        @RequestParam("category") String category,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Medicines by category: {}", category);
+        Page<MedicinesDTO> page = medicinesQueryService.findByCategory(category, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /medicines/count} : count all the medicines.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countMedicines(MedicinesCriteria criteria) {
+        LOG.debug("REST request to count Medicines by criteria: {}", criteria);
+        return ResponseEntity.ok().body(medicinesQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -177,10 +296,11 @@ public class MedicinesResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the medicines, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Medicines> getMedicines(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<MedicinesDTO> getMedicines(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Medicines : {}", id);
-        Optional<Medicines> medicines = medicinesRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(medicines);
+        Optional<MedicinesDTO> medicinesDTO = medicinesService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(medicinesDTO);
     }
 
     /**
@@ -194,25 +314,98 @@ public class MedicinesResource {
         LOG.debug("REST request to delete Medicines : {}", id);
         medicinesRepository.deleteById(id);
         medicinesSearchRepository.deleteFromIndexById(id);
+        eventPublisher.publishEvent(MedicinesChangedEvent.of(id));
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
 
     /**
-     * {@code SEARCH  /medicines/_search?query=:query} : search for the medicines corresponding
+     * {@code SEARCH  /medicines/_search?query=:query} : search for a page of the medicines corresponding
      * to the query.
      *
-     * @param query the query of the medicines search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the medicines if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Medicines> searchMedicines(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Medicines for query {}", query);
+    public ResponseEntity<List<Medicines>> searchMedicines(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Medicines for query {}", query);
+        SearchPage<Medicines> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /medicines/_search?query=:query&highlight=true} : search for a page of the medicines corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the medicines if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Medicines>> searchMedicinesWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Medicines for query {}", query);
+        SearchPage<Medicines> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Medicines> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(medicinesSearchRepository.search(query).spliterator(), false).toList();
+            return medicinesSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
     }
+
+    /**
+     * {@code GET  /medicines/_suggest?prefix=:prefix} : suggest the medicines having a word of their name or manufacturer
+     * starting with the typed prefix.
+     *
+     * @param prefix the typed prefix.
+     * @param size the maximum number of suggestions.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the suggestions, with their stock, in body.
+     */
+    @GetMapping("/_suggest")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<MedicineSuggestionDTO>> suggestMedicines(
+        @RequestParam("prefix") String prefix,
+        @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        LOG.debug("REST request to suggest Medicines for prefix {}", prefix);
+        return ResponseEntity.ok(medicineSuggestService.suggest(prefix, size));
+    }
+
+    /**
+     * {@code GET  /medicines/reorder-suggestions} : get the medicines at or below their reorder point, with the quantity
+     * to purchase from the supplier they were last purchased from.
+     *
+     * @param supplierId the id of a supplier to restrict the suggestions to.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the suggestions in body.
+     */
+    @GetMapping("/reorder-suggestions")
+    public ResponseEntity<List<ReorderSuggestionDTO>> getReorderSuggestions(
+        @RequestParam(name = "supplierId", required = false) Long supplierId
+    ) {
+        LOG.debug("REST request to get reorder suggestions for Suppliers : {}", supplierId);
+        return ResponseEntity.ok(reorderPointService.getSuggestions(supplierId));
+    }
 }
@@ -3,21 +3,36 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Payments;
 import com.hm.pharmacy.repository.PaymentsRepository;
 import com.hm.pharmacy.repository.search.PaymentsSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.NdjsonExportService;
+import com.hm.pharmacy.service.PaymentsQueryService;
+import com.hm.pharmacy.service.PaymentsService;
+import com.hm.pharmacy.service.criteria.PaymentsCriteria;
+import com.hm.pharmacy.service.dto.PaymentsDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +54,24 @@ public class PaymentsResource {
 
     private final PaymentsSearchRepository paymentsSearchRepository;
 
-    public PaymentsResource(PaymentsRepository paymentsRepository, PaymentsSearchRepository paymentsSearchRepository) {
+    private final PaymentsQueryService paymentsQueryService;
+
+    private final PaymentsService paymentsService;
+
+    private final NdjsonExportService ndjsonExportService;
+
+    public PaymentsResource(
+        PaymentsRepository paymentsRepository,
+        PaymentsSearchRepository paymentsSearchRepository,
+        PaymentsQueryService paymentsQueryService,
+        PaymentsService paymentsService,
+        NdjsonExportService ndjsonExportService
+    ) {
         this.paymentsRepository = paymentsRepository;
         this.paymentsSearchRepository = paymentsSearchRepository;
+        this.paymentsQueryService = paymentsQueryService;
+        this.paymentsService = paymentsService;
+        this.ndjsonExportService = ndjsonExportService;
     }
 
     /**
@@ -159,12 +189,33 @@ public class PaymentsResource {
     /**
      * {@code GET  /payments} : get all the payments.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of payments in body.
      */
     @GetMapping("")
-    public List<Payments> getAllPayments() {
-        LOG.debug("REST request to get all Payments");
-        return paymentsRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<PaymentsDTO>> getAllPayments(
+        PaymentsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Payments by criteria: {}", criteria);
+
+        Page<PaymentsDTO> page = paymentsQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /payments/count} : count all the payments.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countPayments(PaymentsCriteria criteria) {
+        LOG.debug("REST request to count Payments by criteria: {}", criteria);
+        return ResponseEntity.ok().body(paymentsQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -174,10 +225,11 @@ public class PaymentsResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the payments, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Payments> getPayments(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaymentsDTO> getPayments(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Payments : {}", id);
-        Optional<Payments> payments = paymentsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(payments);
+        Optional<PaymentsDTO> paymentsDTO = paymentsService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(paymentsDTO);
     }
 
     /**
@@ -197,17 +249,90 @@ public class PaymentsResource {
     }
 
     /**
-     * {@code SEARCH  /payments/_search?query=:query} : search for the payments corresponding
+     * {@code GET  /payments/_export?format=ndjson} : export all the payments as newline-delimited JSON.
+     * <p>
+     * Rows are streamed from a forward-only database cursor, or from an Elasticsearch scroll when {@code source=search},
+     * and written as they are read.
+     *
+     * @param format the export format, only {@code ndjson} is supported.
+     * @param source where to read the payments from: {@code db} (the default) or {@code search}.
+     * @param request the request, whose asynchronous timeout is set to the export timeout.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the payments streamed in body,
+     * or with status {@code 400 (Bad Request)} if the format or the source is not supported.
+     */
+    @GetMapping("/_export")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+        @RequestParam(name = "format", defaultValue = NdjsonExportService.FORMAT_NDJSON) String format,
+        @RequestParam(name = "source", defaultValue = "db") String source,
+        HttpServletRequest request
+    ) {
+        LOG.debug("REST request to export Payments as {} from {}", format, source);
+        if (!NdjsonExportService.FORMAT_NDJSON.equals(format)) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "exportformat");
+        }
+        StreamingResponseBody body;
+        if ("db".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(paymentsRepository::streamAll, out);
+        } else if ("search".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(paymentsSearchRepository::scrollAll, out);
+        } else {
+            throw new BadRequestAlertException("Unsupported export source", ENTITY_NAME, "exportsource");
+        }
+        ndjsonExportService.applyTimeout(request);
+        return ResponseEntity.ok().contentType(NdjsonExportService.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * {@code SEARCH  /payments/_search?query=:query} : search for a page of the payments corresponding
      * to the query.
      *
-     * @param query the query of the payments search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the payments if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Payments> searchPayments(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Payments for query {}", query);
+    public ResponseEntity<List<Payments>> searchPayments(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Payments for query {}", query);
+        SearchPage<Payments> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /payments/_search?query=:query&highlight=true} : search for a page of the payments corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the payments if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Payments>> searchPaymentsWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Payments for query {}", query);
+        SearchPage<Payments> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Payments> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(paymentsSearchRepository.search(query).spliterator(), false).toList();
+            return paymentsSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
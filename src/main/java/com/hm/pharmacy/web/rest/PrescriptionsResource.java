@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Prescriptions;
 import com.hm.pharmacy.repository.PrescriptionsRepository;
 import com.hm.pharmacy.repository.search.PrescriptionsSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.PrescriptionsQueryService;
+import com.hm.pharmacy.service.PrescriptionsService;
+import com.hm.pharmacy.service.criteria.PrescriptionsCriteria;
+import com.hm.pharmacy.service.dto.PrescriptionsDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,12 +51,20 @@ public class PrescriptionsResource {
 
     private final PrescriptionsSearchRepository prescriptionsSearchRepository;
 
+    private final PrescriptionsQueryService prescriptionsQueryService;
+
+    private final PrescriptionsService prescriptionsService;
+
     public PrescriptionsResource(
         PrescriptionsRepository prescriptionsRepository,
-        PrescriptionsSearchRepository prescriptionsSearchRepository
+        PrescriptionsSearchRepository prescriptionsSearchRepository,
+        PrescriptionsQueryService prescriptionsQueryService,
+        PrescriptionsService prescriptionsService
     ) {
         this.prescriptionsRepository = prescriptionsRepository;
         this.prescriptionsSearchRepository = prescriptionsSearchRepository;
+        this.prescriptionsQueryService = prescriptionsQueryService;
+        this.prescriptionsService = prescriptionsService;
     }
 
     /**
@@ -159,12 +179,33 @@ public class PrescriptionsResource {
     /**
      * {@code GET  /prescriptions} : get all the prescriptions.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of prescriptions in body.
      */
     @GetMapping("")
-    public List<Prescriptions> getAllPrescriptions() {
-        LOG.debug("REST request to get all Prescriptions");
-        return prescriptionsRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<PrescriptionsDTO>> getAllPrescriptions(
+        PrescriptionsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Prescriptions by criteria: {}", criteria);
+
+        Page<PrescriptionsDTO> page = prescriptionsQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /prescriptions/count} : count all the prescriptions.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countPrescriptions(PrescriptionsCriteria criteria) {
+        LOG.debug("REST request to count Prescriptions by criteria: {}", criteria);
+        return ResponseEntity.ok().body(prescriptionsQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -174,10 +215,11 @@ public class PrescriptionsResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the prescriptions, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Prescriptions> getPrescriptions(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<PrescriptionsDTO> getPrescriptions(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Prescriptions : {}", id);
-        Optional<Prescriptions> prescriptions = prescriptionsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(prescriptions);
+        Optional<PrescriptionsDTO> prescriptionsDTO = prescriptionsService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(prescriptionsDTO);
     }
 
     /**
@@ -197,17 +239,56 @@ public class PrescriptionsResource {
     }
 
     /**
-     * {@code SEARCH  /prescriptions/_search?query=:query} : search for the prescriptions corresponding
+     * {@code SEARCH  /prescriptions/_search?query=:query} : search for a page of the prescriptions corresponding
      * to the query.
      *
-     * @param query the query of the prescriptions search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the prescriptions if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Prescriptions> searchPrescriptions(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Prescriptions for query {}", query);
+    public ResponseEntity<List<Prescriptions>> searchPrescriptions(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Prescriptions for query {}", query);
+        SearchPage<Prescriptions> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /prescriptions/_search?query=:query&highlight=true} : search for a page of the prescriptions corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the prescriptions if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Prescriptions>> searchPrescriptionsWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Prescriptions for query {}", query);
+        SearchPage<Prescriptions> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Prescriptions> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(prescriptionsSearchRepository.search(query).spliterator(), false).toList();
+            return prescriptionsSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
@@ -1,15 +1,19 @@
 package com.hm.pharmacy.web.rest;
 
+import com.hm.pharmacy.domain.User;
 import com.hm.pharmacy.repository.search.UserSearchRepository;
 import com.hm.pharmacy.service.UserService;
 import com.hm.pharmacy.service.dto.UserDTO;
+import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
+import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.util.*;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +31,8 @@ public class PublicUserResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(PublicUserResource.class);
 
+    private static final String ENTITY_NAME = "user";
+
     private final UserService userService;
     private final UserSearchRepository userSearchRepository;
 
@@ -58,13 +64,36 @@ public class PublicUserResource {
     }
 
     /**
-     * {@code SEARCH /users/_search/:query} : search for the User corresponding to the query.
+     * {@code SEARCH /users/_search?query=:query} : search for a page of the activated users corresponding to the query.
      *
-     * @param query the query to search.
+     * @param query the text to search for in the login and names, in simple query string syntax; all the users if empty.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
-    @GetMapping("/users/_search/{query}")
-    public List<UserDTO> search(@PathVariable("query") String query) {
-        return StreamSupport.stream(userSearchRepository.search(query).spliterator(), false).map(UserDTO::new).toList();
+    @GetMapping("/users/_search")
+    public ResponseEntity<List<UserDTO>> search(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of public Users for query {}", query);
+        if (!onlyContainsAllowedProperties(pageable)) {
+            return ResponseEntity.badRequest().build();
+        }
+        SearchPage<User> page;
+        try {
+            page = userSearchRepository.search(
+                TextSearchUtil.textSearch(query, List.of("activated:true"), searchAfter, false, ENTITY_NAME),
+                pageable
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
+        } catch (RuntimeException e) {
+            throw ElasticsearchExceptionMapper.mapException(e);
+        }
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).map(UserDTO::new).toList());
     }
 }
@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.PurchaseItems;
 import com.hm.pharmacy.repository.PurchaseItemsRepository;
 import com.hm.pharmacy.repository.search.PurchaseItemsSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.PurchaseItemsQueryService;
+import com.hm.pharmacy.service.PurchaseItemsService;
+import com.hm.pharmacy.service.criteria.PurchaseItemsCriteria;
+import com.hm.pharmacy.service.dto.PurchaseItemsDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,12 +51,20 @@ public class PurchaseItemsResource {
 
     private final PurchaseItemsSearchRepository purchaseItemsSearchRepository;
 
+    private final PurchaseItemsQueryService purchaseItemsQueryService;
+
+    private final PurchaseItemsService purchaseItemsService;
+
     public PurchaseItemsResource(
         PurchaseItemsRepository purchaseItemsRepository,
-        PurchaseItemsSearchRepository purchaseItemsSearchRepository
+        PurchaseItemsSearchRepository purchaseItemsSearchRepository,
+        PurchaseItemsQueryService purchaseItemsQueryService,
+        PurchaseItemsService purchaseItemsService
     ) {
         this.purchaseItemsRepository = purchaseItemsRepository;
         this.purchaseItemsSearchRepository = purchaseItemsSearchRepository;
+        this.purchaseItemsQueryService = purchaseItemsQueryService;
+        this.purchaseItemsService = purchaseItemsService;
     }
 
     /**
@@ -156,12 +176,33 @@ public class PurchaseItemsResource {
     /**
      * {@code GET  /purchase-items} : get all the purchaseItems.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of purchaseItems in body.
      */
     @GetMapping("")
-    public List<PurchaseItems> getAllPurchaseItems() {
-        LOG.debug("REST request to get all PurchaseItems");
-        return purchaseItemsRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<PurchaseItemsDTO>> getAllPurchaseItems(
+        PurchaseItemsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get PurchaseItems by criteria: {}", criteria);
+
+        Page<PurchaseItemsDTO> page = purchaseItemsQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /purchase-items/count} : count all the purchaseItems.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countPurchaseItems(PurchaseItemsCriteria criteria) {
+        LOG.debug("REST request to count PurchaseItems by criteria: {}", criteria);
+        return ResponseEntity.ok().body(purchaseItemsQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -171,10 +212,11 @@ public class PurchaseItemsResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the purchaseItems, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PurchaseItems> getPurchaseItems(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<PurchaseItemsDTO> getPurchaseItems(@PathVariable("id") Long id) {
         LOG.debug("REST request to get PurchaseItems : {}", id);
-        Optional<PurchaseItems> purchaseItems = purchaseItemsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(purchaseItems);
+        Optional<PurchaseItemsDTO> purchaseItemsDTO = purchaseItemsService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(purchaseItemsDTO);
     }
 
     /**
@@ -194,17 +236,56 @@ public class PurchaseItemsResource {
     }
 
     /**
-     * {@code SEARCH  /purchase-items/_search?query=:query} : search for the purchaseItems corresponding
+     * {@code SEARCH  /purchase-items/_search?query=:query} : search for a page of the purchaseItems corresponding
      * to the query.
      *
-     * @param query the query of the purchaseItems search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the purchaseItems if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<PurchaseItems> searchPurchaseItems(@RequestParam("query") String query) {
-        LOG.debug("REST request to search PurchaseItems for query {}", query);
+    public ResponseEntity<List<PurchaseItems>> searchPurchaseItems(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of PurchaseItems for query {}", query);
+        SearchPage<PurchaseItems> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /purchase-items/_search?query=:query&highlight=true} : search for a page of the purchaseItems corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the purchaseItems if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<PurchaseItems>> searchPurchaseItemsWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted PurchaseItems for query {}", query);
+        SearchPage<PurchaseItems> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<PurchaseItems> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(purchaseItemsSearchRepository.search(query).spliterator(), false).toList();
+            return purchaseItemsSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
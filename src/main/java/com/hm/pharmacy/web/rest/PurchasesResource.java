@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Purchases;
 import com.hm.pharmacy.repository.PurchasesRepository;
 import com.hm.pharmacy.repository.search.PurchasesSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.PurchasesQueryService;
+import com.hm.pharmacy.service.PurchasesService;
+import com.hm.pharmacy.service.criteria.PurchasesCriteria;
+import com.hm.pharmacy.service.dto.PurchasesDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +51,20 @@ public class PurchasesResource {
 
     private final PurchasesSearchRepository purchasesSearchRepository;
 
-    public PurchasesResource(PurchasesRepository purchasesRepository, PurchasesSearchRepository purchasesSearchRepository) {
+    private final PurchasesQueryService purchasesQueryService;
+
+    private final PurchasesService purchasesService;
+
+    public PurchasesResource(
+        PurchasesRepository purchasesRepository,
+        PurchasesSearchRepository purchasesSearchRepository,
+        PurchasesQueryService purchasesQueryService,
+        PurchasesService purchasesService
+    ) {
         this.purchasesRepository = purchasesRepository;
         this.purchasesSearchRepository = purchasesSearchRepository;
+        this.purchasesQueryService = purchasesQueryService;
+        this.purchasesService = purchasesService;
     }
 
     /**
@@ -156,12 +179,33 @@ public class PurchasesResource {
     /**
      * {@code GET  /purchases} : get all the purchases.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of purchases in body.
      */
     @GetMapping("")
-    public List<Purchases> getAllPurchases() {
-        LOG.debug("REST request to get all Purchases");
-        return purchasesRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<PurchasesDTO>> getAllPurchases(
+        PurchasesCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Purchases by criteria: {}", criteria);
+
+        Page<PurchasesDTO> page = purchasesQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /purchases/count} : count all the purchases.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countPurchases(PurchasesCriteria criteria) {
+        LOG.debug("REST request to count Purchases by criteria: {}", criteria);
+        return ResponseEntity.ok().body(purchasesQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -171,10 +215,11 @@ public class PurchasesResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the purchases, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Purchases> getPurchases(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<PurchasesDTO> getPurchases(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Purchases : {}", id);
-        Optional<Purchases> purchases = purchasesRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(purchases);
+        Optional<PurchasesDTO> purchasesDTO = purchasesService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(purchasesDTO);
     }
 
     /**
@@ -194,17 +239,56 @@ public class PurchasesResource {
     }
 
     /**
-     * {@code SEARCH  /purchases/_search?query=:query} : search for the purchases corresponding
+     * {@code SEARCH  /purchases/_search?query=:query} : search for a page of the purchases corresponding
      * to the query.
      *
-     * @param query the query of the purchases search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the purchases if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Purchases> searchPurchases(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Purchases for query {}", query);
+    public ResponseEntity<List<Purchases>> searchPurchases(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Purchases for query {}", query);
+        SearchPage<Purchases> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /purchases/_search?query=:query&highlight=true} : search for a page of the purchases corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the purchases if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Purchases>> searchPurchasesWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Purchases for query {}", query);
+        SearchPage<Purchases> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Purchases> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(purchasesSearchRepository.search(query).spliterator(), false).toList();
+            return purchasesSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
@@ -0,0 +1,77 @@
+package com.hm.pharmacy.web.rest;
+
+import com.hm.pharmacy.security.AuthoritiesConstants;
+import com.hm.pharmacy.service.SalesRollupService;
+import com.hm.pharmacy.service.dto.SalesSummaryDTO;
+import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for reports, answered from the daily rollups.
+ */
+@RestController
+@RequestMapping("/api/reports")
+public class ReportsResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReportsResource.class);
+
+    private static final String ENTITY_NAME = "sales";
+
+    private final SalesRollupService salesRollupService;
+
+    public ReportsResource(SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    /**
+     * {@code GET  /reports/sales-summary} : get the sales of a range of days, with their totals by day and by payment
+     * method, and the top medicines and customers.
+     * <p>
+     * Sales are rolled up shortly after they are made: the most recent ones may not be counted yet.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param limit the number of top medicines and top customers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the summary in body, or with status
+     * {@code 400 (Bad Request)} if the range or the limit is invalid.
+     */
+    @GetMapping("/sales-summary")
+    public ResponseEntity<SalesSummaryDTO> getSalesSummary(
+        @RequestParam(name = "from") LocalDate from,
+        @RequestParam(name = "to") LocalDate to,
+        @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        LOG.debug("REST request to get the sales summary from {} to {}", from, to);
+        try {
+            return ResponseEntity.ok(salesRollupService.getSummary(from, to, limit));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "reportrange");
+        }
+    }
+
+    /**
+     * {@code POST  /reports/sales-summary/rebuild} : rebuild the daily rollups of a range of days from the sales, after
+     * sales of those days were changed or deleted.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 400 (Bad Request)}
+     * if the range is invalid.
+     */
+    @PostMapping("/sales-summary/rebuild")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> rebuildSalesSummary(@RequestParam(name = "from") LocalDate from, @RequestParam(name = "to") LocalDate to) {
+        LOG.debug("REST request to rebuild the sales summary from {} to {}", from, to);
+        try {
+            salesRollupService.rebuild(from, to);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "reportrange");
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.SaleItems;
 import com.hm.pharmacy.repository.SaleItemsRepository;
 import com.hm.pharmacy.repository.search.SaleItemsSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.SaleItemsQueryService;
+import com.hm.pharmacy.service.SaleItemsService;
+import com.hm.pharmacy.service.criteria.SaleItemsCriteria;
+import com.hm.pharmacy.service.dto.SaleItemsDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +51,20 @@ public class SaleItemsResource {
 
     private final SaleItemsSearchRepository saleItemsSearchRepository;
 
-    public SaleItemsResource(SaleItemsRepository saleItemsRepository, SaleItemsSearchRepository saleItemsSearchRepository) {
+    private final SaleItemsQueryService saleItemsQueryService;
+
+    private final SaleItemsService saleItemsService;
+
+    public SaleItemsResource(
+        SaleItemsRepository saleItemsRepository,
+        SaleItemsSearchRepository saleItemsSearchRepository,
+        SaleItemsQueryService saleItemsQueryService,
+        SaleItemsService saleItemsService
+    ) {
         this.saleItemsRepository = saleItemsRepository;
         this.saleItemsSearchRepository = saleItemsSearchRepository;
+        this.saleItemsQueryService = saleItemsQueryService;
+        this.saleItemsService = saleItemsService;
     }
 
     /**
@@ -153,12 +176,33 @@ public class SaleItemsResource {
     /**
      * {@code GET  /sale-items} : get all the saleItems.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of saleItems in body.
      */
     @GetMapping("")
-    public List<SaleItems> getAllSaleItems() {
-        LOG.debug("REST request to get all SaleItems");
-        return saleItemsRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<SaleItemsDTO>> getAllSaleItems(
+        SaleItemsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get SaleItems by criteria: {}", criteria);
+
+        Page<SaleItemsDTO> page = saleItemsQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /sale-items/count} : count all the saleItems.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countSaleItems(SaleItemsCriteria criteria) {
+        LOG.debug("REST request to count SaleItems by criteria: {}", criteria);
+        return ResponseEntity.ok().body(saleItemsQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -168,10 +212,11 @@ public class SaleItemsResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the saleItems, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SaleItems> getSaleItems(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<SaleItemsDTO> getSaleItems(@PathVariable("id") Long id) {
         LOG.debug("REST request to get SaleItems : {}", id);
-        Optional<SaleItems> saleItems = saleItemsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(saleItems);
+        Optional<SaleItemsDTO> saleItemsDTO = saleItemsService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(saleItemsDTO);
     }
 
     /**
@@ -191,17 +236,56 @@ public class SaleItemsResource {
     }
 
     /**
-     * {@code SEARCH  /sale-items/_search?query=:query} : search for the saleItems corresponding
+     * {@code SEARCH  /sale-items/_search?query=:query} : search for a page of the saleItems corresponding
      * to the query.
      *
-     * @param query the query of the saleItems search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the saleItems if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<SaleItems> searchSaleItems(@RequestParam("query") String query) {
-        LOG.debug("REST request to search SaleItems for query {}", query);
+    public ResponseEntity<List<SaleItems>> searchSaleItems(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of SaleItems for query {}", query);
+        SearchPage<SaleItems> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /sale-items/_search?query=:query&highlight=true} : search for a page of the saleItems corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the saleItems if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<SaleItems>> searchSaleItemsWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted SaleItems for query {}", query);
+        SearchPage<SaleItems> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<SaleItems> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(saleItemsSearchRepository.search(query).spliterator(), false).toList();
+            return saleItemsSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
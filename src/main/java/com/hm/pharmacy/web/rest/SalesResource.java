@@ -3,21 +3,37 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Sales;
 import com.hm.pharmacy.repository.SalesRepository;
 import com.hm.pharmacy.repository.search.SalesSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.NdjsonExportService;
+import com.hm.pharmacy.service.SalesQueryService;
+import com.hm.pharmacy.service.SalesService;
+import com.hm.pharmacy.service.criteria.SalesCriteria;
+import com.hm.pharmacy.service.dto.InvoiceDTO;
+import com.hm.pharmacy.service.dto.SalesDTO;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +55,24 @@ public class SalesResource {
 
     private final SalesSearchRepository salesSearchRepository;
 
-    public SalesResource(SalesRepository salesRepository, SalesSearchRepository salesSearchRepository) {
+    private final SalesQueryService salesQueryService;
+
+    private final SalesService salesService;
+
+    private final NdjsonExportService ndjsonExportService;
+
+    public SalesResource(
+        SalesRepository salesRepository,
+        SalesSearchRepository salesSearchRepository,
+        SalesQueryService salesQueryService,
+        SalesService salesService,
+        NdjsonExportService ndjsonExportService
+    ) {
         this.salesRepository = salesRepository;
         this.salesSearchRepository = salesSearchRepository;
+        this.salesQueryService = salesQueryService;
+        this.salesService = salesService;
+        this.ndjsonExportService = ndjsonExportService;
     }
 
     /**
@@ -152,12 +183,33 @@ public class SalesResource {
     /**
      * {@code GET  /sales} : get all the sales.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of sales in body.
      */
     @GetMapping("")
-    public List<Sales> getAllSales() {
-        LOG.debug("REST request to get all Sales");
-        return salesRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<SalesDTO>> getAllSales(
+        SalesCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Sales by criteria: {}", criteria);
+
+        Page<SalesDTO> page = salesQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /sales/count} : count all the sales.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countSales(SalesCriteria criteria) {
+        LOG.debug("REST request to count Sales by criteria: {}", criteria);
+        return ResponseEntity.ok().body(salesQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -167,10 +219,27 @@ public class SalesResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the sales, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Sales> getSales(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<SalesDTO> getSales(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Sales : {}", id);
-        Optional<Sales> sales = salesRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(sales);
+        Optional<SalesDTO> salesDTO = salesService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(salesDTO);
+    }
+
+    /**
+     * {@code GET  /sales/:id/invoice} : get the "id" sales with its lines, their medicines and its payments.
+     * <p>
+     * Read with one fetch-joined statement, rather than serializing the lazy associations of the entity one by one.
+     *
+     * @param id the id of the sales to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the invoice of the sales, or with
+     * status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/invoice")
+    @Transactional(readOnly = true)
+    public ResponseEntity<InvoiceDTO> getSalesInvoice(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the invoice of Sales : {}", id);
+        return ResponseUtil.wrapOrNotFound(salesRepository.findOneWithItemsAndPayments(id).map(InvoiceDTO::new));
     }
 
     /**
@@ -190,17 +259,90 @@ public class SalesResource {
     }
 
     /**
-     * {@code SEARCH  /sales/_search?query=:query} : search for the sales corresponding
+     * {@code GET  /sales/_export?format=ndjson} : export all the sales as newline-delimited JSON.
+     * <p>
+     * Rows are streamed from a forward-only database cursor, or from an Elasticsearch scroll when {@code source=search},
+     * and written as they are read.
+     *
+     * @param format the export format, only {@code ndjson} is supported.
+     * @param source where to read the sales from: {@code db} (the default) or {@code search}.
+     * @param request the request, whose asynchronous timeout is set to the export timeout.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the sales streamed in body,
+     * or with status {@code 400 (Bad Request)} if the format or the source is not supported.
+     */
+    @GetMapping("/_export")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+        @RequestParam(name = "format", defaultValue = NdjsonExportService.FORMAT_NDJSON) String format,
+        @RequestParam(name = "source", defaultValue = "db") String source,
+        HttpServletRequest request
+    ) {
+        LOG.debug("REST request to export Sales as {} from {}", format, source);
+        if (!NdjsonExportService.FORMAT_NDJSON.equals(format)) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "exportformat");
+        }
+        StreamingResponseBody body;
+        if ("db".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(salesRepository::streamAll, out);
+        } else if ("search".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(salesSearchRepository::scrollAll, out);
+        } else {
+            throw new BadRequestAlertException("Unsupported export source", ENTITY_NAME, "exportsource");
+        }
+        ndjsonExportService.applyTimeout(request);
+        return ResponseEntity.ok().contentType(NdjsonExportService.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * {@code SEARCH  /sales/_search?query=:query} : search for a page of the sales corresponding
      * to the query.
      *
-     * @param query the query of the sales search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the sales if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Sales> searchSales(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Sales for query {}", query);
+    public ResponseEntity<List<Sales>> searchSales(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Sales for query {}", query);
+        SearchPage<Sales> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /sales/_search?query=:query&highlight=true} : search for a page of the sales corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the sales if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Sales>> searchSalesWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Sales for query {}", query);
+        SearchPage<Sales> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Sales> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(salesSearchRepository.search(query).spliterator(), false).toList();
+            return salesSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
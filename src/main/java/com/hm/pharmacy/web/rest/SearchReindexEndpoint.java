@@ -0,0 +1,46 @@
+package com.hm.pharmacy.web.rest;
+
+import com.hm.pharmacy.service.SearchReindexService;
+import com.hm.pharmacy.service.dto.SearchReindexStatusDTO;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint rebuilding the search indices from the database.
+ * <p>
+ * {@code POST /management/reindex/{entity}} starts the reindex of one entity, or of all of them with {@code all};
+ * {@code GET /management/reindex} reports the progress and throughput of each reindex.
+ */
+@Component
+@Endpoint(id = "reindex")
+public class SearchReindexEndpoint {
+
+    private static final String ALL = "all";
+
+    private final SearchReindexService searchReindexService;
+
+    public SearchReindexEndpoint(SearchReindexService searchReindexService) {
+        this.searchReindexService = searchReindexService;
+    }
+
+    @ReadOperation
+    public List<SearchReindexStatusDTO> status() {
+        return searchReindexService.findAll();
+    }
+
+    @WriteOperation
+    public List<SearchReindexStatusDTO> reindex(@Selector String entity) {
+        if (ALL.equalsIgnoreCase(entity)) {
+            return searchReindexService.reindexAll();
+        }
+        return searchReindexService
+            .reindex(entity)
+            .map(List::of)
+            .orElseThrow(() -> new InvalidEndpointRequestException("Unknown indexed entity " + entity, "Unknown indexed entity"));
+    }
+}
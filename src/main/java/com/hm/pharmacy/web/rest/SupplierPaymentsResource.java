@@ -3,21 +3,36 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.SupplierPayments;
 import com.hm.pharmacy.repository.SupplierPaymentsRepository;
 import com.hm.pharmacy.repository.search.SupplierPaymentsSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.NdjsonExportService;
+import com.hm.pharmacy.service.SupplierPaymentsQueryService;
+import com.hm.pharmacy.service.SupplierPaymentsService;
+import com.hm.pharmacy.service.criteria.SupplierPaymentsCriteria;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
+import com.hm.pharmacy.service.dto.SupplierPaymentsDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,12 +54,24 @@ public class SupplierPaymentsResource {
 
     private final SupplierPaymentsSearchRepository supplierPaymentsSearchRepository;
 
+    private final SupplierPaymentsQueryService supplierPaymentsQueryService;
+
+    private final SupplierPaymentsService supplierPaymentsService;
+
+    private final NdjsonExportService ndjsonExportService;
+
     public SupplierPaymentsResource(
         SupplierPaymentsRepository supplierPaymentsRepository,
-        SupplierPaymentsSearchRepository supplierPaymentsSearchRepository
+        SupplierPaymentsSearchRepository supplierPaymentsSearchRepository,
+        SupplierPaymentsQueryService supplierPaymentsQueryService,
+        SupplierPaymentsService supplierPaymentsService,
+        NdjsonExportService ndjsonExportService
     ) {
         this.supplierPaymentsRepository = supplierPaymentsRepository;
         this.supplierPaymentsSearchRepository = supplierPaymentsSearchRepository;
+        this.supplierPaymentsQueryService = supplierPaymentsQueryService;
+        this.supplierPaymentsService = supplierPaymentsService;
+        this.ndjsonExportService = ndjsonExportService;
     }
 
     /**
@@ -163,12 +190,33 @@ public class SupplierPaymentsResource {
     /**
      * {@code GET  /supplier-payments} : get all the supplierPayments.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of supplierPayments in body.
      */
     @GetMapping("")
-    public List<SupplierPayments> getAllSupplierPayments() {
-        LOG.debug("REST request to get all SupplierPayments");
-        return supplierPaymentsRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<SupplierPaymentsDTO>> getAllSupplierPayments(
+        SupplierPaymentsCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get SupplierPayments by criteria: {}", criteria);
+
+        Page<SupplierPaymentsDTO> page = supplierPaymentsQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /supplier-payments/count} : count all the supplierPayments.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countSupplierPayments(SupplierPaymentsCriteria criteria) {
+        LOG.debug("REST request to count SupplierPayments by criteria: {}", criteria);
+        return ResponseEntity.ok().body(supplierPaymentsQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -178,10 +226,11 @@ public class SupplierPaymentsResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the supplierPayments, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SupplierPayments> getSupplierPayments(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<SupplierPaymentsDTO> getSupplierPayments(@PathVariable("id") Long id) {
         LOG.debug("REST request to get SupplierPayments : {}", id);
-        Optional<SupplierPayments> supplierPayments = supplierPaymentsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(supplierPayments);
+        Optional<SupplierPaymentsDTO> supplierPaymentsDTO = supplierPaymentsService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(supplierPaymentsDTO);
     }
 
     /**
@@ -201,17 +250,90 @@ public class SupplierPaymentsResource {
     }
 
     /**
-     * {@code SEARCH  /supplier-payments/_search?query=:query} : search for the supplierPayments corresponding
+     * {@code GET  /supplier-payments/_export?format=ndjson} : export all the supplierPayments as newline-delimited JSON.
+     * <p>
+     * Rows are streamed from a forward-only database cursor, or from an Elasticsearch scroll when {@code source=search},
+     * and written as they are read.
+     *
+     * @param format the export format, only {@code ndjson} is supported.
+     * @param source where to read the supplierPayments from: {@code db} (the default) or {@code search}.
+     * @param request the request, whose asynchronous timeout is set to the export timeout.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the supplierPayments streamed in body,
+     * or with status {@code 400 (Bad Request)} if the format or the source is not supported.
+     */
+    @GetMapping("/_export")
+    public ResponseEntity<StreamingResponseBody> exportSupplierPayments(
+        @RequestParam(name = "format", defaultValue = NdjsonExportService.FORMAT_NDJSON) String format,
+        @RequestParam(name = "source", defaultValue = "db") String source,
+        HttpServletRequest request
+    ) {
+        LOG.debug("REST request to export SupplierPayments as {} from {}", format, source);
+        if (!NdjsonExportService.FORMAT_NDJSON.equals(format)) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "exportformat");
+        }
+        StreamingResponseBody body;
+        if ("db".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(supplierPaymentsRepository::streamAll, out);
+        } else if ("search".equals(source)) {
+            body = out -> ndjsonExportService.writeNdjson(supplierPaymentsSearchRepository::scrollAll, out);
+        } else {
+            throw new BadRequestAlertException("Unsupported export source", ENTITY_NAME, "exportsource");
+        }
+        ndjsonExportService.applyTimeout(request);
+        return ResponseEntity.ok().contentType(NdjsonExportService.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * {@code SEARCH  /supplier-payments/_search?query=:query} : search for a page of the supplierPayments corresponding
      * to the query.
      *
-     * @param query the query of the supplierPayments search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the supplierPayments if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<SupplierPayments> searchSupplierPayments(@RequestParam("query") String query) {
-        LOG.debug("REST request to search SupplierPayments for query {}", query);
+    public ResponseEntity<List<SupplierPayments>> searchSupplierPayments(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of SupplierPayments for query {}", query);
+        SearchPage<SupplierPayments> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /supplier-payments/_search?query=:query&highlight=true} : search for a page of the supplierPayments corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the supplierPayments if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<SupplierPayments>> searchSupplierPaymentsWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted SupplierPayments for query {}", query);
+        SearchPage<SupplierPayments> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<SupplierPayments> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(supplierPaymentsSearchRepository.search(query).spliterator(), false).toList();
+            return supplierPaymentsSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
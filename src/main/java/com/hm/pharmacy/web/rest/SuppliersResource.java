@@ -3,6 +3,12 @@ package com.hm.pharmacy.web.rest;
 import com.hm.pharmacy.domain.Suppliers;
 import com.hm.pharmacy.repository.SuppliersRepository;
 import com.hm.pharmacy.repository.search.SuppliersSearchRepository;
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.SuppliersQueryService;
+import com.hm.pharmacy.service.SuppliersService;
+import com.hm.pharmacy.service.criteria.SuppliersCriteria;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
+import com.hm.pharmacy.service.dto.SuppliersDTO;
 import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
 import com.hm.pharmacy.web.rest.errors.ElasticsearchExceptionMapper;
 import java.net.URI;
@@ -10,14 +16,20 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -39,9 +51,20 @@ public class SuppliersResource {
 
     private final SuppliersSearchRepository suppliersSearchRepository;
 
-    public SuppliersResource(SuppliersRepository suppliersRepository, SuppliersSearchRepository suppliersSearchRepository) {
+    private final SuppliersQueryService suppliersQueryService;
+
+    private final SuppliersService suppliersService;
+
+    public SuppliersResource(
+        SuppliersRepository suppliersRepository,
+        SuppliersSearchRepository suppliersSearchRepository,
+        SuppliersQueryService suppliersQueryService,
+        SuppliersService suppliersService
+    ) {
         this.suppliersRepository = suppliersRepository;
         this.suppliersSearchRepository = suppliersSearchRepository;
+        this.suppliersQueryService = suppliersQueryService;
+        this.suppliersService = suppliersService;
     }
 
     /**
@@ -162,12 +185,33 @@ public class SuppliersResource {
     /**
      * {@code GET  /suppliers} : get all the suppliers.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of suppliers in body.
      */
     @GetMapping("")
-    public List<Suppliers> getAllSuppliers() {
-        LOG.debug("REST request to get all Suppliers");
-        return suppliersRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<SuppliersDTO>> getAllSuppliers(
+        SuppliersCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Suppliers by criteria: {}", criteria);
+
+        Page<SuppliersDTO> page = suppliersQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /suppliers/count} : count all the suppliers.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countSuppliers(SuppliersCriteria criteria) {
+        LOG.debug("REST request to count Suppliers by criteria: {}", criteria);
+        return ResponseEntity.ok().body(suppliersQueryService.countByCriteria(criteria));
     }
 
     /**
@@ -177,10 +221,11 @@ public class SuppliersResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the suppliers, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Suppliers> getSuppliers(@PathVariable("id") Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<SuppliersDTO> getSuppliers(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Suppliers : {}", id);
-        Optional<Suppliers> suppliers = suppliersRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(suppliers);
+        Optional<SuppliersDTO> suppliersDTO = suppliersService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(suppliersDTO);
     }
 
     /**
@@ -200,17 +245,56 @@ public class SuppliersResource {
     }
 
     /**
-     * {@code SEARCH  /suppliers/_search?query=:query} : search for the suppliers corresponding
+     * {@code SEARCH  /suppliers/_search?query=:query} : search for a page of the suppliers corresponding
      * to the query.
      *
-     * @param query the query of the suppliers search.
+     * @param query the text to search for in the text fields, in simple query string syntax; all the suppliers if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
      * @return the result of the search.
      */
     @GetMapping("/_search")
-    public List<Suppliers> searchSuppliers(@RequestParam("query") String query) {
-        LOG.debug("REST request to search Suppliers for query {}", query);
+    public ResponseEntity<List<Suppliers>> searchSuppliers(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Suppliers for query {}", query);
+        SearchPage<Suppliers> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, false, ENTITY_NAME), pageable);
+        return ResponseEntity.ok()
+            .headers(TextSearchUtil.generateSearchHttpHeaders(page))
+            .body(page.getContent().stream().map(SearchHit::getContent).toList());
+    }
+
+    /**
+     * {@code SEARCH  /suppliers/_search?query=:query&highlight=true} : search for a page of the suppliers corresponding
+     * to the query, with the fragments of their text fields matching it.
+     *
+     * @param query the text to search for in the text fields, in simple query string syntax; all the suppliers if empty.
+     * @param filters optional filters, each as {@code field:value}.
+     * @param searchAfter the {@value TextSearchUtil#SEARCH_AFTER_HEADER} header of the previous page, to read deep pages.
+     * @param pageable the pagination information.
+     * @return the result of the search, with the HTML-escaped fragments of each result by id.
+     */
+    @GetMapping(value = "/_search", params = "highlight=true")
+    public ResponseEntity<SearchResultsDTO<Suppliers>> searchSuppliersWithHighlights(
+        @RequestParam(name = "query", required = false) String query,
+        @RequestParam(name = "filter", required = false) List<String> filters,
+        @RequestParam(name = "searchAfter", required = false) List<String> searchAfter,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of highlighted Suppliers for query {}", query);
+        SearchPage<Suppliers> page = search(TextSearchUtil.textSearch(query, filters, searchAfter, true, ENTITY_NAME), pageable);
+        return ResponseEntity.ok().headers(TextSearchUtil.generateSearchHttpHeaders(page)).body(TextSearchUtil.searchResults(page));
+    }
+
+    private SearchPage<Suppliers> search(TextSearch search, Pageable pageable) {
         try {
-            return StreamSupport.stream(suppliersSearchRepository.search(query).spliterator(), false).toList();
+            return suppliersSearchRepository.search(search, pageable);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "searchrequest");
         } catch (RuntimeException e) {
             throw ElasticsearchExceptionMapper.mapException(e);
         }
@@ -0,0 +1,91 @@
+package com.hm.pharmacy.web.rest;
+
+import com.hm.pharmacy.repository.search.TextSearch;
+import com.hm.pharmacy.service.dto.SearchResultsDTO;
+import com.hm.pharmacy.web.rest.errors.BadRequestAlertException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * Utility class for the {@code _search} endpoints of the entity resources.
+ */
+public final class TextSearchUtil {
+
+    /** Response header holding the sort values of the last hit, to pass back as {@code searchAfter} for the next page. */
+    public static final String SEARCH_AFTER_HEADER = "X-Search-After";
+
+    private TextSearchUtil() {}
+
+    /**
+     * Build a search from the request parameters of a {@code _search} endpoint.
+     *
+     * @param query the text to search for.
+     * @param filters the filters, each as {@code field:value}.
+     * @param searchAfter the sort values of the last hit of the previous page.
+     * @param highlight whether matching terms should be highlighted.
+     * @param entityName the name of the searched entity, for errors.
+     * @return the search.
+     * @throws BadRequestAlertException if a filter is not of the form {@code field:value}.
+     */
+    public static TextSearch textSearch(
+        String query,
+        List<String> filters,
+        List<String> searchAfter,
+        boolean highlight,
+        String entityName
+    ) {
+        Map<String, String> filterValues = new LinkedHashMap<>();
+        if (filters != null) {
+            for (String filter : filters) {
+                int separator = filter.indexOf(':');
+                if (separator <= 0) {
+                    throw new BadRequestAlertException("Filters must be of the form field:value", entityName, "searchfilter");
+                }
+                filterValues.put(filter.substring(0, separator), filter.substring(separator + 1));
+            }
+        }
+        return new TextSearch(query, filterValues, searchAfter != null ? List.copyOf(searchAfter) : List.of(), highlight);
+    }
+
+    /**
+     * Generate the pagination headers of a search page, plus the {@value #SEARCH_AFTER_HEADER} header to read the next one.
+     *
+     * @param page the search page.
+     * @return the headers.
+     */
+    public static HttpHeaders generateSearchHttpHeaders(SearchPage<?> page) {
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        if (page.hasContent()) {
+            SearchHit<?> last = page.getContent().get(page.getNumberOfElements() - 1);
+            headers.add(SEARCH_AFTER_HEADER, last.getSortValues().stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return headers;
+    }
+
+    /**
+     * Get the results of a search page, with their highlighted fragments apart.
+     *
+     * @param page the search page, searched with highlighting.
+     * @param <T> the type of the results.
+     * @return the results.
+     */
+    public static <T> SearchResultsDTO<T> searchResults(SearchPage<T> page) {
+        SearchResultsDTO<T> results = new SearchResultsDTO<>();
+        results.setContent(page.getContent().stream().map(SearchHit::getContent).toList());
+        Map<String, Map<String, List<String>>> highlights = new LinkedHashMap<>();
+        page
+            .getContent()
+            .stream()
+            .filter(hit -> !hit.getHighlightFields().isEmpty())
+            .forEach(hit -> highlights.put(hit.getId(), hit.getHighlightFields()));
+        results.setHighlights(highlights);
+        return results;
+    }
+}
@@ -93,6 +93,16 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
             .getBody();
         if (ex instanceof com.hm.pharmacy.service.InvalidPasswordException) return (ProblemDetailWithCause) new InvalidPasswordException()
             .getBody();
+        if (ex instanceof com.hm.pharmacy.service.InsufficientStockException) return (ProblemDetailWithCause) new BadRequestAlertException(
+            ex.getMessage(),
+            "medicines",
+            "insufficientstock"
+        ).getBody();
+        if (ex instanceof com.hm.pharmacy.service.MedicineNotFoundException) return (ProblemDetailWithCause) new BadRequestAlertException(
+            ex.getMessage(),
+            "medicines",
+            "idnotfound"
+        ).getBody();
 
         if (
             ex instanceof ErrorResponseException exp && exp.getBody() instanceof ProblemDetailWithCause problemDetailWithCause
@@ -0,0 +1,25 @@
+package com.hm.pharmacy.web.rest.errors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
+
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class LoginThrottledException extends ErrorResponseException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LoginThrottledException(Throwable cause) {
+        super(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.TOO_MANY_REQUESTS.value())
+                .withType(ErrorConstants.LOGIN_THROTTLED_TYPE)
+                .withTitle("Too many logins in progress, retry shortly")
+                .build(),
+            cause
+        );
+        getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+    }
+}
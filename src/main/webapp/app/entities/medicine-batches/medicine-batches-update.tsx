@@ -4,6 +4,8 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getPurchases } from 'app/entities/purchases/purchases.reducer';
@@ -21,6 +23,9 @@ export const MedicineBatchesUpdate = () => {
   const purchases = useAppSelector(state => state.purchases.entities);
   const medicines = useAppSelector(state => state.medicines.entities);
   const medicineBatchesEntity = useAppSelector(state => state.medicineBatches.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const purchasesOptions = withRelated(purchases, isNew ? null : medicineBatchesEntity?.purchases);
+  const medicinesOptions = withRelated(medicines, isNew ? null : medicineBatchesEntity?.medicines);
   const loading = useAppSelector(state => state.medicineBatches.loading);
   const updating = useAppSelector(state => state.medicineBatches.updating);
   const updateSuccess = useAppSelector(state => state.medicineBatches.updateSuccess);
@@ -36,8 +41,8 @@ export const MedicineBatchesUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getPurchases({}));
-    dispatch(getMedicines({}));
+    dispatch(getPurchases({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
+    dispatch(getMedicines({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -57,8 +62,8 @@ export const MedicineBatchesUpdate = () => {
     const entity = {
       ...medicineBatchesEntity,
       ...values,
-      purchases: purchases.find(it => it.id.toString() === values.purchases?.toString()),
-      medicines: medicines.find(it => it.id.toString() === values.medicines?.toString()),
+      purchases: purchasesOptions.find(it => it.id.toString() === values.purchases?.toString()),
+      medicines: medicinesOptions.find(it => it.id.toString() === values.medicines?.toString()),
     };
 
     if (isNew) {
@@ -131,8 +136,8 @@ export const MedicineBatchesUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {purchases
-                  ? purchases.map(otherEntity => (
+                {purchasesOptions
+                  ? purchasesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -147,8 +152,8 @@ export const MedicineBatchesUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {medicines
-                  ? medicines.map(otherEntity => (
+                {medicinesOptions
+                  ? medicinesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -0,0 +1,43 @@
+import React from 'react';
+import axios from 'axios';
+import sinon from 'sinon';
+import { configureStore } from '@reduxjs/toolkit';
+import { fireEvent, render, waitFor } from '@testing-library/react';
+import { Provider } from 'react-redux';
+import { MemoryRouter, Route, Routes } from 'react-router';
+
+import rootReducer from 'app/shared/reducers';
+import PaymentsUpdate from './payments-update';
+
+describe('PaymentsUpdate', () => {
+  beforeEach(() => {
+    // The payment is of a sale older than the page of sales loaded as options
+    axios.get = sinon.stub().callsFake(url =>
+      Promise.resolve(
+        url.startsWith('api/payments/5')
+          ? { data: { id: 5, amount: 10, paymentDate: '2026-01-01T00:00:00Z', sales: { id: 1 } } }
+          : { data: [{ id: 3 }, { id: 2 }], headers: { 'x-total-count': '3' } },
+      ),
+    );
+    axios.put = sinon.stub().returns(Promise.resolve({ data: {} }));
+  });
+
+  it('keeps a related sale missing from the loaded options when saving', async () => {
+    const store = configureStore({ reducer: rootReducer });
+    const { container } = render(
+      <Provider store={store}>
+        <MemoryRouter initialEntries={['/payments/5/edit']}>
+          <Routes>
+            <Route path="/payments/:id/edit" element={<PaymentsUpdate />} />
+          </Routes>
+        </MemoryRouter>
+      </Provider>,
+    );
+
+    await waitFor(() => expect(container.querySelector<HTMLSelectElement>('#payments-sales').value).toBe('1'));
+    fireEvent.click(container.querySelector('#save-entity'));
+
+    await waitFor(() => expect((axios.put as sinon.SinonStub).calledOnce).toBe(true));
+    expect((axios.put as sinon.SinonStub).firstCall.args[1].sales).toEqual({ id: 1 });
+  });
+});
@@ -5,6 +5,8 @@ import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhips
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { convertDateTimeFromServer, convertDateTimeToServer, displayDefaultDateTime } from 'app/shared/util/date-utils';
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getSales } from 'app/entities/sales/sales.reducer';
@@ -20,6 +22,8 @@ export const PaymentsUpdate = () => {
 
   const sales = useAppSelector(state => state.sales.entities);
   const paymentsEntity = useAppSelector(state => state.payments.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const salesOptions = withRelated(sales, isNew ? null : paymentsEntity?.sales);
   const loading = useAppSelector(state => state.payments.loading);
   const updating = useAppSelector(state => state.payments.updating);
   const updateSuccess = useAppSelector(state => state.payments.updateSuccess);
@@ -35,7 +39,7 @@ export const PaymentsUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getSales({}));
+    dispatch(getSales({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -56,7 +60,7 @@ export const PaymentsUpdate = () => {
     const entity = {
       ...paymentsEntity,
       ...values,
-      sales: sales.find(it => it.id.toString() === values.sales?.toString()),
+      sales: salesOptions.find(it => it.id.toString() === values.sales?.toString()),
     };
 
     if (isNew) {
@@ -139,8 +143,8 @@ export const PaymentsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {sales
-                  ? sales.map(otherEntity => (
+                {salesOptions
+                  ? salesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -4,6 +4,8 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getCustomers } from 'app/entities/customers/customers.reducer';
@@ -19,6 +21,8 @@ export const PrescriptionsUpdate = () => {
 
   const customers = useAppSelector(state => state.customers.entities);
   const prescriptionsEntity = useAppSelector(state => state.prescriptions.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const customersOptions = withRelated(customers, isNew ? null : prescriptionsEntity?.customers);
   const loading = useAppSelector(state => state.prescriptions.loading);
   const updating = useAppSelector(state => state.prescriptions.updating);
   const updateSuccess = useAppSelector(state => state.prescriptions.updateSuccess);
@@ -34,7 +38,7 @@ export const PrescriptionsUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getCustomers({}));
+    dispatch(getCustomers({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -51,7 +55,7 @@ export const PrescriptionsUpdate = () => {
     const entity = {
       ...prescriptionsEntity,
       ...values,
-      customers: customers.find(it => it.id.toString() === values.customers?.toString()),
+      customers: customersOptions.find(it => it.id.toString() === values.customers?.toString()),
     };
 
     if (isNew) {
@@ -123,8 +127,8 @@ export const PrescriptionsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {customers
-                  ? customers.map(otherEntity => (
+                {customersOptions
+                  ? customersOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
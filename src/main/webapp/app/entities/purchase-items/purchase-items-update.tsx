@@ -4,6 +4,8 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getPurchases } from 'app/entities/purchases/purchases.reducer';
@@ -21,6 +23,9 @@ export const PurchaseItemsUpdate = () => {
   const purchases = useAppSelector(state => state.purchases.entities);
   const medicines = useAppSelector(state => state.medicines.entities);
   const purchaseItemsEntity = useAppSelector(state => state.purchaseItems.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const purchasesOptions = withRelated(purchases, isNew ? null : purchaseItemsEntity?.purchases);
+  const medicinesOptions = withRelated(medicines, isNew ? null : purchaseItemsEntity?.medicines);
   const loading = useAppSelector(state => state.purchaseItems.loading);
   const updating = useAppSelector(state => state.purchaseItems.updating);
   const updateSuccess = useAppSelector(state => state.purchaseItems.updateSuccess);
@@ -36,8 +41,8 @@ export const PurchaseItemsUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getPurchases({}));
-    dispatch(getMedicines({}));
+    dispatch(getPurchases({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
+    dispatch(getMedicines({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -60,8 +65,8 @@ export const PurchaseItemsUpdate = () => {
     const entity = {
       ...purchaseItemsEntity,
       ...values,
-      purchases: purchases.find(it => it.id.toString() === values.purchases?.toString()),
-      medicines: medicines.find(it => it.id.toString() === values.medicines?.toString()),
+      purchases: purchasesOptions.find(it => it.id.toString() === values.purchases?.toString()),
+      medicines: medicinesOptions.find(it => it.id.toString() === values.medicines?.toString()),
     };
 
     if (isNew) {
@@ -127,8 +132,8 @@ export const PurchaseItemsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {purchases
-                  ? purchases.map(otherEntity => (
+                {purchasesOptions
+                  ? purchasesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -143,8 +148,8 @@ export const PurchaseItemsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {medicines
-                  ? medicines.map(otherEntity => (
+                {medicinesOptions
+                  ? medicinesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -4,6 +4,8 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getSuppliers } from 'app/entities/suppliers/suppliers.reducer';
@@ -19,6 +21,8 @@ export const PurchasesUpdate = () => {
 
   const suppliers = useAppSelector(state => state.suppliers.entities);
   const purchasesEntity = useAppSelector(state => state.purchases.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const suppliersOptions = withRelated(suppliers, isNew ? null : purchasesEntity?.suppliers);
   const loading = useAppSelector(state => state.purchases.loading);
   const updating = useAppSelector(state => state.purchases.updating);
   const updateSuccess = useAppSelector(state => state.purchases.updateSuccess);
@@ -34,7 +38,7 @@ export const PurchasesUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getSuppliers({}));
+    dispatch(getSuppliers({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -54,7 +58,7 @@ export const PurchasesUpdate = () => {
     const entity = {
       ...purchasesEntity,
       ...values,
-      suppliers: suppliers.find(it => it.id.toString() === values.suppliers?.toString()),
+      suppliers: suppliersOptions.find(it => it.id.toString() === values.suppliers?.toString()),
     };
 
     if (isNew) {
@@ -126,8 +130,8 @@ export const PurchasesUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {suppliers
-                  ? suppliers.map(otherEntity => (
+                {suppliersOptions
+                  ? suppliersOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -4,6 +4,8 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getMedicines } from 'app/entities/medicines/medicines.reducer';
@@ -21,6 +23,9 @@ export const SaleItemsUpdate = () => {
   const medicines = useAppSelector(state => state.medicines.entities);
   const sales = useAppSelector(state => state.sales.entities);
   const saleItemsEntity = useAppSelector(state => state.saleItems.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const medicinesOptions = withRelated(medicines, isNew ? null : saleItemsEntity?.medicines);
+  const salesOptions = withRelated(sales, isNew ? null : saleItemsEntity?.sales);
   const loading = useAppSelector(state => state.saleItems.loading);
   const updating = useAppSelector(state => state.saleItems.updating);
   const updateSuccess = useAppSelector(state => state.saleItems.updateSuccess);
@@ -36,8 +41,8 @@ export const SaleItemsUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getMedicines({}));
-    dispatch(getSales({}));
+    dispatch(getMedicines({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
+    dispatch(getSales({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -60,8 +65,8 @@ export const SaleItemsUpdate = () => {
     const entity = {
       ...saleItemsEntity,
       ...values,
-      medicines: medicines.find(it => it.id.toString() === values.medicines?.toString()),
-      sales: sales.find(it => it.id.toString() === values.sales?.toString()),
+      medicines: medicinesOptions.find(it => it.id.toString() === values.medicines?.toString()),
+      sales: salesOptions.find(it => it.id.toString() === values.sales?.toString()),
     };
 
     if (isNew) {
@@ -127,8 +132,8 @@ export const SaleItemsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {medicines
-                  ? medicines.map(otherEntity => (
+                {medicinesOptions
+                  ? medicinesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -143,8 +148,8 @@ export const SaleItemsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {sales
-                  ? sales.map(otherEntity => (
+                {salesOptions
+                  ? salesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -5,6 +5,8 @@ import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhips
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { convertDateTimeFromServer, convertDateTimeToServer, displayDefaultDateTime } from 'app/shared/util/date-utils';
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getCustomers } from 'app/entities/customers/customers.reducer';
@@ -20,6 +22,8 @@ export const SalesUpdate = () => {
 
   const customers = useAppSelector(state => state.customers.entities);
   const salesEntity = useAppSelector(state => state.sales.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const customersOptions = withRelated(customers, isNew ? null : salesEntity?.customers);
   const loading = useAppSelector(state => state.sales.loading);
   const updating = useAppSelector(state => state.sales.updating);
   const updateSuccess = useAppSelector(state => state.sales.updateSuccess);
@@ -35,7 +39,7 @@ export const SalesUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getCustomers({}));
+    dispatch(getCustomers({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -56,7 +60,7 @@ export const SalesUpdate = () => {
     const entity = {
       ...salesEntity,
       ...values,
-      customers: customers.find(it => it.id.toString() === values.customers?.toString()),
+      customers: customersOptions.find(it => it.id.toString() === values.customers?.toString()),
     };
 
     if (isNew) {
@@ -132,8 +136,8 @@ export const SalesUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {customers
-                  ? customers.map(otherEntity => (
+                {customersOptions
+                  ? customersOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -5,6 +5,8 @@ import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhips
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { convertDateTimeFromServer, convertDateTimeToServer, displayDefaultDateTime } from 'app/shared/util/date-utils';
+import { withRelated } from 'app/shared/util/entity-utils';
+import { MAX_ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getSuppliers } from 'app/entities/suppliers/suppliers.reducer';
@@ -22,6 +24,9 @@ export const SupplierPaymentsUpdate = () => {
   const suppliers = useAppSelector(state => state.suppliers.entities);
   const purchases = useAppSelector(state => state.purchases.entities);
   const supplierPaymentsEntity = useAppSelector(state => state.supplierPayments.entity);
+  // Options are the newest page of each relationship: the current related entities are added so that saving keeps them
+  const suppliersOptions = withRelated(suppliers, isNew ? null : supplierPaymentsEntity?.suppliers);
+  const purchasesOptions = withRelated(purchases, isNew ? null : supplierPaymentsEntity?.purchases);
   const loading = useAppSelector(state => state.supplierPayments.loading);
   const updating = useAppSelector(state => state.supplierPayments.updating);
   const updateSuccess = useAppSelector(state => state.supplierPayments.updateSuccess);
@@ -37,8 +42,8 @@ export const SupplierPaymentsUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getSuppliers({}));
-    dispatch(getPurchases({}));
+    dispatch(getSuppliers({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
+    dispatch(getPurchases({ page: 0, size: MAX_ITEMS_PER_PAGE, sort: 'id,desc' }));
   }, []);
 
   useEffect(() => {
@@ -59,8 +64,8 @@ export const SupplierPaymentsUpdate = () => {
     const entity = {
       ...supplierPaymentsEntity,
       ...values,
-      suppliers: suppliers.find(it => it.id.toString() === values.suppliers?.toString()),
-      purchases: purchases.find(it => it.id.toString() === values.purchases?.toString()),
+      suppliers: suppliersOptions.find(it => it.id.toString() === values.suppliers?.toString()),
+      purchases: purchasesOptions.find(it => it.id.toString() === values.purchases?.toString()),
     };
 
     if (isNew) {
@@ -144,8 +149,8 @@ export const SupplierPaymentsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {suppliers
-                  ? suppliers.map(otherEntity => (
+                {suppliersOptions
+                  ? suppliersOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -160,8 +165,8 @@ export const SupplierPaymentsUpdate = () => {
                 type="select"
               >
                 <option value="" key="0" />
-                {purchases
-                  ? purchases.map(otherEntity => (
+                {purchasesOptions
+                  ? purchasesOptions.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
                         {otherEntity.id}
                       </option>
@@ -1,4 +1,4 @@
-import { cleanEntity, mapIdList } from './entity-utils';
+import { cleanEntity, mapIdList, withRelated } from './entity-utils';
 
 describe('Entity utils', () => {
   describe('cleanEntity', () => {
@@ -53,4 +53,26 @@ describe('Entity utils', () => {
       expect(mapIdList(ids)).toEqual([]);
     });
   });
+
+  describe('withRelated', () => {
+    it('should add a related entity missing from the loaded options', () => {
+      const options = [{ id: 3 }, { id: 2 }];
+
+      expect(withRelated(options, { id: 1 })).toEqual([{ id: 3 }, { id: 2 }, { id: 1 }]);
+    });
+
+    it('should not add a related entity already loaded', () => {
+      const options = [{ id: 3 }, { id: 2 }];
+
+      expect(withRelated(options, { id: 2 })).toBe(options);
+    });
+
+    it('should keep the options without a related entity', () => {
+      const options = [{ id: 3 }];
+
+      expect(withRelated(options, null)).toBe(options);
+      expect(withRelated(options, undefined)).toBe(options);
+      expect(withRelated(options, {})).toBe(options);
+    });
+  });
 });
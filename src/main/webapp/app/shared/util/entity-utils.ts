@@ -44,3 +44,17 @@ export const overridePaginationStateWithQueryParams = (paginationBaseState: IPag
   }
   return sortedPaginationState;
 };
+
+/**
+ * Adds the current related entity of an edited entity to the loaded options of a relationship field, when it is not
+ * among them: the options are a page of the newest entities, and looking an older related entity up in them only
+ * would clear the relationship on save.
+ *
+ * @param options The loaded options.
+ * @param related The current related entity of the edited entity, if any.
+ * @returns The options, including the current related entity.
+ */
+export const withRelated = <T extends { id?: any }>(options: ReadonlyArray<T>, related?: T | null): ReadonlyArray<T> =>
+  related?.id === undefined || related.id === null || options.some(it => it.id?.toString() === related.id.toString())
+    ? options
+    : [...options, related];
@@ -2,3 +2,5 @@ export const ITEMS_PER_PAGE = 20;
 export const ASC = 'asc';
 export const DESC = 'desc';
 export const SORT = 'sort';
+// largest page the server returns (spring.data.web.pageable.max-page-size), to load the options of relationship fields
+export const MAX_ITEMS_PER_PAGE = 200;
@@ -0,0 +1,127 @@
+package com.hm.pharmacy.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.env.MockEnvironment;
+import tech.jhipster.config.JHipsterConstants;
+
+/**
+ * Unit tests for the {@link MethodTracingAspect}.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class MethodTracingAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private MethodTracingAspect aspect(double sampleRate, String... activeProfiles) {
+        ApplicationProperties.MethodTracing properties = new ApplicationProperties.MethodTracing();
+        properties.setSampleRate(sampleRate);
+        MockEnvironment env = new MockEnvironment();
+        env.setActiveProfiles(activeProfiles);
+        return new MethodTracingAspect(env, meterRegistry, properties);
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName) throws Throwable {
+        Method method = String.class.getMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        doReturn(String.class).when(signature).getDeclaringType();
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getName()).thenReturn(methodName);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn("result");
+        return joinPoint;
+    }
+
+    @Test
+    void shouldTimeEachMethodWhenAllCallsAreSampled() throws Throwable {
+        MethodTracingAspect aspect = aspect(1);
+
+        ProceedingJoinPoint length = joinPoint("length");
+        assertThat(aspect.traceAround(length)).isEqualTo("result");
+        assertThat(aspect.traceAround(length)).isEqualTo("result");
+        aspect.traceAround(joinPoint("isEmpty"));
+
+        assertThat(
+            meterRegistry.get(MethodTracingAspect.METHOD_METER_NAME).tag("class", "String").tag("method", "length").timer().count()
+        ).isEqualTo(2);
+        assertThat(meterRegistry.get(MethodTracingAspect.METHOD_METER_NAME).timers()).hasSize(2);
+    }
+
+    @Test
+    void shouldPublishAHistogramWithTheConfiguredBuckets() throws Throwable {
+        MethodTracingAspect aspect = aspect(1);
+
+        aspect.traceAround(joinPoint("length"));
+
+        CountAtBucket[] buckets = meterRegistry.get(MethodTracingAspect.METHOD_METER_NAME).timer().takeSnapshot().histogramCounts();
+        assertThat(buckets)
+            .extracting(CountAtBucket::bucket)
+            .containsExactly(1.0e6, 5.0e6, 1.0e7, 5.0e7, 1.0e8, 5.0e8, 1.0e9);
+    }
+
+    @Test
+    void shouldNotTimeCallsLeftOutOfTheSample() throws Throwable {
+        MethodTracingAspect aspect = aspect(0);
+
+        assertThat(aspect.traceAround(joinPoint("length"))).isEqualTo("result");
+
+        assertThat(meterRegistry.find(MethodTracingAspect.METHOD_METER_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    void shouldTimeAndRethrowFailingCalls() throws Throwable {
+        MethodTracingAspect aspect = aspect(1);
+        ProceedingJoinPoint joinPoint = joinPoint("length");
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Invalid"));
+
+        assertThatThrownBy(() -> aspect.traceAround(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get(MethodTracingAspect.METHOD_METER_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLogFailingCallsLeftOutOfTheSample(CapturedOutput output) throws Throwable {
+        MethodTracingAspect aspect = aspect(0);
+        ProceedingJoinPoint joinPoint = joinPoint("length");
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Invalid"));
+
+        assertThatThrownBy(() -> aspect.traceAround(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(output).contains("Exception in length()").doesNotContain("\tat ");
+        assertThat(meterRegistry.find(MethodTracingAspect.METHOD_METER_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    void shouldLogTheStackTraceInDevelopment(CapturedOutput output) throws Throwable {
+        MethodTracingAspect aspect = aspect(0, JHipsterConstants.SPRING_PROFILE_DEVELOPMENT);
+        ProceedingJoinPoint joinPoint = joinPoint("length");
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Invalid"));
+
+        assertThatThrownBy(() -> aspect.traceAround(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(output).contains("Exception in length()").contains("java.lang.IllegalArgumentException: Invalid").contains("\tat ");
+    }
+}
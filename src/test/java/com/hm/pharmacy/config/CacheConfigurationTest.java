@@ -0,0 +1,90 @@
+package com.hm.pharmacy.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Unit tests for the {@link CacheConfiguration}.
+ */
+class CacheConfigurationTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        applicationProperties = new ApplicationProperties();
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+    }
+
+    @AfterEach
+    void teardown() {
+        cacheManager.close();
+    }
+
+    private void customize() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        new CacheConfiguration(jHipsterProperties, applicationProperties).cacheManagerCustomizer().customize(cacheManager);
+    }
+
+    private ResourcePools resourcePools(String cacheName) {
+        Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+        @SuppressWarnings("unchecked")
+        Eh107Configuration<Object, Object> configuration = cache.getConfiguration(Eh107Configuration.class);
+        return configuration.unwrap(CacheRuntimeConfiguration.class).getResourcePools();
+    }
+
+    @Test
+    void shouldSizeEachRegionFromItsProperties() throws JMException {
+        ApplicationProperties.Cache.Region medicines = new ApplicationProperties.Cache.Region();
+        medicines.setMaxEntries(2000L);
+        medicines.setTimeToLive(Duration.ofHours(6));
+        medicines.setOffHeap(DataSize.ofMegabytes(1));
+        applicationProperties.getCache().getRegions().put("Medicines", medicines);
+
+        customize();
+
+        ResourcePools medicinesPools = resourcePools("com.hm.pharmacy.domain.Medicines");
+        assertThat(medicinesPools.getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(2000);
+        assertThat(medicinesPools.getPoolForResource(ResourceType.Core.OFFHEAP).getSize()).isEqualTo(1);
+        assertThat(medicinesPools.getPoolForResource(ResourceType.Core.OFFHEAP).getUnit()).isEqualTo(MemoryUnit.MB);
+
+        ResourcePools salesPools = resourcePools("com.hm.pharmacy.domain.Sales");
+        assertThat(salesPools.getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+        assertThat(salesPools.getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+
+        Cache<Object, Object> cache = cacheManager.getCache("com.hm.pharmacy.domain.Medicines");
+        cache.put(1L, "Paracetamol");
+        assertThat(cache.get(1L)).isEqualTo("Paracetamol");
+        // Statistics are read from their MBean by the Micrometer cache metrics
+        ObjectName statistics = new ObjectName("javax.cache:type=CacheStatistics,Cache=com.hm.pharmacy.domain.Medicines,*");
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(statistics, null)).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectUnknownRegions() {
+        applicationProperties.getCache().getRegions().put("Medicine", new ApplicationProperties.Cache.Region());
+
+        assertThatThrownBy(this::customize).isInstanceOf(IllegalStateException.class).hasMessageContaining("Medicine");
+    }
+}
@@ -0,0 +1,40 @@
+package com.hm.pharmacy.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.undertow.servlet.api.DeploymentInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for the {@link VirtualThreadsConfiguration}.
+ */
+class VirtualThreadsConfigurationTest {
+
+    @Test
+    void shouldBoundTheConcurrencyByTheConnectionPool() {
+        try (HikariDataSource hikariDataSource = new HikariDataSource()) {
+            hikariDataSource.setMaximumPoolSize(25);
+
+            assertThat(VirtualThreadsConfiguration.connectionPoolSize(hikariDataSource)).isEqualTo(25);
+        }
+        assertThat(VirtualThreadsConfiguration.connectionPoolSize(new SimpleDriverDataSource())).isEqualTo(10);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldRunTheRequestsOnVirtualThreadsBehindARequestLimit() {
+        DeploymentInfo deploymentInfo = new DeploymentInfo();
+
+        new VirtualThreadsConfiguration(new MockEnvironment())
+            .virtualThreadsDeploymentInfoCustomizer(new SimpleDriverDataSource(), new ApplicationProperties())
+            .customize(deploymentInfo);
+
+        assertThat(deploymentInfo.getExecutor()).isNotNull();
+        assertThat(deploymentInfo.getInitialHandlerChainWrappers()).hasSize(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hm.pharmacy.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HibernateMetersServiceTests {
+
+    private static final String STATEMENTS_METER_EXPECTED_NAME = "hibernate.request.statements";
+
+    private static final String CACHE_METER_EXPECTED_NAME = "hibernate.request.cache";
+
+    private MeterRegistry meterRegistry;
+
+    private HibernateMetersService hibernateMetersService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        hibernateMetersService = new HibernateMetersService(meterRegistry, new ApplicationProperties());
+    }
+
+    @AfterEach
+    void stopCounting() {
+        HibernateStatementCounter.stop();
+    }
+
+    private HibernateStatementCounter.Counts countRequest(int statements, int cacheHits, int cacheMisses) {
+        HibernateStatementCounter.Counts counts = HibernateStatementCounter.start();
+        HibernateStatementCounter.Inspector inspector = new HibernateStatementCounter.Inspector();
+        for (int i = 0; i < statements; i++) {
+            assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+        }
+        HibernateStatementCounter.CacheListener cacheListener = new HibernateStatementCounter.CacheListener();
+        for (int i = 0; i < cacheHits; i++) {
+            cacheListener.cacheGetEnd(true);
+        }
+        for (int i = 0; i < cacheMisses; i++) {
+            cacheListener.cacheGetEnd(false);
+        }
+        HibernateStatementCounter.stop();
+        return counts;
+    }
+
+    @Test
+    void testNothingIsCountedWhenCountingIsNotStarted() {
+        HibernateStatementCounter.Counts counts = countRequest(2, 1, 0);
+
+        new HibernateStatementCounter.Inspector().inspect("select 1");
+        new HibernateStatementCounter.CacheListener().cacheGetEnd(true);
+
+        assertThat(counts.getStatements()).isEqualTo(2);
+        assertThat(counts.getCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordTagsTheMetersWithTheEndpoint() {
+        hibernateMetersService.record("GET", "/api/medicines", countRequest(3, 2, 1));
+        hibernateMetersService.record("GET", "/api/medicines", countRequest(5, 0, 0));
+        hibernateMetersService.record("GET", "/api/sales/{id}", countRequest(1, 0, 0));
+
+        assertThat(meterRegistry.get(STATEMENTS_METER_EXPECTED_NAME).tag("uri", "/api/medicines").summary().totalAmount()).isEqualTo(8);
+        assertThat(meterRegistry.get(STATEMENTS_METER_EXPECTED_NAME).tag("uri", "/api/medicines").summary().max()).isEqualTo(5);
+        assertThat(
+            meterRegistry.get(CACHE_METER_EXPECTED_NAME).tag("uri", "/api/medicines").tag("result", "hit").counter().count()
+        ).isEqualTo(2);
+        assertThat(meterRegistry.find(STATEMENTS_METER_EXPECTED_NAME).summaries()).hasSize(2);
+    }
+
+    @Test
+    void testEndpointMetricsReportEachEndpoint() {
+        hibernateMetersService.record("GET", "/api/medicines", countRequest(3, 2, 1));
+        hibernateMetersService.record("GET", "/api/medicines", countRequest(5, 0, 0));
+
+        Map<String, Map<String, Number>> metrics = hibernateMetersService.endpointMetrics();
+
+        assertThat(metrics).containsOnlyKeys("GET /api/medicines");
+        Map<String, Number> medicines = metrics.get("GET /api/medicines");
+        assertThat(medicines.get("count")).isEqualTo(2L);
+        assertThat(medicines.get("statementsMean")).isEqualTo(4.0);
+        assertThat(medicines.get("cacheHits")).isEqualTo(2.0);
+        assertThat(medicines.get("cacheMisses")).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.hm.pharmacy.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+
+class SloMeterFilterTests {
+
+    private MeterRegistry meterRegistry;
+
+    private SloMeterFilter sloMeterFilter;
+
+    @BeforeEach
+    void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSlo().getRoutes().put("search", route(List.of("/api/**/_search"), Duration.ofMillis(50)));
+        applicationProperties
+            .getSlo()
+            .getRoutes()
+            .put("sales", route(List.of("/api/sales", "/api/sales/**"), Duration.ofMillis(100), Duration.ofMillis(250)));
+        sloMeterFilter = new SloMeterFilter(applicationProperties);
+
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(sloMeterFilter);
+    }
+
+    private static ApplicationProperties.Slo.Route route(List<String> uris, Duration... buckets) {
+        ApplicationProperties.Slo.Route route = new ApplicationProperties.Slo.Route();
+        route.setUris(uris);
+        route.setBuckets(List.of(buckets));
+        return route;
+    }
+
+    private Timer requestTimer(String uri) {
+        Timer timer = Timer.builder(SloMeterFilter.HTTP_SERVER_REQUESTS_METER_NAME).tag("uri", uri).register(meterRegistry);
+        timer.record(Duration.ofMillis(120));
+        return timer;
+    }
+
+    @Test
+    void testFirstMatchingRouteApplies() {
+        assertThat(sloMeterFilter.route("/api/sales")).contains("sales");
+        assertThat(sloMeterFilter.route("/api/sales/{id}/invoice")).contains("sales");
+        assertThat(sloMeterFilter.route("/api/sales/_search")).contains("search");
+        assertThat(sloMeterFilter.route("/api/medicines")).isEmpty();
+        assertThat(sloMeterFilter.route(null)).isEmpty();
+    }
+
+    @Test
+    void testOnlyTheRouteEndpointsPublishTheirBuckets() {
+        assertThat(requestTimer("/api/sales/{id}").takeSnapshot().histogramCounts())
+            .extracting(CountAtBucket::bucket, CountAtBucket::count)
+            .containsExactly(tuple(1.0e8, 0.0), tuple(2.5e8, 1.0));
+        assertThat(requestTimer("/api/medicines/_search").takeSnapshot().histogramCounts()).hasSize(1);
+        assertThat(requestTimer("/api/medicines").takeSnapshot().histogramCounts()).isEmpty();
+        assertThat(requestTimer("/api/medicines").takeSnapshot().percentileValues()).isEmpty();
+        assertThat(Timer.builder("hibernate.other").register(meterRegistry).takeSnapshot().histogramCounts()).isEmpty();
+    }
+
+    @Test
+    void testTheSuggestRoutePublishesItsTargetBucket() throws IOException {
+        // The main configuration, which the test configuration shadows on the classpath
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        Binder binder = new Binder(
+            ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load("application", new FileSystemResource("src/main/resources/config/application.yml"))
+            )
+        );
+        binder.bind("application.slo", Bindable.ofInstance(applicationProperties.getSlo()));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new SloMeterFilter(applicationProperties));
+
+        Timer timer = Timer.builder(SloMeterFilter.HTTP_SERVER_REQUESTS_METER_NAME).tag("uri", "/api/medicines/_suggest").register(registry);
+        timer.record(Duration.ofMillis(15));
+
+        assertThat(timer.takeSnapshot().histogramCounts())
+            .extracting(CountAtBucket::bucket, CountAtBucket::count)
+            .contains(tuple(2.0e7, 1.0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hm.pharmacy.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.config.ApplicationProperties;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlowRequestsServiceTests {
+
+    private SlowRequestsService slowRequestsService;
+
+    @BeforeEach
+    void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSlowRequests().setThreshold(Duration.ofMillis(500));
+        applicationProperties.getSlowRequests().setCapacity(3);
+        slowRequestsService = new SlowRequestsService(applicationProperties);
+    }
+
+    private void record(String path, long durationMillis) {
+        slowRequestsService.record(
+            "GET",
+            "/api/sales/{id}",
+            path,
+            200,
+            TimeUnit.MILLISECONDS.toNanos(durationMillis),
+            new HibernateStatementCounter.Counts()
+        );
+    }
+
+    @Test
+    void testOnlySlowRequestsAreKeptTheSlowestFirst() {
+        record("/api/sales/1", 499);
+        record("/api/sales/2", 700);
+        record("/api/sales/3", 1500);
+
+        assertThat(slowRequestsService.findAll())
+            .extracting(SlowRequestsService.SlowRequest::getPath)
+            .containsExactly("/api/sales/3", "/api/sales/2");
+        assertThat(slowRequestsService.findAll().get(0).getDurationMillis()).isEqualTo(1500);
+        assertThat(slowRequestsService.findAll().get(0).getUri()).isEqualTo("/api/sales/{id}");
+    }
+
+    @Test
+    void testTheFastestRequestsAreDroppedOnceFull() {
+        record("/api/sales/1", 5000);
+        record("/api/sales/2", 600);
+        record("/api/sales/3", 700);
+        record("/api/sales/4", 800);
+        // Not slower than any of the requests kept
+        record("/api/sales/5", 700);
+
+        assertThat(slowRequestsService.findAll())
+            .extracting(SlowRequestsService.SlowRequest::getPath)
+            .containsExactly("/api/sales/1", "/api/sales/4", "/api/sales/3");
+
+        slowRequestsService.clear();
+        assertThat(slowRequestsService.findAll()).isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package com.hm.pharmacy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Authority;
+import com.hm.pharmacy.domain.Suppliers;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Integration tests for the invalidation of the cached queries of {@link AuthorityRepository} and
+ * {@link SuppliersRepository}.
+ * <p>
+ * The second-level and query caches, off in the other tests, are turned on. Not transactional, as the cached results are
+ * only invalidated for good once the writes have committed.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = { "ROLE_ADMIN" })
+@TestPropertySource(
+    properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+    }
+)
+class QueryCacheIT {
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private SuppliersRepository suppliersRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    private Authority authority;
+
+    private Suppliers suppliers;
+
+    @AfterEach
+    void cleanup() {
+        if (authority != null) {
+            authorityRepository.deleteById(authority.getName());
+        }
+        if (suppliers != null) {
+            suppliersRepository.deleteById(suppliers.getId());
+        }
+    }
+
+    @Test
+    void supplierWriteInvalidatesTheCachedPages() throws Exception {
+        suppliers = suppliersRepository.saveAndFlush(new Suppliers().name("Cached supplier"));
+        String url = "/api/suppliers?sort=id,desc&id.equals=" + suppliers.getId();
+        warm(url, SuppliersRepository.SUPPLIERS_QUERIES_CACHE, jsonPath("$.[*].name").value(hasItem("Cached supplier")));
+
+        restMockMvc
+            .perform(
+                patch("/api/suppliers/{id}", suppliers.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(new Suppliers().id(suppliers.getId()).name("Renamed supplier")))
+            )
+            .andExpect(status().isOk());
+
+        restMockMvc.perform(get(url)).andExpect(status().isOk()).andExpect(jsonPath("$.[*].name").value(hasItem("Renamed supplier")));
+    }
+
+    @Test
+    void authorityWriteInvalidatesTheCachedList() throws Exception {
+        Authority created = new Authority().name(UUID.randomUUID().toString());
+        ResultMatcher withoutCreated = jsonPath("$.[*].name").value(not(hasItem(created.getName())));
+        warm("/api/authorities", AuthorityRepository.AUTHORITY_QUERIES_CACHE, withoutCreated);
+
+        restMockMvc
+            .perform(post("/api/authorities").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(created)))
+            .andExpect(status().isCreated());
+        authority = created;
+
+        restMockMvc
+            .perform(get("/api/authorities"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(created.getName())));
+    }
+
+    /**
+     * Run a query twice, checking that the second run is answered from the query cache.
+     */
+    private void warm(String url, String region, ResultMatcher matcher) throws Exception {
+        restMockMvc.perform(get(url)).andExpect(status().isOk()).andExpect(matcher);
+        long hits = queryCacheHits(region);
+        restMockMvc.perform(get(url)).andExpect(status().isOk()).andExpect(matcher);
+        assertThat(queryCacheHits(region)).isGreaterThan(hits);
+    }
+
+    private long queryCacheHits(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getQueryRegionStatistics(region).getHitCount();
+    }
+}
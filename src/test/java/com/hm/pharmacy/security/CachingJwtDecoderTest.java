@@ -0,0 +1,129 @@
+package com.hm.pharmacy.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hm.pharmacy.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Unit tests for the {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T09:00:00Z");
+
+    private final Map<String, Instant> expiries = new HashMap<>();
+
+    private final AtomicInteger decoded = new AtomicInteger();
+
+    private Instant now = NOW;
+
+    private MeterRegistry meterRegistry;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        cachingJwtDecoder = new CachingJwtDecoder(
+            token -> {
+                decoded.incrementAndGet();
+                if (!expiries.containsKey(token)) {
+                    throw new BadJwtException("Invalid signature");
+                }
+                return Jwt.withTokenValue(token).header("alg", "HS512").subject("till").expiresAt(expiries.get(token)).build();
+            },
+            2,
+            new SecurityMetersService(meterRegistry),
+            clock
+        );
+    }
+
+    private String token(String token, long expiresInSeconds) {
+        expiries.put(token, NOW.plusSeconds(expiresInSeconds));
+        return token;
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get(SecurityMetersService.TOKEN_CACHE_METER_NAME).tag("result", result).counter().count();
+    }
+
+    @Test
+    void shouldDecodeEachTokenOnceUntilItExpires() {
+        String token = token("a", 60);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(cachingJwtDecoder.decode(token).getSubject()).isEqualTo("till");
+        }
+        assertThat(decoded.get()).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(999);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+
+        now = NOW.plusSeconds(60);
+        cachingJwtDecoder.decode(token);
+        assertThat(decoded.get()).isEqualTo(2);
+        assertThat(cachingJwtDecoder.size()).isZero();
+    }
+
+    @Test
+    void shouldNeverKeepInvalidTokens() {
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("forged")).isInstanceOf(BadJwtException.class);
+
+        assertThat(decoded.get()).isEqualTo(2);
+        assertThat(cachingJwtDecoder.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepEachTokenUntilItsOwnExpiry() {
+        String shortLived = token("a", 10);
+        String longLived = token("b", 60);
+        cachingJwtDecoder.decode(shortLived);
+        cachingJwtDecoder.decode(longLived);
+
+        now = NOW.plusSeconds(10);
+        cachingJwtDecoder.decode(longLived);
+        assertThat(decoded.get()).isEqualTo(2);
+        cachingJwtDecoder.decode(shortLived);
+        assertThat(decoded.get()).isEqualTo(3);
+        assertThat(cachingJwtDecoder.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStayBounded() {
+        cachingJwtDecoder.decode(token("a", 60));
+        cachingJwtDecoder.decode(token("b", 60));
+        cachingJwtDecoder.decode(token("c", 60));
+
+        assertThat(cachingJwtDecoder.size()).isEqualTo(2);
+    }
+}
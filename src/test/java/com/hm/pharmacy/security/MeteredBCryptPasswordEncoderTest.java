@@ -0,0 +1,55 @@
+package com.hm.pharmacy.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Unit tests for the {@link MeteredBCryptPasswordEncoder}.
+ */
+class MeteredBCryptPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+
+    private MeteredBCryptPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new MeteredBCryptPasswordEncoder(5, new SecurityMetersService(meterRegistry));
+    }
+
+    private long timerCount(String operation) {
+        return meterRegistry.get(SecurityMetersService.PASSWORD_HASHING_METER_NAME).tag("operation", operation).timer().count();
+    }
+
+    @Test
+    void shouldTimeEachHashAndVerification() {
+        String encoded = passwordEncoder.encode("test");
+
+        assertThat(encoded).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("test", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(timerCount("encode")).isEqualTo(1);
+        assertThat(timerCount("matches")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpgradeHashesOfAnotherStrengthBothWays() {
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("test"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("test"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("test"))).isTrue();
+    }
+
+    @Test
+    void shouldNotUpgradeWhatIsNotABCryptHash() {
+        assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("")).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("{noop}test")).isFalse();
+    }
+}
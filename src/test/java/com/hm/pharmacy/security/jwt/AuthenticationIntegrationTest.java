@@ -1,5 +1,6 @@
 package com.hm.pharmacy.security.jwt;
 
+import com.hm.pharmacy.config.ApplicationProperties;
 import com.hm.pharmacy.config.SecurityConfiguration;
 import com.hm.pharmacy.config.SecurityJwtConfiguration;
 import com.hm.pharmacy.config.WebConfigurer;
@@ -21,6 +22,7 @@ import tech.jhipster.config.JHipsterProperties;
     },
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
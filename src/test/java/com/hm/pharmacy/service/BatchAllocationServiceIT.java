@@ -0,0 +1,147 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.service.dto.BatchAllocationDTO;
+import com.hm.pharmacy.service.event.MedicineBatchesChangedEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link BatchAllocationService}.
+ * <p>
+ * Not transactional, as concurrent allocations run in transactions of their own.
+ */
+@IntegrationTest
+class BatchAllocationServiceIT {
+
+    private static final int TILLS = 8;
+
+    @Autowired
+    private BatchAllocationService batchAllocationService;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private MedicineBatchesRepository medicineBatchesRepository;
+
+    private Medicines medicines;
+
+    private final List<MedicineBatches> batches = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        medicines = medicinesRepository.saveAndFlush(new Medicines().name("Batched").stock(1000));
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicineBatchesRepository.deleteAll(batches);
+        medicinesRepository.delete(medicines);
+        batchAllocationService.onMedicineBatchesChanged(new MedicineBatchesChangedEvent(List.of()));
+    }
+
+    private MedicineBatches createBatch(String batchNumber, LocalDate expiryDate, int quantity) {
+        MedicineBatches batch = medicineBatchesRepository.saveAndFlush(
+            new MedicineBatches().batchNumber(batchNumber).expiryDate(expiryDate).quantity(quantity).medicines(medicines)
+        );
+        batches.add(batch);
+        return batch;
+    }
+
+    @Test
+    void allocatesFirstExpiryFirstAndSkipsExpiredBatches() {
+        LocalDate today = LocalDate.now();
+        MedicineBatches expired = createBatch("EXPIRED", today.minusDays(1), 10);
+        MedicineBatches late = createBatch("LATE", today.plusDays(60), 5);
+        MedicineBatches early = createBatch("EARLY", today.plusDays(10), 3);
+        MedicineBatches undated = createBatch("UNDATED", null, 100);
+
+        List<BatchAllocationDTO> allocations = batchAllocationService.allocate(Map.of(medicines.getId(), 5));
+
+        assertThat(allocations).extracting(BatchAllocationDTO::getBatchNumber).containsExactly("EARLY", "LATE");
+        assertThat(allocations).extracting(BatchAllocationDTO::getQuantity).containsExactly(3, 2);
+        assertThat(quantityOf(early)).isZero();
+        assertThat(quantityOf(late)).isEqualTo(3);
+        assertThat(quantityOf(expired)).isEqualTo(10);
+        assertThat(quantityOf(undated)).isEqualTo(100);
+
+        allocations = batchAllocationService.allocate(Map.of(medicines.getId(), 4));
+        assertThat(allocations).extracting(BatchAllocationDTO::getBatchNumber).containsExactly("LATE", "UNDATED");
+    }
+
+    @Test
+    void allocationFailsWhenUnexpiredBatchesDoNotCoverTheQuantity() {
+        LocalDate today = LocalDate.now();
+        MedicineBatches expired = createBatch("EXPIRED", today.minusDays(1), 10);
+        MedicineBatches valid = createBatch("VALID", today.plusDays(10), 2);
+
+        assertThatThrownBy(() -> batchAllocationService.allocate(Map.of(medicines.getId(), 3))).isInstanceOf(
+            InsufficientStockException.class
+        );
+
+        assertThat(quantityOf(expired)).isEqualTo(10);
+        assertThat(quantityOf(valid)).isEqualTo(2);
+    }
+
+    @Test
+    void medicinesWithoutBatchesAreNotTracked() {
+        assertThat(batchAllocationService.allocate(Map.of(medicines.getId(), 5))).isEmpty();
+    }
+
+    @Test
+    void concurrentAllocationsNeverOverAllocate() throws Exception {
+        LocalDate today = LocalDate.now();
+        MedicineBatches first = createBatch("FIRST", today.plusDays(10), 12);
+        MedicineBatches second = createBatch("SECOND", today.plusDays(20), 8);
+
+        ExecutorService tills = Executors.newFixedThreadPool(TILLS);
+        try {
+            List<Callable<Boolean>> sales = IntStream.range(0, 40)
+                .<Callable<Boolean>>mapToObj(i ->
+                    () -> {
+                        try {
+                            batchAllocationService.allocate(Map.of(medicines.getId(), 1));
+                            return true;
+                        } catch (InsufficientStockException e) {
+                            return false;
+                        }
+                    }
+                )
+                .toList();
+            long allocated = 0;
+            for (Future<Boolean> sale : tills.invokeAll(sales)) {
+                if (sale.get()) {
+                    allocated++;
+                }
+            }
+            assertThat(allocated).isEqualTo(20);
+        } finally {
+            tills.shutdown();
+        }
+        assertThat(quantityOf(first)).isZero();
+        assertThat(quantityOf(second)).isZero();
+    }
+
+    private int quantityOf(MedicineBatches batch) {
+        return medicineBatchesRepository.findById(batch.getId()).orElseThrow().getQuantity();
+    }
+}
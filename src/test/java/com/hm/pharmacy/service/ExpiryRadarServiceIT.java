@@ -0,0 +1,123 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.MedicineBatches;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicineBatchesRepository;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.service.dto.ExpiringBatchDTO;
+import com.hm.pharmacy.service.dto.ExpiryCalendarDayDTO;
+import com.hm.pharmacy.service.event.MedicineBatchesChangedEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Integration tests for {@link ExpiryRadarService}.
+ * <p>
+ * Not transactional, as the calendar reads the batches back in transactions of its own.
+ */
+@IntegrationTest
+class ExpiryRadarServiceIT {
+
+    @Autowired
+    private ExpiryRadarService expiryRadarService;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private MedicineBatchesRepository medicineBatchesRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Medicines medicines;
+
+    private final List<MedicineBatches> batches = new ArrayList<>();
+
+    private LocalDate today;
+
+    @BeforeEach
+    void initTest() {
+        today = LocalDate.now();
+        medicines = medicinesRepository.saveAndFlush(new Medicines().name("Expiring").stock(100));
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicineBatchesRepository.deleteAll(batches);
+        medicinesRepository.delete(medicines);
+        expiryRadarService.refresh(batches.stream().map(MedicineBatches::getId).toList());
+    }
+
+    private MedicineBatches createBatch(String batchNumber, LocalDate expiryDate, int quantity) {
+        MedicineBatches batch = medicineBatchesRepository.saveAndFlush(
+            new MedicineBatches().batchNumber(batchNumber).expiryDate(expiryDate).quantity(quantity).medicines(medicines)
+        );
+        batches.add(batch);
+        return batch;
+    }
+
+    @Test
+    void reloadBucketsTheBatchesByExpiryDate() {
+        createBatch("SOON-1", today.plusDays(3), 4);
+        createBatch("SOON-2", today.plusDays(3), 6);
+        createBatch("LATER", today.plusDays(60), 10);
+        createBatch("EXPIRED", today.minusDays(1), 10);
+        createBatch("EMPTY", today.plusDays(3), 0);
+
+        expiryRadarService.reload();
+
+        ExpiryCalendarDayDTO day = calendarDay(today.plusDays(3));
+        assertThat(day.getBatches()).isEqualTo(2);
+        assertThat(day.getQuantity()).isEqualTo(10);
+        assertThat(calendarDay(today.plusDays(60)).getBatches()).isEqualTo(1);
+        assertThat(calendarDay(today.minusDays(1))).isNull();
+        assertThat(expiryRadarService.countExpiringWithin(7)).isGreaterThanOrEqualTo(2);
+        assertThat(expiryRadarService.quantityExpiringWithin(7)).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void scanAlertsOnceForTheBatchesEnteringTheAlertWindow() {
+        MedicineBatches soon = createBatch("SOON", today.plusDays(3), 4);
+        MedicineBatches later = createBatch("LATER", today.plusDays(60), 10);
+        expiryRadarService.reload();
+
+        List<ExpiringBatchDTO> alerts = expiryRadarService.scan();
+
+        assertThat(alerts).extracting(ExpiringBatchDTO::getId).contains(soon.getId()).doesNotContain(later.getId());
+        ExpiringBatchDTO alert = alerts.stream().filter(batch -> batch.getId().equals(soon.getId())).findFirst().orElseThrow();
+        assertThat(alert.getMedicinesName()).isEqualTo("Expiring");
+        assertThat(expiryRadarService.scan()).extracting(ExpiringBatchDTO::getId).doesNotContain(soon.getId());
+    }
+
+    @Test
+    void changedEventMovesTheBatchInTheCalendar() {
+        MedicineBatches batch = createBatch("MOVED", today.plusDays(60), 10);
+        expiryRadarService.reload();
+        medicineBatchesRepository.saveAndFlush(batch.expiryDate(today.plusDays(2)));
+
+        eventPublisher.publishEvent(MedicineBatchesChangedEvent.of(batch.getId()));
+
+        assertThat(calendarDay(today.plusDays(60))).isNull();
+        assertThat(calendarDay(today.plusDays(2)).getBatches()).isEqualTo(1);
+        assertThat(expiryRadarService.scan()).extracting(ExpiringBatchDTO::getId).contains(batch.getId());
+    }
+
+    private ExpiryCalendarDayDTO calendarDay(LocalDate date) {
+        return expiryRadarService
+            .getCalendar()
+            .stream()
+            .collect(Collectors.toMap(ExpiryCalendarDayDTO::getDate, day -> day))
+            .get(date);
+    }
+}
@@ -0,0 +1,105 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.service.event.MedicinesChangedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Integration tests for {@link MedicineCatalog}.
+ * <p>
+ * Not transactional, as the catalog reads the medicines back in a transaction of its own.
+ */
+@IntegrationTest
+class MedicineCatalogIT {
+
+    @Autowired
+    private MedicineCatalog medicineCatalog;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Medicines medicines;
+
+    @BeforeEach
+    void initTest() {
+        medicines = medicinesRepository.saveAndFlush(
+            new Medicines().name("Catalogued").category("Analgesic").price(new BigDecimal("3.20")).stock(12)
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicinesRepository.deleteById(medicines.getId());
+        medicineCatalog.refresh(List.of(medicines.getId()));
+    }
+
+    @Test
+    void reloadReadsAllMedicines() {
+        medicineCatalog.reload();
+
+        MedicineCatalog.Entry entry = medicineCatalog.get(medicines.getId());
+        assertThat(medicineCatalog.isLoaded()).isTrue();
+        assertThat(medicineCatalog.size()).isEqualTo(medicinesRepository.count());
+        assertThat(entry.getName()).isEqualTo("Catalogued");
+        assertThat(entry.getCategory()).isEqualTo("Analgesic");
+        assertThat(entry.getPrice()).isEqualByComparingTo("3.20");
+        assertThat(entry.getStock()).isEqualTo(12);
+    }
+
+    @Test
+    void changedEventRefreshesTheMedicines() {
+        medicineCatalog.reload();
+        medicinesRepository.saveAndFlush(medicines.price(new BigDecimal("2.80")));
+
+        eventPublisher.publishEvent(MedicinesChangedEvent.of(medicines.getId()));
+
+        assertThat(medicineCatalog.get(medicines.getId()).getPrice()).isEqualByComparingTo("2.80");
+    }
+
+    @Test
+    void refreshDropsDeletedMedicines() {
+        medicineCatalog.reload();
+        int size = medicineCatalog.size();
+        medicinesRepository.deleteById(medicines.getId());
+
+        medicineCatalog.refresh(List.of(medicines.getId()));
+
+        assertThat(medicineCatalog.get(medicines.getId())).isNull();
+        assertThat(medicineCatalog.size()).isEqualTo(size - 1);
+    }
+
+    @Test
+    void byCategoryListsTheMedicinesByNameWithTheirStock() {
+        Medicines other = medicinesRepository.saveAndFlush(new Medicines().name("Also catalogued").category("Analgesic").stock(1));
+        try {
+            medicineCatalog.reload();
+            stockService.adjust(medicines.getId(), -2);
+
+            assertThat(medicineCatalog.getByCategory("Analgesic"))
+                .filteredOn(entry -> entry.getId() == medicines.getId() || entry.getId() == other.getId())
+                .extracting(MedicineCatalog.Entry::getName, MedicineCatalog.Entry::getStock)
+                .containsExactly(tuple("Also catalogued", 1), tuple("Catalogued", 10));
+            assertThat(medicineCatalog.getByCategory("Unknown")).isEmpty();
+        } finally {
+            medicinesRepository.deleteById(other.getId());
+            medicineCatalog.refresh(List.of(other.getId()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.domain.Medicines;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MedicineSuggestionTrieTest {
+
+    private final MedicineSuggestionTrie trie = MedicineSuggestionTrie.of(
+        List.of(
+            new Medicines().id(1L).name("Paracetamol 500mg").manufacturer("Cipla"),
+            new Medicines().id(2L).name("Pantoprazole").manufacturer("Sun Pharma"),
+            new Medicines().id(3L).name("Cetirizine").manufacturer("Cipla"),
+            new Medicines().id(4L).name(null).manufacturer(null)
+        )
+    );
+
+    @Test
+    void suggestByNamePrefix() {
+        assertThat(trie.suggest("pa", 10)).containsExactly(2L, 1L);
+        assertThat(trie.suggest("PARA", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void suggestByWordAndManufacturer() {
+        assertThat(trie.suggest("500", 10)).containsExactly(1L);
+        assertThat(trie.suggest("pharma", 10)).containsExactly(2L);
+        assertThat(trie.suggest("cip", 10)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(trie.suggest("sun  ph", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void suggestIsLimited() {
+        assertThat(trie.suggest("c", 1)).hasSize(1);
+        assertThat(trie.suggest("c", 0)).isEmpty();
+    }
+
+    @Test
+    void suggestWithoutMatch() {
+        assertThat(trie.suggest("ibu", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,205 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.MedicineReorderSummary;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.PurchaseItems;
+import com.hm.pharmacy.domain.Purchases;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.domain.Suppliers;
+import com.hm.pharmacy.repository.MedicineReorderSummaryRepository;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.PurchaseItemsRepository;
+import com.hm.pharmacy.repository.PurchasesRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.repository.SuppliersRepository;
+import com.hm.pharmacy.service.dto.ReorderSuggestionDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for {@link ReorderPointService}.
+ * <p>
+ * Not transactional, as the pipeline reads the sales in transactions of its own.
+ */
+@IntegrationTest
+class ReorderPointServiceIT {
+
+    @Autowired
+    private ReorderPointService reorderPointService;
+
+    @Autowired
+    private MedicineReorderSummaryRepository summaryRepository;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private SuppliersRepository suppliersRepository;
+
+    @Autowired
+    private PurchasesRepository purchasesRepository;
+
+    @Autowired
+    private PurchaseItemsRepository purchaseItemsRepository;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private SaleItemsRepository saleItemsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Medicines medicines;
+
+    private Suppliers suppliers;
+
+    private Purchases purchases;
+
+    private PurchaseItems purchaseItems;
+
+    private final List<Sales> sales = new ArrayList<>();
+
+    private final List<SaleItems> saleItems = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        // Fold the sales of other tests first, so that each test only folds its own
+        reorderPointService.run();
+        medicines = medicinesRepository.saveAndFlush(new Medicines().name("Reordered").stock(2));
+        suppliers = suppliersRepository.saveAndFlush(new Suppliers().name("Wholesaler"));
+        purchases = purchasesRepository.saveAndFlush(new Purchases().purchaseDate(LocalDate.now()).suppliers(suppliers));
+        purchaseItems = purchaseItemsRepository.saveAndFlush(new PurchaseItems().quantity(20).purchases(purchases).medicines(medicines));
+    }
+
+    @AfterEach
+    void cleanup() {
+        summaryRepository.deleteById(medicines.getId());
+        saleItemsRepository.deleteAll(saleItems);
+        salesRepository.deleteAll(sales);
+        purchaseItemsRepository.delete(purchaseItems);
+        purchasesRepository.delete(purchases);
+        suppliersRepository.delete(suppliers);
+        medicinesRepository.delete(medicines);
+    }
+
+    private Sales sell(Instant saleDate, int quantity) {
+        Sales sale = salesRepository.saveAndFlush(new Sales().saleDate(saleDate));
+        insertedAt(sale, saleDate);
+        sales.add(sale);
+        saleItems.add(saleItemsRepository.saveAndFlush(new SaleItems().quantity(quantity).medicines(medicines).sales(sale)));
+        return sale;
+    }
+
+    /**
+     * Set the time a sale was inserted at, which the pipeline settles it on.
+     */
+    private void insertedAt(Sales sale, Instant createdDate) {
+        jdbcTemplate.update(
+            "update sales set created_date = ? where id = ?",
+            LocalDateTime.ofInstant(createdDate, ZoneOffset.UTC),
+            sale.getId()
+        );
+    }
+
+    @Test
+    void runFoldsNewSalesIntoTheVelocityOnce() {
+        sell(Instant.now().minus(2, ChronoUnit.DAYS), 10);
+
+        assertThat(reorderPointService.run()).isEqualTo(1);
+        MedicineReorderSummary summary = summaryRepository.findById(medicines.getId()).orElseThrow();
+
+        // 10 sold two days ago, with a smoothing of 2 / (28 + 1), decayed over the two days since
+        double smoothing = 2.0 / 29;
+        double velocity = 10 * smoothing * Math.pow(1 - smoothing, 2);
+        assertThat(summary.getReorderPoint()).isEqualTo(Math.round(velocity * 10));
+        assertThat(summary.getOrderUpTo()).isEqualTo(Math.round(velocity * 40));
+
+        assertThat(reorderPointService.run()).isZero();
+        assertThat(summaryRepository.findById(medicines.getId()).orElseThrow().getVelocity()).isEqualTo(summary.getVelocity());
+    }
+
+    @Test
+    void unsettledSalesAreLeftForTheNextRun() {
+        sell(Instant.now(), 10);
+
+        assertThat(reorderPointService.run()).isZero();
+        assertThat(summaryRepository.findById(medicines.getId())).isEmpty();
+    }
+
+    @Test
+    void salesAfterAnUnsettledSaleWaitForIt() {
+        Sales unsettled = sell(Instant.now(), 10);
+        // A higher id, inserted long ago as far as the pipeline can tell
+        sell(Instant.now().minus(2, ChronoUnit.DAYS), 10);
+
+        assertThat(reorderPointService.run()).isZero();
+
+        insertedAt(unsettled, Instant.now().minus(1, ChronoUnit.DAYS));
+        assertThat(reorderPointService.run()).isEqualTo(2);
+    }
+
+    @Test
+    void salesWithoutADateAreSkipped() {
+        Sales undated = sell(Instant.now().minus(2, ChronoUnit.DAYS), 10);
+        jdbcTemplate.update("update sales set sale_date = null where id = ?", undated.getId());
+        sell(Instant.now().minus(1, ChronoUnit.DAYS), 10);
+
+        assertThat(reorderPointService.run()).isEqualTo(2);
+        MedicineReorderSummary summary = summaryRepository.findById(medicines.getId()).orElseThrow();
+        assertThat(summary.getVelocity()).isCloseTo(10 * 2.0 / 29, within(1e-9));
+    }
+
+    @Test
+    void aBackdatedSaleDoesNotMoveTheStartOfAFreshPipeline() {
+        Sales recent = sell(Instant.now().minus(2, ChronoUnit.DAYS), 10);
+        // A higher id, dated before the history read when starting from scratch
+        Sales backdated = sell(Instant.now().minus(365, ChronoUnit.DAYS), 10);
+        insertedAt(backdated, Instant.now().minus(1, ChronoUnit.DAYS));
+        jdbcTemplate.update("delete from pipeline_high_water_mark where name = ?", ReorderPointService.PIPELINE_NAME);
+
+        assertThat(reorderPointService.run()).isGreaterThanOrEqualTo(2);
+
+        MedicineReorderSummary summary = summaryRepository.findById(medicines.getId()).orElseThrow();
+        assertThat(summary.getVelocityDate()).isEqualTo(LocalDate.ofInstant(recent.getSaleDate(), ZoneOffset.UTC));
+        assertThat(summary.getVelocity()).isCloseTo(10 * 2.0 / 29, within(1e-6));
+    }
+
+    @Test
+    void suggestionsNameTheLastSupplier() {
+        sell(Instant.now().minus(1, ChronoUnit.DAYS), 30);
+        sell(Instant.now().minus(2, ChronoUnit.DAYS), 30);
+        reorderPointService.run();
+
+        List<ReorderSuggestionDTO> suggestions = reorderPointService.getSuggestions(suppliers.getId());
+
+        assertThat(suggestions).hasSize(1);
+        ReorderSuggestionDTO suggestion = suggestions.get(0);
+        MedicineReorderSummary summary = summaryRepository.findById(medicines.getId()).orElseThrow();
+        assertThat(suggestion.getMedicinesId()).isEqualTo(medicines.getId());
+        assertThat(suggestion.getSuppliersName()).isEqualTo("Wholesaler");
+        assertThat(suggestion.getStock()).isEqualTo(2);
+        assertThat(suggestion.getReorderPoint()).isEqualTo(summary.getReorderPoint()).isGreaterThan(2);
+        assertThat(suggestion.getSuggestedQuantity()).isEqualTo(summary.getOrderUpTo() - 2);
+        // The velocity is kept as of the last sale, yesterday
+        assertThat(suggestion.getDailyVelocity()).isCloseTo(summary.getVelocity() * (1 - 2.0 / 29), within(1e-9));
+        assertThat(reorderPointService.getSuggestions(Long.MAX_VALUE)).isEmpty();
+    }
+}
@@ -0,0 +1,226 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.SalesAnalyticsQueryDTO;
+import com.hm.pharmacy.service.dto.SalesAnalyticsQueryDTO.Dimension;
+import com.hm.pharmacy.service.dto.SalesAnalyticsRowDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for {@link SalesAnalyticsService}.
+ * <p>
+ * Not transactional, as the sales are loaded in transactions of their own. Queries are filtered on a category of their
+ * own, so that the sales of other tests do not show in them.
+ */
+@IntegrationTest
+class SalesAnalyticsServiceIT {
+
+    private static final String CATEGORY = "Analytics";
+
+    private static final LocalDate DAY = LocalDate.now().minusDays(10);
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private MedicineCatalog medicineCatalog;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private SaleItemsRepository saleItemsRepository;
+
+    @Autowired
+    private PaymentsRepository paymentsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Medicines> medicines = new ArrayList<>();
+
+    private final List<Sales> sales = new ArrayList<>();
+
+    private final List<SaleItems> saleItems = new ArrayList<>();
+
+    private final List<Payments> payments = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        medicines.add(medicinesRepository.saveAndFlush(new Medicines().name("Analysed A").category(CATEGORY).manufacturer("Cipla")));
+        medicines.add(medicinesRepository.saveAndFlush(new Medicines().name("Analysed B").category(CATEGORY).manufacturer("Sun")));
+        medicineCatalog.refresh(medicines.stream().map(Medicines::getId).toList());
+    }
+
+    @AfterEach
+    void cleanup() {
+        paymentsRepository.deleteAll(payments);
+        saleItemsRepository.deleteAll(saleItems);
+        salesRepository.deleteAll(sales);
+        medicinesRepository.deleteAll(medicines);
+        medicineCatalog.refresh(medicines.stream().map(Medicines::getId).toList());
+    }
+
+    private Sales sell(int hour, Medicines medicine, int quantity, String price, String... paymentMethods) {
+        Instant saleDate = DAY.atTime(hour, 15).atZone(ZoneId.systemDefault()).toInstant();
+        Sales sale = salesRepository.saveAndFlush(new Sales().saleDate(saleDate));
+        insertedAt(sale, saleDate);
+        sales.add(sale);
+        SaleItems line = new SaleItems().quantity(quantity).price(new BigDecimal(price)).medicines(medicine).sales(sale);
+        saleItems.add(saleItemsRepository.saveAndFlush(line));
+        BigDecimal amount = new BigDecimal("1.00");
+        for (String paymentMethod : paymentMethods) {
+            payments.add(paymentsRepository.saveAndFlush(new Payments().paymentMethod(paymentMethod).amount(amount).sales(sale)));
+            amount = amount.add(BigDecimal.ONE);
+        }
+        return sale;
+    }
+
+    /**
+     * Set the time a sale was inserted at, which the job settles it on.
+     */
+    private void insertedAt(Sales sale, Instant createdDate) {
+        jdbcTemplate.update(
+            "update sales set created_date = ? where id = ?",
+            LocalDateTime.ofInstant(createdDate, ZoneOffset.UTC),
+            sale.getId()
+        );
+    }
+
+    private SalesAnalyticsQueryDTO query(Dimension groupBy) {
+        SalesAnalyticsQueryDTO query = new SalesAnalyticsQueryDTO();
+        query.setGroupBy(groupBy);
+        query.setFrom(DAY);
+        query.setTo(DAY);
+        query.setCategory(CATEGORY);
+        return query;
+    }
+
+    @Test
+    void queryGroupsTheLoadedSaleLines() {
+        sell(9, medicines.get(0), 2, "10.50", "CASH");
+        sell(9, medicines.get(1), 1, "4.00", "CASH", "CARD");
+        sell(17, medicines.get(0), 1, "10.50");
+
+        salesAnalyticsService.refresh();
+
+        List<SalesAnalyticsRowDTO> byManufacturer = salesAnalyticsService.query(query(Dimension.MANUFACTURER));
+        assertThat(byManufacturer).extracting(SalesAnalyticsRowDTO::getKey).containsExactly("Cipla", "Sun");
+        assertThat(byManufacturer.get(0).getLines()).isEqualTo(2);
+        assertThat(byManufacturer.get(0).getQuantity()).isEqualTo(3);
+        assertThat(byManufacturer.get(0).getAmount()).isEqualByComparingTo("31.50");
+
+        List<SalesAnalyticsRowDTO> byHour = salesAnalyticsService.query(query(Dimension.HOUR));
+        assertThat(byHour).extracting(SalesAnalyticsRowDTO::getKey).containsExactly("9", "17");
+
+        // The second sale counts under its largest payment
+        List<SalesAnalyticsRowDTO> byPaymentMethod = salesAnalyticsService.query(query(Dimension.PAYMENT_METHOD));
+        assertThat(byPaymentMethod).extracting(SalesAnalyticsRowDTO::getKey).containsExactly("CASH", null, "CARD");
+
+        List<SalesAnalyticsRowDTO> byMedicine = salesAnalyticsService.query(query(Dimension.MEDICINE));
+        assertThat(byMedicine.get(0).getMedicinesId()).isEqualTo(medicines.get(0).getId());
+        assertThat(byMedicine.get(0).getKey()).isEqualTo("Analysed A");
+
+        SalesAnalyticsQueryDTO card = query(Dimension.DAY);
+        card.setPaymentMethod("CARD");
+        List<SalesAnalyticsRowDTO> cardByDay = salesAnalyticsService.query(card);
+        assertThat(cardByDay).hasSize(1);
+        assertThat(cardByDay.get(0).getKey()).isEqualTo(DAY.toString());
+        assertThat(cardByDay.get(0).getAmount()).isEqualByComparingTo("4.00");
+    }
+
+    @Test
+    void refreshAppendsNewSalesOnce() {
+        salesAnalyticsService.refresh();
+        sell(9, medicines.get(0), 2, "10.00", "CASH");
+
+        assertThat(salesAnalyticsService.refresh()).isEqualTo(1);
+        assertThat(salesAnalyticsService.refresh()).isZero();
+        assertThat(salesAnalyticsService.query(query(Dimension.CATEGORY)))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getQuantity()).isEqualTo(2));
+    }
+
+    @Test
+    void refreshWaitsForUnsettledSales() {
+        salesAnalyticsService.refresh();
+        Sales unsettled = sell(9, medicines.get(0), 2, "10.00", "CASH");
+        insertedAt(unsettled, Instant.now());
+        // A higher id, inserted long ago as far as the job can tell
+        sell(10, medicines.get(0), 3, "10.00", "CASH");
+
+        assertThat(salesAnalyticsService.refresh()).isZero();
+
+        insertedAt(unsettled, Instant.now().minus(1, ChronoUnit.DAYS));
+        assertThat(salesAnalyticsService.refresh()).isEqualTo(2);
+        assertThat(salesAnalyticsService.query(query(Dimension.CATEGORY)))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getQuantity()).isEqualTo(5));
+    }
+
+    @Test
+    void refreshSkipsSalesWithoutADate() {
+        salesAnalyticsService.refresh();
+        Sales undated = sell(9, medicines.get(0), 2, "10.00", "CASH");
+        jdbcTemplate.update("update sales set sale_date = null where id = ?", undated.getId());
+        sell(10, medicines.get(0), 3, "10.00", "CASH");
+
+        assertThat(salesAnalyticsService.refresh()).isEqualTo(2);
+        assertThat(salesAnalyticsService.query(query(Dimension.CATEGORY)))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getQuantity()).isEqualTo(3));
+    }
+
+    @Test
+    void reloadIsNotCutShortByABackdatedSale() {
+        sell(9, medicines.get(0), 2, "10.00", "CASH");
+        // A higher id, dated before the history loaded
+        Sales backdated = sell(9, medicines.get(1), 1, "4.00", "CASH");
+        jdbcTemplate.update(
+            "update sales set sale_date = ? where id = ?",
+            LocalDateTime.ofInstant(Instant.now().minus(1000, ChronoUnit.DAYS), ZoneOffset.UTC),
+            backdated.getId()
+        );
+
+        salesAnalyticsService.reload();
+
+        assertThat(salesAnalyticsService.query(query(Dimension.MEDICINE)))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getMedicinesId()).isEqualTo(medicines.get(0).getId()));
+    }
+
+    @Test
+    void queryRejectsInvalidRanges() {
+        SalesAnalyticsQueryDTO query = query(Dimension.DAY);
+        query.setFrom(DAY.plusDays(1));
+        assertThatThrownBy(() -> salesAnalyticsService.query(query)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesAnalyticsService.query(new SalesAnalyticsQueryDTO())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SalesFactTableTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static Instant at(LocalDate day, int hour) {
+        return day.atTime(hour, 30).toInstant(ZoneOffset.UTC);
+    }
+
+    private static SalesFactTable.Scan scan(SalesFactTable.Key key, int groups, int[] medicineGroups, int paymentCode) {
+        Instant from = DAY.atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = DAY.plusDays(2).atStartOfDay().toInstant(ZoneOffset.UTC);
+        return new SalesFactTable.Scan(key, groups, from, to, DAY.toEpochDay(), medicineGroups, paymentCode);
+    }
+
+    @Test
+    void aggregateSumsByGroupWithinTheRange() {
+        SalesFactTable.Appender appender = new SalesFactTable.Appender(ZoneOffset.UTC);
+        appender.append(at(DAY, 9), 10L, 2, 500, "CASH");
+        appender.append(at(DAY, 9), 20L, 1, 300, "CASH");
+        appender.append(at(DAY.plusDays(1), 18), 10L, 3, 750, "CARD");
+        appender.append(at(DAY.plusDays(1), 20), 20L, 1, 300, null);
+        // Outside the range
+        appender.append(at(DAY.plusDays(2), 9), 10L, 5, 1250, "CASH");
+        SalesFactTable table = appender.snapshot();
+
+        assertThat(table.medicineCount()).isEqualTo(2);
+        SalesFactTable.Aggregate byMedicine = table.aggregate(scan(SalesFactTable.Key.MEDICINE, 2, new int[] { 0, 1 }, -1), pool, 2);
+        assertThat(byMedicine.lines(0)).isEqualTo(2);
+        assertThat(byMedicine.quantity(0)).isEqualTo(5);
+        assertThat(byMedicine.cents(0)).isEqualTo(1250);
+        assertThat(byMedicine.quantity(1)).isEqualTo(2);
+
+        SalesFactTable.Aggregate byDay = table.aggregate(scan(SalesFactTable.Key.DAY, 2, new int[] { 0, 0 }, -1), pool, 1);
+        assertThat(byDay.cents(0)).isEqualTo(800);
+        assertThat(byDay.cents(1)).isEqualTo(1050);
+
+        SalesFactTable.Aggregate byHour = table.aggregate(scan(SalesFactTable.Key.HOUR, 24, new int[] { 0, 0 }, -1), pool, 1);
+        assertThat(byHour.lines(9)).isEqualTo(2);
+        assertThat(byHour.lines(18)).isEqualTo(1);
+
+        int cash = table.paymentCode("CASH");
+        SalesFactTable.Aggregate cashOnly = table.aggregate(scan(SalesFactTable.Key.PAYMENT_METHOD, 3, new int[] { 0, -1 }, cash), pool, 1);
+        assertThat(cashOnly.lines(cash)).isEqualTo(1);
+        assertThat(cashOnly.cents(cash)).isEqualTo(500);
+        assertThat(table.paymentMethod(0)).isNull();
+        assertThat(table.paymentCode("UPI")).isEqualTo(-1);
+    }
+
+    @Test
+    void parallelAggregateMatchesSequentialSum() {
+        SalesFactTable.Appender appender = new SalesFactTable.Appender(ZoneOffset.UTC);
+        Random random = new Random(42);
+        long[] expected = new long[24];
+        for (int i = 0; i < 10_000; i++) {
+            int hour = random.nextInt(24);
+            long cents = random.nextInt(10_000);
+            appender.append(at(DAY, hour), random.nextInt(50), 1, cents, "CASH");
+            expected[hour] += cents;
+        }
+        SalesFactTable table = appender.snapshot();
+        int[] allMedicines = new int[table.medicineCount()];
+
+        SalesFactTable.Aggregate aggregate = table.aggregate(scan(SalesFactTable.Key.HOUR, 24, allMedicines, -1), pool, 100);
+        for (int hour = 0; hour < 24; hour++) {
+            assertThat(aggregate.cents(hour)).isEqualTo(expected[hour]);
+        }
+    }
+
+    @Test
+    void snapshotIsNotChangedByLaterAppends() {
+        SalesFactTable.Appender appender = new SalesFactTable.Appender(ZoneOffset.UTC);
+        appender.append(at(DAY, 9), 10L, 1, 100, "CASH");
+        SalesFactTable before = appender.snapshot();
+        for (int i = 0; i < 5000; i++) {
+            appender.append(at(DAY, 9), 10L, 1, 100, "CASH");
+        }
+
+        assertThat(before.size()).isEqualTo(1);
+        assertThat(before.aggregate(scan(SalesFactTable.Key.HOUR, 24, new int[] { 0 }, -1), pool, 1).lines(9)).isEqualTo(1);
+        assertThat(appender.snapshot().size()).isEqualTo(5001);
+    }
+}
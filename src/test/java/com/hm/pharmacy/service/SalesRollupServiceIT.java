@@ -0,0 +1,178 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Customers;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.repository.CustomersRepository;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.SalesRollupLineDTO;
+import com.hm.pharmacy.service.dto.SalesSummaryDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for {@link SalesRollupService}.
+ * <p>
+ * Not transactional, as the job rolls the sales up in transactions of its own. Sales are made on days of their own, so
+ * that the sales of other tests do not show in the summaries.
+ */
+@IntegrationTest
+class SalesRollupServiceIT {
+
+    private static final LocalDate DAY = LocalDate.of(2001, 2, 3);
+
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private CustomersRepository customersRepository;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private SaleItemsRepository saleItemsRepository;
+
+    @Autowired
+    private PaymentsRepository paymentsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Medicines medicines;
+
+    private Customers customers;
+
+    private final List<Sales> sales = new ArrayList<>();
+
+    private final List<SaleItems> saleItems = new ArrayList<>();
+
+    private final List<Payments> payments = new ArrayList<>();
+
+    @BeforeEach
+    void initTest() {
+        // Roll the sales of other tests up first, so that each test only rolls its own
+        salesRollupService.run();
+        medicines = medicinesRepository.saveAndFlush(new Medicines().name("Rolled up"));
+        customers = customersRepository.saveAndFlush(new Customers().name("Regular"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        paymentsRepository.deleteAll(payments);
+        saleItemsRepository.deleteAll(saleItems);
+        salesRepository.deleteAll(sales);
+        customersRepository.delete(customers);
+        medicinesRepository.delete(medicines);
+        salesRollupService.rebuild(DAY, NEXT_DAY);
+    }
+
+    private Sales sell(LocalDate day, int quantity, String price, String paymentMethod) {
+        BigDecimal amount = new BigDecimal(price).multiply(BigDecimal.valueOf(quantity));
+        Instant saleDate = day.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        Sales sale = salesRepository.saveAndFlush(new Sales().saleDate(saleDate).totalAmount(amount).customers(customers));
+        insertedAt(sale, saleDate);
+        sales.add(sale);
+        SaleItems line = new SaleItems().quantity(quantity).price(new BigDecimal(price)).medicines(medicines).sales(sale);
+        saleItems.add(saleItemsRepository.saveAndFlush(line));
+        payments.add(paymentsRepository.saveAndFlush(new Payments().paymentMethod(paymentMethod).amount(amount).sales(sale)));
+        return sale;
+    }
+
+    /**
+     * Set the time a sale was inserted at, which the job settles it on.
+     */
+    private void insertedAt(Sales sale, Instant createdDate) {
+        jdbcTemplate.update(
+            "update sales set created_date = ? where id = ?",
+            LocalDateTime.ofInstant(createdDate, ZoneOffset.UTC),
+            sale.getId()
+        );
+    }
+
+    @Test
+    void runRollsNewSalesUpOnce() {
+        sell(DAY, 2, "10.00", "CASH");
+        sell(DAY, 1, "10.00", "CARD");
+        sell(NEXT_DAY, 3, "10.00", "CASH");
+
+        assertThat(salesRollupService.run()).isEqualTo(3);
+        assertThat(salesRollupService.run()).isZero();
+
+        SalesSummaryDTO summary = salesRollupService.getSummary(DAY, NEXT_DAY, 10);
+        assertThat(summary.getSalesCount()).isEqualTo(3);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("60.00");
+        assertThat(summary.getItemsQuantity()).isEqualTo(6);
+        assertThat(summary.getItemsAmount()).isEqualByComparingTo("60.00");
+        assertThat(summary.getDays()).hasSize(2);
+        assertThat(summary.getDays().get(0).getDate()).isEqualTo(DAY);
+        assertThat(summary.getDays().get(0).getSalesCount()).isEqualTo(2);
+        assertThat(summary.getDays().get(0).getTotalAmount()).isEqualByComparingTo("30.00");
+
+        assertThat(summary.getPaymentMethods()).extracting(SalesRollupLineDTO::getName).containsExactly("CASH", "CARD");
+        assertThat(summary.getPaymentMethods().get(0).getCount()).isEqualTo(2);
+        assertThat(summary.getPaymentMethods().get(0).getAmount()).isEqualByComparingTo("50.00");
+
+        SalesRollupLineDTO topMedicine = summary.getTopMedicines().get(0);
+        assertThat(topMedicine.getId()).isEqualTo(medicines.getId());
+        assertThat(topMedicine.getQuantity()).isEqualTo(6);
+        SalesRollupLineDTO topCustomer = summary.getTopCustomers().get(0);
+        assertThat(topCustomer.getId()).isEqualTo(customers.getId());
+        assertThat(topCustomer.getCount()).isEqualTo(3);
+
+        assertThat(salesRollupService.getSummary(NEXT_DAY, NEXT_DAY, 10).getSalesCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildTakesChangedSalesIntoAccount() {
+        Sales sale = sell(DAY, 2, "10.00", "CASH");
+        sell(DAY, 1, "10.00", "CASH");
+        salesRollupService.run();
+
+        salesRepository.saveAndFlush(sale.totalAmount(new BigDecimal("15.00")));
+        assertThat(salesRollupService.getSummary(DAY, DAY, 10).getTotalAmount()).isEqualByComparingTo("30.00");
+
+        salesRollupService.rebuild(DAY, DAY);
+        SalesSummaryDTO summary = salesRollupService.getSummary(DAY, DAY, 10);
+        assertThat(summary.getSalesCount()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("25.00");
+        assertThat(summary.getItemsQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void getSummaryRejectsInvalidRanges() {
+        assertThatThrownBy(() -> salesRollupService.getSummary(NEXT_DAY, DAY, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesRollupService.getSummary(DAY, DAY.plusYears(2), 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getSummaryRejectsInvalidLimits() {
+        assertThatThrownBy(() -> salesRollupService.getSummary(DAY, DAY, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesRollupService.getSummary(DAY, DAY, 1_000_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(salesRollupService.getSummary(DAY, DAY, 100)).isNotNull();
+    }
+}
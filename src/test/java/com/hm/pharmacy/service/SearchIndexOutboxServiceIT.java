@@ -0,0 +1,194 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.SearchIndexOutbox;
+import com.hm.pharmacy.domain.enumeration.SearchIndexOperation;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SearchIndexOutboxRepository;
+import com.hm.pharmacy.repository.search.MedicinesSearchRepository;
+import com.hm.pharmacy.repository.search.SearchIndexBulkRepository;
+import com.hm.pharmacy.repository.search.SaleItemsSearchRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link SearchIndexOutboxService}.
+ */
+@IntegrationTest
+@Transactional
+class SearchIndexOutboxServiceIT {
+
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
+    @Autowired
+    private SearchIndexOutboxRepository searchIndexOutboxRepository;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private MedicinesSearchRepository medicinesSearchRepository;
+
+    @Autowired
+    private SaleItemsRepository saleItemsRepository;
+
+    @Autowired
+    private SaleItemsSearchRepository saleItemsSearchRepository;
+
+    @Autowired
+    private SearchIndexBulkRepository searchIndexBulkRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Medicines medicines;
+
+    @BeforeEach
+    void initTest() {
+        searchIndexOutboxRepository.deleteAll();
+        medicines = medicinesRepository.saveAndFlush(new Medicines().name("Aspirin").stock(10));
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicinesSearchRepository.deleteById(medicines.getId());
+    }
+
+    @Test
+    void indexIsQueuedInTheCallerTransaction() {
+        medicinesSearchRepository.index(medicines);
+
+        assertThat(searchIndexOutboxRepository.findAll())
+            .singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.getEntityType()).isEqualTo("Medicines");
+                assertThat(entry.getEntityId()).isEqualTo(medicines.getId());
+                assertThat(entry.getOperation()).isEqualTo(SearchIndexOperation.INDEX);
+            });
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).isEmpty();
+    }
+
+    @Test
+    void drainCoalescesRepeatedUpdates() {
+        medicinesSearchRepository.index(medicines);
+        medicines.setName("Aspirin 500");
+        medicinesRepository.saveAndFlush(medicines);
+        medicinesSearchRepository.index(medicines);
+
+        searchIndexOutboxService.drain();
+        searchIndexOutboxService.refreshBacklog();
+
+        assertThat(searchIndexOutboxRepository.count()).isZero();
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).hasValueSatisfying(document ->
+            assertThat(document.getName()).isEqualTo("Aspirin 500")
+        );
+        assertThat(searchIndexOutboxService.getLagSeconds()).isZero();
+    }
+
+    @Test
+    void olderWritesDoNotOverwriteNewerDocuments() {
+        medicinesSearchRepository.index(medicines);
+        Long version = searchIndexOutboxRepository.findAll().get(0).getId();
+        searchIndexOutboxService.drain();
+
+        // A node draining an older entry late
+        searchIndexBulkRepository.indexAll(
+            Medicines.class,
+            Map.of(medicines.getId(), new Medicines().id(medicines.getId()).name("Aspirin old")),
+            Map.of(medicines.getId(), version - 1)
+        );
+
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).hasValueSatisfying(document ->
+            assertThat(document.getName()).isEqualTo("Aspirin")
+        );
+    }
+
+    @Test
+    void drainDeletesDocumentsOfDeletedEntities() {
+        medicinesSearchRepository.save(medicines);
+        medicinesSearchRepository.index(medicines);
+        medicinesSearchRepository.deleteFromIndexById(medicines.getId());
+
+        searchIndexOutboxService.drain();
+
+        assertThat(searchIndexOutboxRepository.count()).isZero();
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).isEmpty();
+    }
+
+    @Test
+    void drainSkipsEntriesNotDueYet() {
+        Instant later = Instant.now().plusSeconds(60);
+        searchIndexOutboxRepository.saveAndFlush(
+            new SearchIndexOutbox()
+                .entityType("Medicines")
+                .entityId(medicines.getId())
+                .operation(SearchIndexOperation.INDEX)
+                .attempts(1)
+                .createdDate(Instant.now())
+                .nextAttemptDate(later)
+        );
+
+        searchIndexOutboxService.drain();
+        searchIndexOutboxService.refreshBacklog();
+
+        assertThat(searchIndexOutboxRepository.count()).isEqualTo(1);
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).isEmpty();
+        assertThat(searchIndexOutboxService.getLagSeconds()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void drainSkipsPausedTypes() {
+        medicinesSearchRepository.index(medicines);
+        searchIndexOutboxService.pause("Medicines", Duration.ofMinutes(1));
+
+        searchIndexOutboxService.drain();
+
+        assertThat(searchIndexOutboxRepository.count()).isEqualTo(1);
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).isEmpty();
+
+        searchIndexOutboxService.resume("Medicines");
+        searchIndexOutboxService.drain();
+
+        assertThat(searchIndexOutboxRepository.count()).isZero();
+        assertThat(medicinesSearchRepository.findById(medicines.getId())).isPresent();
+    }
+
+    @Test
+    void drainIgnoresLapsedPauses() {
+        medicinesSearchRepository.index(medicines);
+        searchIndexOutboxService.pause("Medicines", Duration.ofMinutes(-1));
+
+        searchIndexOutboxService.drain();
+
+        assertThat(searchIndexOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void drainResolvesRelatedEntities() {
+        SaleItems saleItems = saleItemsRepository.saveAndFlush(new SaleItems().quantity(2).medicines(medicines));
+        saleItemsSearchRepository.index(saleItems);
+        em.flush();
+        em.clear();
+
+        searchIndexOutboxService.drain();
+
+        assertThat(saleItemsSearchRepository.findById(saleItems.getId())).hasValueSatisfying(document -> {
+            assertThat(document.getMedicines().getId()).isEqualTo(medicines.getId());
+            assertThat(document.getMedicines().getName()).isEqualTo("Aspirin");
+        });
+        saleItemsSearchRepository.deleteById(saleItems.getId());
+    }
+}
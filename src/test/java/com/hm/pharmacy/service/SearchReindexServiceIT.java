@@ -0,0 +1,86 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.SearchIndexPauseRepository;
+import com.hm.pharmacy.repository.search.MedicinesSearchRepository;
+import com.hm.pharmacy.service.dto.SearchReindexStatusDTO;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link SearchReindexService}.
+ * <p>
+ * Not transactional, as the partitions are read from their own threads. The task executor is synchronous in tests,
+ * so each reindex is finished when {@link SearchReindexService#reindex(String)} returns.
+ */
+@IntegrationTest
+class SearchReindexServiceIT {
+
+    @Autowired
+    private SearchReindexService searchReindexService;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private MedicinesSearchRepository medicinesSearchRepository;
+
+    @Autowired
+    private SearchIndexPauseRepository searchIndexPauseRepository;
+
+    private List<Medicines> medicines;
+
+    @BeforeEach
+    void initTest() {
+        medicines = medicinesRepository.saveAllAndFlush(
+            IntStream.range(0, 25).mapToObj(i -> new Medicines().name("Reindexed " + i).stock(i)).toList()
+        );
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicinesRepository.deleteAll(medicines);
+        medicinesSearchRepository.deleteAll(medicines);
+    }
+
+    @Test
+    void reindexLoadsEveryRowBehindTheAlias() {
+        long expected = medicinesRepository.count();
+
+        SearchReindexStatusDTO status = searchReindexService.reindex("medicines").orElseThrow();
+
+        assertThat(status.getStatus()).isEqualTo(SearchReindexStatusDTO.COMPLETED);
+        assertThat(status.getIndex()).startsWith("medicines-");
+        assertThat(status.getTotal()).isEqualTo(expected);
+        assertThat(status.getIndexed()).isEqualTo(expected);
+        assertThat(medicinesSearchRepository.count()).isEqualTo(expected);
+        assertThat(medicinesSearchRepository.findById(medicines.get(0).getId())).hasValueSatisfying(document ->
+            assertThat(document.getName()).isEqualTo("Reindexed 0")
+        );
+        assertThat(searchIndexPauseRepository.findById("Medicines")).isEmpty();
+    }
+
+    @Test
+    void reindexTwiceReplacesThePreviousIndex() {
+        String firstIndex = searchReindexService.reindex("Medicines").orElseThrow().getIndex();
+        SearchReindexStatusDTO status = searchReindexService.reindex("Medicines").orElseThrow();
+
+        assertThat(status.getStatus()).isEqualTo(SearchReindexStatusDTO.COMPLETED);
+        assertThat(status.getIndex()).isNotEqualTo(firstIndex);
+        assertThat(medicinesSearchRepository.count()).isEqualTo(medicinesRepository.count());
+        assertThat(searchReindexService.findAll()).extracting(SearchReindexStatusDTO::getEntity).contains("Medicines");
+    }
+
+    @Test
+    void reindexUnknownEntity() {
+        assertThat(searchReindexService.reindex("unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package com.hm.pharmacy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link StockService}.
+ * <p>
+ * Not transactional, as concurrent decrements run in transactions of their own.
+ */
+@IntegrationTest
+class StockServiceIT {
+
+    private static final int TILLS = 8;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    private Medicines paracetamol;
+
+    private Medicines ibuprofen;
+
+    @BeforeEach
+    void initTest() {
+        paracetamol = medicinesRepository.saveAndFlush(new Medicines().name("Stocked paracetamol").stock(50));
+        ibuprofen = medicinesRepository.saveAndFlush(new Medicines().name("Stocked ibuprofen").stock(3));
+    }
+
+    @AfterEach
+    void cleanup() {
+        medicinesRepository.deleteAllById(List.of(paracetamol.getId(), ibuprofen.getId()));
+    }
+
+    @Test
+    void concurrentDecrementsNeverOversell() throws Exception {
+        ExecutorService tills = Executors.newFixedThreadPool(TILLS);
+        try {
+            List<Callable<Boolean>> sales = IntStream.range(0, 80)
+                .<Callable<Boolean>>mapToObj(i ->
+                    () -> {
+                        try {
+                            stockService.decrement(Map.of(paracetamol.getId(), 1));
+                            return true;
+                        } catch (InsufficientStockException e) {
+                            return false;
+                        }
+                    }
+                )
+                .toList();
+            long sold = 0;
+            for (Future<Boolean> sale : tills.invokeAll(sales)) {
+                if (sale.get()) {
+                    sold++;
+                }
+            }
+            assertThat(sold).isEqualTo(50);
+        } finally {
+            tills.shutdown();
+        }
+        assertThat(medicinesRepository.findById(paracetamol.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    void decrementIsAllOrNothing() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(paracetamol.getId(), 10);
+        quantities.put(ibuprofen.getId(), 4);
+
+        assertThatThrownBy(() -> stockService.decrement(quantities)).isInstanceOf(InsufficientStockException.class);
+
+        assertThat(medicinesRepository.findById(paracetamol.getId()).orElseThrow().getStock()).isEqualTo(50);
+        assertThat(medicinesRepository.findById(ibuprofen.getId()).orElseThrow().getStock()).isEqualTo(3);
+    }
+
+    @Test
+    void decrementUnknownMedicine() {
+        assertThatThrownBy(() -> stockService.decrement(Map.of(Long.MAX_VALUE, 1))).isInstanceOf(MedicineNotFoundException.class);
+    }
+}
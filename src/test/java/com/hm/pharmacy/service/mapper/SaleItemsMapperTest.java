@@ -0,0 +1,47 @@
+package com.hm.pharmacy.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.SaleItems;
+import com.hm.pharmacy.domain.Sales;
+import com.hm.pharmacy.service.dto.SaleItemsDTO;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SaleItemsMapper}.
+ */
+class SaleItemsMapperTest {
+
+    private SaleItemsMapper saleItemsMapper;
+
+    @BeforeEach
+    void setUp() {
+        saleItemsMapper = new SaleItemsMapperImpl();
+    }
+
+    @Test
+    void shouldConvertToDtoAndBack() {
+        Medicines medicines = new Medicines().id(2L).name("Paracetamol").category("Analgesic");
+        Sales sales = new Sales().id(3L).totalAmount(new BigDecimal("20.00"));
+        SaleItems saleItems = new SaleItems().id(1L).quantity(2).price(new BigDecimal("10.00")).medicines(medicines).sales(sales);
+
+        SaleItemsDTO saleItemsDTO = saleItemsMapper.toDto(saleItems);
+        assertThat(saleItemsDTO.getId()).isEqualTo(1L);
+        assertThat(saleItemsDTO.getQuantity()).isEqualTo(2);
+        assertThat(saleItemsDTO.getPrice()).isEqualByComparingTo("10.00");
+        // Relationships are mapped by id only
+        assertThat(saleItemsDTO.getMedicines().getId()).isEqualTo(2L);
+        assertThat(saleItemsDTO.getMedicines().getName()).isNull();
+        assertThat(saleItemsDTO.getSales().getId()).isEqualTo(3L);
+        assertThat(saleItemsDTO.getSales().getTotalAmount()).isNull();
+
+        SaleItems actual = saleItemsMapper.toEntity(saleItemsDTO);
+        assertThat(actual.getId()).isEqualTo(1L);
+        assertThat(actual.getQuantity()).isEqualTo(2);
+        assertThat(actual.getMedicines().getId()).isEqualTo(2L);
+        assertThat(actual.getSales().getId()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,153 @@
+package com.hm.pharmacy.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.repository.MedicinesRepository;
+import com.hm.pharmacy.repository.PaymentsRepository;
+import com.hm.pharmacy.repository.SaleItemsRepository;
+import com.hm.pharmacy.repository.SalesRepository;
+import com.hm.pharmacy.service.dto.CheckoutDTO;
+import com.hm.pharmacy.service.dto.CheckoutLineDTO;
+import com.hm.pharmacy.service.dto.CheckoutPaymentDTO;
+import com.hm.pharmacy.service.dto.InvoiceDTO;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CheckoutResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CheckoutResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/checkout";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MedicinesRepository medicinesRepository;
+
+    @Autowired
+    private SalesRepository salesRepository;
+
+    @Autowired
+    private SaleItemsRepository saleItemsRepository;
+
+    @Autowired
+    private PaymentsRepository paymentsRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restCheckoutMockMvc;
+
+    private Medicines paracetamol;
+
+    private Medicines ibuprofen;
+
+    @BeforeEach
+    void initTest() {
+        paracetamol = new Medicines().name("Paracetamol").price(new BigDecimal("2.50")).stock(10);
+        ibuprofen = new Medicines().name("Ibuprofen").price(new BigDecimal("4.00")).stock(5);
+    }
+
+    @Test
+    @Transactional
+    void checkoutBasket() throws Exception {
+        medicinesRepository.saveAndFlush(paracetamol);
+        medicinesRepository.saveAndFlush(ibuprofen);
+        long salesBefore = salesRepository.count();
+        long saleItemsBefore = saleItemsRepository.count();
+        long paymentsBefore = paymentsRepository.count();
+
+        CheckoutDTO checkout = new CheckoutDTO();
+        checkout.setInvoiceNumber("INV-1");
+        checkout.setLines(
+            List.of(
+                new CheckoutLineDTO(paracetamol.getId(), 3, null),
+                new CheckoutLineDTO(ibuprofen.getId(), 2, new BigDecimal("3.00")),
+                new CheckoutLineDTO(paracetamol.getId(), 1, null)
+            )
+        );
+        checkout.setPayments(List.of(new CheckoutPaymentDTO("CASH", "PAID", new BigDecimal("16.00"))));
+
+        InvoiceDTO invoice = om.readValue(
+            restCheckoutMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(checkout)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.invoiceNumber").value("INV-1"))
+                .andExpect(jsonPath("$.lines.length()").value(3))
+                .andExpect(jsonPath("$.payments.length()").value(1))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            InvoiceDTO.class
+        );
+
+        assertThat(invoice.getTotalAmount()).isEqualByComparingTo("16.00");
+        assertThat(invoice.getAmountPaid()).isEqualByComparingTo("16.00");
+        assertThat(salesRepository.count()).isEqualTo(salesBefore + 1);
+        assertThat(saleItemsRepository.count()).isEqualTo(saleItemsBefore + 3);
+        assertThat(paymentsRepository.count()).isEqualTo(paymentsBefore + 1);
+
+        em.clear();
+        assertThat(medicinesRepository.findById(paracetamol.getId()).orElseThrow().getStock()).isEqualTo(6);
+        assertThat(medicinesRepository.findById(ibuprofen.getId()).orElseThrow().getStock()).isEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    void checkoutWithInsufficientStock() throws Exception {
+        medicinesRepository.saveAndFlush(ibuprofen);
+        long salesBefore = salesRepository.count();
+
+        CheckoutDTO checkout = new CheckoutDTO();
+        checkout.setLines(List.of(new CheckoutLineDTO(ibuprofen.getId(), 6, null)));
+
+        restCheckoutMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(checkout)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.insufficientstock"));
+
+        assertThat(salesRepository.count()).isEqualTo(salesBefore);
+        em.clear();
+        assertThat(medicinesRepository.findById(ibuprofen.getId()).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    @Transactional
+    void checkoutWithUnknownMedicine() throws Exception {
+        CheckoutDTO checkout = new CheckoutDTO();
+        checkout.setLines(List.of(new CheckoutLineDTO(Long.MAX_VALUE, 1, null)));
+
+        restCheckoutMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(checkout)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.idnotfound"));
+    }
+
+    @Test
+    @Transactional
+    void checkoutEmptyBasket() throws Exception {
+        restCheckoutMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(new CheckoutDTO())))
+            .andExpect(status().isBadRequest());
+    }
+}
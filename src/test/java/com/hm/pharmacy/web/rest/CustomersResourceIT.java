@@ -14,6 +14,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Customers;
 import com.hm.pharmacy.repository.CustomersRepository;
 import com.hm.pharmacy.repository.search.CustomersSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Random;
@@ -67,6 +68,9 @@ class CustomersResourceIT {
     @Autowired
     private CustomersSearchRepository customersSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -131,6 +135,7 @@ class CustomersResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertCustomersUpdatableFieldsEquals(returnedCustomers, getPersistedCustomers(returnedCustomers));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -232,6 +237,7 @@ class CustomersResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedCustomersToMatchAllProperties(updatedCustomers);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -444,6 +450,7 @@ class CustomersResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(customersSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -457,7 +464,7 @@ class CustomersResourceIT {
 
         // Search the customers
         restCustomersMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + customers.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + customers.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(customers.getId().intValue())))
@@ -4,6 +4,8 @@ import static com.hm.pharmacy.domain.MedicineBatchesAsserts.*;
 import static com.hm.pharmacy.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -14,6 +16,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.MedicineBatches;
 import com.hm.pharmacy.repository.MedicineBatchesRepository;
 import com.hm.pharmacy.repository.search.MedicineBatchesSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -66,6 +69,9 @@ class MedicineBatchesResourceIT {
     @Autowired
     private MedicineBatchesSearchRepository medicineBatchesSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -130,6 +136,7 @@ class MedicineBatchesResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertMedicineBatchesUpdatableFieldsEquals(returnedMedicineBatches, getPersistedMedicineBatches(returnedMedicineBatches));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -201,6 +208,46 @@ class MedicineBatchesResourceIT {
         restMedicineBatchesMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getExpiringMedicineBatchesByKeyset() throws Exception {
+        // Initialize the database
+        LocalDate today = LocalDate.now();
+        MedicineBatches first = medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.plusDays(1)));
+        MedicineBatches second = medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.plusDays(1)));
+        MedicineBatches third = medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.plusDays(5)));
+        medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.plusDays(40)));
+        medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.minusDays(1)));
+        medicineBatchesRepository.saveAndFlush(createEntity().expiryDate(today.plusDays(2)).quantity(0));
+
+        // Get the first page, which links to the next one
+        String next = restMedicineBatchesMockMvc
+            .perform(get(ENTITY_API_URL + "/expiring?days=30&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string("Link", containsString("afterDate=" + today.plusDays(1) + "&afterId=" + second.getId())))
+            .andReturn()
+            .getResponse()
+            .getHeader("Link");
+
+        // Get the next page, which is the last one
+        restMedicineBatchesMockMvc
+            .perform(get(next.substring(next.indexOf('<') + 1, next.indexOf('>'))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue())))
+            .andExpect(jsonPath("$.[0].expiryDate").value(today.plusDays(5).toString()))
+            .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    @Transactional
+    void getExpiringMedicineBatchesWithIncompleteCursor() throws Exception {
+        restMedicineBatchesMockMvc
+            .perform(get(ENTITY_API_URL + "/expiring?afterDate=" + LocalDate.now()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.expirywindow"));
+    }
+
     @Test
     @Transactional
     void putExistingMedicineBatches() throws Exception {
@@ -229,6 +276,7 @@ class MedicineBatchesResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedMedicineBatchesToMatchAllProperties(updatedMedicineBatches);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -446,6 +494,7 @@ class MedicineBatchesResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(medicineBatchesSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -459,7 +508,7 @@ class MedicineBatchesResourceIT {
 
         // Search the medicineBatches
         restMedicineBatchesMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + medicineBatches.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + medicineBatches.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(medicineBatches.getId().intValue())))
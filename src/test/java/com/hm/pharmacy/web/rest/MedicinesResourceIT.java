@@ -15,9 +15,13 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Medicines;
 import com.hm.pharmacy.repository.MedicinesRepository;
 import com.hm.pharmacy.repository.search.MedicinesSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
+import com.hm.pharmacy.service.StockService;
+import com.hm.pharmacy.service.dto.StockAdjustmentDTO;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -72,6 +76,12 @@ class MedicinesResourceIT {
     @Autowired
     private MedicinesSearchRepository medicinesSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
+    @Autowired
+    private StockService stockService;
+
     @Autowired
     private EntityManager em;
 
@@ -146,6 +156,7 @@ class MedicinesResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertMedicinesUpdatableFieldsEquals(returnedMedicines, getPersistedMedicines(returnedMedicines));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -250,10 +261,11 @@ class MedicinesResourceIT {
             )
             .andExpect(status().isOk());
 
-        // Validate the Medicines in the database
+        // Validate the Medicines in the database, whose stock is left as it is
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
-        assertPersistedMedicinesToMatchAllProperties(updatedMedicines);
+        assertPersistedMedicinesToMatchAllProperties(updatedMedicines.stock(DEFAULT_STOCK));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -266,6 +278,34 @@ class MedicinesResourceIT {
             });
     }
 
+    @Test
+    @Transactional
+    void putMedicinesKeepsAConcurrentSale() throws Exception {
+        // Initialize the database
+        insertedMedicines = medicinesRepository.saveAndFlush(medicines);
+
+        // Read the medicines, as a client editing it would
+        Medicines staleMedicines = medicinesRepository.findById(medicines.getId()).orElseThrow();
+        em.detach(staleMedicines);
+
+        // Sell it before the edit is saved
+        stockService.decrement(Map.of(medicines.getId(), DEFAULT_STOCK));
+
+        restMedicinesMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, staleMedicines.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(staleMedicines.name(UPDATED_NAME)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.stock").value(0));
+
+        em.clear();
+        Medicines persistedMedicines = medicinesRepository.findById(medicines.getId()).orElseThrow();
+        assertThat(persistedMedicines.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(persistedMedicines.getStock()).isZero();
+    }
+
     @Test
     @Transactional
     void putNonExistingMedicines() throws Exception {
@@ -338,12 +378,7 @@ class MedicinesResourceIT {
         Medicines partialUpdatedMedicines = new Medicines();
         partialUpdatedMedicines.setId(medicines.getId());
 
-        partialUpdatedMedicines
-            .name(UPDATED_NAME)
-            .manufacturer(UPDATED_MANUFACTURER)
-            .category(UPDATED_CATEGORY)
-            .price(UPDATED_PRICE)
-            .stock(UPDATED_STOCK);
+        partialUpdatedMedicines.name(UPDATED_NAME).manufacturer(UPDATED_MANUFACTURER).category(UPDATED_CATEGORY).price(UPDATED_PRICE);
 
         restMedicinesMockMvc
             .perform(
@@ -392,7 +427,7 @@ class MedicinesResourceIT {
         // Validate the Medicines in the database
 
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
-        assertMedicinesUpdatableFieldsEquals(partialUpdatedMedicines, getPersistedMedicines(partialUpdatedMedicines));
+        assertMedicinesUpdatableFieldsEquals(partialUpdatedMedicines.stock(DEFAULT_STOCK), getPersistedMedicines(partialUpdatedMedicines));
     }
 
     @Test
@@ -476,6 +511,7 @@ class MedicinesResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(medicinesSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -489,7 +525,7 @@ class MedicinesResourceIT {
 
         // Search the medicines
         restMedicinesMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + medicines.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + medicines.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(medicines.getId().intValue())))
@@ -500,6 +536,94 @@ class MedicinesResourceIT {
             .andExpect(jsonPath("$.[*].stock").value(hasItem(DEFAULT_STOCK)));
     }
 
+    @Test
+    @Transactional
+    void searchMedicinesWithHighlight() throws Exception {
+        // Initialize the database
+        medicines.setName(DEFAULT_NAME + " <b>");
+        insertedMedicines = medicinesRepository.saveAndFlush(medicines);
+        medicinesSearchRepository.save(medicines);
+
+        // Search the medicines by name, highlighting the matches apart from the escaped documents
+        restMedicinesMockMvc
+            .perform(get(ENTITY_SEARCH_API_URL + "?query=" + DEFAULT_NAME + "&filter=id:" + medicines.getId() + "&highlight=true"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(TextSearchUtil.SEARCH_AFTER_HEADER))
+            .andExpect(jsonPath("$.content.[*].name").value(hasItem(DEFAULT_NAME + " <b>")))
+            .andExpect(jsonPath("$.highlights." + medicines.getId() + ".name[0]").value("<em>" + DEFAULT_NAME + "</em> &lt;b&gt;"));
+    }
+
+    @Test
+    @Transactional
+    void adjustMedicinesStock() throws Exception {
+        // Initialize the database
+        insertedMedicines = medicinesRepository.saveAndFlush(medicines);
+
+        restMedicinesMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/stock-adjustments", medicines.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new StockAdjustmentDTO(5)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.stock").value(DEFAULT_STOCK + 5));
+
+        restMedicinesMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/stock-adjustments", medicines.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new StockAdjustmentDTO(-2)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.stock").value(DEFAULT_STOCK + 3));
+
+        em.clear();
+        assertThat(medicinesRepository.findById(medicines.getId()).orElseThrow().getStock()).isEqualTo(DEFAULT_STOCK + 3);
+    }
+
+    @Test
+    @Transactional
+    void adjustMedicinesStockBelowZero() throws Exception {
+        // Initialize the database
+        insertedMedicines = medicinesRepository.saveAndFlush(medicines);
+
+        restMedicinesMockMvc
+            .perform(
+                post(ENTITY_API_URL_ID + "/stock-adjustments", medicines.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new StockAdjustmentDTO(-DEFAULT_STOCK - 1)))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.insufficientstock"));
+
+        em.clear();
+        assertThat(medicinesRepository.findById(medicines.getId()).orElseThrow().getStock()).isEqualTo(DEFAULT_STOCK);
+    }
+
+    @Test
+    @Transactional
+    void suggestMedicines() throws Exception {
+        // Initialize the database
+        insertedMedicines = medicinesRepository.saveAndFlush(medicines);
+        medicinesSearchRepository.save(medicines);
+
+        // Suggest the medicines from the first letters of their name
+        restMedicinesMockMvc
+            .perform(get(ENTITY_API_URL + "/_suggest?prefix=" + DEFAULT_NAME.substring(0, 3).toLowerCase()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(medicines.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].stock").value(hasItem(DEFAULT_STOCK)));
+    }
+
+    @Test
+    @Transactional
+    void searchMedicinesWithUnknownFilter() throws Exception {
+        restMedicinesMockMvc.perform(get(ENTITY_SEARCH_API_URL + "?filter=unknown:1")).andExpect(status().isBadRequest());
+        restMedicinesMockMvc.perform(get(ENTITY_SEARCH_API_URL + "?filter=name")).andExpect(status().isBadRequest());
+    }
+
     protected long getRepositoryCount() {
         return medicinesRepository.count();
     }
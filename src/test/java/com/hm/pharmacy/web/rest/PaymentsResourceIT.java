@@ -15,6 +15,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Payments;
 import com.hm.pharmacy.repository.PaymentsRepository;
 import com.hm.pharmacy.repository.search.PaymentsSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -71,6 +72,9 @@ class PaymentsResourceIT {
     @Autowired
     private PaymentsSearchRepository paymentsSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -143,6 +147,7 @@ class PaymentsResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertPaymentsUpdatableFieldsEquals(returnedPayments, getPersistedPayments(returnedPayments));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -248,6 +253,7 @@ class PaymentsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedPaymentsToMatchAllProperties(updatedPayments);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -461,6 +467,7 @@ class PaymentsResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(paymentsSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -474,7 +481,7 @@ class PaymentsResourceIT {
 
         // Search the payments
         restPaymentsMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + payments.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + payments.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(payments.getId().intValue())))
@@ -14,6 +14,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Prescriptions;
 import com.hm.pharmacy.repository.PrescriptionsRepository;
 import com.hm.pharmacy.repository.search.PrescriptionsSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -66,6 +67,9 @@ class PrescriptionsResourceIT {
     @Autowired
     private PrescriptionsSearchRepository prescriptionsSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -130,6 +134,7 @@ class PrescriptionsResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertPrescriptionsUpdatableFieldsEquals(returnedPrescriptions, getPersistedPrescriptions(returnedPrescriptions));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -229,6 +234,7 @@ class PrescriptionsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedPrescriptionsToMatchAllProperties(updatedPrescriptions);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -441,6 +447,7 @@ class PrescriptionsResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(prescriptionsSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -454,7 +461,7 @@ class PrescriptionsResourceIT {
 
         // Search the prescriptions
         restPrescriptionsMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + prescriptions.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + prescriptions.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(prescriptions.getId().intValue())))
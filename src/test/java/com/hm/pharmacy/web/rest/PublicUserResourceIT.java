@@ -109,4 +109,14 @@ class PublicUserResourceIT {
             .andExpect(status().isBadRequest());
         restUserMockMvc.perform(get("/api/users?sort=id,desc").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
     }
+
+    @Test
+    void searchUsersRejectsUnboundedPages() throws Exception {
+        restUserMockMvc
+            .perform(get("/api/users/_search?query=test&page=1000&size=20").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+        restUserMockMvc
+            .perform(get("/api/users/_search?query=test&sort=password,desc").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
 }
@@ -15,6 +15,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.PurchaseItems;
 import com.hm.pharmacy.repository.PurchaseItemsRepository;
 import com.hm.pharmacy.repository.search.PurchaseItemsSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.util.List;
@@ -63,6 +64,9 @@ class PurchaseItemsResourceIT {
     @Autowired
     private PurchaseItemsSearchRepository purchaseItemsSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -127,6 +131,7 @@ class PurchaseItemsResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertPurchaseItemsUpdatableFieldsEquals(returnedPurchaseItems, getPersistedPurchaseItems(returnedPurchaseItems));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -224,6 +229,7 @@ class PurchaseItemsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedPurchaseItemsToMatchAllProperties(updatedPurchaseItems);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -438,6 +444,7 @@ class PurchaseItemsResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(purchaseItemsSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -451,7 +458,7 @@ class PurchaseItemsResourceIT {
 
         // Search the purchaseItems
         restPurchaseItemsMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + purchaseItems.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + purchaseItems.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(purchaseItems.getId().intValue())))
@@ -15,6 +15,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Purchases;
 import com.hm.pharmacy.repository.PurchasesRepository;
 import com.hm.pharmacy.repository.search.PurchasesSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -68,6 +69,9 @@ class PurchasesResourceIT {
     @Autowired
     private PurchasesSearchRepository purchasesSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -132,6 +136,7 @@ class PurchasesResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertPurchasesUpdatableFieldsEquals(returnedPurchases, getPersistedPurchases(returnedPurchases));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -231,6 +236,7 @@ class PurchasesResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedPurchasesToMatchAllProperties(updatedPurchases);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -443,6 +449,7 @@ class PurchasesResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(purchasesSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -456,7 +463,7 @@ class PurchasesResourceIT {
 
         // Search the purchases
         restPurchasesMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + purchases.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + purchases.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(purchases.getId().intValue())))
@@ -12,9 +12,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.domain.Medicines;
 import com.hm.pharmacy.domain.SaleItems;
 import com.hm.pharmacy.repository.SaleItemsRepository;
 import com.hm.pharmacy.repository.search.SaleItemsSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.util.List;
@@ -63,6 +65,9 @@ class SaleItemsResourceIT {
     @Autowired
     private SaleItemsSearchRepository saleItemsSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -127,6 +132,7 @@ class SaleItemsResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertSaleItemsUpdatableFieldsEquals(returnedSaleItems, getPersistedSaleItems(returnedSaleItems));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -189,6 +195,92 @@ class SaleItemsResourceIT {
             .andExpect(jsonPath("$.price").value(sameNumber(DEFAULT_PRICE)));
     }
 
+    @Test
+    @Transactional
+    void getSaleItemsByIdFiltering() throws Exception {
+        // Initialize the database
+        insertedSaleItems = saleItemsRepository.saveAndFlush(saleItems);
+
+        Long id = saleItems.getId();
+
+        defaultSaleItemsFiltering("id.equals=" + id, "id.notEquals=" + id);
+
+        defaultSaleItemsFiltering("id.greaterThanOrEqual=" + id, "id.greaterThan=" + id);
+
+        defaultSaleItemsFiltering("id.lessThanOrEqual=" + id, "id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllSaleItemsByQuantityIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedSaleItems = saleItemsRepository.saveAndFlush(saleItems);
+
+        // Get all the saleItemsList where quantity greater than
+        defaultSaleItemsFiltering("quantity.greaterThan=" + (DEFAULT_QUANTITY - 1), "quantity.greaterThan=" + DEFAULT_QUANTITY);
+    }
+
+    @Test
+    @Transactional
+    void getAllSaleItemsByMedicinesIsEqualToSomething() throws Exception {
+        Medicines medicines = MedicinesResourceIT.createEntity();
+        em.persist(medicines);
+        em.flush();
+        saleItems.setMedicines(medicines);
+        insertedSaleItems = saleItemsRepository.saveAndFlush(saleItems);
+        Long medicinesId = medicines.getId();
+
+        // Get all the saleItemsList where medicines equals to medicinesId
+        defaultSaleItemsShouldBeFound("medicinesId.equals=" + medicinesId);
+
+        // Get all the saleItemsList where medicines equals to (medicinesId + 1)
+        defaultSaleItemsShouldNotBeFound("medicinesId.equals=" + (medicinesId + 1));
+    }
+
+    private void defaultSaleItemsFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultSaleItemsShouldBeFound(shouldBeFound);
+        defaultSaleItemsShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultSaleItemsShouldBeFound(String filter) throws Exception {
+        restSaleItemsMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(saleItems.getId().intValue())))
+            .andExpect(jsonPath("$.[*].quantity").value(hasItem(DEFAULT_QUANTITY)))
+            .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))));
+
+        // Check, that the count call also returns 1
+        restSaleItemsMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultSaleItemsShouldNotBeFound(String filter) throws Exception {
+        restSaleItemsMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restSaleItemsMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingSaleItems() throws Exception {
@@ -224,6 +316,7 @@ class SaleItemsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedSaleItemsToMatchAllProperties(updatedSaleItems);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -434,6 +527,7 @@ class SaleItemsResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(saleItemsSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -447,7 +541,7 @@ class SaleItemsResourceIT {
 
         // Search the saleItems
         restSaleItemsMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + saleItems.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + saleItems.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(saleItems.getId().intValue())))
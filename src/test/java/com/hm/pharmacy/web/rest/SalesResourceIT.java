@@ -5,6 +5,7 @@ import static com.hm.pharmacy.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.hm.pharmacy.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -12,9 +13,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hm.pharmacy.IntegrationTest;
+import com.hm.pharmacy.config.ApplicationProperties;
+import com.hm.pharmacy.domain.Medicines;
+import com.hm.pharmacy.domain.Payments;
+import com.hm.pharmacy.domain.SaleItems;
 import com.hm.pharmacy.domain.Sales;
 import com.hm.pharmacy.repository.SalesRepository;
 import com.hm.pharmacy.repository.search.SalesSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -24,15 +30,20 @@ import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.assertj.core.util.IterableUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.util.Streamable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -41,6 +52,8 @@ import org.springframework.transaction.annotation.Transactional;
 @IntegrationTest
 @AutoConfigureMockMvc
 @WithMockUser
+// Shorter than the export timeout, which the exports are tested to replace
+@TestPropertySource(properties = "spring.mvc.async.request-timeout=100ms")
 class SalesResourceIT {
 
     private static final Instant DEFAULT_SALE_DATE = Instant.ofEpochMilli(0L);
@@ -55,6 +68,7 @@ class SalesResourceIT {
     private static final String ENTITY_API_URL = "/api/sales";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
     private static final String ENTITY_SEARCH_API_URL = "/api/sales/_search";
+    private static final String ENTITY_EXPORT_API_URL = "/api/sales/_export";
 
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
@@ -68,6 +82,12 @@ class SalesResourceIT {
     @Autowired
     private SalesSearchRepository salesSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Autowired
     private EntityManager em;
 
@@ -132,6 +152,7 @@ class SalesResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertSalesUpdatableFieldsEquals(returnedSales, getPersistedSales(returnedSales));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -196,6 +217,101 @@ class SalesResourceIT {
             .andExpect(jsonPath("$.totalAmount").value(sameNumber(DEFAULT_TOTAL_AMOUNT)));
     }
 
+    @Test
+    @Transactional
+    void getSalesByIdFiltering() throws Exception {
+        // Initialize the database
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        Long id = sales.getId();
+
+        defaultSalesFiltering("id.equals=" + id, "id.notEquals=" + id);
+
+        defaultSalesFiltering("id.greaterThanOrEqual=" + id, "id.greaterThan=" + id);
+
+        defaultSalesFiltering("id.lessThanOrEqual=" + id, "id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllSalesBySaleDateIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        // Get all the salesList where saleDate greater than
+        defaultSalesFiltering("saleDate.greaterThan=" + DEFAULT_SALE_DATE.minusSeconds(1), "saleDate.greaterThan=" + DEFAULT_SALE_DATE);
+    }
+
+    @Test
+    @Transactional
+    void getAllSalesByInvoiceNumberContainsSomething() throws Exception {
+        // Initialize the database
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        // Get all the salesList where invoiceNumber contains
+        defaultSalesFiltering("invoiceNumber.contains=" + DEFAULT_INVOICE_NUMBER, "invoiceNumber.contains=" + UPDATED_INVOICE_NUMBER);
+    }
+
+    @Test
+    @Transactional
+    void getAllSalesIsPaginated() throws Exception {
+        // Initialize the database
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        restSalesMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&page=0&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(sales.getId().intValue()));
+    }
+
+    private void defaultSalesFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultSalesShouldBeFound(shouldBeFound);
+        defaultSalesShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultSalesShouldBeFound(String filter) throws Exception {
+        restSalesMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(sales.getId().intValue())))
+            .andExpect(jsonPath("$.[*].saleDate").value(hasItem(DEFAULT_SALE_DATE.toString())))
+            .andExpect(jsonPath("$.[*].invoiceNumber").value(hasItem(DEFAULT_INVOICE_NUMBER)))
+            .andExpect(jsonPath("$.[*].totalAmount").value(hasItem(sameNumber(DEFAULT_TOTAL_AMOUNT))));
+
+        // Check, that the count call also returns 1
+        restSalesMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultSalesShouldNotBeFound(String filter) throws Exception {
+        restSalesMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restSalesMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingSales() throws Exception {
@@ -203,6 +319,48 @@ class SalesResourceIT {
         restSalesMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getSalesInvoiceInOneStatement() throws Exception {
+        // Initialize the database
+        em.persist(sales);
+        for (int i = 0; i < 3; i++) {
+            Medicines medicines = new Medicines().name("Medicine " + i);
+            em.persist(medicines);
+            em.persist(new SaleItems().quantity(i + 1).price(BigDecimal.TEN).medicines(medicines).sales(sales));
+        }
+        em.persist(new Payments().paymentMethod("CASH").amount(BigDecimal.TEN).sales(sales));
+        em.persist(new Payments().paymentMethod("CARD").amount(new BigDecimal(50)).sales(sales));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            // Get the invoice
+            restSalesMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/invoice", sales.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(sales.getId().intValue()))
+                .andExpect(jsonPath("$.lines.length()").value(3))
+                .andExpect(jsonPath("$.lines[2].medicinesName").value("Medicine 2"))
+                .andExpect(jsonPath("$.payments.length()").value(2))
+                .andExpect(jsonPath("$.amountPaid").value(sameNumber(new BigDecimal(60))));
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingSalesInvoice() throws Exception {
+        restSalesMockMvc.perform(get(ENTITY_API_URL_ID + "/invoice", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingSales() throws Exception {
@@ -231,6 +389,7 @@ class SalesResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedSalesToMatchAllProperties(updatedSales);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -436,6 +595,7 @@ class SalesResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(salesSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -449,7 +609,7 @@ class SalesResourceIT {
 
         // Search the sales
         restSalesMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + sales.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + sales.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(sales.getId().intValue())))
@@ -458,6 +618,48 @@ class SalesResourceIT {
             .andExpect(jsonPath("$.[*].totalAmount").value(hasItem(sameNumber(DEFAULT_TOTAL_AMOUNT))));
     }
 
+    @Test
+    void exportSales() throws Exception {
+        // Initialize the database outside of a test transaction, as the export reads it from its own
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        // Export the sales
+        MvcResult mvcResult = restSalesMockMvc
+            .perform(get(ENTITY_EXPORT_API_URL + "?format=ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restSalesMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string(containsString("\"id\":" + sales.getId() + ",")))
+            .andExpect(content().string(containsString("\"invoiceNumber\":\"" + DEFAULT_INVOICE_NUMBER + "\"")));
+    }
+
+    @Test
+    void exportSalesOutlivesTheAsyncRequestTimeout() throws Exception {
+        // Initialize the database outside of a test transaction, as the export reads it from its own
+        insertedSales = salesRepository.saveAndFlush(sales);
+
+        // These tests shorten spring.mvc.async.request-timeout to 100ms, which the export replaces by its own timeout
+        MvcResult mvcResult = restSalesMockMvc
+            .perform(get(ENTITY_EXPORT_API_URL + "?format=ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(
+            applicationProperties.getExport().getTimeout().toMillis()
+        );
+        restSalesMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("\"id\":" + sales.getId() + ",")));
+    }
+
+    @Test
+    void exportSalesWithUnsupportedFormat() throws Exception {
+        restSalesMockMvc.perform(get(ENTITY_EXPORT_API_URL + "?format=csv")).andExpect(status().isBadRequest());
+    }
+
     protected long getRepositoryCount() {
         return salesRepository.count();
     }
@@ -15,6 +15,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.SupplierPayments;
 import com.hm.pharmacy.repository.SupplierPaymentsRepository;
 import com.hm.pharmacy.repository.search.SupplierPaymentsSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -71,6 +72,9 @@ class SupplierPaymentsResourceIT {
     @Autowired
     private SupplierPaymentsSearchRepository supplierPaymentsSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -143,6 +147,7 @@ class SupplierPaymentsResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertSupplierPaymentsUpdatableFieldsEquals(returnedSupplierPayments, getPersistedSupplierPayments(returnedSupplierPayments));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -248,6 +253,7 @@ class SupplierPaymentsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedSupplierPaymentsToMatchAllProperties(updatedSupplierPayments);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -469,6 +475,7 @@ class SupplierPaymentsResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(supplierPaymentsSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -482,7 +489,7 @@ class SupplierPaymentsResourceIT {
 
         // Search the supplierPayments
         restSupplierPaymentsMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + supplierPayments.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + supplierPayments.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(supplierPayments.getId().intValue())))
@@ -14,6 +14,7 @@ import com.hm.pharmacy.IntegrationTest;
 import com.hm.pharmacy.domain.Suppliers;
 import com.hm.pharmacy.repository.SuppliersRepository;
 import com.hm.pharmacy.repository.search.SuppliersSearchRepository;
+import com.hm.pharmacy.service.SearchIndexOutboxService;
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Random;
@@ -70,6 +71,9 @@ class SuppliersResourceIT {
     @Autowired
     private SuppliersSearchRepository suppliersSearchRepository;
 
+    @Autowired
+    private SearchIndexOutboxService searchIndexOutboxService;
+
     @Autowired
     private EntityManager em;
 
@@ -144,6 +148,7 @@ class SuppliersResourceIT {
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
         assertSuppliersUpdatableFieldsEquals(returnedSuppliers, getPersistedSuppliers(returnedSuppliers));
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -252,6 +257,7 @@ class SuppliersResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
         assertPersistedSuppliersToMatchAllProperties(updatedSuppliers);
 
+        searchIndexOutboxService.drain();
         await()
             .atMost(5, TimeUnit.SECONDS)
             .untilAsserted(() -> {
@@ -469,6 +475,7 @@ class SuppliersResourceIT {
 
         // Validate the database contains one less item
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        searchIndexOutboxService.drain();
         int searchDatabaseSizeAfter = IterableUtil.sizeOf(suppliersSearchRepository.findAll());
         assertThat(searchDatabaseSizeAfter).isEqualTo(searchDatabaseSizeBefore - 1);
     }
@@ -482,7 +489,7 @@ class SuppliersResourceIT {
 
         // Search the suppliers
         restSuppliersMockMvc
-            .perform(get(ENTITY_SEARCH_API_URL + "?query=id:" + suppliers.getId()))
+            .perform(get(ENTITY_SEARCH_API_URL + "?filter=id:" + suppliers.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(suppliers.getId().intValue())))